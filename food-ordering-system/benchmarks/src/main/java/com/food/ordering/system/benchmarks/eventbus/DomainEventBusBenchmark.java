@@ -0,0 +1,164 @@
+package com.food.ordering.system.benchmarks.eventbus;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.food.ordering.system.domain.event.IDomainEvent;
+import com.food.ordering.system.domain.event.bus.DomainEventBus;
+import com.food.ordering.system.domain.event.bus.DomainEventWaitStrategy;
+
+/**
+ * Measures the throughput of the {@link DomainEventBus} the way the Kafka listeners
+ * use it: a batch of events is published and the bus is flushed before the batch is
+ * acknowledged. {@link #fireInline()} fires the same events on the calling thread and
+ * is the baseline the bus is compared with.
+ * <p>
+ * Every event burns {@code handlerTokens} of CPU when it is handled, standing in for
+ * the Kafka send of the real handlers. The bus only pays off when there are cores
+ * for its partition threads to run on.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DomainEventBusBenchmark {
+    /**
+     * Number of events published before every flush.
+     */
+    private static final int BATCH_SIZE = 256;
+
+    /**
+     * Number of distinct aggregates the events belong to.
+     */
+    private static final int AGGREGATE_COUNT = 64;
+
+    /**
+     * Number of partitions of the bus.
+     */
+    @Param({ "1", "4" })
+    private int partitionCount;
+
+    /**
+     * How publishers and partition threads wait.
+     */
+    @Param({ "SLEEPING", "YIELDING" })
+    private DomainEventWaitStrategy waitStrategy;
+
+    /**
+     * CPU burnt by handling one event.
+     */
+    @Param({ "0", "200" })
+    private int handlerTokens;
+
+    /**
+     * Bus under measurement.
+     */
+    private DomainEventBus<BenchmarkEvent> domainEventBus;
+
+    /**
+     * Events of one batch.
+     */
+    private BenchmarkEvent[] events;
+
+    /**
+     * Builds the events and starts the bus.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        events = new BenchmarkEvent[BATCH_SIZE];
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            events[i] = new BenchmarkEvent(new UUID(13, i % AGGREGATE_COUNT), handlerTokens);
+        }
+        domainEventBus = DomainEventBus.<BenchmarkEvent>builder()
+                .name("benchmark")
+                .partitionCount(partitionCount)
+                .ringCapacity(4096)
+                .maxBatchSize(256)
+                .waitStrategy(waitStrategy)
+                .aggregateIdExtractor(BenchmarkEvent::getAggregateId)
+                .handler(batch -> batch.forEach(BenchmarkEvent::fire))
+                .build();
+    }
+
+    /**
+     * Stops the bus.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        domainEventBus.close(TimeUnit.SECONDS.toMillis(10));
+    }
+
+    /**
+     * Publishes a batch of events and waits until they were handled.
+     *
+     * @return whether the flush completed in time
+     */
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public boolean publishAndFlush() {
+        for (BenchmarkEvent event : events) {
+            domainEventBus.publish(event);
+        }
+        return domainEventBus.flush(TimeUnit.SECONDS.toMillis(10));
+    }
+
+    /**
+     * Fires a batch of events on the calling thread.
+     */
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void fireInline() {
+        for (BenchmarkEvent event : events) {
+            event.fire();
+        }
+    }
+
+    /**
+     * Domain event burning a fixed amount of CPU when fired.
+     */
+    @SuppressWarnings("rawtypes")
+    static final class BenchmarkEvent implements IDomainEvent {
+        /**
+         * Aggregate the event belongs to.
+         */
+        private final UUID aggregateId;
+
+        /**
+         * CPU burnt when the event is fired.
+         */
+        private final int tokens;
+
+        BenchmarkEvent(UUID aggregateId, int tokens) {
+            this.aggregateId = aggregateId;
+            this.tokens = tokens;
+        }
+
+        UUID getAggregateId() {
+            return aggregateId;
+        }
+
+        @Override
+        public void fire() {
+            Blackhole.consumeCPU(tokens);
+        }
+    }
+}
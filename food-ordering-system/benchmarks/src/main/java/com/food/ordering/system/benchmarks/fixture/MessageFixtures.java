@@ -0,0 +1,103 @@
+package com.food.ordering.system.benchmarks.fixture;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import com.food.ordering.system.kafka.model.serde.AvroSerdeConfig;
+import com.food.ordering.system.kafka.model.serde.AvroSerdeMode;
+import com.food.ordering.system.kafka.order.avro.model.PaymentOrderStatus;
+import com.food.ordering.system.kafka.order.avro.model.PaymentRequestAvroModel;
+import com.food.ordering.system.kafka.order.avro.model.PaymentResponseAvroModel;
+import com.food.ordering.system.kafka.order.avro.model.PaymentStatus;
+import com.food.ordering.system.kafka.order.avro.model.Product;
+import com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalRequestAvroModel;
+import com.food.ordering.system.kafka.order.avro.model.RestaurantOrderStatus;
+
+/**
+ * Deterministic Kafka messages shared by the messaging benchmarks.
+ */
+public final class MessageFixtures {
+    /**
+     * Serde configuration writing the single-object format, so no schema registry is
+     * needed.
+     */
+    public static final Map<String, Object> REGISTRY_FREE_CONFIG = Map.of(AvroSerdeConfig.SERDE_MODE,
+            AvroSerdeMode.REGISTRY_FREE.name());
+
+    /**
+     * Creation time of every message.
+     */
+    private static final Instant CREATED_AT = Instant.parse("2024-01-01T12:00:00Z");
+
+    private MessageFixtures() {
+    }
+
+    /**
+     * Creates a pending payment request.
+     *
+     * @return the payment request
+     */
+    public static PaymentRequestAvroModel paymentRequest() {
+        return PaymentRequestAvroModel.newBuilder()
+                .setId(new UUID(20, 1))
+                .setSagaId(new UUID(20, 2))
+                .setCustomerId(OrderFixtures.CUSTOMER_ID)
+                .setOrderId(new UUID(20, 3))
+                .setPrice(new BigDecimal("125.50"))
+                .setCreatedAt(CREATED_AT)
+                .setPaymentOrderStatus(PaymentOrderStatus.PENDING)
+                .build();
+    }
+
+    /**
+     * Creates a payment response.
+     *
+     * @param paymentStatus   the status of the payment
+     * @param failureMessages the failure messages of the payment
+     * @return the payment response
+     */
+    public static PaymentResponseAvroModel paymentResponse(PaymentStatus paymentStatus,
+            List<String> failureMessages) {
+        return PaymentResponseAvroModel.newBuilder()
+                .setId(new UUID(21, 1))
+                .setSagaId(new UUID(21, 2))
+                .setPaymentId(new UUID(21, 3))
+                .setCustomerId(OrderFixtures.CUSTOMER_ID)
+                .setOrderId(new UUID(21, 4))
+                .setPrice(new BigDecimal("125.50"))
+                .setCreatedAt(CREATED_AT)
+                .setPaymentStatus(paymentStatus)
+                .setFailureMessages(failureMessages)
+                .build();
+    }
+
+    /**
+     * Creates a restaurant approval request for a paid order.
+     *
+     * @param productCount the number of products of the order
+     * @return the restaurant approval request
+     */
+    public static RestaurantApprovalRequestAvroModel restaurantApprovalRequest(int productCount) {
+        List<Product> products = new ArrayList<>(productCount);
+        for (int i = 0; i < productCount; i++) {
+            products.add(Product.newBuilder()
+                    .setId(new UUID(4, i).toString())
+                    .setQuantity(1 + i % 3)
+                    .build());
+        }
+        return RestaurantApprovalRequestAvroModel.newBuilder()
+                .setId(new UUID(22, 1))
+                .setSagaId(new UUID(22, 2))
+                .setRestaurantId(OrderFixtures.RESTAURANT_ID)
+                .setOrderId(new UUID(22, 3))
+                .setRestaurantOrderStatus(RestaurantOrderStatus.PAID)
+                .setProducts(products)
+                .setPrice(new BigDecimal("125.50"))
+                .setCreatedAt(CREATED_AT)
+                .build();
+    }
+}
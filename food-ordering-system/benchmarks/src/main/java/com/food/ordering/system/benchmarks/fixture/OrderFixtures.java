@@ -0,0 +1,164 @@
+package com.food.ordering.system.benchmarks.fixture;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import com.food.ordering.system.domain.valueobject.CustomerId;
+import com.food.ordering.system.domain.valueobject.Money;
+import com.food.ordering.system.domain.valueobject.ProductId;
+import com.food.ordering.system.domain.valueobject.RestaurantId;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
+import com.food.ordering.system.order.service.domain.dto.create.OrderAddress;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.entity.OrderItem;
+import com.food.ordering.system.order.service.domain.entity.Product;
+import com.food.ordering.system.order.service.domain.entity.Restaurant;
+import com.food.ordering.system.order.service.domain.valueobject.StreetAddress;
+
+/**
+ * Deterministic orders, restaurants and commands shared by the order benchmarks.
+ * Identifiers are derived from indexes, so two runs measure the same data.
+ */
+public final class OrderFixtures {
+    /**
+     * Customer placing every order.
+     */
+    public static final UUID CUSTOMER_ID = new UUID(1, 1);
+
+    /**
+     * Restaurant receiving every order.
+     */
+    public static final UUID RESTAURANT_ID = new UUID(2, 1);
+
+    private OrderFixtures() {
+    }
+
+    /**
+     * Creates an active restaurant with a menu of products priced from 10.00 to 59.00.
+     *
+     * @param menuSize the number of products on the menu
+     * @return the restaurant
+     */
+    public static Restaurant restaurant(int menuSize) {
+        List<Product> products = new ArrayList<>(menuSize);
+        for (int i = 0; i < menuSize; i++) {
+            products.add(new Product(new ProductId(productId(i)), "product-" + i, productPrice(i)));
+        }
+        return Restaurant.builder()
+                .restaurantId(new RestaurantId(RESTAURANT_ID))
+                .name("benchmark-restaurant")
+                .products(products)
+                .active(true)
+                .build();
+    }
+
+    /**
+     * Creates order items picking products of the menu in turn, with quantities from
+     * one to three. The products carry their confirmed name and price.
+     *
+     * @param restaurant the restaurant the products are picked from
+     * @param itemCount  the number of items
+     * @return the order items
+     */
+    public static List<OrderItem> orderItems(Restaurant restaurant, int itemCount) {
+        List<Product> menu = restaurant.getProducts();
+        List<OrderItem> items = new ArrayList<>(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            Product product = menu.get(i % menu.size());
+            int quantity = 1 + i % 3;
+            items.add(OrderItem.builder()
+                    .product(product)
+                    .quantity(quantity)
+                    .price(product.getPrice())
+                    .subTotal(product.getPrice().multiply(quantity))
+                    .build());
+        }
+        return items;
+    }
+
+    /**
+     * Creates a new, not yet initialized order for the given items.
+     *
+     * @param items the order items
+     * @param price the total price of the items
+     * @return the order
+     */
+    public static Order newOrder(List<OrderItem> items, Money price) {
+        return Order.builder()
+                .customerId(new CustomerId(CUSTOMER_ID))
+                .restaurantId(new RestaurantId(RESTAURANT_ID))
+                .deliveryAddress(new StreetAddress(new UUID(3, 1), "street", "1000AB", "city"))
+                .price(price)
+                .items(items)
+                .build();
+    }
+
+    /**
+     * Creates a validated and initialized order, as stored and published by the
+     * order service.
+     *
+     * @param restaurant the restaurant the products are picked from
+     * @param itemCount  the number of items
+     * @return the order
+     */
+    public static Order initializedOrder(Restaurant restaurant, int itemCount) {
+        List<OrderItem> items = orderItems(restaurant, itemCount);
+        Order order = newOrder(items, totalPrice(items));
+        order.validateOrder();
+        order.initializeOrder();
+        return order;
+    }
+
+    /**
+     * Sums the subtotals of order items.
+     *
+     * @param items the order items
+     * @return the total price
+     */
+    public static Money totalPrice(List<OrderItem> items) {
+        Money total = Money.ZERO;
+        for (OrderItem item : items) {
+            total = total.add(item.getSubTotal());
+        }
+        return total;
+    }
+
+    /**
+     * Creates the command placing an order of the given size.
+     *
+     * @param itemCount the number of items
+     * @return the command
+     */
+    public static CreateOrderCommand createOrderCommand(int itemCount) {
+        List<com.food.ordering.system.order.service.domain.dto.create.OrderItem> items = new ArrayList<>(itemCount);
+        BigDecimal total = BigDecimal.ZERO;
+        for (int i = 0; i < itemCount; i++) {
+            BigDecimal price = productPrice(i).getAmount();
+            BigDecimal subTotal = price.multiply(BigDecimal.valueOf(1 + i % 3));
+            items.add(com.food.ordering.system.order.service.domain.dto.create.OrderItem.builder()
+                    .productId(productId(i))
+                    .quantity(1 + i % 3)
+                    .price(price)
+                    .subTotal(subTotal)
+                    .build());
+            total = total.add(subTotal);
+        }
+        return CreateOrderCommand.builder()
+                .customerId(CUSTOMER_ID)
+                .restaurantId(RESTAURANT_ID)
+                .price(total)
+                .items(items)
+                .address(new OrderAddress("street", "1000AB", "city"))
+                .build();
+    }
+
+    private static UUID productId(int index) {
+        return new UUID(4, index);
+    }
+
+    private static Money productPrice(int index) {
+        return new Money(BigDecimal.valueOf(1000 + (index % 50) * 100L, 2));
+    }
+}
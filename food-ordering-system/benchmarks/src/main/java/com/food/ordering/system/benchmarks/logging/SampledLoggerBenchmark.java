@@ -0,0 +1,118 @@
+package com.food.ordering.system.benchmarks.logging;
+
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+
+import com.food.ordering.system.logging.SampledLogger;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.OutputStreamAppender;
+
+/**
+ * Measures the CPU cost of a hot-path INFO log point written directly and through a
+ * {@link SampledLogger}.
+ * <p>
+ * The events are formatted with the console pattern of the services and written to
+ * a discarding stream, so the result is the formatting and appender cost without the
+ * terminal. The maximum rate is set high enough that only the sampling limits the
+ * lines written.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SampledLoggerBenchmark {
+    /**
+     * One in this many events is considered for logging.
+     */
+    @Param({ "1", "100" })
+    private int sampleEvery;
+
+    /**
+     * Logger writing to the discarding stream.
+     */
+    private Logger logger;
+
+    /**
+     * Sampled wrapper of the logger.
+     */
+    private SampledLogger sampledLogger;
+
+    /**
+     * Appender writing to the discarding stream.
+     */
+    private OutputStreamAppender<ILoggingEvent> appender;
+
+    /**
+     * Number of events logged.
+     */
+    private long sequence;
+
+    /**
+     * Attaches a discarding appender to a dedicated logger.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        LoggerContext loggerContext = (LoggerContext) LoggerFactory.getILoggerFactory();
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(loggerContext);
+        encoder.setPattern("%d{yyyy-MM-dd'T'HH:mm:ss.SSSXXX} %5p [%t] %logger{39} : %m%n");
+        encoder.start();
+        appender = new OutputStreamAppender<>();
+        appender.setContext(loggerContext);
+        appender.setEncoder(encoder);
+        appender.setOutputStream(OutputStream.nullOutputStream());
+        appender.start();
+        logger = loggerContext.getLogger(SampledLoggerBenchmark.class);
+        logger.setLevel(ch.qos.logback.classic.Level.INFO);
+        logger.setAdditive(false);
+        logger.addAppender(appender);
+        sampledLogger = SampledLogger.of(logger, sampleEvery, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Detaches the appender.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        logger.detachAppender(appender);
+        appender.stop();
+    }
+
+    /**
+     * Writes the event directly.
+     */
+    @Benchmark
+    public void direct() {
+        logger.info("Received {} messages from partition {} at offset {}", 100, 3, sequence++);
+    }
+
+    /**
+     * Writes the event through the sampled logger.
+     */
+    @Benchmark
+    public void sampled() {
+        sampledLogger.info("Received {} messages from partition {} at offset {}", 100, 3, sequence++);
+    }
+}
@@ -0,0 +1,216 @@
+package com.food.ordering.system.benchmarks.mapper;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.food.ordering.system.benchmarks.fixture.OrderFixtures;
+import com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalRequestAvroModel;
+import com.food.ordering.system.order.service.dataaccess.order.entity.OrderEntity;
+import com.food.ordering.system.order.service.dataaccess.order.mapper.OrderDataAccessMapper;
+import com.food.ordering.system.order.service.dataaccess.restaurant.entity.RestaurantEntity;
+import com.food.ordering.system.order.service.dataaccess.restaurant.mapper.RestaurantDataAccessMapper;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.entity.Restaurant;
+import com.food.ordering.system.order.service.domain.event.OrderPaidEvent;
+import com.food.ordering.system.order.service.domain.mapper.OrderDataMapper;
+import com.food.ordering.system.order.service.messaging.mapper.OrderMessagingDataMapper;
+
+/**
+ * Compares the mappers MapStruct generates for the order service with the
+ * stream-based mappings they replaced, kept in {@link StreamMappers}, on the
+ * conversions whose cost grows with the size of the order.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GeneratedMapperBenchmark {
+    /**
+     * Number of items of the order, and of products of the restaurant.
+     */
+    @Param({ "1", "10", "100", "500" })
+    private int itemCount;
+
+    /**
+     * Generated mapper between the order commands and the domain.
+     */
+    private final OrderDataMapper orderDataMapper = Mappers.getMapper(OrderDataMapper.class);
+
+    /**
+     * Generated mapper between the domain and the order JPA entities.
+     */
+    private final OrderDataAccessMapper orderDataAccessMapper = Mappers.getMapper(OrderDataAccessMapper.class);
+
+    /**
+     * Generated mapper between the domain and the restaurant JPA entities.
+     */
+    private final RestaurantDataAccessMapper restaurantDataAccessMapper = Mappers
+            .getMapper(RestaurantDataAccessMapper.class);
+
+    /**
+     * Generated mapper between the domain and the Avro models.
+     */
+    private final OrderMessagingDataMapper orderMessagingDataMapper = Mappers
+            .getMapper(OrderMessagingDataMapper.class);
+
+    /**
+     * Command placing the order.
+     */
+    private CreateOrderCommand createOrderCommand;
+
+    /**
+     * Initialized order.
+     */
+    private Order order;
+
+    /**
+     * JPA entity of the order.
+     */
+    private OrderEntity orderEntity;
+
+    /**
+     * Event published when the order was paid.
+     */
+    private OrderPaidEvent orderPaidEvent;
+
+    /**
+     * Restaurants projected into the order service.
+     */
+    private List<Restaurant> restaurants;
+
+    /**
+     * Builds the order in each of its representations.
+     */
+    @Setup
+    public void setUp() {
+        Restaurant restaurant = OrderFixtures.restaurant(itemCount);
+        createOrderCommand = OrderFixtures.createOrderCommand(itemCount);
+        order = OrderFixtures.initializedOrder(restaurant, itemCount);
+        orderEntity = orderDataAccessMapper.orderToOrderEntity(order);
+        Order paidOrder = OrderFixtures.initializedOrder(restaurant, itemCount);
+        paidOrder.pay();
+        orderPaidEvent = new OrderPaidEvent(paidOrder, ZonedDateTime.of(2024, 1, 1, 12, 0, 0, 0, ZoneOffset.UTC),
+                event -> {
+                });
+        restaurants = List.of(restaurant);
+    }
+
+    /**
+     * Maps the command to the order with the generated mapper.
+     *
+     * @return the order
+     */
+    @Benchmark
+    public Order createOrderCommandToOrderGenerated() {
+        return orderDataMapper.createOrderCommandToOrder(createOrderCommand);
+    }
+
+    /**
+     * Maps the command to the order with streams.
+     *
+     * @return the order
+     */
+    @Benchmark
+    public Order createOrderCommandToOrderStream() {
+        return StreamMappers.createOrderCommandToOrder(createOrderCommand);
+    }
+
+    /**
+     * Maps the order to its JPA entity with the generated mapper.
+     *
+     * @return the JPA entity
+     */
+    @Benchmark
+    public OrderEntity orderToOrderEntityGenerated() {
+        return orderDataAccessMapper.orderToOrderEntity(order);
+    }
+
+    /**
+     * Maps the order to its JPA entity with streams.
+     *
+     * @return the JPA entity
+     */
+    @Benchmark
+    public OrderEntity orderToOrderEntityStream() {
+        return StreamMappers.orderToOrderEntity(order);
+    }
+
+    /**
+     * Maps the JPA entity to the order with the generated mapper.
+     *
+     * @return the order
+     */
+    @Benchmark
+    public Order orderEntityToOrderGenerated() {
+        return orderDataAccessMapper.orderEntityToOrder(orderEntity);
+    }
+
+    /**
+     * Maps the JPA entity to the order with streams.
+     *
+     * @return the order
+     */
+    @Benchmark
+    public Order orderEntityToOrderStream() {
+        return StreamMappers.orderEntityToOrder(orderEntity);
+    }
+
+    /**
+     * Maps the paid event to a restaurant approval request with the generated
+     * mapper.
+     *
+     * @return the restaurant approval request
+     */
+    @Benchmark
+    public RestaurantApprovalRequestAvroModel orderPaidEventToRestaurantApprovalRequestGenerated() {
+        return orderMessagingDataMapper.orderPaidEventToRestaurantApprovalRequestAvroModel(orderPaidEvent);
+    }
+
+    /**
+     * Maps the paid event to a restaurant approval request with streams.
+     *
+     * @return the restaurant approval request
+     */
+    @Benchmark
+    public RestaurantApprovalRequestAvroModel orderPaidEventToRestaurantApprovalRequestStream() {
+        return StreamMappers.orderPaidEventToRestaurantApprovalRequestAvroModel(orderPaidEvent);
+    }
+
+    /**
+     * Projects the restaurant to its entities with the generated mapper.
+     *
+     * @return the entities of the projection
+     */
+    @Benchmark
+    public List<RestaurantEntity> restaurantsToRestaurantEntitiesGenerated() {
+        return restaurantDataAccessMapper.restaurantsToRestaurantEntities(restaurants);
+    }
+
+    /**
+     * Projects the restaurant to its entities with streams.
+     *
+     * @return the entities of the projection
+     */
+    @Benchmark
+    public List<RestaurantEntity> restaurantsToRestaurantEntitiesStream() {
+        return StreamMappers.restaurantsToRestaurantEntities(restaurants);
+    }
+}
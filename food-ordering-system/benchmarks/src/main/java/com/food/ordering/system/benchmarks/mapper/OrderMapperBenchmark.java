@@ -0,0 +1,199 @@
+package com.food.ordering.system.benchmarks.mapper;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.food.ordering.system.benchmarks.fixture.OrderFixtures;
+import com.food.ordering.system.kafka.order.avro.model.PaymentRequestAvroModel;
+import com.food.ordering.system.kafka.order.avro.model.PaymentResponseAvroModel;
+import com.food.ordering.system.kafka.order.avro.model.PaymentStatus;
+import com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalRequestAvroModel;
+import com.food.ordering.system.order.service.dataaccess.order.entity.OrderEntity;
+import com.food.ordering.system.order.service.dataaccess.order.mapper.OrderDataAccessMapper;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
+import com.food.ordering.system.order.service.domain.dto.message.PaymentResponse;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.entity.Restaurant;
+import com.food.ordering.system.order.service.domain.event.OrderCreatedEvent;
+import com.food.ordering.system.order.service.domain.event.OrderPaidEvent;
+import com.food.ordering.system.order.service.domain.mapper.OrderDataMapper;
+import com.food.ordering.system.order.service.messaging.mapper.OrderMessagingDataMapper;
+
+/**
+ * Measures the conversions of the order service between its commands, domain
+ * entities, JPA entities and Avro models, for orders of growing size.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderMapperBenchmark {
+    /**
+     * Number of items of the order.
+     */
+    @Param({ "1", "10", "100" })
+    private int itemCount;
+
+    /**
+     * Mapper between the order commands and the domain.
+     */
+    private final OrderDataMapper orderDataMapper = Mappers.getMapper(OrderDataMapper.class);
+
+    /**
+     * Mapper between the domain and the JPA entities.
+     */
+    private final OrderDataAccessMapper orderDataAccessMapper = Mappers.getMapper(OrderDataAccessMapper.class);
+
+    /**
+     * Mapper between the domain and the Avro models.
+     */
+    private final OrderMessagingDataMapper orderMessagingDataMapper = Mappers.getMapper(OrderMessagingDataMapper.class);
+
+    /**
+     * Command placing the order.
+     */
+    private CreateOrderCommand createOrderCommand;
+
+    /**
+     * Initialized order.
+     */
+    private Order order;
+
+    /**
+     * JPA entity of the order.
+     */
+    private OrderEntity orderEntity;
+
+    /**
+     * Event published when the order was created.
+     */
+    private OrderCreatedEvent orderCreatedEvent;
+
+    /**
+     * Event published when the order was paid.
+     */
+    private OrderPaidEvent orderPaidEvent;
+
+    /**
+     * Payment response received for the order.
+     */
+    private PaymentResponseAvroModel paymentResponseAvroModel;
+
+    /**
+     * Builds the order in each of its representations.
+     */
+    @Setup
+    public void setUp() {
+        ZonedDateTime createdAt = ZonedDateTime.of(2024, 1, 1, 12, 0, 0, 0, ZoneOffset.UTC);
+        Restaurant restaurant = OrderFixtures.restaurant(itemCount);
+        createOrderCommand = OrderFixtures.createOrderCommand(itemCount);
+        order = OrderFixtures.initializedOrder(restaurant, itemCount);
+        orderEntity = orderDataAccessMapper.orderToOrderEntity(order);
+        orderCreatedEvent = new OrderCreatedEvent(order, createdAt, event -> {
+        });
+        Order paidOrder = OrderFixtures.initializedOrder(restaurant, itemCount);
+        paidOrder.pay();
+        orderPaidEvent = new OrderPaidEvent(paidOrder, createdAt, event -> {
+        });
+        paymentResponseAvroModel = PaymentResponseAvroModel.newBuilder()
+                .setId(new UUID(5, 1))
+                .setSagaId(new UUID(5, 2))
+                .setPaymentId(new UUID(5, 3))
+                .setCustomerId(OrderFixtures.CUSTOMER_ID)
+                .setOrderId(order.getId().getValue())
+                .setPrice(order.getPrice().getAmount().setScale(2))
+                .setCreatedAt(Instant.parse("2024-01-01T12:00:00Z"))
+                .setPaymentStatus(PaymentStatus.COMPLETED)
+                .setFailureMessages(List.of())
+                .build();
+    }
+
+    /**
+     * Maps the command to the order.
+     *
+     * @return the order
+     */
+    @Benchmark
+    public Order createOrderCommandToOrder() {
+        return orderDataMapper.createOrderCommandToOrder(createOrderCommand);
+    }
+
+    /**
+     * Maps the command to the restaurant whose products are checked.
+     *
+     * @return the restaurant
+     */
+    @Benchmark
+    public Restaurant createOrderCommandToRestaurant() {
+        return orderDataMapper.createOrderCommandToRestaurant(createOrderCommand);
+    }
+
+    /**
+     * Maps the order to its JPA entity.
+     *
+     * @return the entity
+     */
+    @Benchmark
+    public OrderEntity orderToOrderEntity() {
+        return orderDataAccessMapper.orderToOrderEntity(order);
+    }
+
+    /**
+     * Maps the JPA entity back to the order.
+     *
+     * @return the order
+     */
+    @Benchmark
+    public Order orderEntityToOrder() {
+        return orderDataAccessMapper.orderEntityToOrder(orderEntity);
+    }
+
+    /**
+     * Maps the created event to the payment request.
+     *
+     * @return the payment request
+     */
+    @Benchmark
+    public PaymentRequestAvroModel orderCreatedEventToPaymentRequestAvroModel() {
+        return orderMessagingDataMapper.orderCreatedEventToPaymentRequestAvroModel(orderCreatedEvent);
+    }
+
+    /**
+     * Maps the paid event to the restaurant approval request.
+     *
+     * @return the restaurant approval request
+     */
+    @Benchmark
+    public RestaurantApprovalRequestAvroModel orderPaidEventToRestaurantApprovalRequestAvroModel() {
+        return orderMessagingDataMapper.orderPaidEventToRestaurantApprovalRequestAvroModel(orderPaidEvent);
+    }
+
+    /**
+     * Maps the payment response to its DTO.
+     *
+     * @return the payment response
+     */
+    @Benchmark
+    public PaymentResponse paymentResponseAvroModelToPaymentResponse() {
+        return orderMessagingDataMapper.paymentResponseAvroModelToPaymentResponse(paymentResponseAvroModel);
+    }
+}
@@ -0,0 +1,171 @@
+package com.food.ordering.system.benchmarks.mapper;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.food.ordering.system.benchmarks.fixture.MessageFixtures;
+import com.food.ordering.system.benchmarks.fixture.OrderFixtures;
+import com.food.ordering.system.benchmarks.serde.WireSize;
+import com.food.ordering.system.kafka.model.serde.SpecificAvroDeserializer;
+import com.food.ordering.system.kafka.model.serde.SpecificAvroSerializer;
+import com.food.ordering.system.kafka.order.avro.model.PaymentRequestAvroModel;
+import com.food.ordering.system.kafka.order.avro.model.PaymentResponseAvroModel;
+import com.food.ordering.system.kafka.order.avro.model.PaymentStatus;
+import com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalRequestAvroModel;
+import com.food.ordering.system.order.service.domain.dto.message.PaymentResponse;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.entity.Restaurant;
+import com.food.ordering.system.order.service.domain.event.OrderCreatedEvent;
+import com.food.ordering.system.order.service.domain.event.OrderPaidEvent;
+import com.food.ordering.system.order.service.messaging.mapper.OrderMessagingDataMapper;
+
+/**
+ * Measures the full trip of the order service messages through the
+ * {@link OrderMessagingDataMapper} and the wire: a domain event mapped to its Avro
+ * request, serialized and deserialized on the receiving side, and a payment response
+ * deserialized and mapped to its DTO.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderMessagingRoundTripBenchmark {
+    /**
+     * Topic the messages are serialized for.
+     */
+    private static final String TOPIC = "benchmark";
+
+    /**
+     * Number of items of the paid order.
+     */
+    @Param({ "1", "10", "100", "500" })
+    private int itemCount;
+
+    /**
+     * Mapper between the domain and the Avro models.
+     */
+    private final OrderMessagingDataMapper orderMessagingDataMapper = Mappers.getMapper(OrderMessagingDataMapper.class);
+
+    /**
+     * Serializer of the payment requests.
+     */
+    private final SpecificAvroSerializer<PaymentRequestAvroModel> paymentRequestSerializer = new SpecificAvroSerializer<>();
+
+    /**
+     * Deserializer of the payment requests.
+     */
+    private final SpecificAvroDeserializer<PaymentRequestAvroModel> paymentRequestDeserializer = new SpecificAvroDeserializer<>();
+
+    /**
+     * Serializer of the restaurant approval requests.
+     */
+    private final SpecificAvroSerializer<RestaurantApprovalRequestAvroModel> approvalRequestSerializer = new SpecificAvroSerializer<>();
+
+    /**
+     * Deserializer of the restaurant approval requests.
+     */
+    private final SpecificAvroDeserializer<RestaurantApprovalRequestAvroModel> approvalRequestDeserializer = new SpecificAvroDeserializer<>();
+
+    /**
+     * Deserializer of the payment responses.
+     */
+    private final SpecificAvroDeserializer<PaymentResponseAvroModel> paymentResponseDeserializer = new SpecificAvroDeserializer<>();
+
+    /**
+     * Event published when the order was created.
+     */
+    private OrderCreatedEvent orderCreatedEvent;
+
+    /**
+     * Event published when the order was paid.
+     */
+    private OrderPaidEvent orderPaidEvent;
+
+    /**
+     * The serialized payment response.
+     */
+    private byte[] paymentResponsePayload;
+
+    /**
+     * Builds the events and the payment response, and configures the serde.
+     */
+    @Setup
+    public void setUp() {
+        paymentRequestSerializer.configure(MessageFixtures.REGISTRY_FREE_CONFIG, false);
+        paymentRequestDeserializer.configure(MessageFixtures.REGISTRY_FREE_CONFIG, false);
+        approvalRequestSerializer.configure(MessageFixtures.REGISTRY_FREE_CONFIG, false);
+        approvalRequestDeserializer.configure(MessageFixtures.REGISTRY_FREE_CONFIG, false);
+        paymentResponseDeserializer.configure(MessageFixtures.REGISTRY_FREE_CONFIG, false);
+        ZonedDateTime createdAt = ZonedDateTime.of(2024, 1, 1, 12, 0, 0, 0, ZoneOffset.UTC);
+        Restaurant restaurant = OrderFixtures.restaurant(itemCount);
+        orderCreatedEvent = new OrderCreatedEvent(OrderFixtures.initializedOrder(restaurant, itemCount), createdAt,
+                event -> {
+                });
+        Order paidOrder = OrderFixtures.initializedOrder(restaurant, itemCount);
+        paidOrder.pay();
+        orderPaidEvent = new OrderPaidEvent(paidOrder, createdAt, event -> {
+        });
+        try (SpecificAvroSerializer<PaymentResponseAvroModel> serializer = new SpecificAvroSerializer<>()) {
+            serializer.configure(MessageFixtures.REGISTRY_FREE_CONFIG, false);
+            paymentResponsePayload = serializer.serialize(TOPIC,
+                    MessageFixtures.paymentResponse(PaymentStatus.COMPLETED, List.of()));
+        }
+    }
+
+    /**
+     * Maps the created event to a payment request and sends it through the wire.
+     *
+     * @param wireSize the counter of bytes written
+     * @return the payment request as received
+     */
+    @Benchmark
+    public PaymentRequestAvroModel orderCreatedEventRoundTrip(WireSize wireSize) {
+        byte[] data = paymentRequestSerializer.serialize(TOPIC,
+                orderMessagingDataMapper.orderCreatedEventToPaymentRequestAvroModel(orderCreatedEvent));
+        wireSize.wireBytes += data.length;
+        return paymentRequestDeserializer.deserialize(TOPIC, data);
+    }
+
+    /**
+     * Maps the paid event to a restaurant approval request and sends it through the
+     * wire.
+     *
+     * @param wireSize the counter of bytes written
+     * @return the restaurant approval request as received
+     */
+    @Benchmark
+    public RestaurantApprovalRequestAvroModel orderPaidEventRoundTrip(WireSize wireSize) {
+        byte[] data = approvalRequestSerializer.serialize(TOPIC,
+                orderMessagingDataMapper.orderPaidEventToRestaurantApprovalRequestAvroModel(orderPaidEvent));
+        wireSize.wireBytes += data.length;
+        return approvalRequestDeserializer.deserialize(TOPIC, data);
+    }
+
+    /**
+     * Receives a payment response and maps it to its DTO.
+     *
+     * @return the payment response
+     */
+    @Benchmark
+    public PaymentResponse paymentResponseRoundTrip() {
+        return orderMessagingDataMapper.paymentResponseAvroModelToPaymentResponse(
+                paymentResponseDeserializer.deserialize(TOPIC, paymentResponsePayload));
+    }
+}
@@ -0,0 +1,180 @@
+package com.food.ordering.system.benchmarks.mapper;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import com.food.ordering.system.domain.valueobject.CustomerId;
+import com.food.ordering.system.domain.valueobject.Money;
+import com.food.ordering.system.domain.valueobject.OrderId;
+import com.food.ordering.system.domain.valueobject.ProductId;
+import com.food.ordering.system.domain.valueobject.RestaurantId;
+import com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalRequestAvroModel;
+import com.food.ordering.system.kafka.order.avro.model.RestaurantOrderStatus;
+import com.food.ordering.system.order.service.dataaccess.order.entity.OrderAddressEntity;
+import com.food.ordering.system.order.service.dataaccess.order.entity.OrderEntity;
+import com.food.ordering.system.order.service.dataaccess.order.entity.OrderItemEntity;
+import com.food.ordering.system.order.service.dataaccess.restaurant.entity.RestaurantEntity;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.entity.OrderItem;
+import com.food.ordering.system.order.service.domain.entity.Product;
+import com.food.ordering.system.order.service.domain.entity.Restaurant;
+import com.food.ordering.system.order.service.domain.event.OrderPaidEvent;
+import com.food.ordering.system.order.service.domain.valueobject.OrderItemId;
+import com.food.ordering.system.order.service.domain.valueobject.StreetAddress;
+import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
+
+/**
+ * The hand-written, stream-based mappings the order service used before its
+ * mappers were generated, kept as the baseline of {@link GeneratedMapperBenchmark}.
+ */
+final class StreamMappers {
+    private StreamMappers() {
+    }
+
+    /**
+     * Maps a command to an order, as {@code OrderDataMapper} did.
+     *
+     * @param createOrderCommand the command
+     * @return the order
+     */
+    static Order createOrderCommandToOrder(CreateOrderCommand createOrderCommand) {
+        return Order.builder()
+                .customerId(new CustomerId(createOrderCommand.getCustomerId()))
+                .restaurantId(new RestaurantId(createOrderCommand.getRestaurantId()))
+                .deliveryAddress(new StreetAddress(UUID.randomUUID(), createOrderCommand.getAddress().getStreet(),
+                        createOrderCommand.getAddress().getPostalCode(), createOrderCommand.getAddress().getCity()))
+                .price(new Money(createOrderCommand.getPrice()))
+                .items(createOrderCommand.getItems().stream()
+                        .map(orderItem -> OrderItem.builder()
+                                .product(new Product(new ProductId(orderItem.getProductId())))
+                                .price(new Money(orderItem.getPrice()))
+                                .quantity(orderItem.getQuantity())
+                                .subTotal(new Money(orderItem.getSubTotal()))
+                                .build())
+                        .collect(Collectors.toList()))
+                .build();
+    }
+
+    /**
+     * Maps an order to its JPA entity, as {@code OrderDataAccessMapper} did.
+     *
+     * @param order the order
+     * @return the JPA entity
+     */
+    static OrderEntity orderToOrderEntity(Order order) {
+        StreetAddress deliveryAddress = order.getDeliveryAddress();
+        OrderEntity orderEntity = OrderEntity.builder()
+                .id(order.getId().getValue())
+                .customerId(order.getCustomerId().getValue())
+                .restaurantId(order.getRestaurantId().getValue())
+                .trackingId(order.getTrackingId().getValue())
+                .address(OrderAddressEntity.builder()
+                        .id(deliveryAddress.getId())
+                        .street(deliveryAddress.getStreet())
+                        .postalCode(deliveryAddress.getPostalCode())
+                        .city(deliveryAddress.getCity())
+                        .build())
+                .price(order.getPrice().getAmount())
+                .items(order.getItems().stream()
+                        .map(orderItem -> OrderItemEntity.builder()
+                                .id(orderItem.getId().getValue())
+                                .productId(orderItem.getProduct().getId().getValue())
+                                .price(orderItem.getPrice().getAmount())
+                                .quantity(orderItem.getQuantity())
+                                .subTotal(orderItem.getSubTotal().getAmount())
+                                .build())
+                        .collect(Collectors.toList()))
+                .orderStatus(order.getOrderStatus())
+                .failureMessages(order.getFailureMessages() != null
+                        ? String.join(Order.FAILURE_MESSAGE_DELIMITER, order.getFailureMessages())
+                        : "")
+                .build();
+        orderEntity.getAddress().setOrder(orderEntity);
+        orderEntity.getItems().forEach(orderItemEntity -> orderItemEntity.setOrder(orderEntity));
+        return orderEntity;
+    }
+
+    /**
+     * Maps a JPA entity back to its order, as {@code OrderDataAccessMapper} did.
+     *
+     * @param orderEntity the JPA entity
+     * @return the order
+     */
+    static Order orderEntityToOrder(OrderEntity orderEntity) {
+        OrderAddressEntity address = orderEntity.getAddress();
+        return Order.builder()
+                .orderId(new OrderId(orderEntity.getId()))
+                .customerId(new CustomerId(orderEntity.getCustomerId()))
+                .restaurantId(new RestaurantId(orderEntity.getRestaurantId()))
+                .deliveryAddress(new StreetAddress(address.getId(), address.getStreet(), address.getPostalCode(),
+                        address.getCity()))
+                .price(new Money(orderEntity.getPrice()))
+                .items(orderEntity.getItems().stream()
+                        .map(orderItemEntity -> OrderItem.builder()
+                                .orderItemId(new OrderItemId(orderItemEntity.getId()))
+                                .product(new Product(new ProductId(orderItemEntity.getProductId())))
+                                .price(new Money(orderItemEntity.getPrice()))
+                                .quantity(orderItemEntity.getQuantity())
+                                .subTotal(new Money(orderItemEntity.getSubTotal()))
+                                .build())
+                        .collect(Collectors.toList()))
+                .trackingId(new TrackingId(orderEntity.getTrackingId()))
+                .orderStatus(orderEntity.getOrderStatus())
+                .failureMessages(orderEntity.getFailureMessages().isEmpty() ? new ArrayList<>()
+                        : new ArrayList<>(Arrays.asList(orderEntity.getFailureMessages()
+                                .split(Order.FAILURE_MESSAGE_DELIMITER))))
+                .build();
+    }
+
+    /**
+     * Maps a paid event to a restaurant approval request, as
+     * {@code OrderMessagingDataMapper} did.
+     *
+     * @param orderPaidEvent the paid event
+     * @return the restaurant approval request
+     */
+    static RestaurantApprovalRequestAvroModel orderPaidEventToRestaurantApprovalRequestAvroModel(
+            OrderPaidEvent orderPaidEvent) {
+        Order order = orderPaidEvent.getOrder();
+        return RestaurantApprovalRequestAvroModel.newBuilder()
+                .setId(UUID.randomUUID())
+                .setSagaId(UUID.randomUUID())
+                .setOrderId(order.getId().getValue())
+                .setRestaurantId(order.getRestaurantId().getValue())
+                .setProducts(order.getItems().stream()
+                        .map(orderItem -> com.food.ordering.system.kafka.order.avro.model.Product.newBuilder()
+                                .setId(orderItem.getProduct().getId().getValue().toString())
+                                .setQuantity(orderItem.getQuantity())
+                                .build())
+                        .collect(Collectors.toList()))
+                .setPrice(order.getPrice().getAmount())
+                .setCreatedAt(orderPaidEvent.getCreatedAt().toInstant())
+                .setRestaurantOrderStatus(RestaurantOrderStatus.PAID)
+                .build();
+    }
+
+    /**
+     * Projects restaurants to one entity per product, as
+     * {@code RestaurantDataAccessMapper} did.
+     *
+     * @param restaurants the restaurants
+     * @return the entities of the projection
+     */
+    static List<RestaurantEntity> restaurantsToRestaurantEntities(List<Restaurant> restaurants) {
+        return restaurants.stream()
+                .flatMap(restaurant -> restaurant.getProducts().stream()
+                        .map(product -> RestaurantEntity.builder()
+                                .restaurantId(restaurant.getId().getValue())
+                                .productId(product.getId().getValue())
+                                .restaurantName(restaurant.getName())
+                                .restaurantActive(restaurant.isActive())
+                                .productName(product.getName())
+                                .productPrice(product.getPrice().getAmount())
+                                .build()))
+                .toList();
+    }
+}
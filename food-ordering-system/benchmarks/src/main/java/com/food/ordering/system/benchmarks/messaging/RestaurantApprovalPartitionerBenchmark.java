@@ -0,0 +1,125 @@
+package com.food.ordering.system.benchmarks.messaging;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.kafka.common.Cluster;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.PartitionInfo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.food.ordering.system.order.service.messaging.partitioner.RestaurantApprovalPartitioner;
+
+/**
+ * Measures the cost the {@link RestaurantApprovalPartitioner} adds to every send of a
+ * restaurant approval request: counting the key in the current window, rolling the
+ * window and spreading the hot keys.
+ * <p>
+ * The keys follow a skewed distribution where one restaurant in {@code hotKeyEvery}
+ * sends is the same hot restaurant, so both the home partition and the spread path
+ * are exercised once the first window is rolled.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RestaurantApprovalPartitionerBenchmark {
+    /**
+     * Topic the requests are sent to.
+     */
+    private static final String TOPIC = "restaurant-approval-request";
+
+    /**
+     * Number of partitions of the topic.
+     */
+    private static final int PARTITION_COUNT = 12;
+
+    /**
+     * Number of distinct restaurants sending.
+     */
+    @Param({ "100", "10000" })
+    private int restaurantCount;
+
+    /**
+     * One send in this many goes to the hot restaurant.
+     */
+    @Param({ "2" })
+    private int hotKeyEvery;
+
+    /**
+     * Partitioner under measurement.
+     */
+    private RestaurantApprovalPartitioner partitioner;
+
+    /**
+     * Cluster metadata of the topic.
+     */
+    private Cluster cluster;
+
+    /**
+     * Keys of the restaurants, as sent by the producer.
+     */
+    private String[] keys;
+
+    /**
+     * Serialized keys of the restaurants.
+     */
+    private byte[][] keyBytes;
+
+    /**
+     * Number of sends issued.
+     */
+    private int sequence;
+
+    /**
+     * Builds the cluster metadata and the keys, and configures the partitioner with
+     * its defaults.
+     */
+    @Setup
+    public void setUp() {
+        Node node = new Node(0, "localhost", 9092);
+        List<PartitionInfo> partitions = new ArrayList<>(PARTITION_COUNT);
+        for (int i = 0; i < PARTITION_COUNT; i++) {
+            partitions.add(new PartitionInfo(TOPIC, i, node, new Node[] { node }, new Node[] { node }));
+        }
+        cluster = new Cluster("benchmark", List.of(node), partitions, Set.of(), Set.of());
+        keys = new String[restaurantCount];
+        keyBytes = new byte[restaurantCount][];
+        for (int i = 0; i < restaurantCount; i++) {
+            keys[i] = new UUID(12, i).toString();
+            keyBytes[i] = keys[i].getBytes(StandardCharsets.UTF_8);
+        }
+        partitioner = new RestaurantApprovalPartitioner();
+        partitioner.configure(Map.of());
+    }
+
+    /**
+     * Partitions the next send.
+     *
+     * @return the partition
+     */
+    @Benchmark
+    public int partition() {
+        int next = sequence++;
+        int index = next % hotKeyEvery == 0 ? 0 : Math.floorMod(next, restaurantCount);
+        return partitioner.partition(TOPIC, keys[index], keyBytes[index], null, null, cluster);
+    }
+}
@@ -0,0 +1,119 @@
+package com.food.ordering.system.benchmarks.order;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.food.ordering.system.domain.valueobject.Money;
+
+/**
+ * Measures the {@link Money} arithmetic used by order and payment validation. Every
+ * operation allocates a new {@code BigDecimal} and rescales it, which is what the
+ * GC profiler reports per operation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MoneyBenchmark {
+    /**
+     * Number of amounts summed by {@link #sum()}.
+     */
+    @Param({ "10", "100" })
+    private int amountCount;
+
+    /**
+     * Left operand of the binary operations.
+     */
+    private Money left;
+
+    /**
+     * Right operand of the binary operations.
+     */
+    private Money right;
+
+    /**
+     * Amounts summed by {@link #sum()}.
+     */
+    private Money[] amounts;
+
+    /**
+     * Builds the operands.
+     */
+    @Setup
+    public void setUp() {
+        left = new Money(new BigDecimal("125.50"));
+        right = new Money(new BigDecimal("49.99"));
+        amounts = new Money[amountCount];
+        for (int i = 0; i < amountCount; i++) {
+            amounts[i] = new Money(BigDecimal.valueOf(1000 + i * 7L, 2));
+        }
+    }
+
+    /**
+     * Adds two amounts.
+     *
+     * @return the sum
+     */
+    @Benchmark
+    public Money add() {
+        return left.add(right);
+    }
+
+    /**
+     * Subtracts two amounts.
+     *
+     * @return the difference
+     */
+    @Benchmark
+    public Money subtract() {
+        return left.subtract(right);
+    }
+
+    /**
+     * Multiplies an amount by a quantity.
+     *
+     * @return the product
+     */
+    @Benchmark
+    public Money multiply() {
+        return left.multiply(3);
+    }
+
+    /**
+     * Compares two amounts.
+     *
+     * @return whether the left amount is greater
+     */
+    @Benchmark
+    public boolean isGreaterThan() {
+        return left.isGreaterThan(right);
+    }
+
+    /**
+     * Sums amounts the way order totals and credit histories are summed.
+     *
+     * @return the total
+     */
+    @Benchmark
+    public Money sum() {
+        Money total = Money.ZERO;
+        for (Money amount : amounts) {
+            total = total.add(amount);
+        }
+        return total;
+    }
+}
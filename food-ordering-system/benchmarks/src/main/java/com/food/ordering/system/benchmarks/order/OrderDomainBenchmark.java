@@ -0,0 +1,137 @@
+package com.food.ordering.system.benchmarks.order;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.food.ordering.system.benchmarks.fixture.OrderFixtures;
+import com.food.ordering.system.domain.event.publisher.IDomainEventPublisher;
+import com.food.ordering.system.domain.valueobject.Money;
+import com.food.ordering.system.order.service.domain.OrderDomainService;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.entity.OrderItem;
+import com.food.ordering.system.order.service.domain.entity.Restaurant;
+import com.food.ordering.system.order.service.domain.event.OrderCreatedEvent;
+
+/**
+ * Measures the creation path of an order in the order domain core.
+ * <p>
+ * Orders can only be validated and initialized once, so every operation builds a
+ * new order from the same items; {@link #buildOrder()} measures that construction
+ * alone and is the baseline of the other benchmarks. The restaurant menu size only
+ * affects {@link #validateAndInitiateOrder()}, which matches every order item
+ * against every product of the menu.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderDomainBenchmark {
+    /**
+     * Number of items of the order.
+     */
+    @Param({ "1", "10", "100" })
+    private int itemCount;
+
+    /**
+     * Number of products on the menu of the restaurant.
+     */
+    @Param({ "10", "1000" })
+    private int menuSize;
+
+    /**
+     * Domain service under measurement.
+     */
+    private final OrderDomainService orderDomainService = new OrderDomainService();
+
+    /**
+     * Publisher attached to the created events, never called.
+     */
+    private final IDomainEventPublisher<OrderCreatedEvent> publisher = event -> {
+    };
+
+    /**
+     * Restaurant the orders are placed at.
+     */
+    private Restaurant restaurant;
+
+    /**
+     * Items shared by every order built.
+     */
+    private List<OrderItem> items;
+
+    /**
+     * Total price of the items.
+     */
+    private Money price;
+
+    /**
+     * Builds the restaurant and the order items.
+     */
+    @Setup
+    public void setUp() {
+        restaurant = OrderFixtures.restaurant(menuSize);
+        items = OrderFixtures.orderItems(restaurant, itemCount);
+        price = OrderFixtures.totalPrice(items);
+    }
+
+    /**
+     * Builds a new order.
+     *
+     * @return the order
+     */
+    @Benchmark
+    public Order buildOrder() {
+        return OrderFixtures.newOrder(items, price);
+    }
+
+    /**
+     * Builds and validates a new order.
+     *
+     * @return the order
+     */
+    @Benchmark
+    public Order validateOrder() {
+        Order order = OrderFixtures.newOrder(items, price);
+        order.validateOrder();
+        return order;
+    }
+
+    /**
+     * Builds, validates and initializes a new order.
+     *
+     * @return the order
+     */
+    @Benchmark
+    public Order validateAndInitializeOrder() {
+        Order order = OrderFixtures.newOrder(items, price);
+        order.validateOrder();
+        order.initializeOrder();
+        return order;
+    }
+
+    /**
+     * Builds a new order and runs it through the domain service.
+     *
+     * @return the order created event
+     */
+    @Benchmark
+    public OrderCreatedEvent validateAndInitiateOrder() {
+        return orderDomainService.validateAndInitiateOrder(OrderFixtures.newOrder(items, price), restaurant,
+                publisher);
+    }
+}
@@ -0,0 +1,203 @@
+package com.food.ordering.system.benchmarks.payment;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.food.ordering.system.payment.service.dataaccess.ledger.engine.CreditLedger;
+import com.food.ordering.system.payment.service.dataaccess.ledger.engine.ILedgerCheckpointStore;
+import com.food.ordering.system.payment.service.dataaccess.ledger.engine.LedgerAccount;
+import com.food.ordering.system.payment.service.dataaccess.ledger.engine.LedgerRecord;
+import com.food.ordering.system.payment.service.dataaccess.ledger.engine.LedgerWriteAheadLog;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Measures the debit throughput of the {@link CreditLedger}, each debit waiting for
+ * its record to be forced to disk, as outside a transaction.
+ * <p>
+ * Run it with several threads, for example {@code -t 4}, to see the group fsync
+ * spread one force over the debits of every waiting thread. The log is written to a
+ * temporary directory and the checkpoints go to an in-memory store, so the result is
+ * bounded by the disk the temporary directory is on.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CreditLedgerBenchmark {
+    /**
+     * Credit every account starts with, high enough to never run out.
+     */
+    private static final long INITIAL_CREDIT_CENTS = 1_000_000_000_000L;
+
+    /**
+     * Number of customers the debits are spread over.
+     */
+    @Param({ "1024" })
+    private int accountCount;
+
+    /**
+     * Number of records per log segment, as configured for the payment service.
+     */
+    @Param({ "65536" })
+    private int segmentRecords;
+
+    /**
+     * Directory holding the log segments.
+     */
+    private Path directory;
+
+    /**
+     * Ledger under measurement.
+     */
+    private CreditLedger creditLedger;
+
+    /**
+     * Customers the debits are spread over.
+     */
+    private UUID[] customerIds;
+
+    /**
+     * Source of the thread indexes used to build unique history ids.
+     */
+    private final AtomicLong threadIndexes = new AtomicLong();
+
+    /**
+     * Per-thread position in the customers and history ids.
+     */
+    @State(Scope.Thread)
+    public static class ThreadCursor {
+        /**
+         * Index of the thread, the high bits of its history ids.
+         */
+        private long threadIndex;
+
+        /**
+         * Number of debits issued by the thread.
+         */
+        private long sequence;
+
+        /**
+         * Takes the next thread index.
+         *
+         * @param benchmark the shared benchmark state
+         */
+        @Setup
+        public void setUp(CreditLedgerBenchmark benchmark) {
+            threadIndex = benchmark.threadIndexes.incrementAndGet();
+        }
+    }
+
+    /**
+     * Starts a ledger over an empty log and loads every account.
+     *
+     * @throws IOException if the temporary directory cannot be created
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("credit-ledger-benchmark");
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        InMemoryCheckpointStore checkpointStore = new InMemoryCheckpointStore();
+        customerIds = new UUID[accountCount];
+        for (int i = 0; i < accountCount; i++) {
+            customerIds[i] = new UUID(10, i);
+            checkpointStore.accounts.put(customerIds[i], LedgerAccount.builder()
+                    .customerId(customerIds[i])
+                    .creditEntryId(new UUID(11, i))
+                    .creditCents(INITIAL_CREDIT_CENTS)
+                    .totalCreditCents(INITIAL_CREDIT_CENTS)
+                    .hasTotals(true)
+                    .build());
+        }
+        creditLedger = new CreditLedger(new LedgerWriteAheadLog(directory, segmentRecords, meterRegistry),
+                checkpointStore, 1000, meterRegistry);
+        creditLedger.start();
+        for (UUID customerId : customerIds) {
+            creditLedger.find(customerId);
+        }
+    }
+
+    /**
+     * Closes the ledger and deletes its log.
+     *
+     * @throws IOException if the log cannot be deleted
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        creditLedger.close();
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    /**
+     * Debits one cent from the next customer and waits for the record to be durable.
+     *
+     * @param cursor the position of the calling thread
+     * @return whether the debit was applied
+     */
+    @Benchmark
+    public boolean debit(ThreadCursor cursor) {
+        long sequence = cursor.sequence++;
+        UUID customerId = customerIds[(int) ((cursor.threadIndex * 31 + sequence) % customerIds.length)];
+        return creditLedger.debit(customerId, new UUID(cursor.threadIndex, sequence), 1);
+    }
+
+    /**
+     * Checkpoint store keeping the accounts in memory and discarding the checkpoints.
+     */
+    private static final class InMemoryCheckpointStore implements ILedgerCheckpointStore {
+        /**
+         * Accounts indexed by customer id.
+         */
+        private final Map<UUID, LedgerAccount> accounts = new ConcurrentHashMap<>();
+
+        @Override
+        public void acquireWriterLock() {
+        }
+
+        @Override
+        public void releaseWriterLock() {
+        }
+
+        @Override
+        public Optional<LedgerAccount> load(UUID customerId) {
+            return Optional.ofNullable(accounts.get(customerId));
+        }
+
+        @Override
+        public void write(Collection<LedgerAccount> changedAccounts, Collection<LedgerRecord> insertedHistory,
+                Collection<UUID> deletedHistoryIds) {
+            changedAccounts.forEach(account -> accounts.put(account.getCustomerId(), account));
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.food.ordering.system.benchmarks.payment;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.food.ordering.system.domain.event.publisher.IDomainEventPublisher;
+import com.food.ordering.system.domain.valueobject.CustomerId;
+import com.food.ordering.system.domain.valueobject.Money;
+import com.food.ordering.system.domain.valueobject.OrderId;
+import com.food.ordering.system.payment.service.domain.PaymentDomainService;
+import com.food.ordering.system.payment.service.domain.entity.CreditEntry;
+import com.food.ordering.system.payment.service.domain.entity.CreditHistory;
+import com.food.ordering.system.payment.service.domain.entity.CreditHistoryTotals;
+import com.food.ordering.system.payment.service.domain.entity.Payment;
+import com.food.ordering.system.payment.service.domain.event.PaymentCompletedEvent;
+import com.food.ordering.system.payment.service.domain.event.PaymentEvent;
+import com.food.ordering.system.payment.service.domain.event.PaymentFailedEvent;
+import com.food.ordering.system.payment.service.domain.valueobject.CreditEntryId;
+import com.food.ordering.system.payment.service.domain.valueobject.CreditHistoryId;
+import com.food.ordering.system.payment.service.domain.valueobject.TransactionType;
+
+/**
+ * Measures payment validation for customers with growing credit histories.
+ * <p>
+ * {@link #validateAndInitiatePayment()} validates against the running totals of the
+ * history, as the payment service does, and should cost the same for every history
+ * length. {@link #sumCreditHistory()} sums the full history the way it was done
+ * before the totals existed, which is the cost the totals save on every payment.
+ * The credit entry and the totals are rebuilt on every operation because validation
+ * debits them.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PaymentDomainBenchmark {
+    /**
+     * Customer paying.
+     */
+    private static final CustomerId CUSTOMER_ID = new CustomerId(new UUID(6, 1));
+
+    /**
+     * Number of entries in the credit history of the customer.
+     */
+    @Param({ "10", "1000", "100000" })
+    private int historyLength;
+
+    /**
+     * Domain service under measurement.
+     */
+    private final PaymentDomainService paymentDomainService = new PaymentDomainService();
+
+    /**
+     * Publisher attached to the completed events, never called.
+     */
+    private final IDomainEventPublisher<PaymentCompletedEvent> completedPublisher = event -> {
+    };
+
+    /**
+     * Publisher attached to the failed events, never called.
+     */
+    private final IDomainEventPublisher<PaymentFailedEvent> failedPublisher = event -> {
+    };
+
+    /**
+     * Price of every payment.
+     */
+    private final Money price = new Money(new BigDecimal("25.00"));
+
+    /**
+     * Credit history of the customer.
+     */
+    private List<CreditHistory> creditHistories;
+
+    /**
+     * Sum of the CREDIT entries of the history.
+     */
+    private Money totalCredit;
+
+    /**
+     * Sum of the DEBIT entries of the history.
+     */
+    private Money totalDebit;
+
+    /**
+     * Builds a history where every third entry is a DEBIT, so the customer always has
+     * credit left.
+     */
+    @Setup
+    public void setUp() {
+        creditHistories = new ArrayList<>(historyLength);
+        Money credit = new Money(new BigDecimal("100.00"));
+        Money debit = new Money(new BigDecimal("10.00"));
+        totalCredit = Money.ZERO;
+        totalDebit = Money.ZERO;
+        for (int i = 0; i < historyLength; i++) {
+            boolean isDebit = i % 3 == 2;
+            creditHistories.add(CreditHistory.builder()
+                    .creditHistoryId(new CreditHistoryId(new UUID(7, i)))
+                    .customerId(CUSTOMER_ID)
+                    .amount(isDebit ? debit : credit)
+                    .transactionType(isDebit ? TransactionType.DEBIT : TransactionType.CREDIT)
+                    .build());
+            if (isDebit) {
+                totalDebit = totalDebit.add(debit);
+            } else {
+                totalCredit = totalCredit.add(credit);
+            }
+        }
+    }
+
+    /**
+     * Validates and initiates a payment against the running totals of the history.
+     *
+     * @return the payment event
+     */
+    @Benchmark
+    public PaymentEvent validateAndInitiatePayment() {
+        Payment payment = Payment.builder()
+                .orderId(new OrderId(new UUID(8, 1)))
+                .customerId(CUSTOMER_ID)
+                .price(price)
+                .build();
+        CreditEntry creditEntry = CreditEntry.builder()
+                .creditEntryId(new CreditEntryId(new UUID(9, 1)))
+                .customerId(CUSTOMER_ID)
+                .totalCreditAmount(totalCredit.subtract(totalDebit))
+                .build();
+        CreditHistoryTotals creditHistoryTotals = CreditHistoryTotals.builder()
+                .customerId(CUSTOMER_ID)
+                .totalCreditAmount(totalCredit)
+                .totalDebitAmount(totalDebit)
+                .build();
+        return paymentDomainService.validateAndInitiatePayment(payment, creditEntry, creditHistoryTotals,
+                new ArrayList<>(), completedPublisher, failedPublisher);
+    }
+
+    /**
+     * Sums the CREDIT and DEBIT entries of the full history.
+     *
+     * @return the available credit according to the history
+     */
+    @Benchmark
+    public Money sumCreditHistory() {
+        Money credit = creditHistories.stream()
+                .filter(creditHistory -> creditHistory.getTransactionType() == TransactionType.CREDIT)
+                .map(CreditHistory::getAmount)
+                .reduce(Money.ZERO, Money::add);
+        Money debit = creditHistories.stream()
+                .filter(creditHistory -> creditHistory.getTransactionType() == TransactionType.DEBIT)
+                .map(CreditHistory::getAmount)
+                .reduce(Money.ZERO, Money::add);
+        return credit.subtract(debit);
+    }
+}
@@ -0,0 +1,248 @@
+package com.food.ordering.system.benchmarks.serde;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.avro.Conversions;
+import org.apache.avro.Schema;
+import org.apache.avro.data.TimeConversions;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericDatumReader;
+import org.apache.avro.generic.GenericDatumWriter;
+import org.apache.avro.io.BinaryDecoder;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.DatumReader;
+import org.apache.avro.io.DatumWriter;
+import org.apache.avro.io.DecoderFactory;
+import org.apache.avro.io.EncoderFactory;
+import org.apache.avro.reflect.ReflectData;
+import org.apache.avro.reflect.ReflectDatumReader;
+import org.apache.avro.reflect.ReflectDatumWriter;
+import org.apache.avro.specific.SpecificRecord;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.food.ordering.system.benchmarks.fixture.MessageFixtures;
+import com.food.ordering.system.kafka.model.serde.AvroWireFormat;
+import com.food.ordering.system.kafka.model.serde.SpecificAvroDeserializer;
+import com.food.ordering.system.kafka.model.serde.SpecificAvroSerializer;
+
+/**
+ * Serialization and deserialization benchmarks shared by every kafka-model record.
+ * <p>
+ * The specific benchmarks go through {@link SpecificAvroSerializer} and
+ * {@link SpecificAvroDeserializer}, as the services do, and include the
+ * single-object header. The generic and reflect benchmarks encode and decode the
+ * same record body with the {@link GenericData} and {@link ReflectData} readers and
+ * writers, with the logical type conversions registered so every reader produces the
+ * same values. Encoders, decoders and buffers are reused the way the serde reuses
+ * them.
+ * </p>
+ *
+ * @param <T> the type of the record
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public abstract class AbstractAvroSerdeBenchmark<T extends SpecificRecord> {
+    /**
+     * Topic the records are serialized for.
+     */
+    private static final String TOPIC = "benchmark";
+
+    /**
+     * Serializer used by the services.
+     */
+    private final SpecificAvroSerializer<T> serializer = new SpecificAvroSerializer<>();
+
+    /**
+     * Deserializer used by the services.
+     */
+    private final SpecificAvroDeserializer<T> deserializer = new SpecificAvroDeserializer<>();
+
+    /**
+     * Buffer the generic and reflect writers encode into.
+     */
+    private final ByteArrayOutputStream buffer = new ByteArrayOutputStream(1024);
+
+    /**
+     * Encoder reused by the generic and reflect writers.
+     */
+    private BinaryEncoder encoder;
+
+    /**
+     * Decoder reused by the generic and reflect readers.
+     */
+    private BinaryDecoder decoder;
+
+    /**
+     * Record serialized by the benchmarks.
+     */
+    private T message;
+
+    /**
+     * The record as a generic record.
+     */
+    private Object genericMessage;
+
+    /**
+     * The record as written by the serializer, header included.
+     */
+    private byte[] payload;
+
+    /**
+     * The record body, without the header.
+     */
+    private byte[] body;
+
+    /**
+     * Writer of generic records.
+     */
+    private DatumWriter<Object> genericWriter;
+
+    /**
+     * Reader of generic records.
+     */
+    private DatumReader<Object> genericReader;
+
+    /**
+     * Writer of records by reflection.
+     */
+    private DatumWriter<Object> reflectWriter;
+
+    /**
+     * Reader of records by reflection.
+     */
+    private DatumReader<Object> reflectReader;
+
+    /**
+     * Creates the record serialized by the benchmarks.
+     *
+     * @return the record
+     */
+    protected abstract T createMessage();
+
+    /**
+     * Serializes the record once and builds the readers and writers.
+     */
+    @Setup
+    public void setUp() {
+        serializer.configure(MessageFixtures.REGISTRY_FREE_CONFIG, false);
+        deserializer.configure(MessageFixtures.REGISTRY_FREE_CONFIG, false);
+        message = createMessage();
+        payload = serializer.serialize(TOPIC, message);
+        body = new byte[payload.length - AvroWireFormat.SINGLE_OBJECT_HEADER_LENGTH];
+        System.arraycopy(payload, AvroWireFormat.SINGLE_OBJECT_HEADER_LENGTH, body, 0, body.length);
+        Schema schema = message.getSchema();
+        GenericData genericData = withConversions(new GenericData());
+        ReflectData reflectData = withConversions(new ReflectData());
+        genericWriter = new GenericDatumWriter<>(schema, genericData);
+        genericReader = new GenericDatumReader<>(schema, schema, genericData);
+        reflectWriter = new ReflectDatumWriter<>(schema, reflectData);
+        reflectReader = new ReflectDatumReader<>(schema, schema, reflectData);
+        genericMessage = read(genericReader);
+    }
+
+    /**
+     * Serializes the record with the service serializer.
+     *
+     * @param wireSize the counter of bytes written
+     * @return the serialized record
+     */
+    @Benchmark
+    public byte[] serializeSpecific(WireSize wireSize) {
+        byte[] data = serializer.serialize(TOPIC, message);
+        wireSize.wireBytes += data.length;
+        return data;
+    }
+
+    /**
+     * Encodes the record body from a generic record.
+     *
+     * @return the encoded body
+     */
+    @Benchmark
+    public byte[] serializeGeneric() {
+        return write(genericWriter, genericMessage);
+    }
+
+    /**
+     * Encodes the record body by reflection.
+     *
+     * @return the encoded body
+     */
+    @Benchmark
+    public byte[] serializeReflect() {
+        return write(reflectWriter, message);
+    }
+
+    /**
+     * Deserializes the record with the service deserializer.
+     *
+     * @return the record
+     */
+    @Benchmark
+    public T deserializeSpecific() {
+        return deserializer.deserialize(TOPIC, payload);
+    }
+
+    /**
+     * Decodes the record body into a generic record.
+     *
+     * @return the generic record
+     */
+    @Benchmark
+    public Object deserializeGeneric() {
+        return read(genericReader);
+    }
+
+    /**
+     * Decodes the record body by reflection.
+     *
+     * @return the record
+     */
+    @Benchmark
+    public Object deserializeReflect() {
+        return read(reflectReader);
+    }
+
+    private byte[] write(DatumWriter<Object> writer, Object datum) {
+        buffer.reset();
+        encoder = EncoderFactory.get().binaryEncoder(buffer, encoder);
+        try {
+            writer.write(datum, encoder);
+            encoder.flush();
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not encode " + datum.getClass().getSimpleName(), e);
+        }
+        return buffer.toByteArray();
+    }
+
+    private Object read(DatumReader<Object> reader) {
+        decoder = DecoderFactory.get().binaryDecoder(body, decoder);
+        try {
+            return reader.read(null, decoder);
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not decode " + message.getSchema().getFullName(), e);
+        }
+    }
+
+    private static <D extends GenericData> D withConversions(D data) {
+        data.addLogicalTypeConversion(new Conversions.UUIDConversion());
+        data.addLogicalTypeConversion(new Conversions.DecimalConversion());
+        data.addLogicalTypeConversion(new TimeConversions.TimestampMillisConversion());
+        return data;
+    }
+}
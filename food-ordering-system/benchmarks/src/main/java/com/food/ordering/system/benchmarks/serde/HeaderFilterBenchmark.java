@@ -0,0 +1,146 @@
+package com.food.ordering.system.benchmarks.serde;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.avro.specific.SpecificRecord;
+import org.apache.kafka.common.header.Headers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.food.ordering.system.benchmarks.fixture.MessageFixtures;
+import com.food.ordering.system.kafka.consumer.filter.HeaderFilteringDeserializer;
+import com.food.ordering.system.kafka.model.header.AvroMessageHeaders;
+import com.food.ordering.system.kafka.model.serde.AvroSerdeConfig;
+import com.food.ordering.system.kafka.model.serde.AvroSerdeMode;
+import com.food.ordering.system.kafka.model.serde.SpecificAvroDeserializer;
+import com.food.ordering.system.kafka.model.serde.SpecificAvroSerializer;
+import com.food.ordering.system.kafka.order.avro.model.PaymentRequestAvroModel;
+import com.food.ordering.system.kafka.order.avro.model.PaymentResponseAvroModel;
+import com.food.ordering.system.kafka.order.avro.model.PaymentStatus;
+
+/**
+ * Measures what the {@link HeaderFilteringDeserializer} saves on records a consumer
+ * does not want: a record whose headers do not match the rules of its topic is
+ * dropped without being decoded, where the plain deserializer decodes it before the
+ * listener can discard it. {@link #filterAccepted()} shows the cost the header check
+ * adds to the records that are kept.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HeaderFilterBenchmark {
+    /**
+     * Topic the records are read from.
+     */
+    private static final String TOPIC = "payment-response";
+
+    /**
+     * Deserializer applying the header rules of the order service.
+     */
+    private final HeaderFilteringDeserializer<Object> filteringDeserializer = new HeaderFilteringDeserializer<>();
+
+    /**
+     * Deserializer decoding every record.
+     */
+    private final SpecificAvroDeserializer<SpecificRecord> plainDeserializer = new SpecificAvroDeserializer<>();
+
+    /**
+     * A payment response, accepted by the rules.
+     */
+    private byte[] acceptedPayload;
+
+    /**
+     * Headers of the payment response.
+     */
+    private Headers acceptedHeaders;
+
+    /**
+     * A record of another type on the same topic, rejected by the rules.
+     */
+    private byte[] rejectedPayload;
+
+    /**
+     * Headers of the rejected record.
+     */
+    private Headers rejectedHeaders;
+
+    /**
+     * Serializes both records and configures the deserializers with the header rules
+     * of the payment response topic.
+     */
+    @Setup
+    public void setUp() {
+        filteringDeserializer.configure(Map.of(
+                AvroSerdeConfig.SERDE_MODE, AvroSerdeMode.REGISTRY_FREE.name(),
+                HeaderFilteringDeserializer.DELEGATE_CLASS_CONFIG, SpecificAvroDeserializer.class,
+                HeaderFilteringDeserializer.RULES_CONFIG, Map.of(TOPIC, Map.of(
+                        AvroMessageHeaders.MESSAGE_TYPE, "PaymentResponseAvroModel",
+                        AvroMessageHeaders.MESSAGE_STATUS, "COMPLETED, CANCELLED, FAILED"))),
+                false);
+        plainDeserializer.configure(MessageFixtures.REGISTRY_FREE_CONFIG, false);
+        try (SpecificAvroSerializer<PaymentResponseAvroModel> responseSerializer = new SpecificAvroSerializer<>();
+                SpecificAvroSerializer<PaymentRequestAvroModel> requestSerializer = new SpecificAvroSerializer<>()) {
+            responseSerializer.configure(MessageFixtures.REGISTRY_FREE_CONFIG, false);
+            requestSerializer.configure(MessageFixtures.REGISTRY_FREE_CONFIG, false);
+            PaymentResponseAvroModel response = MessageFixtures.paymentResponse(PaymentStatus.COMPLETED, List.of());
+            acceptedPayload = responseSerializer.serialize(TOPIC, response);
+            acceptedHeaders = AvroMessageHeaders.of(response, response.getPaymentStatus());
+            PaymentRequestAvroModel request = MessageFixtures.paymentRequest();
+            rejectedPayload = requestSerializer.serialize(TOPIC, request);
+            rejectedHeaders = AvroMessageHeaders.of(request, request.getPaymentOrderStatus());
+        }
+    }
+
+    /**
+     * Drops the unwanted record on its headers.
+     *
+     * @return null, the record being dropped
+     */
+    @Benchmark
+    public Object filterRejected() {
+        return filteringDeserializer.deserialize(TOPIC, rejectedHeaders, rejectedPayload);
+    }
+
+    /**
+     * Decodes the unwanted record, as without header filtering.
+     *
+     * @return the decoded record
+     */
+    @Benchmark
+    public Object decodeRejected() {
+        return plainDeserializer.deserialize(TOPIC, rejectedHeaders, rejectedPayload);
+    }
+
+    /**
+     * Checks the headers of a wanted record and decodes it.
+     *
+     * @return the decoded record
+     */
+    @Benchmark
+    public Object filterAccepted() {
+        return filteringDeserializer.deserialize(TOPIC, acceptedHeaders, acceptedPayload);
+    }
+
+    /**
+     * Decodes a wanted record without checking its headers.
+     *
+     * @return the decoded record
+     */
+    @Benchmark
+    public Object decodeAccepted() {
+        return plainDeserializer.deserialize(TOPIC, acceptedHeaders, acceptedPayload);
+    }
+}
@@ -0,0 +1,14 @@
+package com.food.ordering.system.benchmarks.serde;
+
+import com.food.ordering.system.benchmarks.fixture.MessageFixtures;
+import com.food.ordering.system.kafka.order.avro.model.PaymentRequestAvroModel;
+
+/**
+ * Serialization and deserialization of the payment requests sent by the order service.
+ */
+public class PaymentRequestSerdeBenchmark extends AbstractAvroSerdeBenchmark<PaymentRequestAvroModel> {
+    @Override
+    protected PaymentRequestAvroModel createMessage() {
+        return MessageFixtures.paymentRequest();
+    }
+}
@@ -0,0 +1,107 @@
+package com.food.ordering.system.benchmarks.serde;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.food.ordering.system.benchmarks.fixture.MessageFixtures;
+import com.food.ordering.system.kafka.model.serde.SpecificAvroDeserializer;
+import com.food.ordering.system.kafka.model.serde.SpecificAvroSerializer;
+import com.food.ordering.system.kafka.order.avro.model.PaymentResponseAvroModel;
+import com.food.ordering.system.kafka.order.avro.model.PaymentStatus;
+import com.food.ordering.system.order.service.domain.dto.message.PaymentResponse;
+import com.food.ordering.system.order.service.messaging.decoder.PaymentResponseAvroDecoder;
+import com.food.ordering.system.order.service.messaging.mapper.OrderMessagingDataMapper;
+
+/**
+ * Compares the two ways the order service can turn a payment response from the wire
+ * into its DTO: decoding into the generated Avro class and mapping it, or decoding
+ * straight into the DTO with the {@link PaymentResponseAvroDecoder}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PaymentResponseDecodingBenchmark {
+    /**
+     * Topic the responses are read from.
+     */
+    private static final String TOPIC = "payment-response";
+
+    /**
+     * Status of the payment.
+     */
+    @Param({ "COMPLETED", "FAILED" })
+    private PaymentStatus paymentStatus;
+
+    /**
+     * Deserializer into the generated Avro class.
+     */
+    private final SpecificAvroDeserializer<PaymentResponseAvroModel> deserializer = new SpecificAvroDeserializer<>();
+
+    /**
+     * Mapper from the Avro class to the DTO.
+     */
+    private final OrderMessagingDataMapper orderMessagingDataMapper = Mappers.getMapper(OrderMessagingDataMapper.class);
+
+    /**
+     * Decoder straight into the DTO.
+     */
+    private final PaymentResponseAvroDecoder directDecoder = new PaymentResponseAvroDecoder();
+
+    /**
+     * The serialized response.
+     */
+    private byte[] payload;
+
+    /**
+     * Serializes the response and configures the decoders.
+     */
+    @Setup
+    public void setUp() {
+        deserializer.configure(MessageFixtures.REGISTRY_FREE_CONFIG, false);
+        directDecoder.configure(MessageFixtures.REGISTRY_FREE_CONFIG, false);
+        try (SpecificAvroSerializer<PaymentResponseAvroModel> serializer = new SpecificAvroSerializer<>()) {
+            serializer.configure(MessageFixtures.REGISTRY_FREE_CONFIG, false);
+            payload = serializer.serialize(TOPIC, MessageFixtures.paymentResponse(paymentStatus,
+                    paymentStatus == PaymentStatus.FAILED
+                            ? List.of("Customer doesn't have enough credit for payment!")
+                            : List.of()));
+        }
+    }
+
+    /**
+     * Decodes the response into the Avro class and maps it to the DTO.
+     *
+     * @return the payment response
+     */
+    @Benchmark
+    public PaymentResponse deserializeAndMap() {
+        return orderMessagingDataMapper.paymentResponseAvroModelToPaymentResponse(
+                deserializer.deserialize(TOPIC, payload));
+    }
+
+    /**
+     * Decodes the response straight into the DTO.
+     *
+     * @return the payment response
+     */
+    @Benchmark
+    public PaymentResponse decodeDirect() {
+        return directDecoder.deserialize(TOPIC, payload);
+    }
+}
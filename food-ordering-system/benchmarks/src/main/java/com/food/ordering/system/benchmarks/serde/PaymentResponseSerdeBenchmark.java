@@ -0,0 +1,29 @@
+package com.food.ordering.system.benchmarks.serde;
+
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Param;
+
+import com.food.ordering.system.benchmarks.fixture.MessageFixtures;
+import com.food.ordering.system.kafka.order.avro.model.PaymentResponseAvroModel;
+import com.food.ordering.system.kafka.order.avro.model.PaymentStatus;
+
+/**
+ * Serialization and deserialization of the payment responses sent by the payment
+ * service, completed ones without failure messages and failed ones with two.
+ */
+public class PaymentResponseSerdeBenchmark extends AbstractAvroSerdeBenchmark<PaymentResponseAvroModel> {
+    /**
+     * Status of the payment.
+     */
+    @Param({ "COMPLETED", "FAILED" })
+    private PaymentStatus paymentStatus;
+
+    @Override
+    protected PaymentResponseAvroModel createMessage() {
+        return MessageFixtures.paymentResponse(paymentStatus, paymentStatus == PaymentStatus.FAILED
+                ? List.of("Customer doesn't have enough credit for payment!",
+                        "Credit history total is not equal to current credit!")
+                : List.of());
+    }
+}
@@ -0,0 +1,24 @@
+package com.food.ordering.system.benchmarks.serde;
+
+import org.openjdk.jmh.annotations.Param;
+
+import com.food.ordering.system.benchmarks.fixture.MessageFixtures;
+import com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalRequestAvroModel;
+
+/**
+ * Serialization and deserialization of the restaurant approval requests sent by the
+ * order service, for orders of growing size.
+ */
+public class RestaurantApprovalRequestSerdeBenchmark
+        extends AbstractAvroSerdeBenchmark<RestaurantApprovalRequestAvroModel> {
+    /**
+     * Number of products of the order.
+     */
+    @Param({ "1", "10", "100", "500" })
+    private int productCount;
+
+    @Override
+    protected RestaurantApprovalRequestAvroModel createMessage() {
+        return MessageFixtures.restaurantApprovalRequest(productCount);
+    }
+}
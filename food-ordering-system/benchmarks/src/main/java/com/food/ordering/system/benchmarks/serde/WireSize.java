@@ -0,0 +1,31 @@
+package com.food.ordering.system.benchmarks.serde;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Counts the bytes written to the wire by the serialization benchmarks.
+ * <p>
+ * JMH reports the counter as a rate next to the throughput of the benchmark, so the
+ * size of one message is {@code wireBytes} divided by the primary score.
+ * </p>
+ */
+@State(Scope.Thread)
+@AuxCounters(AuxCounters.Type.OPERATIONS)
+public class WireSize {
+    /**
+     * Bytes written in the current iteration.
+     */
+    public long wireBytes;
+
+    /**
+     * Resets the counter before every iteration.
+     */
+    @Setup(Level.Iteration)
+    public void reset() {
+        wireBytes = 0;
+    }
+}
@@ -0,0 +1,493 @@
+package com.food.ordering.system.domain.event.bus;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+
+import com.food.ordering.system.domain.event.IDomainEvent;
+import com.food.ordering.system.domain.event.publisher.IDomainEventPublisher;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Asynchronous in-process domain event bus.
+ * <p>
+ * Events are routed by the hash of their aggregate id to one of a fixed number of
+ * partitions. Each partition is a {@link DomainEventRingBuffer} drained by its own
+ * thread, which hands the events to the handler in batches of up to
+ * {@code maxBatchSize}. The events of one aggregate therefore always land on the same
+ * partition and are handled in publication order, while different aggregates are
+ * handled in parallel. Publishing only claims a ring slot, so the caller no longer
+ * pays for the handler; when a ring is full the publisher waits according to the
+ * {@link DomainEventWaitStrategy}, which pushes back instead of buffering without
+ * limit.
+ * </p>
+ * <p>
+ * A handler exception is logged and the batch is dropped, so one failing batch
+ * does not stall its partition. Callers that must know their events were handled,
+ * for example before committing a message offset, publish them with
+ * {@link #publish(IDomainEvent, Positions)} and wait for them with
+ * {@link #flush(Positions, long)}, which only waits for the partitions they landed
+ * on and up to the positions they claimed, not for the events other callers
+ * published later or on other partitions. {@link #flush(long)} waits for every
+ * event published before it.
+ * </p>
+ *
+ * @param <T> the type of the domain events
+ */
+@Slf4j
+@SuppressWarnings("rawtypes")
+public final class DomainEventBus<T extends IDomainEvent> implements IDomainEventPublisher<T> {
+    /**
+     * The partitions, indexed by the hash of the aggregate id.
+     */
+    private final Partition<T>[] partitions;
+
+    /**
+     * Extracts the aggregate id events are partitioned by.
+     */
+    private final Function<? super T, ?> aggregateIdExtractor;
+
+    /**
+     * How publishers and partition threads wait.
+     */
+    private final DomainEventWaitStrategy waitStrategy;
+
+    /**
+     * Whether the bus accepts new events.
+     */
+    private volatile boolean running = true;
+
+    @SuppressWarnings("unchecked")
+    private DomainEventBus(Builder<T> builder) {
+        if (builder.partitionCount < 1 || builder.maxBatchSize < 1) {
+            throw new IllegalArgumentException("Domain event bus " + builder.name
+                    + " needs at least one partition and a positive batch size");
+        }
+        this.aggregateIdExtractor = builder.aggregateIdExtractor;
+        this.waitStrategy = builder.waitStrategy;
+        this.partitions = new Partition[builder.partitionCount];
+        for (int index = 0; index < partitions.length; index++) {
+            partitions[index] = new Partition<>(this, index, builder);
+        }
+        for (Partition<T> partition : partitions) {
+            partition.thread.start();
+        }
+    }
+
+    /**
+     * Creates a new builder.
+     *
+     * @param <T> the type of the domain events
+     * @return a new Builder instance
+     */
+    public static <T extends IDomainEvent> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * Queues an event on the partition of its aggregate, waiting while that partition
+     * is full.
+     *
+     * @param domainEvent the domain event to publish
+     * @throws IllegalStateException if the bus is closed
+     */
+    @Override
+    public void publish(T domainEvent) {
+        enqueue(partitionFor(domainEvent), domainEvent);
+    }
+
+    /**
+     * Queues an event on the partition of its aggregate, waiting while that partition
+     * is full, and records the position it was queued at.
+     *
+     * @param domainEvent the domain event to publish
+     * @param positions   the positions of the caller, updated with the one of the event
+     * @throws IllegalStateException if the bus is closed
+     */
+    public void publish(T domainEvent, Positions positions) {
+        int partition = partitionFor(domainEvent);
+        positions.record(partition, enqueue(partition, domainEvent));
+    }
+
+    /**
+     * Creates an empty set of positions, to be filled by
+     * {@link #publish(IDomainEvent, Positions)} and waited for with
+     * {@link #flush(Positions, long)}.
+     *
+     * @return positions covering no event
+     */
+    public Positions newPositions() {
+        return new Positions(partitions.length);
+    }
+
+    /**
+     * Waits until every event published before this call was handled.
+     *
+     * @param timeoutMs the maximum time to wait
+     * @return false if the timeout elapsed first
+     */
+    public boolean flush(long timeoutMs) {
+        long[] targets = new long[partitions.length];
+        for (int index = 0; index < partitions.length; index++) {
+            targets[index] = partitions[index].ring.getClaimedCount();
+        }
+        return awaitHandled(targets, timeoutMs);
+    }
+
+    /**
+     * Waits until the events recorded in the given positions were handled. Only the
+     * partitions they landed on are waited for, and only up to their positions.
+     *
+     * @param positions the positions of the events to wait for
+     * @param timeoutMs the maximum time to wait
+     * @return false if the timeout elapsed first
+     */
+    public boolean flush(Positions positions, long timeoutMs) {
+        return awaitHandled(positions.handledTargets, timeoutMs);
+    }
+
+    private long enqueue(int partition, T domainEvent) {
+        DomainEventRingBuffer<T> ring = partitions[partition].ring;
+        int attempt = 0;
+        long position;
+        while ((position = ring.offer(domainEvent)) < 0) {
+            if (!running) {
+                throw new IllegalStateException("Domain event bus is closed");
+            }
+            waitStrategy.idle(attempt++);
+        }
+        if (!running) {
+            // The partition thread drains its ring before exiting, so the event is still
+            // handled unless close timed out.
+            log.warn("Domain event published while the bus was closing");
+        }
+        return position;
+    }
+
+    private boolean awaitHandled(long[] targets, long timeoutMs) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        for (int index = 0; index < partitions.length; index++) {
+            int attempt = 0;
+            while (partitions[index].handledCount < targets[index]) {
+                if (System.nanoTime() - deadline > 0) {
+                    return false;
+                }
+                waitStrategy.idle(attempt++);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the index of the partition serving an event.
+     *
+     * @param domainEvent the domain event
+     * @return the partition index
+     */
+    public int partitionFor(T domainEvent) {
+        int hash = aggregateIdExtractor.apply(domainEvent).hashCode();
+        return Math.floorMod(hash ^ (hash >>> 16), partitions.length);
+    }
+
+    /**
+     * Returns the number of partitions.
+     *
+     * @return the partition count
+     */
+    public int getPartitionCount() {
+        return partitions.length;
+    }
+
+    /**
+     * Returns the number of events waiting in a partition.
+     *
+     * @param partition the index of the partition
+     * @return the depth of the partition
+     */
+    public int getQueueDepth(int partition) {
+        return partitions[partition].ring.size();
+    }
+
+    /**
+     * Stops accepting events and waits for the queued ones to be handled.
+     *
+     * @param timeoutMs the maximum time to wait for each partition
+     */
+    public void close(long timeoutMs) {
+        running = false;
+        for (Partition<T> partition : partitions) {
+            try {
+                partition.thread.join(timeoutMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (partition.thread.isAlive()) {
+                log.warn("Domain event bus partition {} stopped with {} events pending", partition.thread.getName(),
+                        partition.ring.size());
+                partition.thread.interrupt();
+            }
+        }
+    }
+
+    /**
+     * Ring positions claimed by the events of one caller, per partition. Not
+     * thread-safe: each caller fills its own instance.
+     */
+    public static final class Positions {
+        /**
+         * Per partition, the handled count at which the recorded events were handled.
+         */
+        private final long[] handledTargets;
+
+        /**
+         * Creates positions covering no event.
+         *
+         * @param partitionCount the number of partitions of the bus
+         */
+        private Positions(int partitionCount) {
+            this.handledTargets = new long[partitionCount];
+        }
+
+        private void record(int partition, long position) {
+            // Partitions are drained in position order, so handling the last position
+            // means every earlier one was handled.
+            handledTargets[partition] = Math.max(handledTargets[partition], position + 1);
+        }
+    }
+
+    /**
+     * One partition: a ring drained by a dedicated thread.
+     *
+     * @param <T> the type of the domain events
+     */
+    private static final class Partition<T extends IDomainEvent> {
+        /**
+         * The bus owning the partition.
+         */
+        private final DomainEventBus<T> bus;
+
+        /**
+         * The index of the partition.
+         */
+        private final int index;
+
+        /**
+         * Events waiting to be handled.
+         */
+        private final DomainEventRingBuffer<T> ring;
+
+        /**
+         * Handler receiving the batches.
+         */
+        private final IDomainEventHandler<T> handler;
+
+        /**
+         * Observer receiving the measurements.
+         */
+        private final IDomainEventBusObserver observer;
+
+        /**
+         * Maximum number of events per batch.
+         */
+        private final int maxBatchSize;
+
+        /**
+         * Thread draining the ring.
+         */
+        private final Thread thread;
+
+        /**
+         * Events handled so far, only written by the partition thread.
+         */
+        private volatile long handledCount;
+
+        private Partition(DomainEventBus<T> bus, int index, Builder<T> builder) {
+            this.bus = bus;
+            this.index = index;
+            this.ring = new DomainEventRingBuffer<>(builder.ringCapacity);
+            this.handler = builder.handler;
+            this.observer = builder.observer;
+            this.maxBatchSize = builder.maxBatchSize;
+            this.thread = new Thread(this::drain, builder.name + "-" + index);
+            this.thread.setDaemon(true);
+        }
+
+        private void drain() {
+            List<T> batch = new ArrayList<>(maxBatchSize);
+            int attempt = 0;
+            while (bus.running || ring.size() > 0) {
+                if (ring.drainTo(batch, maxBatchSize) == 0) {
+                    if (Thread.currentThread().isInterrupted()) {
+                        return;
+                    }
+                    bus.waitStrategy.idle(attempt++);
+                    continue;
+                }
+                attempt = 0;
+                long startNanos = System.nanoTime();
+                try {
+                    handler.handle(batch);
+                } catch (RuntimeException e) {
+                    log.error("Domain event handler failed on a batch of {} events of partition {}", batch.size(),
+                            index, e);
+                }
+                observer.onBatchHandled(index, batch.size(), System.nanoTime() - startNanos);
+                handledCount += batch.size();
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Builder class for constructing DomainEventBus instances.
+     *
+     * @param <T> the type of the domain events
+     */
+    public static final class Builder<T extends IDomainEvent> {
+        /**
+         * Name of the bus, used in the thread names.
+         */
+        private String name = "domain-event-bus";
+
+        /**
+         * Number of partitions.
+         */
+        private int partitionCount = Runtime.getRuntime().availableProcessors();
+
+        /**
+         * Minimum number of slots of each partition ring.
+         */
+        private int ringCapacity = 1024;
+
+        /**
+         * Maximum number of events per handled batch.
+         */
+        private int maxBatchSize = 256;
+
+        /**
+         * How publishers and partition threads wait.
+         */
+        private DomainEventWaitStrategy waitStrategy = DomainEventWaitStrategy.SLEEPING;
+
+        /**
+         * Extracts the aggregate id events are partitioned by.
+         */
+        private Function<? super T, ?> aggregateIdExtractor;
+
+        /**
+         * Handler receiving the batches.
+         */
+        private IDomainEventHandler<T> handler;
+
+        /**
+         * Observer receiving the measurements.
+         */
+        private IDomainEventBusObserver observer = IDomainEventBusObserver.NONE;
+
+        /**
+         * Private constructor to prevent direct instantiation.
+         */
+        private Builder() {
+        }
+
+        /**
+         * Sets the name of the bus, used in the thread names.
+         *
+         * @param val the name
+         * @return this builder instance for method chaining
+         */
+        public Builder<T> name(String val) {
+            name = val;
+            return this;
+        }
+
+        /**
+         * Sets the number of partitions.
+         *
+         * @param val the partition count
+         * @return this builder instance for method chaining
+         */
+        public Builder<T> partitionCount(int val) {
+            partitionCount = val;
+            return this;
+        }
+
+        /**
+         * Sets the minimum number of slots of each partition ring.
+         *
+         * @param val the ring capacity, rounded up to a power of two
+         * @return this builder instance for method chaining
+         */
+        public Builder<T> ringCapacity(int val) {
+            ringCapacity = val;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of events per handled batch.
+         *
+         * @param val the maximum batch size
+         * @return this builder instance for method chaining
+         */
+        public Builder<T> maxBatchSize(int val) {
+            maxBatchSize = val;
+            return this;
+        }
+
+        /**
+         * Sets how publishers and partition threads wait.
+         *
+         * @param val the wait strategy
+         * @return this builder instance for method chaining
+         */
+        public Builder<T> waitStrategy(DomainEventWaitStrategy val) {
+            waitStrategy = val;
+            return this;
+        }
+
+        /**
+         * Sets the function extracting the aggregate id events are partitioned by.
+         *
+         * @param val the aggregate id extractor
+         * @return this builder instance for method chaining
+         */
+        public Builder<T> aggregateIdExtractor(Function<? super T, ?> val) {
+            aggregateIdExtractor = val;
+            return this;
+        }
+
+        /**
+         * Sets the handler receiving the batches.
+         *
+         * @param val the handler
+         * @return this builder instance for method chaining
+         */
+        public Builder<T> handler(IDomainEventHandler<T> val) {
+            handler = val;
+            return this;
+        }
+
+        /**
+         * Sets the observer receiving the measurements.
+         *
+         * @param val the observer
+         * @return this builder instance for method chaining
+         */
+        public Builder<T> observer(IDomainEventBusObserver val) {
+            observer = val;
+            return this;
+        }
+
+        /**
+         * Builds and starts the bus.
+         *
+         * @return a running DomainEventBus
+         */
+        public DomainEventBus<T> build() {
+            return new DomainEventBus<>(this);
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.food.ordering.system.domain.event.bus;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded lock-free ring buffer with many producers and a single consumer.
+ * <p>
+ * Every slot carries a sequence telling whose turn it is: a producer claims the
+ * next position with a compare-and-set on the tail, writes the element and then
+ * publishes the slot by setting its sequence; the consumer takes a slot once its
+ * sequence shows it was published and hands it back to the producers of the next
+ * lap. Producers only contend on the tail, and the consumer never writes the tail.
+ * </p>
+ *
+ * @param <T> the type of the elements
+ */
+public final class DomainEventRingBuffer<T> {
+    /**
+     * The elements, indexed by position modulo the capacity.
+     */
+    private final AtomicReferenceArray<T> slots;
+
+    /**
+     * Per slot, the position a producer may write next, plus one once written.
+     */
+    private final AtomicLongArray sequences;
+
+    /**
+     * The number of slots, a power of two.
+     */
+    private final int capacity;
+
+    /**
+     * Mask turning a position into a slot index.
+     */
+    private final int mask;
+
+    /**
+     * Next position to be claimed by a producer.
+     */
+    private final AtomicLong tail = new AtomicLong();
+
+    /**
+     * Next position to be taken by the consumer, only written by the consumer.
+     */
+    private volatile long head;
+
+    /**
+     * Creates a ring buffer.
+     *
+     * @param requestedCapacity the minimum number of slots, rounded up to a power of two
+     */
+    public DomainEventRingBuffer(int requestedCapacity) {
+        if (requestedCapacity < 1 || requestedCapacity > (1 << 30)) {
+            throw new IllegalArgumentException("Ring buffer capacity must be between 1 and 2^30: "
+                    + requestedCapacity);
+        }
+        this.capacity = Integer.highestOneBit(requestedCapacity) == requestedCapacity
+                ? requestedCapacity
+                : Integer.highestOneBit(requestedCapacity) << 1;
+        this.mask = capacity - 1;
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.sequences = new AtomicLongArray(capacity);
+        for (int index = 0; index < capacity; index++) {
+            sequences.set(index, index);
+        }
+    }
+
+    /**
+     * Adds an element, without waiting.
+     *
+     * @param element the element to add
+     * @return the position the element was written at, or -1 if the ring is full
+     */
+    public long offer(T element) {
+        while (true) {
+            long position = tail.get();
+            int index = (int) position & mask;
+            long lag = sequences.get(index) - position;
+            if (lag == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    slots.lazySet(index, element);
+                    // The volatile write publishes the element to the consumer.
+                    sequences.set(index, position + 1);
+                    return position;
+                }
+            } else if (lag < 0) {
+                // The slot still holds the element of the previous lap.
+                return -1;
+            }
+            // Otherwise another producer claimed the position first: retry on the new tail.
+        }
+    }
+
+    /**
+     * Moves published elements to a list, in position order. Must only be called
+     * by the consumer thread.
+     *
+     * @param sink        the list receiving the elements
+     * @param maxElements the maximum number of elements to move
+     * @return the number of elements moved
+     */
+    public int drainTo(List<? super T> sink, int maxElements) {
+        long position = head;
+        int count = 0;
+        while (count < maxElements) {
+            int index = (int) position & mask;
+            if (sequences.get(index) != position + 1) {
+                break;
+            }
+            sink.add(slots.get(index));
+            slots.lazySet(index, null);
+            sequences.set(index, position + capacity);
+            position++;
+            count++;
+        }
+        head = position;
+        return count;
+    }
+
+    /**
+     * Returns the number of elements claimed and not yet taken by the consumer.
+     *
+     * @return the number of waiting elements
+     */
+    public int size() {
+        return (int) Math.max(0, tail.get() - head);
+    }
+
+    /**
+     * Returns the number of positions claimed by producers since creation.
+     *
+     * @return the claimed position count
+     */
+    public long getClaimedCount() {
+        return tail.get();
+    }
+
+    /**
+     * Returns the number of slots.
+     *
+     * @return the capacity
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+}
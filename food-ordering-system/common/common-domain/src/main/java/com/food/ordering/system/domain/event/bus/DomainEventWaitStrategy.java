@@ -0,0 +1,79 @@
+package com.food.ordering.system.domain.event.bus;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * How a {@link DomainEventBus} thread waits while it cannot make progress: a
+ * publisher while the ring of its partition is full, a handler thread while its ring
+ * is empty.
+ * <p>
+ * The strategies trade latency for CPU. None of them takes a lock, so a publisher
+ * never parks on a monitor held by a handler.
+ * </p>
+ */
+public enum DomainEventWaitStrategy {
+    /**
+     * Spins without ever giving up the core: the lowest latency, one busy core per
+     * waiting thread. Only suitable when every partition thread and publisher has a
+     * core of its own, otherwise spinners starve the threads they wait for.
+     */
+    BUSY_SPIN {
+        @Override
+        public void idle(int attempt) {
+            Thread.onSpinWait();
+        }
+    },
+
+    /**
+     * Spins briefly, then yields the core to other runnable threads.
+     */
+    YIELDING {
+        @Override
+        public void idle(int attempt) {
+            if (attempt < SPIN_ATTEMPTS) {
+                Thread.onSpinWait();
+            } else {
+                Thread.yield();
+            }
+        }
+    },
+
+    /**
+     * Spins, then yields, then parks for short periods: near zero CPU while idle, at
+     * the cost of up to a tenth of a millisecond of extra latency.
+     */
+    SLEEPING {
+        @Override
+        public void idle(int attempt) {
+            if (attempt < SPIN_ATTEMPTS) {
+                Thread.onSpinWait();
+            } else if (attempt < SPIN_ATTEMPTS + YIELD_ATTEMPTS) {
+                Thread.yield();
+            } else {
+                LockSupport.parkNanos(PARK_NANOS);
+            }
+        }
+    };
+
+    /**
+     * Attempts spent spinning before yielding.
+     */
+    private static final int SPIN_ATTEMPTS = 100;
+
+    /**
+     * Attempts spent yielding before parking.
+     */
+    private static final int YIELD_ATTEMPTS = 100;
+
+    /**
+     * Time parked per attempt once spinning and yielding did not help.
+     */
+    private static final long PARK_NANOS = 100_000;
+
+    /**
+     * Waits once.
+     *
+     * @param attempt the number of consecutive attempts that made no progress
+     */
+    public abstract void idle(int attempt);
+}
@@ -0,0 +1,22 @@
+package com.food.ordering.system.domain.event.bus;
+
+/**
+ * Receives the measurements of a {@link DomainEventBus}, for example to bind them to
+ * a metrics registry.
+ */
+public interface IDomainEventBusObserver {
+    /**
+     * Observer ignoring every measurement.
+     */
+    IDomainEventBusObserver NONE = (partition, batchSize, handlerNanos) -> {
+    };
+
+    /**
+     * Called on the partition thread after each handled batch.
+     *
+     * @param partition    the index of the partition
+     * @param batchSize    the number of events in the batch
+     * @param handlerNanos the time the handler took for the batch
+     */
+    void onBatchHandled(int partition, int batchSize, long handlerNanos);
+}
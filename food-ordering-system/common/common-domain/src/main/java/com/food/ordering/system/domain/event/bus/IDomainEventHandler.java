@@ -0,0 +1,19 @@
+package com.food.ordering.system.domain.event.bus;
+
+import java.util.List;
+
+/**
+ * Handles the domain events delivered by a {@link DomainEventBus}.
+ *
+ * @param <T> the type of the domain events
+ */
+@FunctionalInterface
+public interface IDomainEventHandler<T> {
+    /**
+     * Handles a batch of events of one partition. The events of an aggregate are
+     * always delivered in publication order and never concurrently.
+     *
+     * @param domainEvents the events, in publication order; only valid during the call
+     */
+    void handle(List<T> domainEvents);
+}
@@ -0,0 +1,203 @@
+package com.food.ordering.system.domain.event.bus;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.food.ordering.system.domain.event.IDomainEvent;
+
+/**
+ * Tests for the {@link DomainEventBus}: per-aggregate ordering with many
+ * publishers, waiting only for the positions a caller claimed, and draining the
+ * queued events on close.
+ */
+public class DomainEventBusTest {
+    @Test
+    void eventsOfAnAggregateAreHandledInPublicationOrder() throws Exception {
+        int aggregateCount = 8;
+        int eventsPerAggregate = 5_000;
+        Map<Integer, List<Integer>> handled = new ConcurrentHashMap<>();
+        DomainEventBus<TestEvent> bus = bus(4, 16, 8,
+                events -> events.forEach(event -> handled
+                        .computeIfAbsent(event.aggregateId, ignored -> new CopyOnWriteArrayList<>())
+                        .add(event.sequence)));
+        ExecutorService publishers = Executors.newFixedThreadPool(aggregateCount);
+        List<Future<?>> results = new ArrayList<>();
+        for (int aggregate = 0; aggregate < aggregateCount; aggregate++) {
+            int aggregateId = aggregate;
+            results.add(publishers.submit(() -> {
+                for (int sequence = 0; sequence < eventsPerAggregate; sequence++) {
+                    bus.publish(new TestEvent(aggregateId, sequence));
+                }
+            }));
+        }
+        for (Future<?> result : results) {
+            result.get(30, TimeUnit.SECONDS);
+        }
+        publishers.shutdown();
+
+        assertTrue(bus.flush(30_000));
+        for (int aggregate = 0; aggregate < aggregateCount; aggregate++) {
+            List<Integer> sequences = handled.get(aggregate);
+            assertEquals(eventsPerAggregate, sequences.size());
+            for (int sequence = 0; sequence < eventsPerAggregate; sequence++) {
+                assertEquals(sequence, sequences.get(sequence));
+            }
+        }
+        bus.close(5_000);
+    }
+
+    @Test
+    void flushWaitsOnlyForTheClaimedPositions() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger handledCount = new AtomicInteger();
+        DomainEventBus<TestEvent> bus = bus(2, 16, 1, events -> {
+            for (TestEvent event : events) {
+                if (event.blocking) {
+                    await(release);
+                }
+                handledCount.incrementAndGet();
+            }
+        });
+        int aggregateId = 0;
+        int otherAggregateId = aggregateOnOtherPartition(bus, aggregateId);
+
+        DomainEventBus.Positions positions = bus.newPositions();
+        bus.publish(new TestEvent(aggregateId, 0), positions);
+        bus.publish(new TestEvent(aggregateId, 1, true));
+        bus.publish(new TestEvent(otherAggregateId, 0, true));
+
+        assertTrue(bus.flush(positions, 5_000));
+        assertFalse(bus.flush(50));
+        assertTrue(bus.flush(bus.newPositions(), 0));
+
+        DomainEventBus.Positions blockedPositions = bus.newPositions();
+        bus.publish(new TestEvent(otherAggregateId, 1), blockedPositions);
+        assertFalse(bus.flush(blockedPositions, 50));
+
+        release.countDown();
+        assertTrue(bus.flush(blockedPositions, 5_000));
+        assertTrue(bus.flush(5_000));
+        assertEquals(4, handledCount.get());
+        bus.close(5_000);
+    }
+
+    @Test
+    void closeDrainsTheQueuedEvents() {
+        AtomicInteger handledCount = new AtomicInteger();
+        DomainEventBus<TestEvent> bus = bus(2, 256, 4, events -> {
+            sleep(1);
+            handledCount.addAndGet(events.size());
+        });
+        for (int sequence = 0; sequence < 200; sequence++) {
+            bus.publish(new TestEvent(sequence % 5, sequence));
+        }
+
+        bus.close(10_000);
+
+        assertEquals(200, handledCount.get());
+        assertEquals(0, bus.getQueueDepth(0) + bus.getQueueDepth(1));
+    }
+
+    @Test
+    void handlerFailureDoesNotStallThePartition() {
+        AtomicInteger handledCount = new AtomicInteger();
+        DomainEventBus<TestEvent> bus = bus(1, 16, 1, events -> {
+            if (events.get(0).sequence == 0) {
+                throw new IllegalStateException("handler failed");
+            }
+            handledCount.addAndGet(events.size());
+        });
+
+        DomainEventBus.Positions positions = bus.newPositions();
+        bus.publish(new TestEvent(0, 0), positions);
+        bus.publish(new TestEvent(0, 1), positions);
+
+        assertTrue(bus.flush(positions, 5_000));
+        assertEquals(1, handledCount.get());
+        bus.close(5_000);
+    }
+
+    private static DomainEventBus<TestEvent> bus(int partitionCount, int ringCapacity, int maxBatchSize,
+            IDomainEventHandler<TestEvent> handler) {
+        return DomainEventBus.<TestEvent>builder()
+                .name("test-event-bus")
+                .partitionCount(partitionCount)
+                .ringCapacity(ringCapacity)
+                .maxBatchSize(maxBatchSize)
+                .waitStrategy(DomainEventWaitStrategy.SLEEPING)
+                .aggregateIdExtractor(event -> event.aggregateId)
+                .handler(handler)
+                .build();
+    }
+
+    private static int aggregateOnOtherPartition(DomainEventBus<TestEvent> bus, int aggregateId) {
+        int partition = bus.partitionFor(new TestEvent(aggregateId, 0));
+        for (int candidate = aggregateId + 1;; candidate++) {
+            if (bus.partitionFor(new TestEvent(candidate, 0)) != partition) {
+                return candidate;
+            }
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static final class TestEvent implements IDomainEvent<Integer> {
+        /**
+         * Id of the aggregate the event is partitioned by.
+         */
+        private final int aggregateId;
+
+        /**
+         * Publication order of the event within its aggregate.
+         */
+        private final int sequence;
+
+        /**
+         * Whether the handler blocks on the event until released.
+         */
+        private final boolean blocking;
+
+        private TestEvent(int aggregateId, int sequence) {
+            this(aggregateId, sequence, false);
+        }
+
+        private TestEvent(int aggregateId, int sequence, boolean blocking) {
+            this.aggregateId = aggregateId;
+            this.sequence = sequence;
+            this.blocking = blocking;
+        }
+
+        @Override
+        public void fire() {
+        }
+    }
+}
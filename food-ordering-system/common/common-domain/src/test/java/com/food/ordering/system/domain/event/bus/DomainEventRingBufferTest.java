@@ -0,0 +1,122 @@
+package com.food.ordering.system.domain.event.bus;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the {@link DomainEventRingBuffer} slot sequencing: capacity rounding,
+ * the full ring, positions across laps and many concurrent producers.
+ */
+public class DomainEventRingBufferTest {
+    @Test
+    void capacityIsRoundedUpToAPowerOfTwo() {
+        assertEquals(4, new DomainEventRingBuffer<Integer>(3).getCapacity());
+        assertEquals(8, new DomainEventRingBuffer<Integer>(8).getCapacity());
+        assertThrows(IllegalArgumentException.class, () -> new DomainEventRingBuffer<Integer>(0));
+    }
+
+    @Test
+    void fullRingRejectsUntilTheConsumerTakesASlot() {
+        DomainEventRingBuffer<Integer> ring = new DomainEventRingBuffer<>(4);
+        for (int element = 0; element < 4; element++) {
+            assertEquals(element, ring.offer(element));
+        }
+
+        assertEquals(-1, ring.offer(4));
+        assertEquals(4, ring.size());
+
+        List<Integer> drained = new ArrayList<>();
+        assertEquals(1, ring.drainTo(drained, 1));
+        assertEquals(4, ring.offer(4));
+        assertEquals(-1, ring.offer(5));
+        assertEquals(List.of(0), drained);
+    }
+
+    @Test
+    void positionsKeepGrowingAcrossLaps() {
+        DomainEventRingBuffer<Integer> ring = new DomainEventRingBuffer<>(4);
+        List<Integer> drained = new ArrayList<>();
+
+        for (int element = 0; element < 22; element++) {
+            assertEquals(element, ring.offer(element));
+            if (element % 3 == 2) {
+                ring.drainTo(drained, Integer.MAX_VALUE);
+            }
+        }
+        ring.drainTo(drained, Integer.MAX_VALUE);
+
+        assertEquals(22, ring.getClaimedCount());
+        assertEquals(0, ring.size());
+        for (int element = 0; element < 22; element++) {
+            assertEquals(element, drained.get(element));
+        }
+    }
+
+    @Test
+    void drainStopsAtTheBatchLimit() {
+        DomainEventRingBuffer<Integer> ring = new DomainEventRingBuffer<>(8);
+        for (int element = 0; element < 5; element++) {
+            ring.offer(element);
+        }
+        List<Integer> drained = new ArrayList<>();
+
+        assertEquals(3, ring.drainTo(drained, 3));
+        assertEquals(2, ring.drainTo(drained, 3));
+        assertEquals(0, ring.drainTo(drained, 3));
+        assertEquals(List.of(0, 1, 2, 3, 4), drained);
+    }
+
+    @Test
+    void concurrentProducersLoseNothingAndKeepTheirOrder() throws Exception {
+        int producerCount = 4;
+        int elementsPerProducer = 20_000;
+        DomainEventRingBuffer<long[]> ring = new DomainEventRingBuffer<>(64);
+        ExecutorService producers = Executors.newFixedThreadPool(producerCount);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> results = new ArrayList<>();
+        for (int producer = 0; producer < producerCount; producer++) {
+            long producerId = producer;
+            results.add(producers.submit(() -> {
+                start.await();
+                for (long sequence = 0; sequence < elementsPerProducer; sequence++) {
+                    while (ring.offer(new long[] { producerId, sequence }) < 0) {
+                        Thread.onSpinWait();
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+
+        long[] nextSequences = new long[producerCount];
+        List<long[]> batch = new ArrayList<>();
+        int received = 0;
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (received < producerCount * elementsPerProducer && System.nanoTime() < deadline) {
+            batch.clear();
+            received += ring.drainTo(batch, 128);
+            for (long[] element : batch) {
+                assertEquals(nextSequences[(int) element[0]]++, element[1]);
+            }
+        }
+        for (Future<?> result : results) {
+            result.get(30, TimeUnit.SECONDS);
+        }
+        producers.shutdown();
+
+        assertEquals(producerCount * elementsPerProducer, received);
+        assertEquals(0, ring.size());
+        assertTrue(producers.awaitTermination(5, TimeUnit.SECONDS));
+    }
+}
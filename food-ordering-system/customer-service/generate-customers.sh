@@ -0,0 +1,38 @@
+#!/bin/bash
+
+# ---
+# Generates customers for benchmarking the bulk import endpoint locally.
+#
+# Usage: ./generate-customers.sh [count] [csv|ndjson] [seed] > customers.csv
+#
+# The ids are derived from the seed and the row number, so the same arguments always
+# produce the same file and different seeds never collide. Import the file with:
+#
+#   curl -X POST -H 'Content-Type: text/csv' --data-binary @customers.csv \
+#        http://localhost:8184/customers/import
+#   curl -X POST -H 'Content-Type: application/x-ndjson' --data-binary @customers.ndjson \
+#        http://localhost:8184/customers/import
+# ---
+
+COUNT=${1:-1000000}
+FORMAT=${2:-csv}
+SEED=${3:-1}
+
+if [ "$FORMAT" != "csv" ] && [ "$FORMAT" != "ndjson" ]; then
+    echo "Unknown format '$FORMAT', expected csv or ndjson" >&2
+    exit 1
+fi
+
+awk -v count="$COUNT" -v format="$FORMAT" -v seed="$SEED" 'BEGIN {
+    if (format == "csv") {
+        print "id,username,first_name,last_name"
+    }
+    for (i = 1; i <= count; i++) {
+        id = sprintf("%08x-0000-4000-8000-%012x", seed, i)
+        if (format == "csv") {
+            printf "%s,user_%d_%d,First%d,Last%d\n", id, seed, i, i, i
+        } else {
+            printf "{\"id\":\"%s\",\"username\":\"user_%d_%d\",\"firstName\":\"First%d\",\"lastName\":\"Last%d\"}\n", id, seed, i, i, i
+        }
+    }
+}'
@@ -0,0 +1,34 @@
+package com.food.ordering.system.customer.service.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Data;
+
+/**
+ * Configuration properties for the customer service.
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "customer-service")
+public class CustomerServiceConfigData {
+    /**
+     * The topic the customer changes are published on.
+     */
+    private String customerTopicName;
+
+    /**
+     * The maximum number of outbox rows published per transaction.
+     */
+    private Integer outboxBatchSize;
+
+    /**
+     * The interval between two polls of an empty outbox in milliseconds.
+     */
+    private Long outboxPollIntervalMs;
+
+    /**
+     * The size in bytes of the buffer streaming an import into COPY.
+     */
+    private Integer importBufferSize;
+}
@@ -0,0 +1,27 @@
+package com.food.ordering.system.customer.service.exception;
+
+/**
+ * Exception thrown when a customer import is rejected, such as for a malformed
+ * line or a missing value. Nothing of a rejected import is kept.
+ */
+public class CustomerImportException extends RuntimeException {
+    /**
+     * Constructs a new CustomerImportException with the specified detail message.
+     *
+     * @param message the detail message explaining why the import was rejected
+     */
+    public CustomerImportException(String message) {
+        super(message);
+    }
+
+    /**
+     * Constructs a new CustomerImportException with the specified detail message
+     * and cause.
+     *
+     * @param message the detail message explaining why the import was rejected
+     * @param cause   the cause of the exception
+     */
+    public CustomerImportException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
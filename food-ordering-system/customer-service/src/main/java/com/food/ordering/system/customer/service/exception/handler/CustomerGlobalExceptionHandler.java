@@ -0,0 +1,37 @@
+package com.food.ordering.system.customer.service.exception.handler;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+import com.food.ordering.system.application.handler.ErrorDto;
+import com.food.ordering.system.application.handler.GlobalExceptionHandler;
+import com.food.ordering.system.customer.service.exception.CustomerImportException;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Global exception handler for the Customer service.
+ * Handles customer-specific exceptions and returns standardized error responses.
+ */
+@Slf4j
+@ControllerAdvice
+public class CustomerGlobalExceptionHandler extends GlobalExceptionHandler {
+    /**
+     * Handles {@link CustomerImportException} and returns a BAD_REQUEST error
+     * response.
+     *
+     * @param customerImportException the thrown import exception
+     * @return an {@link ErrorDto} with error details
+     */
+    @ResponseBody
+    @ExceptionHandler(value = { CustomerImportException.class })
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ErrorDto handleException(CustomerImportException customerImportException) {
+        log.error(customerImportException.getMessage(), customerImportException);
+        return ErrorDto.builder().code(HttpStatus.BAD_REQUEST.getReasonPhrase())
+                .message(customerImportException.getMessage()).build();
+    }
+}
@@ -0,0 +1,305 @@
+package com.food.ordering.system.customer.service.importer;
+
+import java.io.BufferedReader;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.food.ordering.system.customer.service.config.CustomerServiceConfigData;
+import com.food.ordering.system.customer.service.exception.CustomerImportException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Imports customers in bulk by streaming the request body into PostgreSQL
+ * {@code COPY}.
+ * <p>
+ * The rows are copied into an unindexed temporary table, so the copy itself
+ * maintains no index and fires no trigger, and are then moved into
+ * {@code customer.customers} with a single {@code INSERT ... SELECT} ordered by id.
+ * The primary key is therefore maintained once, in key order, and the outbox
+ * trigger runs once for the whole import instead of once per row. Memory stays
+ * bounded by the import buffer whatever the size of the import. Customers whose id
+ * already exists are skipped, and the whole import runs in one transaction, so a
+ * rejected import leaves nothing behind.
+ * </p>
+ */
+@Slf4j
+@Component
+public class CustomerBulkImporter {
+    /**
+     * Unindexed staging table, dropped when the import transaction ends.
+     */
+    private static final String CREATE_STAGING_TABLE = "CREATE TEMPORARY TABLE customer_import "
+            + "(id uuid NOT NULL, username character varying NOT NULL, "
+            + "first_name character varying NOT NULL, last_name character varying NOT NULL) ON COMMIT DROP";
+
+    /**
+     * Copies CSV rows with a header line into the staging table.
+     */
+    private static final String COPY_CSV_WITH_HEADER = "COPY customer_import (id, username, first_name, last_name) "
+            + "FROM STDIN WITH (FORMAT csv, HEADER true)";
+
+    /**
+     * Copies CSV rows without a header line into the staging table.
+     */
+    private static final String COPY_CSV = "COPY customer_import (id, username, first_name, last_name) "
+            + "FROM STDIN WITH (FORMAT csv)";
+
+    /**
+     * Moves the staged rows into the customers, in key order.
+     */
+    private static final String INSERT_STAGED = "INSERT INTO customer.customers (id, username, first_name, last_name) "
+            + "SELECT id, username, first_name, last_name FROM customer_import ORDER BY id "
+            + "ON CONFLICT (id) DO NOTHING";
+
+    /**
+     * Template running the import statements.
+     */
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Template running each import in one transaction.
+     */
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * Reader of the NDJSON lines.
+     */
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Configuration data for the customer service.
+     */
+    private final CustomerServiceConfigData customerServiceConfigData;
+
+    /**
+     * Registry receiving the import metrics.
+     */
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Customers created by imports.
+     */
+    private final Counter importedCounter;
+
+    /**
+     * Rows skipped by imports because the customer already existed.
+     */
+    private final Counter skippedCounter;
+
+    /**
+     * Request bytes streamed into COPY.
+     */
+    private final Counter bytesCounter;
+
+    /**
+     * Constructs a new CustomerBulkImporter.
+     *
+     * @param jdbcTemplate              the template running the import statements
+     * @param transactionManager        the transaction manager of the imports
+     * @param objectMapper              the reader of the NDJSON lines
+     * @param customerServiceConfigData the configuration data for the customer service
+     * @param meterRegistryProvider     the provider of the registry receiving the metrics
+     */
+    public CustomerBulkImporter(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+            ObjectMapper objectMapper, CustomerServiceConfigData customerServiceConfigData,
+            ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.customerServiceConfigData = customerServiceConfigData;
+        this.meterRegistry = meterRegistryProvider.getIfAvailable(() -> Metrics.globalRegistry);
+        this.importedCounter = Counter.builder("customer.import.rows").tag("result", "imported")
+                .description("Customer import rows").register(meterRegistry);
+        this.skippedCounter = Counter.builder("customer.import.rows").tag("result", "skipped")
+                .description("Customer import rows").register(meterRegistry);
+        this.bytesCounter = Counter.builder("customer.import.bytes")
+                .description("Customer import bytes streamed into COPY").register(meterRegistry);
+    }
+
+    /**
+     * Imports the customers read from a stream.
+     *
+     * @param inputStream the stream of customers, read to its end
+     * @param format      the format of the stream
+     * @return the outcome of the import
+     * @throws CustomerImportException if the stream holds an invalid row
+     */
+    public CustomerImportResult importCustomers(InputStream inputStream, CustomerImportFormat format) {
+        long startNanos = System.nanoTime();
+        CountingInputStream countingInputStream = new CountingInputStream(inputStream);
+        long[] rows = transactionTemplate.execute(status -> jdbcTemplate.execute(
+                (ConnectionCallback<long[]>) connection -> copyAndInsert(connection, countingInputStream, format)));
+        long durationNanos = System.nanoTime() - startNanos;
+        Timer.builder("customer.import.duration").tag("format", format.name())
+                .description("Duration of customer imports").register(meterRegistry)
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+        bytesCounter.increment(countingInputStream.getCount());
+        importedCounter.increment(rows[1]);
+        skippedCounter.increment(rows[0] - rows[1]);
+        long durationMs = TimeUnit.NANOSECONDS.toMillis(durationNanos);
+        log.info("Imported {} of {} customers from {} bytes of {} in {} ms ({} rows/s)", rows[1], rows[0],
+                countingInputStream.getCount(), format, durationMs,
+                durationMs == 0 ? rows[0] : rows[0] * 1000 / durationMs);
+        return CustomerImportResult.builder()
+                .receivedRows(rows[0])
+                .importedRows(rows[1])
+                .skippedRows(rows[0] - rows[1])
+                .durationMs(durationMs)
+                .build();
+    }
+
+    private long[] copyAndInsert(Connection connection, InputStream inputStream, CustomerImportFormat format)
+            throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(CREATE_STAGING_TABLE);
+            CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+            long copiedRows = format == CustomerImportFormat.CSV
+                    ? copyManager.copyIn(COPY_CSV_WITH_HEADER, inputStream,
+                            customerServiceConfigData.getImportBufferSize())
+                    : copyNdjson(copyManager, inputStream);
+            long insertedRows = statement.executeUpdate(INSERT_STAGED);
+            return new long[] { copiedRows, insertedRows };
+        } catch (SQLException e) {
+            // Class 22 is a malformed value and class 23 a missing one: the request is at
+            // fault, not the database.
+            String sqlState = e.getSQLState();
+            if (sqlState != null && (sqlState.startsWith("22") || sqlState.startsWith("23"))) {
+                throw new CustomerImportException("Customer import rejected: " + e.getMessage(), e);
+            }
+            throw e;
+        } catch (IOException e) {
+            throw new CustomerImportException("Could not read the customer import: " + e.getMessage(), e);
+        }
+    }
+
+    private long copyNdjson(CopyManager copyManager, InputStream inputStream) throws SQLException, IOException {
+        int bufferSize = customerServiceConfigData.getImportBufferSize();
+        CopyIn copyIn = copyManager.copyIn(COPY_CSV);
+        try {
+            BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8),
+                    bufferSize);
+            StringBuilder csv = new StringBuilder(bufferSize + 256);
+            long lineNumber = 0;
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                appendCsvRow(csv, parseLine(line, lineNumber), lineNumber);
+                if (csv.length() >= bufferSize) {
+                    writeToCopy(copyIn, csv);
+                }
+            }
+            writeToCopy(copyIn, csv);
+            return copyIn.endCopy();
+        } finally {
+            if (copyIn.isActive()) {
+                copyIn.cancelCopy();
+            }
+        }
+    }
+
+    private JsonNode parseLine(String line, long lineNumber) {
+        try {
+            return objectMapper.readTree(line);
+        } catch (JsonProcessingException e) {
+            throw new CustomerImportException("Customer import line " + lineNumber + " is not valid JSON: "
+                    + e.getOriginalMessage(), e);
+        }
+    }
+
+    private static void appendCsvRow(StringBuilder csv, JsonNode customer, long lineNumber) {
+        appendCsvValue(csv, customer, "id", lineNumber).append(',');
+        appendCsvValue(csv, customer, "username", lineNumber).append(',');
+        appendCsvValue(csv, customer, "firstName", lineNumber).append(',');
+        appendCsvValue(csv, customer, "lastName", lineNumber).append('\n');
+    }
+
+    private static StringBuilder appendCsvValue(StringBuilder csv, JsonNode customer, String field,
+            long lineNumber) {
+        JsonNode value = customer.get(field);
+        if (value == null || !value.isTextual()) {
+            throw new CustomerImportException("Customer import line " + lineNumber + " has no " + field);
+        }
+        String text = value.textValue();
+        csv.append('"');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '"') {
+                csv.append('"');
+            }
+            csv.append(c);
+        }
+        return csv.append('"');
+    }
+
+    private static void writeToCopy(CopyIn copyIn, StringBuilder csv) throws SQLException {
+        if (csv.isEmpty()) {
+            return;
+        }
+        byte[] bytes = csv.toString().getBytes(StandardCharsets.UTF_8);
+        copyIn.writeToCopy(bytes, 0, bytes.length);
+        csv.setLength(0);
+    }
+
+    /**
+     * Stream counting the bytes read from the request.
+     */
+    private static final class CountingInputStream extends FilterInputStream {
+        /**
+         * Bytes read so far.
+         */
+        private long count;
+
+        private CountingInputStream(InputStream inputStream) {
+            super(inputStream);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int read = super.read(buffer, offset, length);
+            if (read > 0) {
+                count += read;
+            }
+            return read;
+        }
+
+        private long getCount() {
+            return count;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.food.ordering.system.customer.service.importer;
+
+/**
+ * Formats accepted by the customer import.
+ */
+public enum CustomerImportFormat {
+    /**
+     * Comma separated values with a header line and the columns
+     * {@code id,username,first_name,last_name}, streamed to COPY as is.
+     */
+    CSV,
+
+    /**
+     * One JSON object per line with the fields {@code id}, {@code username},
+     * {@code firstName} and {@code lastName}, converted to CSV while streaming.
+     */
+    NDJSON
+}
@@ -0,0 +1,33 @@
+package com.food.ordering.system.customer.service.importer;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Outcome of a customer import.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class CustomerImportResult {
+    /**
+     * Rows read from the request.
+     */
+    private final long receivedRows;
+
+    /**
+     * Customers created.
+     */
+    private final long importedRows;
+
+    /**
+     * Rows skipped because a customer with the same id already existed.
+     */
+    private final long skippedRows;
+
+    /**
+     * Duration of the import in milliseconds.
+     */
+    private final long durationMs;
+}
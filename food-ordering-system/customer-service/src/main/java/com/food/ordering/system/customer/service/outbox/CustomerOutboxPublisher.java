@@ -0,0 +1,189 @@
+package com.food.ordering.system.customer.service.outbox;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.food.ordering.system.customer.service.config.CustomerServiceConfigData;
+import com.food.ordering.system.kafka.order.avro.model.CustomerAvroModel;
+import com.food.ordering.system.kafka.producer.exception.KafkaProducerException;
+import com.food.ordering.system.kafka.producer.service.IKafkaProducer;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Publishes the customer changes captured in {@code customer.customer_outbox} on the
+ * customer topic.
+ * <p>
+ * Every statement on {@code customer.customers} copies the rows it wrote to the
+ * outbox. The publisher reads the outbox in sequence order, in batches, sends every
+ * row keyed by customer id, flushes the producer and deletes the published rows in
+ * the same transaction. A failed send rolls the transaction back and the batch is
+ * sent again on the next poll; the consumers upsert, so a repeated change is
+ * harmless. An advisory lock keeps a single instance publishing at a time.
+ * </p>
+ */
+@Slf4j
+@Component
+public class CustomerOutboxPublisher implements SmartLifecycle {
+    /**
+     * Takes the publisher lock for the current transaction, without waiting.
+     */
+    private static final String TRY_LOCK = "SELECT pg_try_advisory_xact_lock(hashtext('customer.customer_outbox'))";
+
+    /**
+     * Oldest outbox rows.
+     */
+    private static final String SELECT_BATCH = "SELECT sequence, customer_id, username, first_name, last_name "
+            + "FROM customer.customer_outbox ORDER BY sequence LIMIT ?";
+
+    /**
+     * Deletes the published rows. Rows are deleted by sequence rather than up to the
+     * last one, since a concurrent transaction may commit a lower sequence later.
+     */
+    private static final String DELETE_PUBLISHED = "DELETE FROM customer.customer_outbox WHERE sequence = ANY (?)";
+
+    /**
+     * Template reading and deleting the outbox rows.
+     */
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Template running each batch in a transaction.
+     */
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * Kafka producer sending the customer changes.
+     */
+    private final IKafkaProducer<String, CustomerAvroModel> kafkaProducer;
+
+    /**
+     * Configuration data for the customer service.
+     */
+    private final CustomerServiceConfigData customerServiceConfigData;
+
+    /**
+     * Customer changes published.
+     */
+    private final Counter publishedCounter;
+
+    /**
+     * Executor polling the outbox, present while running.
+     */
+    private volatile ScheduledExecutorService scheduler;
+
+    /**
+     * Constructs a new CustomerOutboxPublisher.
+     *
+     * @param jdbcTemplate              the template reading and deleting the outbox rows
+     * @param transactionManager        the transaction manager of the batches
+     * @param kafkaProducer             the Kafka producer sending the customer changes
+     * @param customerServiceConfigData the configuration data for the customer service
+     * @param meterRegistryProvider     the provider of the registry receiving the metrics
+     */
+    public CustomerOutboxPublisher(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+            IKafkaProducer<String, CustomerAvroModel> kafkaProducer,
+            CustomerServiceConfigData customerServiceConfigData,
+            ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.kafkaProducer = kafkaProducer;
+        this.customerServiceConfigData = customerServiceConfigData;
+        this.publishedCounter = Counter.builder("customer.outbox.published")
+                .description("Customer changes published from the outbox")
+                .register(meterRegistryProvider.getIfAvailable(() -> Metrics.globalRegistry));
+    }
+
+    @Override
+    public void start() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "customer-outbox-publisher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMs = customerServiceConfigData.getOutboxPollIntervalMs();
+        scheduler.scheduleWithFixedDelay(this::publishSafely, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void stop() {
+        ScheduledExecutorService current = scheduler;
+        if (current != null) {
+            current.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return scheduler != null;
+    }
+
+    private void publishSafely() {
+        try {
+            int batchSize = customerServiceConfigData.getOutboxBatchSize();
+            // Keep draining while batches come back full, so a bulk load is not paced by
+            // the poll interval.
+            while (publishBatch(batchSize) == batchSize) {
+                log.debug("Customer outbox batch of {} published, polling again", batchSize);
+            }
+        } catch (RuntimeException e) {
+            log.error("Could not publish customer outbox: {}", e.getMessage(), e);
+        }
+    }
+
+    private int publishBatch(int batchSize) {
+        Integer published = transactionTemplate.execute(status -> {
+            if (!Boolean.TRUE.equals(jdbcTemplate.queryForObject(TRY_LOCK, Boolean.class))) {
+                return 0;
+            }
+            String topicName = customerServiceConfigData.getCustomerTopicName();
+            List<Long> sequences = new ArrayList<>(batchSize);
+            AtomicReference<Throwable> failure = new AtomicReference<>();
+            jdbcTemplate.query(SELECT_BATCH, resultSet -> {
+                UUID customerId = resultSet.getObject(2, UUID.class);
+                CustomerAvroModel customerAvroModel = CustomerAvroModel.newBuilder()
+                        .setId(customerId)
+                        .setUsername(resultSet.getString(3))
+                        .setFirstName(resultSet.getString(4))
+                        .setLastName(resultSet.getString(5))
+                        .build();
+                kafkaProducer.send(topicName, customerId.toString(), customerAvroModel,
+                        (sendResult, throwable) -> {
+                            if (throwable != null) {
+                                failure.compareAndSet(null, throwable);
+                            }
+                        });
+                sequences.add(resultSet.getLong(1));
+            }, batchSize);
+            if (sequences.isEmpty()) {
+                return 0;
+            }
+            kafkaProducer.flush();
+            if (failure.get() != null) {
+                throw new KafkaProducerException("Error while publishing customer outbox to topic " + topicName
+                        + ": " + failure.get().getMessage());
+            }
+            jdbcTemplate.update(DELETE_PUBLISHED, statement -> statement.setArray(1,
+                    statement.getConnection().createArrayOf("bigint", sequences.toArray())));
+            publishedCounter.increment(sequences.size());
+            return sequences.size();
+        });
+        return published != null ? published : 0;
+    }
+}
@@ -0,0 +1,68 @@
+package com.food.ordering.system.customer.service.rest;
+
+import java.io.InputStream;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.food.ordering.system.customer.service.importer.CustomerBulkImporter;
+import com.food.ordering.system.customer.service.importer.CustomerImportFormat;
+import com.food.ordering.system.customer.service.importer.CustomerImportResult;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * REST controller importing customers in bulk.
+ * The request body is streamed into the database while it is received, so imports
+ * of any size run in bounded memory.
+ */
+@Slf4j
+@RestController
+@RequestMapping(value = "/customers/import", produces = "application/vnd.api.v1+json")
+public class CustomerImportController {
+    /**
+     * Importer streaming the customers into the database.
+     */
+    private final CustomerBulkImporter customerBulkImporter;
+
+    /**
+     * Constructs a CustomerImportController with the specified importer.
+     *
+     * @param customerBulkImporter the importer streaming the customers into the
+     *                             database
+     */
+    public CustomerImportController(CustomerBulkImporter customerBulkImporter) {
+        this.customerBulkImporter = customerBulkImporter;
+    }
+
+    /**
+     * Imports customers from a CSV body with the header
+     * {@code id,username,first_name,last_name}.
+     *
+     * @param body the CSV body
+     * @return the outcome of the import
+     */
+    @PostMapping(consumes = "text/csv")
+    public ResponseEntity<CustomerImportResult> importCsv(InputStream body) {
+        return importCustomers(body, CustomerImportFormat.CSV);
+    }
+
+    /**
+     * Imports customers from an NDJSON body with one
+     * {@code {"id", "username", "firstName", "lastName"}} object per line.
+     *
+     * @param body the NDJSON body
+     * @return the outcome of the import
+     */
+    @PostMapping(consumes = "application/x-ndjson")
+    public ResponseEntity<CustomerImportResult> importNdjson(InputStream body) {
+        return importCustomers(body, CustomerImportFormat.NDJSON);
+    }
+
+    private ResponseEntity<CustomerImportResult> importCustomers(InputStream body, CustomerImportFormat format) {
+        log.info("Starting {} customer import", format);
+        return ResponseEntity.ok(customerBulkImporter.importCustomers(body, format));
+    }
+}
@@ -13,39 +13,52 @@ CREATE TABLE customer.customers
     CONSTRAINT customers_pkey PRIMARY KEY (id)
 );
 
-DROP MATERIALIZED VIEW IF EXISTS customer.order_customer_m_view;
+DROP TABLE IF EXISTS customer.customer_outbox CASCADE;
 
-CREATE MATERIALIZED VIEW customer.order_customer_m_view
-TABLESPACE pg_default
-AS
- SELECT id,
-    username,
-    first_name,
-    last_name
-   FROM customer.customers
-WITH DATA;
-
-refresh materialized VIEW customer.order_customer_m_view;
+-- Customer changes waiting to be published on the customer topic; the changes of
+-- one customer get increasing sequences because writers of a row are serialized
+CREATE TABLE customer.customer_outbox
+(
+    sequence bigserial NOT NULL,
+    customer_id uuid NOT NULL,
+    username character varying COLLATE pg_catalog."default" NOT NULL,
+    first_name character varying COLLATE pg_catalog."default" NOT NULL,
+    last_name character varying COLLATE pg_catalog."default" NOT NULL,
+    CONSTRAINT customer_outbox_pkey PRIMARY KEY (sequence)
+);
 
-DROP function IF EXISTS customer.refresh_order_customer_m_view;
+DROP function IF EXISTS customer.capture_customer_changes;
 
-CREATE OR replace function customer.refresh_order_customer_m_view()
+-- Copies the rows written by a statement to the outbox in one set-based insert, so a
+-- bulk load costs one insert per statement instead of a view refresh
+CREATE OR replace function customer.capture_customer_changes()
 returns trigger
 AS '
 BEGIN
-    refresh materialized VIEW customer.order_customer_m_view;
+    INSERT INTO customer.customer_outbox (customer_id, username, first_name, last_name)
+    SELECT id, username, first_name, last_name FROM changed_customers;
     return null;
 END;
 '  LANGUAGE plpgsql;
 
-DROP trigger IF EXISTS refresh_order_customer_m_view ON customer.customers;
+DROP trigger IF EXISTS capture_customer_inserts ON customer.customers;
+
+CREATE trigger capture_customer_inserts
+after INSERT
+ON customer.customers
+REFERENCING NEW TABLE AS changed_customers
+FOR each statement
+EXECUTE PROCEDURE customer.capture_customer_changes();
+
+DROP trigger IF EXISTS capture_customer_updates ON customer.customers;
 
-CREATE trigger refresh_order_customer_m_view
-after INSERT OR UPDATE OR DELETE OR truncate
-ON customer.customers FOR each statement
-EXECUTE PROCEDURE customer.refresh_order_customer_m_view();
+CREATE trigger capture_customer_updates
+after UPDATE
+ON customer.customers
+REFERENCING NEW TABLE AS changed_customers
+FOR each statement
+EXECUTE PROCEDURE customer.capture_customer_changes();
 
 GRANT USAGE ON SCHEMA customer TO postgres;
-GRANT SELECT ON customer.order_customer_m_view TO postgres;
 GRANT SELECT ON ALL TABLES IN SCHEMA customer TO postgres;
 ALTER DEFAULT PRIVILEGES IN SCHEMA customer GRANT SELECT ON TABLES TO postgres;
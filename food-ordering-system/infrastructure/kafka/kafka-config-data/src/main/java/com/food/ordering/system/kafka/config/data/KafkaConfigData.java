@@ -31,6 +31,26 @@ public class KafkaConfigData {
      */
     private String schemaRegistryUrl;
 
+    /**
+     * The property key for the Avro serde mode.
+     */
+    private String avroSerdeModeKey;
+
+    /**
+     * The Avro serde mode, either registry or registry-free.
+     */
+    private String avroSerdeMode;
+
+    /**
+     * The property key for the Avro schema id cache file.
+     */
+    private String schemaIdCachePathKey;
+
+    /**
+     * The file where resolved Avro schema ids are cached between restarts.
+     */
+    private String schemaIdCachePath;
+
     /**
      * The default number of partitions for topics.
      */
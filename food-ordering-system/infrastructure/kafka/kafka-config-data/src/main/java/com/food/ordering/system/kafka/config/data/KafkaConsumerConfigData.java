@@ -1,5 +1,7 @@
 package com.food.ordering.system.kafka.config.data;
 
+import java.util.Map;
+
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
@@ -90,4 +92,96 @@ public class KafkaConsumerConfigData {
      * The boost factor for maximum partition fetch bytes.
      */
     private Integer maxPartitionFetchBytesBoostFactor;
+
+    /**
+     * Whether listener container concurrency is scaled from consumer lag.
+     */
+    private Boolean concurrencyAutoscaleEnabled;
+
+    /**
+     * The lower bound for autoscaled listener container concurrency.
+     */
+    private Integer minConcurrencyLevel;
+
+    /**
+     * The upper bound for autoscaled listener container concurrency.
+     */
+    private Integer maxConcurrencyLevel;
+
+    /**
+     * The interval between autoscaling evaluations in milliseconds.
+     */
+    private Long autoscaleIntervalMs;
+
+    /**
+     * The time within which the current lag should be drained, in milliseconds.
+     */
+    private Long autoscaleTargetDrainMs;
+
+    /**
+     * The number of consecutive evaluations required before scaling up.
+     */
+    private Integer autoscaleScaleUpCycles;
+
+    /**
+     * The number of consecutive evaluations required before scaling down.
+     */
+    private Integer autoscaleScaleDownCycles;
+
+    /**
+     * Whether max poll records is adapted to the observed processing time.
+     */
+    private Boolean adaptivePollEnabled;
+
+    /**
+     * The lower bound for adaptive max poll records.
+     */
+    private Integer minPollRecords;
+
+    /**
+     * The interval between adaptive poll sizing evaluations in milliseconds.
+     */
+    private Long adaptivePollIntervalMs;
+
+    /**
+     * The fraction of max poll interval a batch is allowed to take.
+     */
+    private Double adaptivePollDeadlineRatio;
+
+    /**
+     * The minimum time between two batch size increases in milliseconds.
+     */
+    private Long adaptivePollGrowCooldownMs;
+
+    /**
+     * The static group membership id of this instance, suffixed per container and per
+     * consumer; blank for dynamic membership. Required by the concurrency autoscaler and
+     * the adaptive poll sizer, and must be unique per instance.
+     */
+    private String groupInstanceId;
+
+    /**
+     * Header filtering rules: topic to header name to comma-separated accepted values.
+     */
+    private Map<String, Map<String, String>> headerFilters;
+
+    /**
+     * Value deserializer class names indexed by topic, overriding the default value deserializer.
+     */
+    private Map<String, String> valueDeserializersByTopic;
+
+    /**
+     * Whether consumers drop messages whose id was already processed.
+     */
+    private Boolean idempotencyEnabled;
+
+    /**
+     * The number of recently processed message ids remembered per partition.
+     */
+    private Integer idempotencyWindowSize;
+
+    /**
+     * The table recording the processed message ids, qualified with its schema.
+     */
+    private String processedMessageTable;
 }
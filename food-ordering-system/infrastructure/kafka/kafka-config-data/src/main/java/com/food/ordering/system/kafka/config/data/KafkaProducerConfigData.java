@@ -1,5 +1,7 @@
 package com.food.ordering.system.kafka.config.data;
 
+import java.util.Map;
+
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
@@ -60,4 +62,29 @@ public class KafkaProducerConfigData {
      * The number of retry attempts for failed sends.
      */
     private Integer retryCount;
+
+    /**
+     * The memory in bytes the shared producer can use to buffer records waiting to be sent.
+     */
+    private Long bufferMemory;
+
+    /**
+     * The maximum time in milliseconds a send may block waiting for buffer memory or metadata.
+     */
+    private Integer maxBlockMs;
+
+    /**
+     * The number of unacknowledged sends at which a producer pool is considered saturated.
+     */
+    private Integer maxInFlightSends;
+
+    /**
+     * The share of free buffer memory below which a producer pool is considered saturated.
+     */
+    private Double minBufferAvailableRatio;
+
+    /**
+     * Dedicated producer pools indexed by topic name. Topics without an entry use the shared producer.
+     */
+    private Map<String, KafkaProducerPoolConfigData> topicPools;
 }
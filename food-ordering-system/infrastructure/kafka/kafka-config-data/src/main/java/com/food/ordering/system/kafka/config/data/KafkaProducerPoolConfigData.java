@@ -0,0 +1,41 @@
+package com.food.ordering.system.kafka.config.data;
+
+import java.util.Map;
+
+import lombok.Data;
+
+/**
+ * Configuration data class for a dedicated Kafka producer pool.
+ * <p>
+ * Instances are bound from the entries of the "kafka-producer-config.topic-pools"
+ * map. Properties left unset fall back to the shared producer settings of
+ * {@link KafkaProducerConfigData}.
+ * </p>
+ */
+@Data
+public class KafkaProducerPoolConfigData {
+    /**
+     * The total memory in bytes the pool can use to buffer records waiting to be sent.
+     */
+    private Long bufferMemory;
+
+    /**
+     * The batch size for the messages of the pool.
+     */
+    private Integer batchSize;
+
+    /**
+     * The linger time in milliseconds before the pool sends a batch.
+     */
+    private Integer lingerMs;
+
+    /**
+     * The class name of the partitioner used by the pool.
+     */
+    private String partitionerClass;
+
+    /**
+     * Additional producer properties of the pool, such as partitioner settings.
+     */
+    private Map<String, String> properties;
+}
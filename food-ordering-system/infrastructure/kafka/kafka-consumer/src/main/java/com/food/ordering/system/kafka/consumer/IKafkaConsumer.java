@@ -2,15 +2,13 @@ package com.food.ordering.system.kafka.consumer;
 
 import java.util.List;
 
-import org.apache.avro.specific.SpecificRecordBase;
-
 /**
- * Interface for a Kafka consumer that processes messages of a specific Avro
- * type.
+ * Interface for a Kafka consumer that processes messages of a specific type.
  *
- * @param <T> the type of the message, must extend SpecificRecordBase
+ * @param <T> the type of the message, either a generated Avro record or a DTO
+ *            produced by a direct decoder
  */
-public interface IKafkaConsumer<T extends SpecificRecordBase> {
+public interface IKafkaConsumer<T> {
     /**
      * Receives and processes a batch of messages from Kafka.
      *
@@ -0,0 +1,57 @@
+package com.food.ordering.system.kafka.consumer.autoscale;
+
+import org.springframework.context.ApplicationEvent;
+
+import lombok.Getter;
+
+/**
+ * Application event published whenever the autoscaler changes the concurrency of a
+ * listener container.
+ */
+@Getter
+public class ConcurrencyScalingEvent extends ApplicationEvent {
+    /**
+     * The id of the listener container.
+     */
+    private final String listenerId;
+
+    /**
+     * The concurrency before the change.
+     */
+    private final int previousConcurrency;
+
+    /**
+     * The concurrency after the change.
+     */
+    private final int newConcurrency;
+
+    /**
+     * The total lag observed when the decision was taken.
+     */
+    private final long totalLag;
+
+    /**
+     * The observed throughput of one busy listener thread, in records per second.
+     */
+    private final double recordsPerSecondPerThread;
+
+    /**
+     * Constructs a new ConcurrencyScalingEvent.
+     *
+     * @param source                    the autoscaler publishing the event
+     * @param listenerId                the id of the listener container
+     * @param previousConcurrency       the concurrency before the change
+     * @param newConcurrency            the concurrency after the change
+     * @param totalLag                  the total lag observed when the decision was taken
+     * @param recordsPerSecondPerThread the observed throughput of one busy listener thread
+     */
+    public ConcurrencyScalingEvent(Object source, String listenerId, int previousConcurrency, int newConcurrency,
+            long totalLag, double recordsPerSecondPerThread) {
+        super(source);
+        this.listenerId = listenerId;
+        this.previousConcurrency = previousConcurrency;
+        this.newConcurrency = newConcurrency;
+        this.totalLag = totalLag;
+        this.recordsPerSecondPerThread = recordsPerSecondPerThread;
+    }
+}
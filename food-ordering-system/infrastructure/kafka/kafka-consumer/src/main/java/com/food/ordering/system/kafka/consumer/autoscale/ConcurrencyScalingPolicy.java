@@ -0,0 +1,125 @@
+package com.food.ordering.system.kafka.consumer.autoscale;
+
+/**
+ * Decides the concurrency of a listener container from its lag and throughput.
+ * <p>
+ * The desired concurrency is the number of listener threads needed to drain the
+ * current lag within the target drain time. The policy only scales up after the
+ * desired concurrency stayed above the current one for a number of consecutive
+ * evaluations, and only scales down, one thread at a time, after the lag could be
+ * drained four times faster than the target for a longer streak. This hysteresis
+ * band keeps the container from restarting on every short burst.
+ * </p>
+ */
+public class ConcurrencyScalingPolicy {
+    /**
+     * Divisor of the target drain time below which the container is considered over-provisioned.
+     */
+    private static final int SCALE_DOWN_DRAIN_DIVISOR = 4;
+
+    /**
+     * The lower concurrency bound.
+     */
+    private final int minConcurrency;
+
+    /**
+     * The upper concurrency bound.
+     */
+    private final int maxConcurrency;
+
+    /**
+     * The time within which the lag should be drained, in milliseconds.
+     */
+    private final long targetDrainMs;
+
+    /**
+     * The number of consecutive evaluations required before scaling up.
+     */
+    private final int scaleUpCycles;
+
+    /**
+     * The number of consecutive evaluations required before scaling down.
+     */
+    private final int scaleDownCycles;
+
+    /**
+     * Constructs a new ConcurrencyScalingPolicy.
+     *
+     * @param minConcurrency  the lower concurrency bound
+     * @param maxConcurrency  the upper concurrency bound
+     * @param targetDrainMs   the time within which the lag should be drained, in milliseconds
+     * @param scaleUpCycles   the consecutive evaluations required before scaling up
+     * @param scaleDownCycles the consecutive evaluations required before scaling down
+     */
+    public ConcurrencyScalingPolicy(int minConcurrency, int maxConcurrency, long targetDrainMs, int scaleUpCycles,
+            int scaleDownCycles) {
+        this.minConcurrency = Math.max(1, minConcurrency);
+        this.maxConcurrency = Math.max(this.minConcurrency, maxConcurrency);
+        this.targetDrainMs = targetDrainMs;
+        this.scaleUpCycles = Math.max(1, scaleUpCycles);
+        this.scaleDownCycles = Math.max(1, scaleDownCycles);
+    }
+
+    /**
+     * Evaluates the next concurrency of a listener container.
+     *
+     * @param state                     the hysteresis state of the container, updated by this call
+     * @param currentConcurrency        the current concurrency of the container
+     * @param partitionCount            the number of partitions assigned to the container
+     * @param totalLag                  the lag summed over all assigned partitions
+     * @param recordsPerSecondPerThread the observed throughput of one busy listener thread
+     * @return the concurrency to apply, equal to the current one when no change is needed
+     */
+    public int evaluate(ScalingState state, int currentConcurrency, int partitionCount, long totalLag,
+            double recordsPerSecondPerThread) {
+        int upperBound = partitionCount > 0 ? Math.min(maxConcurrency, partitionCount) : maxConcurrency;
+        int lowerBound = Math.min(minConcurrency, upperBound);
+        if (currentConcurrency > upperBound || currentConcurrency < lowerBound) {
+            state.reset();
+            return Math.max(lowerBound, Math.min(upperBound, currentConcurrency));
+        }
+        if (totalLag > 0 && recordsPerSecondPerThread <= 0) {
+            // lag without throughput data: nothing was processed in the window, keep the current setting
+            state.reset();
+            return currentConcurrency;
+        }
+        double drainMs = totalLag == 0 ? 0 : totalLag * 1000d / (recordsPerSecondPerThread * currentConcurrency);
+        if (drainMs > targetDrainMs && currentConcurrency < upperBound) {
+            state.downStreak = 0;
+            if (++state.upStreak >= scaleUpCycles) {
+                state.reset();
+                int desired = (int) Math.ceil(totalLag * 1000d / (recordsPerSecondPerThread * targetDrainMs));
+                return Math.min(upperBound, Math.max(currentConcurrency + 1, desired));
+            }
+        } else if (drainMs < (double) targetDrainMs / SCALE_DOWN_DRAIN_DIVISOR && currentConcurrency > lowerBound) {
+            state.upStreak = 0;
+            if (++state.downStreak >= scaleDownCycles) {
+                state.reset();
+                return currentConcurrency - 1;
+            }
+        } else {
+            state.reset();
+        }
+        return currentConcurrency;
+    }
+
+    /**
+     * Hysteresis state of one listener container.
+     */
+    public static final class ScalingState {
+        /**
+         * Consecutive evaluations that asked for more concurrency.
+         */
+        private int upStreak;
+
+        /**
+         * Consecutive evaluations that asked for less concurrency.
+         */
+        private int downStreak;
+
+        private void reset() {
+            upStreak = 0;
+            downStreak = 0;
+        }
+    }
+}
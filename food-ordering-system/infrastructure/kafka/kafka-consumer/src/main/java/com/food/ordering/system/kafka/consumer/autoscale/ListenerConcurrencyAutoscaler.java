@@ -0,0 +1,343 @@
+package com.food.ordering.system.kafka.consumer.autoscale;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.AdminClientConfig;
+import org.apache.kafka.clients.admin.MemberToRemove;
+import org.apache.kafka.clients.admin.RemoveMembersFromConsumerGroupOptions;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.common.Metric;
+import org.apache.kafka.common.MetricName;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import com.food.ordering.system.kafka.config.data.KafkaConfigData;
+import com.food.ordering.system.kafka.config.data.KafkaConsumerConfigData;
+import com.food.ordering.system.kafka.consumer.container.ListenerContainerRestarter;
+import com.food.ordering.system.kafka.consumer.stats.ListenerProcessingStats;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Scales the concurrency of the Kafka listener containers from their lag and throughput.
+ * <p>
+ * At every interval the autoscaler reads the per-partition {@code records-lag} metric of
+ * each running {@link ConcurrentMessageListenerContainer} and the processing throughput
+ * recorded by {@link ListenerProcessingStats}, and asks the
+ * {@link ConcurrencyScalingPolicy} for the next concurrency. A change is applied by
+ * restarting the container through {@link ListenerContainerRestarter}. A scale-up
+ * rebalances the group once, as the new static members join. On a scale-down the
+ * dropped static members are removed from the group while the container is stopped,
+ * so their partitions are reassigned right away instead of staying unconsumed until
+ * {@code session-timeout-ms} expires. Every decision is published as a
+ * {@link ConcurrencyScalingEvent} and counted in the {@code kafka.listener.scaling}
+ * metric; the current concurrency and lag are exposed as gauges.
+ * </p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "kafka-consumer-config", name = "concurrency-autoscale-enabled", havingValue = "true")
+public class ListenerConcurrencyAutoscaler implements SmartLifecycle {
+    /**
+     * Name of the consumer metric holding the lag of one partition.
+     */
+    private static final String RECORDS_LAG_METRIC = "records-lag";
+
+    /**
+     * Maximum time to wait for the dropped static members to be removed from the group.
+     */
+    private static final long MEMBER_REMOVAL_TIMEOUT_MS = 10_000;
+
+    /**
+     * Registry holding the listener containers.
+     */
+    private final KafkaListenerEndpointRegistry kafkaListenerEndpointRegistry;
+
+    /**
+     * General Kafka configuration data.
+     */
+    private final KafkaConfigData kafkaConfigData;
+
+    /**
+     * Kafka consumer-specific configuration data.
+     */
+    private final KafkaConsumerConfigData kafkaConsumerConfigData;
+
+    /**
+     * Processing statistics of the listeners.
+     */
+    private final ListenerProcessingStats listenerProcessingStats;
+
+    /**
+     * Restarter applying the concurrency changes.
+     */
+    private final ListenerContainerRestarter listenerContainerRestarter;
+
+    /**
+     * Publisher of scaling events.
+     */
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    /**
+     * Registry receiving the autoscaling metrics.
+     */
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Policy deciding the concurrency of each container.
+     */
+    private final ConcurrencyScalingPolicy scalingPolicy;
+
+    /**
+     * Per-container autoscaling state indexed by listener id.
+     */
+    private final Map<String, ListenerState> listenerStates = new ConcurrentHashMap<>();
+
+    /**
+     * Executor running the periodic evaluation, present while running.
+     */
+    private volatile ScheduledExecutorService scheduler;
+
+    /**
+     * Admin client removing the dropped static members, present while running.
+     */
+    private volatile Admin admin;
+
+    /**
+     * Constructs a new ListenerConcurrencyAutoscaler.
+     *
+     * @param kafkaListenerEndpointRegistry the registry holding the listener containers
+     * @param kafkaConfigData               general Kafka configuration data
+     * @param kafkaConsumerConfigData       consumer-specific configuration data
+     * @param listenerProcessingStats       the processing statistics of the listeners
+     * @param listenerContainerRestarter    the restarter applying the concurrency changes
+     * @param applicationEventPublisher     the publisher of scaling events
+     * @param meterRegistryProvider         the provider of the registry receiving the metrics
+     */
+    public ListenerConcurrencyAutoscaler(KafkaListenerEndpointRegistry kafkaListenerEndpointRegistry,
+            KafkaConfigData kafkaConfigData, KafkaConsumerConfigData kafkaConsumerConfigData,
+            ListenerProcessingStats listenerProcessingStats, ListenerContainerRestarter listenerContainerRestarter,
+            ApplicationEventPublisher applicationEventPublisher, ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        this.kafkaListenerEndpointRegistry = kafkaListenerEndpointRegistry;
+        this.kafkaConfigData = kafkaConfigData;
+        this.kafkaConsumerConfigData = kafkaConsumerConfigData;
+        this.listenerProcessingStats = listenerProcessingStats;
+        this.listenerContainerRestarter = listenerContainerRestarter;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.meterRegistry = meterRegistryProvider.getIfAvailable(() -> Metrics.globalRegistry);
+        this.scalingPolicy = new ConcurrencyScalingPolicy(
+                kafkaConsumerConfigData.getMinConcurrencyLevel(),
+                kafkaConsumerConfigData.getMaxConcurrencyLevel(),
+                kafkaConsumerConfigData.getAutoscaleTargetDrainMs(),
+                kafkaConsumerConfigData.getAutoscaleScaleUpCycles(),
+                kafkaConsumerConfigData.getAutoscaleScaleDownCycles());
+    }
+
+    @Override
+    public void start() {
+        admin = Admin.create(Map.of(AdminClientConfig.BOOTSTRAP_SERVERS_CONFIG, kafkaConfigData.getBootstrapServers()));
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "kafka-listener-autoscaler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMs = kafkaConsumerConfigData.getAutoscaleIntervalMs();
+        scheduler.scheduleWithFixedDelay(this::evaluateSafely, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+        log.info("Listener concurrency autoscaler started with bounds [{}, {}] and interval {} ms",
+                kafkaConsumerConfigData.getMinConcurrencyLevel(), kafkaConsumerConfigData.getMaxConcurrencyLevel(),
+                intervalMs);
+    }
+
+    @Override
+    public void stop() {
+        ScheduledExecutorService current = scheduler;
+        if (current != null) {
+            current.shutdownNow();
+            scheduler = null;
+        }
+        Admin currentAdmin = admin;
+        if (currentAdmin != null) {
+            currentAdmin.close();
+            admin = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return scheduler != null;
+    }
+
+    private void evaluateSafely() {
+        try {
+            for (MessageListenerContainer container : kafkaListenerEndpointRegistry.getListenerContainers()) {
+                if (container instanceof ConcurrentMessageListenerContainer<?, ?> concurrentContainer
+                        && concurrentContainer.isRunning()
+                        && !listenerContainerRestarter.isRestarting(concurrentContainer)) {
+                    evaluate(concurrentContainer);
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("Listener concurrency evaluation failed: {}", e.getMessage(), e);
+        }
+    }
+
+    private void evaluate(ConcurrentMessageListenerContainer<?, ?> container) {
+        String listenerId = container.getListenerId();
+        ListenerState state = listenerStates.computeIfAbsent(listenerId, id -> registerListener(id, container));
+        long totalLag = totalLag(container);
+        state.lag.set(totalLag);
+        ListenerProcessingStats.Snapshot snapshot = listenerProcessingStats.snapshot(container.getGroupId());
+        double recordsPerSecondPerThread = snapshot.since(state.lastSnapshot).getRecordsPerSecondPerThread();
+        state.lastSnapshot = snapshot;
+        int currentConcurrency = container.getConcurrency();
+        int newConcurrency = scalingPolicy.evaluate(state.scalingState, currentConcurrency,
+                container.getAssignedPartitions().size(), totalLag, recordsPerSecondPerThread);
+        if (newConcurrency != currentConcurrency) {
+            applyConcurrency(container, state, currentConcurrency, newConcurrency, totalLag,
+                    recordsPerSecondPerThread);
+        }
+    }
+
+    private void applyConcurrency(ConcurrentMessageListenerContainer<?, ?> container, ListenerState state,
+            int currentConcurrency, int newConcurrency, long totalLag, double recordsPerSecondPerThread) {
+        String listenerId = container.getListenerId();
+        if (!listenerContainerRestarter.restart(container, stopped -> {
+            stopped.setConcurrency(newConcurrency);
+            if (newConcurrency < currentConcurrency) {
+                removeStaticMembers(stopped, newConcurrency, currentConcurrency);
+            }
+        })) {
+            return;
+        }
+        log.info("Scaling listener {} from {} to {} consumers, lag: {}, throughput per thread: {} records/s",
+                listenerId, currentConcurrency, newConcurrency, totalLag, Math.round(recordsPerSecondPerThread));
+        (newConcurrency > currentConcurrency ? state.scaleUpCounter : state.scaleDownCounter).increment();
+        applicationEventPublisher.publishEvent(new ConcurrencyScalingEvent(this, listenerId, currentConcurrency,
+                newConcurrency, totalLag, recordsPerSecondPerThread));
+    }
+
+    /**
+     * Removes the static members of the dropped consumers from the group. The
+     * container suffixes the static member id of its consumer {@code i} with
+     * {@code -i}, so the dropped ones are those from the new concurrency on. A failed
+     * removal only delays the reassignment until the session of the members expires.
+     *
+     * @param container      the stopped listener container
+     * @param newConcurrency the concurrency the container restarts with
+     * @param oldConcurrency the concurrency the container stopped with
+     */
+    private void removeStaticMembers(ConcurrentMessageListenerContainer<?, ?> container, int newConcurrency,
+            int oldConcurrency) {
+        String groupInstanceId = container.getContainerProperties().getKafkaConsumerProperties()
+                .getProperty(ConsumerConfig.GROUP_INSTANCE_ID_CONFIG);
+        Admin currentAdmin = admin;
+        if (groupInstanceId == null || currentAdmin == null) {
+            return;
+        }
+        List<MemberToRemove> droppedMembers = IntStream.range(newConcurrency, oldConcurrency)
+                .mapToObj(index -> new MemberToRemove(groupInstanceId + "-" + index))
+                .toList();
+        try {
+            currentAdmin.removeMembersFromConsumerGroup(container.getGroupId(),
+                    new RemoveMembersFromConsumerGroupOptions(droppedMembers))
+                    .all().get(MEMBER_REMOVAL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+            log.info("Removed {} static members of listener {} from group {}", droppedMembers.size(),
+                    container.getListenerId(), container.getGroupId());
+        } catch (ExecutionException | TimeoutException e) {
+            log.warn("Could not remove the dropped static members of listener {}, their partitions are "
+                    + "reassigned once session-timeout-ms expires: {}", container.getListenerId(), e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private ListenerState registerListener(String listenerId, ConcurrentMessageListenerContainer<?, ?> container) {
+        ListenerState state = new ListenerState(
+                Counter.builder("kafka.listener.scaling").tag("listener", listenerId).tag("direction", "up")
+                        .description("Concurrency scale-up decisions").register(meterRegistry),
+                Counter.builder("kafka.listener.scaling").tag("listener", listenerId).tag("direction", "down")
+                        .description("Concurrency scale-down decisions").register(meterRegistry));
+        Gauge.builder("kafka.listener.concurrency", container, ConcurrentMessageListenerContainer::getConcurrency)
+                .tag("listener", listenerId).description("Current listener container concurrency")
+                .register(meterRegistry);
+        Gauge.builder("kafka.listener.lag", state.lag, AtomicLong::get)
+                .tag("listener", listenerId).description("Lag summed over the assigned partitions")
+                .register(meterRegistry);
+        return state;
+    }
+
+    private long totalLag(ConcurrentMessageListenerContainer<?, ?> container) {
+        long totalLag = 0;
+        for (Map<MetricName, ? extends Metric> clientMetrics : container.metrics().values()) {
+            for (Map.Entry<MetricName, ? extends Metric> metric : clientMetrics.entrySet()) {
+                MetricName name = metric.getKey();
+                if (RECORDS_LAG_METRIC.equals(name.name()) && name.tags().containsKey("partition")
+                        && metric.getValue().metricValue() instanceof Double lag && !lag.isNaN()) {
+                    totalLag += lag.longValue();
+                }
+            }
+        }
+        return totalLag;
+    }
+
+    /**
+     * Autoscaling state of one listener container.
+     */
+    private static final class ListenerState {
+        /**
+         * Hysteresis state of the scaling policy.
+         */
+        private final ConcurrencyScalingPolicy.ScalingState scalingState = new ConcurrencyScalingPolicy.ScalingState();
+
+        /**
+         * Total consumer lag observed at the last evaluation.
+         */
+        private final AtomicLong lag = new AtomicLong();
+
+        /**
+         * Counter of the concurrency increases.
+         */
+        private final Counter scaleUpCounter;
+
+        /**
+         * Counter of the concurrency decreases.
+         */
+        private final Counter scaleDownCounter;
+
+        /**
+         * Processing statistics snapshot taken at the last evaluation.
+         */
+        private ListenerProcessingStats.Snapshot lastSnapshot = ListenerProcessingStats.Snapshot.EMPTY;
+
+        /**
+         * Constructs the autoscaling state of a listener container.
+         *
+         * @param scaleUpCounter   counter of the concurrency increases
+         * @param scaleDownCounter counter of the concurrency decreases
+         */
+        private ListenerState(Counter scaleUpCounter, Counter scaleDownCounter) {
+            this.scaleUpCounter = scaleUpCounter;
+            this.scaleDownCounter = scaleDownCounter;
+        }
+    }
+}
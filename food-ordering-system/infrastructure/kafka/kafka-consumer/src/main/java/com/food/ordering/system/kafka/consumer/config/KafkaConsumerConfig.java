@@ -3,8 +3,9 @@ package com.food.ordering.system.kafka.consumer.config;
 import java.io.Serializable;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Properties;
+import java.util.stream.Collectors;
 
-import org.apache.avro.specific.SpecificRecordBase;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -13,9 +14,13 @@ import org.springframework.kafka.config.KafkaListenerContainerFactory;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
 import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.support.serializer.DelegatingByTopicDeserializer;
+import org.springframework.kafka.support.serializer.DelegatingByTopicSerialization;
 
 import com.food.ordering.system.kafka.config.data.KafkaConfigData;
 import com.food.ordering.system.kafka.config.data.KafkaConsumerConfigData;
+import com.food.ordering.system.kafka.consumer.filter.HeaderFilteringDeserializer;
+import com.food.ordering.system.kafka.consumer.stats.ProcessingTimeBatchInterceptor;
 
 /**
  * Configuration class for Kafka consumer.
@@ -23,10 +28,10 @@ import com.food.ordering.system.kafka.config.data.KafkaConsumerConfigData;
  * factory.
  *
  * @param <K> the type of the key, must be Serializable
- * @param <V> the type of the value, must extend SpecificRecordBase
+ * @param <V> the type of the value produced by the configured value deserializers
  */
 @Configuration
-public class KafkaConsumerConfig<K extends Serializable, V extends SpecificRecordBase> {
+public class KafkaConsumerConfig<K extends Serializable, V> {
     /**
      * General Kafka configuration data.
      */
@@ -37,15 +42,23 @@ public class KafkaConsumerConfig<K extends Serializable, V extends SpecificRecor
      */
     private final KafkaConsumerConfigData kafkaConsumerConfigData;
 
+    /**
+     * Interceptor measuring the batch processing time of the listeners.
+     */
+    private final ProcessingTimeBatchInterceptor<K, V> processingTimeBatchInterceptor;
+
     /**
      * Constructs a new KafkaConsumerConfig with the given configuration data.
      *
-     * @param kafkaConfigData         general Kafka configuration data
-     * @param kafkaConsumerConfigData consumer-specific configuration data
+     * @param kafkaConfigData                general Kafka configuration data
+     * @param kafkaConsumerConfigData        consumer-specific configuration data
+     * @param processingTimeBatchInterceptor interceptor measuring the batch processing time of the listeners
      */
-    public KafkaConsumerConfig(KafkaConfigData kafkaConfigData, KafkaConsumerConfigData kafkaConsumerConfigData) {
+    public KafkaConsumerConfig(KafkaConfigData kafkaConfigData, KafkaConsumerConfigData kafkaConsumerConfigData,
+            ProcessingTimeBatchInterceptor<K, V> processingTimeBatchInterceptor) {
         this.kafkaConfigData = kafkaConfigData;
         this.kafkaConsumerConfigData = kafkaConsumerConfigData;
+        this.processingTimeBatchInterceptor = processingTimeBatchInterceptor;
     }
 
     /**
@@ -58,9 +71,30 @@ public class KafkaConsumerConfig<K extends Serializable, V extends SpecificRecor
         Map<String, Object> props = new HashMap<>();
         props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, kafkaConfigData.getBootstrapServers());
         props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, kafkaConsumerConfigData.getKeyDeserializer());
-        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, kafkaConsumerConfigData.getValueDeserializer());
+        Object valueDeserializer = kafkaConsumerConfigData.getValueDeserializer();
+        if (hasValueDeserializersByTopic()) {
+            props.put(DelegatingByTopicSerialization.VALUE_SERIALIZATION_TOPIC_CONFIG,
+                    kafkaConsumerConfigData.getValueDeserializersByTopic().entrySet().stream()
+                            .map(entry -> entry.getKey() + ":" + entry.getValue())
+                            .collect(Collectors.joining(", ")));
+            props.put(DelegatingByTopicSerialization.VALUE_SERIALIZATION_TOPIC_DEFAULT, valueDeserializer);
+            valueDeserializer = DelegatingByTopicDeserializer.class;
+        }
+        if (hasHeaderFilters()) {
+            props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, HeaderFilteringDeserializer.class);
+            props.put(HeaderFilteringDeserializer.DELEGATE_CLASS_CONFIG, valueDeserializer);
+            props.put(HeaderFilteringDeserializer.RULES_CONFIG, kafkaConsumerConfigData.getHeaderFilters());
+        } else {
+            props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, valueDeserializer);
+        }
         props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, kafkaConsumerConfigData.getAutoOffsetReset());
         props.put(kafkaConfigData.getSchemaRegistryUrlKey(), kafkaConfigData.getSchemaRegistryUrl());
+        if (kafkaConfigData.getAvroSerdeModeKey() != null) {
+            props.put(kafkaConfigData.getAvroSerdeModeKey(), kafkaConfigData.getAvroSerdeMode());
+        }
+        if (kafkaConfigData.getSchemaIdCachePathKey() != null) {
+            props.put(kafkaConfigData.getSchemaIdCachePathKey(), kafkaConfigData.getSchemaIdCachePath());
+        }
         props.put(kafkaConsumerConfigData.getSpecificAvroReaderKey(), kafkaConsumerConfigData.getSpecificAvroReader());
         props.put(ConsumerConfig.SESSION_TIMEOUT_MS_CONFIG, kafkaConsumerConfigData.getSessionTimeoutMs());
         props.put(ConsumerConfig.HEARTBEAT_INTERVAL_MS_CONFIG, kafkaConsumerConfigData.getHeartbeatIntervalMs());
@@ -69,6 +103,9 @@ public class KafkaConsumerConfig<K extends Serializable, V extends SpecificRecor
                 kafkaConsumerConfigData.getMaxPartitionFetchBytesDefault() *
                         kafkaConsumerConfigData.getMaxPartitionFetchBytesBoostFactor());
         props.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, kafkaConsumerConfigData.getMaxPollRecords());
+        if (hasGroupInstanceId()) {
+            props.put(ConsumerConfig.GROUP_INSTANCE_ID_CONFIG, kafkaConsumerConfigData.getGroupInstanceId());
+        }
         return props;
     }
 
@@ -85,17 +122,63 @@ public class KafkaConsumerConfig<K extends Serializable, V extends SpecificRecor
     /**
      * Creates a KafkaListenerContainerFactory bean for concurrent message listener
      * containers.
+     * <p>
+     * The concurrency autoscaler and the adaptive poll sizer apply their changes by
+     * restarting the containers. With dynamic membership every restart would
+     * rebalance the group, so both require {@code group-instance-id}; static members
+     * then rejoin without a rebalance when the restart keeps the concurrency, while a
+     * concurrency change still rebalances the group once. Each container gets its own
+     * static member id, the base id followed by its listener id, which the container
+     * suffixes again per consumer.
+     * </p>
      *
      * @return a KafkaListenerContainerFactory instance
+     * @throws IllegalStateException if a restarting feature is enabled without
+     *                               {@code group-instance-id}
      */
     @Bean
     public KafkaListenerContainerFactory<ConcurrentMessageListenerContainer<K, V>> kafkaListenerContainerFactory() {
+        if (!hasGroupInstanceId() && (Boolean.TRUE.equals(kafkaConsumerConfigData.getConcurrencyAutoscaleEnabled())
+                || Boolean.TRUE.equals(kafkaConsumerConfigData.getAdaptivePollEnabled()))) {
+            throw new IllegalStateException("kafka-consumer-config.group-instance-id is required when "
+                    + "concurrency-autoscale-enabled or adaptive-poll-enabled is set, since their container "
+                    + "restarts only avoid a rebalance for static members");
+        }
         ConcurrentKafkaListenerContainerFactory<K, V> factory = new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(consumerFactory());
         factory.setBatchListener(kafkaConsumerConfigData.getBatchListener());
         factory.setConcurrency(kafkaConsumerConfigData.getConcurrencyLevel());
         factory.setAutoStartup(kafkaConsumerConfigData.getAutoStartup());
         factory.getContainerProperties().setPollTimeout(kafkaConsumerConfigData.getPollTimeoutMs());
+        factory.setBatchInterceptor(processingTimeBatchInterceptor);
+        if (hasHeaderFilters()) {
+            // records skipped by HeaderFilteringDeserializer have no value and never reach the listener
+            factory.setRecordFilterStrategy(consumerRecord -> consumerRecord.value() == null);
+        }
+        if (hasGroupInstanceId()) {
+            factory.setContainerCustomizer(container -> {
+                Properties overrides = new Properties();
+                overrides.putAll(container.getContainerProperties().getKafkaConsumerProperties());
+                overrides.setProperty(ConsumerConfig.GROUP_INSTANCE_ID_CONFIG,
+                        kafkaConsumerConfigData.getGroupInstanceId() + "-" + container.getListenerId());
+                container.getContainerProperties().setKafkaConsumerProperties(overrides);
+            });
+        }
         return factory;
     }
+
+    private boolean hasGroupInstanceId() {
+        return kafkaConsumerConfigData.getGroupInstanceId() != null
+                && !kafkaConsumerConfigData.getGroupInstanceId().isBlank();
+    }
+
+    private boolean hasValueDeserializersByTopic() {
+        return kafkaConsumerConfigData.getValueDeserializersByTopic() != null
+                && !kafkaConsumerConfigData.getValueDeserializersByTopic().isEmpty();
+    }
+
+    private boolean hasHeaderFilters() {
+        return kafkaConsumerConfigData.getHeaderFilters() != null
+                && !kafkaConsumerConfigData.getHeaderFilters().isEmpty();
+    }
 }
@@ -0,0 +1,75 @@
+package com.food.ordering.system.kafka.consumer.container;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Applies settings that only take effect when the consumers of a listener container
+ * are recreated, such as its concurrency or consumer property overrides.
+ * <p>
+ * The container is stopped asynchronously, reconfigured and started again. Only one
+ * restart per container can be in progress, so components tuning the same container
+ * never overlap; a rejected change is simply retried at their next evaluation.
+ * The consumers must be static members ({@code group-instance-id}): they leave no
+ * group on close and rejoin under the same member id within the session timeout, so a
+ * restart that keeps the concurrency, such as a new poll size, keeps their partitions
+ * without rebalancing the group. A concurrency change does rebalance it: a scale-up
+ * joins new static members, and a scale-down leaves the dropped members in the group
+ * with their partitions unconsumed until they are removed or the session times out.
+ * </p>
+ */
+@Slf4j
+@Component
+public class ListenerContainerRestarter {
+    /**
+     * Listener ids of the containers currently being restarted.
+     */
+    private final Set<String> restartingListeners = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Tells whether a restart of the container is in progress.
+     *
+     * @param container the listener container
+     * @return true if the container is being restarted
+     */
+    public boolean isRestarting(ConcurrentMessageListenerContainer<?, ?> container) {
+        return restartingListeners.contains(container.getListenerId());
+    }
+
+    /**
+     * Stops the container, applies the reconfiguration and starts it again.
+     *
+     * @param container       the listener container
+     * @param reconfiguration the changes to apply while the container is stopped
+     * @return true if the restart was initiated, false if another restart is in progress
+     */
+    public boolean restart(ConcurrentMessageListenerContainer<?, ?> container,
+            Consumer<ConcurrentMessageListenerContainer<?, ?>> reconfiguration) {
+        String listenerId = container.getListenerId();
+        if (!restartingListeners.add(listenerId)) {
+            return false;
+        }
+        try {
+            container.stop(() -> {
+                try {
+                    reconfiguration.accept(container);
+                    container.start();
+                } catch (RuntimeException e) {
+                    log.error("Could not restart listener container {}: {}", listenerId, e.getMessage(), e);
+                } finally {
+                    restartingListeners.remove(listenerId);
+                }
+            });
+        } catch (RuntimeException e) {
+            restartingListeners.remove(listenerId);
+            throw e;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,126 @@
+package com.food.ordering.system.kafka.consumer.filter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.kafka.common.config.ConfigException;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.apache.kafka.common.utils.Utils;
+
+/**
+ * Value deserializer that checks record headers against per-topic rules before
+ * delegating to the real deserializer.
+ * <p>
+ * A record whose header carries a value outside the accepted set of its topic is
+ * returned as {@code null} without its payload being decoded; the listener container
+ * factory discards those records before they reach the listener. Records without the
+ * header are always decoded, so producers that do not stamp headers keep working.
+ * Header values are compared as raw bytes, so filtering allocates nothing.
+ * </p>
+ *
+ * @param <T> the type of the deserialized value
+ */
+public class HeaderFilteringDeserializer<T> implements Deserializer<T> {
+    /**
+     * Property key of the delegate deserializer class.
+     */
+    public static final String DELEGATE_CLASS_CONFIG = "header.filter.delegate.class";
+
+    /**
+     * Property key of the filtering rules, a map of topic to a map of header name to
+     * comma-separated accepted values.
+     */
+    public static final String RULES_CONFIG = "header.filter.rules";
+
+    /**
+     * The deserializer decoding accepted records.
+     */
+    private Deserializer<T> delegate;
+
+    /**
+     * Accepted header values indexed by topic and header name.
+     */
+    private Map<String, Map<String, List<byte[]>>> rules = Map.of();
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        Object delegateClass = configs.get(DELEGATE_CLASS_CONFIG);
+        if (delegateClass == null) {
+            throw new ConfigException(DELEGATE_CLASS_CONFIG + " must be set for " + getClass().getSimpleName());
+        }
+        try {
+            delegate = delegateClass instanceof Class<?> type ? Utils.newInstance(type, Deserializer.class)
+                    : Utils.newInstance(delegateClass.toString(), Deserializer.class);
+        } catch (ClassNotFoundException e) {
+            throw new ConfigException(DELEGATE_CLASS_CONFIG, delegateClass, "Class not found");
+        }
+        delegate.configure(configs, isKey);
+        Object configuredRules = configs.get(RULES_CONFIG);
+        if (configuredRules instanceof Map<?, ?> rulesByTopic) {
+            rules = parseRules((Map<String, Map<String, String>>) rulesByTopic);
+        }
+    }
+
+    @Override
+    public T deserialize(String topic, byte[] data) {
+        return delegate.deserialize(topic, data);
+    }
+
+    @Override
+    public T deserialize(String topic, Headers headers, byte[] data) {
+        Map<String, List<byte[]>> topicRules = rules.get(topic);
+        if (topicRules != null && headers != null && !isAccepted(topicRules, headers)) {
+            return null;
+        }
+        return delegate.deserialize(topic, headers, data);
+    }
+
+    @Override
+    public void close() {
+        if (delegate != null) {
+            delegate.close();
+        }
+    }
+
+    private boolean isAccepted(Map<String, List<byte[]>> topicRules, Headers headers) {
+        for (Map.Entry<String, List<byte[]>> rule : topicRules.entrySet()) {
+            Header header = headers.lastHeader(rule.getKey());
+            if (header != null && !matchesAny(header.value(), rule.getValue())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean matchesAny(byte[] value, List<byte[]> acceptedValues) {
+        for (byte[] acceptedValue : acceptedValues) {
+            if (Arrays.equals(value, acceptedValue)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Map<String, Map<String, List<byte[]>>> parseRules(Map<String, Map<String, String>> rulesByTopic) {
+        Map<String, Map<String, List<byte[]>>> parsed = new HashMap<>();
+        rulesByTopic.forEach((topic, headerRules) -> {
+            Map<String, List<byte[]>> parsedHeaderRules = new HashMap<>();
+            headerRules.forEach((headerName, acceptedValues) -> {
+                List<byte[]> values = new ArrayList<>();
+                for (String acceptedValue : acceptedValues.split(",")) {
+                    values.add(acceptedValue.trim().getBytes(StandardCharsets.UTF_8));
+                }
+                parsedHeaderRules.put(headerName, values);
+            });
+            parsed.put(topic, parsedHeaderRules);
+        });
+        return parsed;
+    }
+}
@@ -0,0 +1,59 @@
+package com.food.ordering.system.kafka.consumer.idempotency;
+
+import java.util.UUID;
+
+/**
+ * Drops messages that were already processed, based on the id every Avro model
+ * carries.
+ * <p>
+ * A message is claimed inside the transaction of its handler, so the claim commits
+ * or rolls back together with the domain work, and a redelivered message is dropped
+ * before any of it runs.
+ * </p>
+ */
+public interface IMessageDeduplicator {
+    /**
+     * Checks the recently processed ids of a partition, without querying the store.
+     * A false result does not mean the message is new.
+     *
+     * @param consumerGroupId the consumer group handling the message
+     * @param partition       the partition the message was read from
+     * @param messageId       the id of the message
+     * @return true if the message is known to be processed
+     */
+    boolean isProcessed(String consumerGroupId, int partition, UUID messageId);
+
+    /**
+     * Claims a message in the current transaction.
+     *
+     * @param consumerGroupId the consumer group handling the message
+     * @param partition       the partition the message was read from
+     * @param messageId       the id of the message
+     * @return true if the message is new and should be processed, false if it is a
+     *         duplicate
+     */
+    boolean claim(String consumerGroupId, int partition, UUID messageId);
+
+    /**
+     * Drops a message from the recently processed ids, so its next delivery is
+     * checked against the store again. Used when the work following a committed
+     * claim, such as sending its response, failed.
+     *
+     * @param consumerGroupId the consumer group handling the message
+     * @param partition       the partition the message was read from
+     * @param messageId       the id of the message
+     */
+    void forget(String consumerGroupId, int partition, UUID messageId);
+
+    /**
+     * Claims a message and runs its handler in one transaction. The handler joins the
+     * transaction when it is transactional itself.
+     *
+     * @param consumerGroupId the consumer group handling the message
+     * @param partition       the partition the message was read from
+     * @param messageId       the id of the message
+     * @param handler         the handler of the message
+     * @return true if the handler ran, false if the message was a duplicate
+     */
+    boolean handle(String consumerGroupId, int partition, UUID messageId, Runnable handler);
+}
@@ -0,0 +1,17 @@
+package com.food.ordering.system.kafka.consumer.idempotency;
+
+import java.util.UUID;
+
+/**
+ * Durable record of the processed message ids.
+ */
+public interface IProcessedMessageStore {
+    /**
+     * Records a message as processed in the current transaction.
+     *
+     * @param consumerGroupId the consumer group handling the message
+     * @param messageId       the id of the message
+     * @return true if the message was recorded, false if it already was
+     */
+    boolean markProcessed(String consumerGroupId, UUID messageId);
+}
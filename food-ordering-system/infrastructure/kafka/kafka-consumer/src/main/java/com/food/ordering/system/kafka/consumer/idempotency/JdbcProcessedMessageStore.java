@@ -0,0 +1,41 @@
+package com.food.ordering.system.kafka.consumer.idempotency;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.UUID;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Processed message store backed by a table keyed by consumer group and message id.
+ * The insert runs on the connection of the current Spring transaction; a concurrent
+ * claim of the same message waits for the first one to commit or roll back.
+ */
+public class JdbcProcessedMessageStore implements IProcessedMessageStore {
+    /**
+     * Template running the inserts.
+     */
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Insert statement of the configured table.
+     */
+    private final String insertSql;
+
+    /**
+     * Constructs a new JdbcProcessedMessageStore.
+     *
+     * @param jdbcTemplate the template running the inserts
+     * @param tableName    the table recording the processed message ids
+     */
+    public JdbcProcessedMessageStore(JdbcTemplate jdbcTemplate, String tableName) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.insertSql = "INSERT INTO " + tableName + " (consumer_group_id, message_id, processed_at) "
+                + "VALUES (?, ?, ?) ON CONFLICT DO NOTHING";
+    }
+
+    @Override
+    public boolean markProcessed(String consumerGroupId, UUID messageId) {
+        return jdbcTemplate.update(insertSql, consumerGroupId, messageId, Timestamp.from(Instant.now())) == 1;
+    }
+}
@@ -0,0 +1,54 @@
+package com.food.ordering.system.kafka.consumer.idempotency;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.food.ordering.system.kafka.config.data.KafkaConsumerConfigData;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+
+/**
+ * Creates the message deduplicator of the consumers. Messages are deduplicated
+ * against {@code kafka-consumer-config.processed-message-table} when
+ * {@code kafka-consumer-config.idempotency-enabled} is true, and passed through
+ * otherwise, so services without a database keep working unchanged.
+ */
+@Configuration
+public class MessageDeduplicatorConfig {
+    /**
+     * Creates the deduplicator backed by the processed message table.
+     *
+     * @param kafkaConsumerConfigData consumer-specific configuration data
+     * @param jdbcTemplate            the template recording the processed messages
+     * @param transactionManager      the transaction manager of the handlers
+     * @param meterRegistryProvider   the provider of the registry receiving the metrics
+     * @return the ProcessedMessageDeduplicator
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "kafka-consumer-config", name = "idempotency-enabled", havingValue = "true")
+    public IMessageDeduplicator processedMessageDeduplicator(KafkaConsumerConfigData kafkaConsumerConfigData,
+            JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+            ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        return new ProcessedMessageDeduplicator(
+                new JdbcProcessedMessageStore(jdbcTemplate, kafkaConsumerConfigData.getProcessedMessageTable()),
+                new TransactionTemplate(transactionManager), kafkaConsumerConfigData.getIdempotencyWindowSize(),
+                meterRegistryProvider.getIfAvailable(() -> Metrics.globalRegistry));
+    }
+
+    /**
+     * Creates the deduplicator processing every message.
+     *
+     * @return the PassThroughMessageDeduplicator
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "kafka-consumer-config", name = "idempotency-enabled", havingValue = "false", matchIfMissing = true)
+    public IMessageDeduplicator passThroughMessageDeduplicator() {
+        return new PassThroughMessageDeduplicator();
+    }
+}
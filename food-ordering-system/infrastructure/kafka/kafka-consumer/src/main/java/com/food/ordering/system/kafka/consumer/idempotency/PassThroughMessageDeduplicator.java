@@ -0,0 +1,29 @@
+package com.food.ordering.system.kafka.consumer.idempotency;
+
+import java.util.UUID;
+
+/**
+ * Deduplicator used while idempotency is disabled: every message is processed.
+ */
+public class PassThroughMessageDeduplicator implements IMessageDeduplicator {
+    @Override
+    public boolean isProcessed(String consumerGroupId, int partition, UUID messageId) {
+        return false;
+    }
+
+    @Override
+    public boolean claim(String consumerGroupId, int partition, UUID messageId) {
+        return true;
+    }
+
+    @Override
+    public void forget(String consumerGroupId, int partition, UUID messageId) {
+        // Nothing is remembered.
+    }
+
+    @Override
+    public boolean handle(String consumerGroupId, int partition, UUID messageId, Runnable handler) {
+        handler.run();
+        return true;
+    }
+}
@@ -0,0 +1,131 @@
+package com.food.ordering.system.kafka.consumer.idempotency;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Deduplicator backed by a {@link IProcessedMessageStore}, with a window of the
+ * recently processed ids of every partition in front of it.
+ * <p>
+ * The window holds committed ids only: an id is added once the transaction that
+ * claimed it commits, or once the store reports it as already processed. A hit in
+ * the window therefore drops a redelivered message without a database round trip,
+ * and a miss falls back to the store, which remains the authority. A message whose
+ * follow-up work failed after its claim committed can be forgotten, so its
+ * redelivery reaches the store and the handler can act on the duplicate. Dropped
+ * duplicates are counted in {@code kafka.consumer.duplicates} by consumer group and
+ * by where they were detected.
+ * </p>
+ */
+@Slf4j
+public class ProcessedMessageDeduplicator implements IMessageDeduplicator {
+    /**
+     * Durable record of the processed message ids.
+     */
+    private final IProcessedMessageStore processedMessageStore;
+
+    /**
+     * Template running the handlers in a transaction.
+     */
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * Number of ids remembered per partition.
+     */
+    private final int windowSize;
+
+    /**
+     * Registry receiving the duplicate counters.
+     */
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Recent id windows indexed by consumer group and partition.
+     */
+    private final Map<String, RecentMessageWindow> windows = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs a new ProcessedMessageDeduplicator.
+     *
+     * @param processedMessageStore the durable record of the processed message ids
+     * @param transactionTemplate   the template running the handlers in a transaction
+     * @param windowSize            the number of ids remembered per partition
+     * @param meterRegistry         the registry receiving the duplicate counters
+     */
+    public ProcessedMessageDeduplicator(IProcessedMessageStore processedMessageStore,
+            TransactionTemplate transactionTemplate, int windowSize, MeterRegistry meterRegistry) {
+        this.processedMessageStore = processedMessageStore;
+        this.transactionTemplate = transactionTemplate;
+        this.windowSize = windowSize;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public boolean isProcessed(String consumerGroupId, int partition, UUID messageId) {
+        if (windowFor(consumerGroupId, partition).contains(messageId)) {
+            duplicate(consumerGroupId, "window", messageId);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public boolean claim(String consumerGroupId, int partition, UUID messageId) {
+        RecentMessageWindow window = windowFor(consumerGroupId, partition);
+        if (!processedMessageStore.markProcessed(consumerGroupId, messageId)) {
+            window.add(messageId);
+            duplicate(consumerGroupId, "store", messageId);
+            return false;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    window.add(messageId);
+                }
+            });
+        } else {
+            window.add(messageId);
+        }
+        return true;
+    }
+
+    @Override
+    public void forget(String consumerGroupId, int partition, UUID messageId) {
+        windowFor(consumerGroupId, partition).remove(messageId);
+    }
+
+    @Override
+    public boolean handle(String consumerGroupId, int partition, UUID messageId, Runnable handler) {
+        if (isProcessed(consumerGroupId, partition, messageId)) {
+            return false;
+        }
+        return Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+            if (!claim(consumerGroupId, partition, messageId)) {
+                return false;
+            }
+            handler.run();
+            return true;
+        }));
+    }
+
+    private RecentMessageWindow windowFor(String consumerGroupId, int partition) {
+        return windows.computeIfAbsent(consumerGroupId + "-" + partition, key -> new RecentMessageWindow(windowSize));
+    }
+
+    private void duplicate(String consumerGroupId, String source, UUID messageId) {
+        log.debug("Dropped duplicate message {} of consumer group {} found in the {}", messageId, consumerGroupId,
+                source);
+        Counter.builder("kafka.consumer.duplicates").tag("group", consumerGroupId).tag("source", source)
+                .description("Redelivered messages dropped before processing").register(meterRegistry).increment();
+    }
+}
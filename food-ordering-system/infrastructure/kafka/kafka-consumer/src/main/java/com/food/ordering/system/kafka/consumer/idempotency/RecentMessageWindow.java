@@ -0,0 +1,73 @@
+package com.food.ordering.system.kafka.consumer.idempotency;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Bounded set of the most recently processed message ids of one partition. Once full,
+ * every added id evicts the oldest one.
+ */
+final class RecentMessageWindow {
+    /**
+     * Ids in insertion order, used as a ring.
+     */
+    private final UUID[] ring;
+
+    /**
+     * Ids of the ring, for lookups.
+     */
+    private final Set<UUID> ids;
+
+    /**
+     * Next position of the ring to write.
+     */
+    private int next;
+
+    /**
+     * Creates an empty window.
+     *
+     * @param capacity the maximum number of ids remembered
+     */
+    RecentMessageWindow(int capacity) {
+        this.ring = new UUID[capacity];
+        this.ids = new HashSet<>(capacity * 4 / 3 + 1);
+    }
+
+    /**
+     * Checks whether an id is in the window.
+     *
+     * @param messageId the id of the message
+     * @return true if the id is in the window
+     */
+    synchronized boolean contains(UUID messageId) {
+        return ids.contains(messageId);
+    }
+
+    /**
+     * Adds an id to the window, evicting the oldest one when full.
+     *
+     * @param messageId the id of the message
+     */
+    synchronized void add(UUID messageId) {
+        if (!ids.add(messageId)) {
+            return;
+        }
+        UUID evicted = ring[next];
+        if (evicted != null) {
+            ids.remove(evicted);
+        }
+        ring[next] = messageId;
+        next = (next + 1) % ring.length;
+    }
+
+    /**
+     * Removes an id from the window. Its slot of the ring is reused once the ring
+     * wraps around.
+     *
+     * @param messageId the id of the message
+     */
+    synchronized void remove(UUID messageId) {
+        ids.remove(messageId);
+    }
+}
@@ -0,0 +1,240 @@
+package com.food.ordering.system.kafka.consumer.poll;
+
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import com.food.ordering.system.kafka.config.data.KafkaConsumerConfigData;
+import com.food.ordering.system.kafka.consumer.container.ListenerContainerRestarter;
+import com.food.ordering.system.kafka.consumer.stats.ListenerProcessingStats;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Adapts {@code max.poll.records} and {@code max.partition.fetch.bytes} of the Kafka
+ * listener containers to the observed per-record processing time.
+ * <p>
+ * At every interval the sizer reads the processing statistics of each running
+ * {@link ConcurrentMessageListenerContainer} and asks the {@link PollSizingPolicy} for
+ * the batch size that keeps a batch well under {@code max.poll.interval.ms}. Since the
+ * Kafka consumer reads both settings only at creation, a change is applied as a
+ * consumer property override followed by a restart through
+ * {@link ListenerContainerRestarter}; {@code group-instance-id} is required, so the
+ * restarted consumers rejoin as the same static members without a rebalance. The
+ * current batch size is exposed as the {@code kafka.listener.max.poll.records} gauge
+ * and changes are counted in {@code kafka.listener.poll.resize}.
+ * </p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "kafka-consumer-config", name = "adaptive-poll-enabled", havingValue = "true")
+public class AdaptivePollSizer implements SmartLifecycle {
+    /**
+     * Registry holding the listener containers.
+     */
+    private final KafkaListenerEndpointRegistry kafkaListenerEndpointRegistry;
+
+    /**
+     * Kafka consumer-specific configuration data.
+     */
+    private final KafkaConsumerConfigData kafkaConsumerConfigData;
+
+    /**
+     * Processing statistics of the listeners.
+     */
+    private final ListenerProcessingStats listenerProcessingStats;
+
+    /**
+     * Restarter applying the batch size changes.
+     */
+    private final ListenerContainerRestarter listenerContainerRestarter;
+
+    /**
+     * Registry receiving the poll sizing metrics.
+     */
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Policy deciding the batch size of each container.
+     */
+    private final PollSizingPolicy pollSizingPolicy;
+
+    /**
+     * Per-container sizing state indexed by listener id.
+     */
+    private final Map<String, ListenerState> listenerStates = new ConcurrentHashMap<>();
+
+    /**
+     * Executor running the periodic evaluation, present while running.
+     */
+    private volatile ScheduledExecutorService scheduler;
+
+    /**
+     * Constructs a new AdaptivePollSizer.
+     *
+     * @param kafkaListenerEndpointRegistry the registry holding the listener containers
+     * @param kafkaConsumerConfigData       consumer-specific configuration data
+     * @param listenerProcessingStats       the processing statistics of the listeners
+     * @param listenerContainerRestarter    the restarter applying the batch size changes
+     * @param meterRegistryProvider         the provider of the registry receiving the metrics
+     */
+    public AdaptivePollSizer(KafkaListenerEndpointRegistry kafkaListenerEndpointRegistry,
+            KafkaConsumerConfigData kafkaConsumerConfigData, ListenerProcessingStats listenerProcessingStats,
+            ListenerContainerRestarter listenerContainerRestarter, ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        this.kafkaListenerEndpointRegistry = kafkaListenerEndpointRegistry;
+        this.kafkaConsumerConfigData = kafkaConsumerConfigData;
+        this.listenerProcessingStats = listenerProcessingStats;
+        this.listenerContainerRestarter = listenerContainerRestarter;
+        this.meterRegistry = meterRegistryProvider.getIfAvailable(() -> Metrics.globalRegistry);
+        this.pollSizingPolicy = new PollSizingPolicy(
+                kafkaConsumerConfigData.getMinPollRecords(),
+                kafkaConsumerConfigData.getMaxPollRecords(),
+                kafkaConsumerConfigData.getMaxPollIntervalMs(),
+                kafkaConsumerConfigData.getAdaptivePollDeadlineRatio(),
+                kafkaConsumerConfigData.getAdaptivePollGrowCooldownMs());
+    }
+
+    @Override
+    public void start() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "kafka-listener-poll-sizer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMs = kafkaConsumerConfigData.getAdaptivePollIntervalMs();
+        scheduler.scheduleWithFixedDelay(this::evaluateSafely, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+        log.info("Adaptive poll sizer started with batch bounds [{}, {}] and interval {} ms",
+                kafkaConsumerConfigData.getMinPollRecords(), kafkaConsumerConfigData.getMaxPollRecords(), intervalMs);
+    }
+
+    @Override
+    public void stop() {
+        ScheduledExecutorService current = scheduler;
+        if (current != null) {
+            current.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return scheduler != null;
+    }
+
+    private void evaluateSafely() {
+        try {
+            for (MessageListenerContainer container : kafkaListenerEndpointRegistry.getListenerContainers()) {
+                if (container instanceof ConcurrentMessageListenerContainer<?, ?> concurrentContainer
+                        && concurrentContainer.isRunning()
+                        && !listenerContainerRestarter.isRestarting(concurrentContainer)) {
+                    evaluate(concurrentContainer);
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("Poll size evaluation failed: {}", e.getMessage(), e);
+        }
+    }
+
+    private void evaluate(ConcurrentMessageListenerContainer<?, ?> container) {
+        String listenerId = container.getListenerId();
+        ListenerState state = listenerStates.computeIfAbsent(listenerId, this::registerListener);
+        ListenerProcessingStats.Snapshot snapshot = listenerProcessingStats.snapshot(container.getGroupId());
+        ListenerProcessingStats.Snapshot window = snapshot.since(state.lastSnapshot);
+        state.lastSnapshot = snapshot;
+        int currentRecords = state.maxPollRecords.get();
+        int newRecords = pollSizingPolicy.evaluate(state.sizingState, currentRecords, window.getNanosPerRecord(),
+                System.currentTimeMillis());
+        if (newRecords == currentRecords) {
+            return;
+        }
+        int fetchBytes = pollSizingPolicy.fetchBytesFor(newRecords, window.getBytesPerRecord(),
+                kafkaConsumerConfigData.getMaxPartitionFetchBytesDefault()
+                        * kafkaConsumerConfigData.getMaxPartitionFetchBytesBoostFactor());
+        boolean restarted = listenerContainerRestarter.restart(container, stopped -> {
+            Properties overrides = new Properties();
+            overrides.putAll(stopped.getContainerProperties().getKafkaConsumerProperties());
+            overrides.setProperty(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, Integer.toString(newRecords));
+            overrides.setProperty(ConsumerConfig.MAX_PARTITION_FETCH_BYTES_CONFIG, Integer.toString(fetchBytes));
+            stopped.getContainerProperties().setKafkaConsumerProperties(overrides);
+        });
+        if (restarted) {
+            log.info("Resizing listener {} batches from {} to {} records ({} fetch bytes per partition), "
+                    + "processing time per record: {} us", listenerId, currentRecords, newRecords, fetchBytes,
+                    Math.round(window.getNanosPerRecord() / 1000));
+            (newRecords > currentRecords ? state.growCounter : state.shrinkCounter).increment();
+            state.maxPollRecords.set(newRecords);
+        }
+    }
+
+    private ListenerState registerListener(String listenerId) {
+        ListenerState state = new ListenerState(kafkaConsumerConfigData.getMaxPollRecords(),
+                Counter.builder("kafka.listener.poll.resize").tag("listener", listenerId).tag("direction", "grow")
+                        .description("Batch size increases").register(meterRegistry),
+                Counter.builder("kafka.listener.poll.resize").tag("listener", listenerId).tag("direction", "shrink")
+                        .description("Batch size decreases").register(meterRegistry));
+        Gauge.builder("kafka.listener.max.poll.records", state.maxPollRecords, AtomicInteger::get)
+                .tag("listener", listenerId).description("Current max.poll.records of the listener container")
+                .register(meterRegistry);
+        return state;
+    }
+
+    /**
+     * Sizing state of one listener container.
+     */
+    private static final class ListenerState {
+        /**
+         * Hysteresis state of the sizing policy.
+         */
+        private final PollSizingPolicy.PollSizingState sizingState = new PollSizingPolicy.PollSizingState();
+
+        /**
+         * Current {@code max.poll.records} of the container.
+         */
+        private final AtomicInteger maxPollRecords;
+
+        /**
+         * Counter of the {@code max.poll.records} increases.
+         */
+        private final Counter growCounter;
+
+        /**
+         * Counter of the {@code max.poll.records} decreases.
+         */
+        private final Counter shrinkCounter;
+
+        /**
+         * Processing statistics snapshot taken at the last evaluation.
+         */
+        private ListenerProcessingStats.Snapshot lastSnapshot = ListenerProcessingStats.Snapshot.EMPTY;
+
+        /**
+         * Constructs the poll sizing state of a listener container.
+         *
+         * @param maxPollRecords initial {@code max.poll.records} of the container
+         * @param growCounter    counter of the {@code max.poll.records} increases
+         * @param shrinkCounter  counter of the {@code max.poll.records} decreases
+         */
+        private ListenerState(int maxPollRecords, Counter growCounter, Counter shrinkCounter) {
+            this.maxPollRecords = new AtomicInteger(maxPollRecords);
+            this.growCounter = growCounter;
+            this.shrinkCounter = shrinkCounter;
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.food.ordering.system.kafka.consumer.poll;
+
+/**
+ * Decides {@code max.poll.records} of a listener container from the observed per-record
+ * processing time.
+ * <p>
+ * The target batch is the number of records that can be processed within a fraction
+ * of {@code max.poll.interval.ms}. The per-record time is smoothed with an exponential
+ * moving average, but the latest window is used instead whenever it is slower, so a
+ * latency spike shrinks the batch at the next evaluation. Shrinking is applied
+ * immediately; growing is limited to doubling and only after a cooldown, so the batch
+ * size climbs back slowly and does not oscillate.
+ * </p>
+ */
+public class PollSizingPolicy {
+    /**
+     * Weight of the latest window in the moving average of the per-record time.
+     */
+    private static final double SMOOTHING_FACTOR = 0.3;
+
+    /**
+     * Ratio below which a smaller target batch is applied.
+     */
+    private static final double SHRINK_THRESHOLD = 0.8;
+
+    /**
+     * Ratio above which a larger target batch is applied.
+     */
+    private static final double GROW_THRESHOLD = 1.25;
+
+    /**
+     * Lower bound of {@code max.partition.fetch.bytes}.
+     */
+    private static final int MIN_FETCH_BYTES = 64 * 1024;
+
+    /**
+     * The smallest batch size allowed.
+     */
+    private final int minPollRecords;
+
+    /**
+     * The largest batch size allowed.
+     */
+    private final int maxPollRecords;
+
+    /**
+     * The processing time budget of one batch in nanoseconds.
+     */
+    private final double batchBudgetNanos;
+
+    /**
+     * The minimum time between two batch size increases, in milliseconds.
+     */
+    private final long growCooldownMs;
+
+    /**
+     * Constructs a new PollSizingPolicy.
+     *
+     * @param minPollRecords    the smallest batch size allowed
+     * @param maxPollRecords    the largest batch size allowed
+     * @param maxPollIntervalMs the consumer {@code max.poll.interval.ms}
+     * @param deadlineRatio     the fraction of {@code max.poll.interval.ms} a batch may use
+     * @param growCooldownMs    the minimum time between two batch size increases, in milliseconds
+     */
+    public PollSizingPolicy(int minPollRecords, int maxPollRecords, long maxPollIntervalMs, double deadlineRatio,
+            long growCooldownMs) {
+        this.minPollRecords = Math.max(1, minPollRecords);
+        this.maxPollRecords = Math.max(this.minPollRecords, maxPollRecords);
+        this.batchBudgetNanos = maxPollIntervalMs * 1_000_000d * deadlineRatio;
+        this.growCooldownMs = growCooldownMs;
+    }
+
+    /**
+     * Evaluates the next batch size of a listener container.
+     *
+     * @param state          the sizing state of the container, updated by this call
+     * @param currentRecords the current {@code max.poll.records}
+     * @param nanosPerRecord the mean per-record processing time of the latest window, 0 if nothing was processed
+     * @param nowMs          the current time in milliseconds
+     * @return the batch size to apply, equal to the current one when no change is needed
+     */
+    public int evaluate(PollSizingState state, int currentRecords, double nanosPerRecord, long nowMs) {
+        if (nanosPerRecord <= 0) {
+            return currentRecords;
+        }
+        state.smoothedNanosPerRecord = state.smoothedNanosPerRecord == 0 ? nanosPerRecord
+                : SMOOTHING_FACTOR * nanosPerRecord + (1 - SMOOTHING_FACTOR) * state.smoothedNanosPerRecord;
+        double pessimisticNanosPerRecord = Math.max(state.smoothedNanosPerRecord, nanosPerRecord);
+        int target = (int) Math.max(minPollRecords,
+                Math.min(maxPollRecords, Math.floor(batchBudgetNanos / pessimisticNanosPerRecord)));
+        if (target < currentRecords * SHRINK_THRESHOLD) {
+            state.lastChangeMs = nowMs;
+            return target;
+        }
+        if (target > currentRecords * GROW_THRESHOLD && nowMs - state.lastChangeMs >= growCooldownMs) {
+            state.lastChangeMs = nowMs;
+            return (int) Math.min(target, currentRecords * 2L);
+        }
+        return currentRecords;
+    }
+
+    /**
+     * Returns the {@code max.partition.fetch.bytes} matching a batch size.
+     *
+     * @param pollRecords     the batch size
+     * @param bytesPerRecord  the mean serialized record size, 0 if unknown
+     * @param configuredBytes the configured {@code max.partition.fetch.bytes}, used as upper bound
+     * @return the fetch size to apply
+     */
+    public int fetchBytesFor(int pollRecords, double bytesPerRecord, int configuredBytes) {
+        if (bytesPerRecord <= 0) {
+            return configuredBytes;
+        }
+        return (int) Math.min(configuredBytes, Math.max(MIN_FETCH_BYTES, Math.ceil(pollRecords * bytesPerRecord)));
+    }
+
+    /**
+     * Sizing state of one listener container.
+     */
+    public static final class PollSizingState {
+        /**
+         * Moving average of the per-record processing time in nanoseconds.
+         */
+        private double smoothedNanosPerRecord;
+
+        /**
+         * Time of the last batch size change in milliseconds.
+         */
+        private long lastChangeMs;
+    }
+}
@@ -0,0 +1,158 @@
+package com.food.ordering.system.kafka.consumer.stats;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Collects batch processing statistics per consumer group.
+ * <p>
+ * Counters are fed by {@link ProcessingTimeBatchInterceptor} from the listener threads.
+ * Readers take cumulative snapshots and compute their own windows with
+ * {@link Snapshot#since(Snapshot)}, so several components can observe the same group
+ * independently.
+ * </p>
+ */
+@Component
+public class ListenerProcessingStats {
+    /**
+     * Accumulated counters indexed by consumer group id.
+     */
+    private final Map<String, GroupCounters> countersByGroupId = new ConcurrentHashMap<>();
+
+    /**
+     * Records a processed batch.
+     *
+     * @param groupId         the consumer group id of the listener
+     * @param recordCount     the number of records in the batch
+     * @param recordBytes     the serialized size of the batch in bytes
+     * @param processingNanos the time spent processing the batch in nanoseconds
+     */
+    public void recordBatch(String groupId, int recordCount, long recordBytes, long processingNanos) {
+        GroupCounters counters = countersByGroupId.computeIfAbsent(groupId, ignored -> new GroupCounters());
+        counters.batches.increment();
+        counters.records.add(recordCount);
+        counters.recordBytes.add(recordBytes);
+        counters.processingNanos.add(processingNanos);
+    }
+
+    /**
+     * Returns the cumulative counters of a consumer group.
+     *
+     * @param groupId the consumer group id of the listener
+     * @return a snapshot of the counters
+     */
+    public Snapshot snapshot(String groupId) {
+        GroupCounters counters = countersByGroupId.get(groupId);
+        if (counters == null) {
+            return Snapshot.EMPTY;
+        }
+        return new Snapshot(counters.batches.sum(), counters.records.sum(), counters.recordBytes.sum(),
+                counters.processingNanos.sum());
+    }
+
+    /**
+     * Cumulative processing counters of a consumer group, or the difference between two snapshots.
+     */
+    public static final class Snapshot {
+        /**
+         * Snapshot of a group that has not processed anything yet.
+         */
+        public static final Snapshot EMPTY = new Snapshot(0, 0, 0, 0);
+
+        /**
+         * The number of batches processed.
+         */
+        private final long batches;
+
+        /**
+         * The number of records processed.
+         */
+        private final long records;
+
+        /**
+         * The serialized size of the processed records in bytes.
+         */
+        private final long recordBytes;
+
+        /**
+         * The processing time in nanoseconds, summed over all listener threads.
+         */
+        private final long processingNanos;
+
+        private Snapshot(long batches, long records, long recordBytes, long processingNanos) {
+            this.batches = batches;
+            this.records = records;
+            this.recordBytes = recordBytes;
+            this.processingNanos = processingNanos;
+        }
+
+        /**
+         * Returns the counters accumulated between a previous snapshot and this one.
+         *
+         * @param previous the earlier snapshot of the same group
+         * @return the difference between both snapshots
+         */
+        public Snapshot since(Snapshot previous) {
+            return new Snapshot(batches - previous.batches, records - previous.records,
+                    recordBytes - previous.recordBytes, processingNanos - previous.processingNanos);
+        }
+
+        /**
+         * Returns the number of batches processed.
+         *
+         * @return the batch count
+         */
+        public long getBatches() {
+            return batches;
+        }
+
+        /**
+         * Returns the number of records processed.
+         *
+         * @return the record count
+         */
+        public long getRecords() {
+            return records;
+        }
+
+        /**
+         * Returns the throughput of a single listener thread while busy.
+         *
+         * @return records processed per second of processing time, or 0 if nothing was processed
+         */
+        public double getRecordsPerSecondPerThread() {
+            return processingNanos == 0 ? 0 : records * 1_000_000_000d / processingNanos;
+        }
+
+        /**
+         * Returns the mean serialized size of a single record.
+         *
+         * @return the mean record size in bytes, or 0 if nothing was processed
+         */
+        public double getBytesPerRecord() {
+            return records == 0 ? 0 : (double) recordBytes / records;
+        }
+
+        /**
+         * Returns the mean processing time of a single record.
+         *
+         * @return the mean per-record processing time in nanoseconds, or 0 if nothing was processed
+         */
+        public double getNanosPerRecord() {
+            return records == 0 ? 0 : (double) processingNanos / records;
+        }
+    }
+
+    /**
+     * Mutable counters of one consumer group.
+     */
+    private static final class GroupCounters {
+        private final LongAdder batches = new LongAdder();
+        private final LongAdder records = new LongAdder();
+        private final LongAdder recordBytes = new LongAdder();
+        private final LongAdder processingNanos = new LongAdder();
+    }
+}
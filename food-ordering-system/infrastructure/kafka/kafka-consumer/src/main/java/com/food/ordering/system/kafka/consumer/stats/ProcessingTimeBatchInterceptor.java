@@ -0,0 +1,71 @@
+package com.food.ordering.system.kafka.consumer.stats;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.springframework.kafka.listener.BatchInterceptor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Batch interceptor measuring how long the listener takes to process each batch.
+ * <p>
+ * The start time is kept per listener thread between {@link #intercept} and the
+ * {@link #success}/{@link #failure} callbacks, and the result is recorded in
+ * {@link ListenerProcessingStats} under the consumer group id.
+ * </p>
+ *
+ * @param <K> the type of the record key
+ * @param <V> the type of the record value
+ */
+@Component
+public class ProcessingTimeBatchInterceptor<K, V> implements BatchInterceptor<K, V> {
+    /**
+     * Start time of the batch being processed by the current listener thread.
+     */
+    private final ThreadLocal<Long> batchStartNanos = new ThreadLocal<>();
+
+    /**
+     * Statistics receiving the measured batches.
+     */
+    private final ListenerProcessingStats listenerProcessingStats;
+
+    /**
+     * Constructs a new ProcessingTimeBatchInterceptor.
+     *
+     * @param listenerProcessingStats the statistics receiving the measured batches
+     */
+    public ProcessingTimeBatchInterceptor(ListenerProcessingStats listenerProcessingStats) {
+        this.listenerProcessingStats = listenerProcessingStats;
+    }
+
+    @Override
+    public ConsumerRecords<K, V> intercept(ConsumerRecords<K, V> records, Consumer<K, V> consumer) {
+        batchStartNanos.set(System.nanoTime());
+        return records;
+    }
+
+    @Override
+    public void success(ConsumerRecords<K, V> records, Consumer<K, V> consumer) {
+        recordBatch(records, consumer);
+    }
+
+    @Override
+    public void failure(ConsumerRecords<K, V> records, Exception exception, Consumer<K, V> consumer) {
+        recordBatch(records, consumer);
+    }
+
+    private void recordBatch(ConsumerRecords<K, V> records, Consumer<K, V> consumer) {
+        Long startNanos = batchStartNanos.get();
+        if (startNanos == null) {
+            return;
+        }
+        long processingNanos = System.nanoTime() - startNanos;
+        batchStartNanos.remove();
+        long recordBytes = 0;
+        for (ConsumerRecord<K, V> consumerRecord : records) {
+            recordBytes += Math.max(0, consumerRecord.serializedValueSize());
+        }
+        listenerProcessingStats.recordBatch(consumer.groupMetadata().groupId(), records.count(), recordBytes,
+                processingNanos);
+    }
+}
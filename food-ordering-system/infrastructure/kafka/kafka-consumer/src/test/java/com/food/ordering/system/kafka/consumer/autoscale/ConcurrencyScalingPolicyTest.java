@@ -0,0 +1,83 @@
+package com.food.ordering.system.kafka.consumer.autoscale;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+import com.food.ordering.system.kafka.consumer.autoscale.ConcurrencyScalingPolicy.ScalingState;
+
+/**
+ * Tests for the hysteresis and the bounds of the {@link ConcurrencyScalingPolicy}:
+ * one to four threads, a 10 s drain target, two cycles to scale up and three to scale
+ * down, with each thread processing 100 records per second.
+ */
+public class ConcurrencyScalingPolicyTest {
+    private static final double RECORDS_PER_SECOND = 100;
+
+    private final ConcurrencyScalingPolicy concurrencyScalingPolicy = new ConcurrencyScalingPolicy(1, 4, 10_000, 2,
+            3);
+
+    @Test
+    void scalesUpToTheDesiredConcurrencyAfterTheUpCycles() {
+        ScalingState state = new ScalingState();
+
+        assertEquals(1, concurrencyScalingPolicy.evaluate(state, 1, 8, 3_000, RECORDS_PER_SECOND));
+        assertEquals(3, concurrencyScalingPolicy.evaluate(state, 1, 8, 3_000, RECORDS_PER_SECOND));
+    }
+
+    @Test
+    void scaleUpIsCappedByTheMaximumAndThePartitions() {
+        ScalingState state = new ScalingState();
+        concurrencyScalingPolicy.evaluate(state, 1, 8, 100_000, RECORDS_PER_SECOND);
+        assertEquals(4, concurrencyScalingPolicy.evaluate(state, 1, 8, 100_000, RECORDS_PER_SECOND));
+
+        state = new ScalingState();
+        concurrencyScalingPolicy.evaluate(state, 1, 2, 100_000, RECORDS_PER_SECOND);
+        assertEquals(2, concurrencyScalingPolicy.evaluate(state, 1, 2, 100_000, RECORDS_PER_SECOND));
+    }
+
+    @Test
+    void scalesDownOneThreadAfterTheDownCycles() {
+        ScalingState state = new ScalingState();
+
+        assertEquals(3, concurrencyScalingPolicy.evaluate(state, 3, 8, 0, RECORDS_PER_SECOND));
+        assertEquals(3, concurrencyScalingPolicy.evaluate(state, 3, 8, 0, RECORDS_PER_SECOND));
+        assertEquals(2, concurrencyScalingPolicy.evaluate(state, 3, 8, 0, RECORDS_PER_SECOND));
+        assertEquals(2, concurrencyScalingPolicy.evaluate(state, 2, 8, 0, RECORDS_PER_SECOND));
+    }
+
+    @Test
+    void lagWithinTheBandResetsTheStreak() {
+        ScalingState state = new ScalingState();
+
+        assertEquals(1, concurrencyScalingPolicy.evaluate(state, 1, 8, 3_000, RECORDS_PER_SECOND));
+        assertEquals(1, concurrencyScalingPolicy.evaluate(state, 1, 8, 500, RECORDS_PER_SECOND));
+        assertEquals(1, concurrencyScalingPolicy.evaluate(state, 1, 8, 3_000, RECORDS_PER_SECOND));
+        assertEquals(3, concurrencyScalingPolicy.evaluate(state, 1, 8, 3_000, RECORDS_PER_SECOND));
+    }
+
+    @Test
+    void neverScalesPastTheBounds() {
+        ScalingState state = new ScalingState();
+        for (int i = 0; i < 5; i++) {
+            assertEquals(1, concurrencyScalingPolicy.evaluate(state, 1, 8, 0, RECORDS_PER_SECOND));
+            assertEquals(4, concurrencyScalingPolicy.evaluate(state, 4, 8, 100_000, RECORDS_PER_SECOND));
+        }
+    }
+
+    @Test
+    void concurrencyOutOfBoundsIsClampedAtOnce() {
+        assertEquals(4, concurrencyScalingPolicy.evaluate(new ScalingState(), 6, 8, 0, RECORDS_PER_SECOND));
+        assertEquals(2, concurrencyScalingPolicy.evaluate(new ScalingState(), 3, 2, 0, RECORDS_PER_SECOND));
+        assertEquals(1, concurrencyScalingPolicy.evaluate(new ScalingState(), 0, 8, 0, RECORDS_PER_SECOND));
+    }
+
+    @Test
+    void lagWithoutThroughputKeepsTheConcurrency() {
+        ScalingState state = new ScalingState();
+
+        assertEquals(1, concurrencyScalingPolicy.evaluate(state, 1, 8, 100_000, 0));
+        assertEquals(1, concurrencyScalingPolicy.evaluate(state, 1, 8, 100_000, RECORDS_PER_SECOND));
+        assertEquals(4, concurrencyScalingPolicy.evaluate(state, 1, 8, 100_000, RECORDS_PER_SECOND));
+    }
+}
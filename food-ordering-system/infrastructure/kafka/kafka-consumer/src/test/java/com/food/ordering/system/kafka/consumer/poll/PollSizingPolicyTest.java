@@ -0,0 +1,70 @@
+package com.food.ordering.system.kafka.consumer.poll;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+import com.food.ordering.system.kafka.consumer.poll.PollSizingPolicy.PollSizingState;
+
+/**
+ * Tests for the {@link PollSizingPolicy} math: a batch budget of 500 ms, so a
+ * per-record time of 1 ms targets 500 records.
+ */
+public class PollSizingPolicyTest {
+    private static final long COOLDOWN_MS = 60_000;
+
+    private final PollSizingPolicy pollSizingPolicy = new PollSizingPolicy(10, 1000, 1000, 0.5, COOLDOWN_MS);
+
+    @Test
+    void slowerRecordsShrinkTheBatchImmediately() {
+        PollSizingState state = new PollSizingState();
+
+        assertEquals(100, pollSizingPolicy.evaluate(state, 500, 5_000_000, 1));
+    }
+
+    @Test
+    void targetWithinHysteresisKeepsTheBatch() {
+        PollSizingState state = new PollSizingState();
+
+        assertEquals(500, pollSizingPolicy.evaluate(state, 500, 500_000_000d / 450, COOLDOWN_MS));
+        assertEquals(500, pollSizingPolicy.evaluate(state, 500, 500_000_000d / 600, COOLDOWN_MS));
+    }
+
+    @Test
+    void growthIsLimitedToDoublingAfterTheCooldown() {
+        PollSizingState state = new PollSizingState();
+
+        assertEquals(200, pollSizingPolicy.evaluate(state, 100, 100_000, COOLDOWN_MS));
+        assertEquals(200, pollSizingPolicy.evaluate(state, 200, 100_000, COOLDOWN_MS + 1));
+        assertEquals(400, pollSizingPolicy.evaluate(state, 200, 100_000, 2 * COOLDOWN_MS));
+    }
+
+    @Test
+    void latencySpikeIsNotHiddenByTheAverage() {
+        PollSizingState state = new PollSizingState();
+        assertEquals(500, pollSizingPolicy.evaluate(state, 500, 1_000_000, 1));
+
+        assertEquals(50, pollSizingPolicy.evaluate(state, 500, 10_000_000, 2));
+    }
+
+    @Test
+    void targetIsClampedToTheBounds() {
+        assertEquals(10, pollSizingPolicy.evaluate(new PollSizingState(), 500, 1_000_000_000, 1));
+        assertEquals(1000, pollSizingPolicy.evaluate(new PollSizingState(), 600, 1_000, COOLDOWN_MS));
+        assertEquals(1, new PollSizingPolicy(0, 0, 1000, 0.5, COOLDOWN_MS)
+                .evaluate(new PollSizingState(), 500, 1_000_000_000, 1));
+    }
+
+    @Test
+    void idleWindowKeepsTheBatch() {
+        assertEquals(500, pollSizingPolicy.evaluate(new PollSizingState(), 500, 0, COOLDOWN_MS));
+    }
+
+    @Test
+    void fetchBytesFollowTheBatchWithinBounds() {
+        assertEquals(1_048_576, pollSizingPolicy.fetchBytesFor(100, 0, 1_048_576));
+        assertEquals(64 * 1024, pollSizingPolicy.fetchBytesFor(100, 100, 1_048_576));
+        assertEquals(200_000, pollSizingPolicy.fetchBytesFor(200, 1000, 1_048_576));
+        assertEquals(1_048_576, pollSizingPolicy.fetchBytesFor(1000, 10_000, 1_048_576));
+    }
+}
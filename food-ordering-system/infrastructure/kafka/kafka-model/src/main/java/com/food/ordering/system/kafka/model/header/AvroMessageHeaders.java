@@ -0,0 +1,67 @@
+package com.food.ordering.system.kafka.model.header;
+
+import java.nio.charset.StandardCharsets;
+
+import org.apache.avro.specific.SpecificRecord;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+
+import com.food.ordering.system.kafka.model.serde.AvroSchemaCatalog;
+
+/**
+ * Record headers describing an Avro message without decoding its payload.
+ * <p>
+ * Publishers stamp the message type, its schema version and the business status the
+ * message carries, so consumers can filter and route records on headers alone and
+ * only deserialize the payloads they act on. The schema version is the hexadecimal
+ * parsing fingerprint of the writer schema.
+ * </p>
+ */
+public final class AvroMessageHeaders {
+    /**
+     * Header holding the simple name of the Avro record type.
+     */
+    public static final String MESSAGE_TYPE = "message-type";
+
+    /**
+     * Header holding the business status carried by the message.
+     */
+    public static final String MESSAGE_STATUS = "message-status";
+
+    /**
+     * Header holding the fingerprint of the writer schema.
+     */
+    public static final String SCHEMA_VERSION = "schema-version";
+
+    /**
+     * Encoded message type and schema version indexed by generated record class.
+     */
+    private static final ClassValue<byte[][]> TYPE_HEADERS = new ClassValue<>() {
+        @Override
+        protected byte[][] computeValue(Class<?> type) {
+            AvroSchemaCatalog.Entry entry = AvroSchemaCatalog.forClass(type);
+            return new byte[][] {
+                    entry.getSchema().getName().getBytes(StandardCharsets.UTF_8),
+                    Long.toHexString(entry.getFingerprint()).getBytes(StandardCharsets.UTF_8) };
+        }
+    };
+
+    private AvroMessageHeaders() {
+    }
+
+    /**
+     * Creates the headers of a message.
+     *
+     * @param message the Avro message
+     * @param status  the business status carried by the message
+     * @return the record headers to send with the message
+     */
+    public static Headers of(SpecificRecord message, Enum<?> status) {
+        byte[][] typeHeaders = TYPE_HEADERS.get(message.getClass());
+        RecordHeaders headers = new RecordHeaders();
+        headers.add(MESSAGE_TYPE, typeHeaders[0]);
+        headers.add(SCHEMA_VERSION, typeHeaders[1]);
+        headers.add(MESSAGE_STATUS, status.name().getBytes(StandardCharsets.UTF_8));
+        return headers;
+    }
+}
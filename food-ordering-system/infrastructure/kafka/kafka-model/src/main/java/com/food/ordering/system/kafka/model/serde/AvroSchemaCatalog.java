@@ -0,0 +1,133 @@
+package com.food.ordering.system.kafka.model.serde;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaNormalization;
+import org.apache.avro.specific.SpecificData;
+
+import com.food.ordering.system.kafka.order.avro.model.CustomerAvroModel;
+import com.food.ordering.system.kafka.order.avro.model.PaymentRequestAvroModel;
+import com.food.ordering.system.kafka.order.avro.model.PaymentResponseAvroModel;
+import com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalRequestAvroModel;
+import com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalRequestBatchAvroModel;
+import com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalResponseAvroModel;
+import com.food.ordering.system.kafka.order.avro.model.RestaurantProductAvroModel;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Catalog of the generated Avro schemas shipped with this module.
+ * <p>
+ * Parsing fingerprints are computed once when the class is loaded, so the serdes never
+ * need to normalize or hash a schema on the hot path. Records that are not part of the
+ * catalog are registered lazily on first use.
+ * </p>
+ */
+public final class AvroSchemaCatalog {
+    /**
+     * Generated record schemas known at build time.
+     */
+    private static final List<Schema> GENERATED_SCHEMAS = List.of(
+            CustomerAvroModel.getClassSchema(),
+            PaymentRequestAvroModel.getClassSchema(),
+            PaymentResponseAvroModel.getClassSchema(),
+            RestaurantApprovalRequestAvroModel.getClassSchema(),
+            RestaurantApprovalRequestBatchAvroModel.getClassSchema(),
+            RestaurantApprovalResponseAvroModel.getClassSchema(),
+            RestaurantProductAvroModel.getClassSchema());
+
+    /**
+     * Catalog entries indexed by schema parsing fingerprint.
+     */
+    private static final Map<Long, Entry> BY_FINGERPRINT = new ConcurrentHashMap<>();
+
+    /**
+     * Catalog entries indexed by record full name.
+     */
+    private static final Map<String, Entry> BY_FULL_NAME = new ConcurrentHashMap<>();
+
+    /**
+     * Catalog entries indexed by the generated record class.
+     */
+    private static final ClassValue<Entry> BY_CLASS = new ClassValue<>() {
+        @Override
+        protected Entry computeValue(Class<?> type) {
+            return register(SpecificData.get().getSchema(type));
+        }
+    };
+
+    static {
+        GENERATED_SCHEMAS.forEach(AvroSchemaCatalog::register);
+    }
+
+    private AvroSchemaCatalog() {
+    }
+
+    /**
+     * Returns the catalog entry for a generated record class.
+     *
+     * @param recordClass the generated record class
+     * @return the catalog entry with the class schema and its fingerprint
+     */
+    public static Entry forClass(Class<?> recordClass) {
+        return BY_CLASS.get(recordClass);
+    }
+
+    /**
+     * Returns the catalog entry for a schema parsing fingerprint.
+     *
+     * @param fingerprint the 64-bit parsing fingerprint of the writer schema
+     * @return the catalog entry, or {@code null} if the fingerprint is unknown
+     */
+    public static Entry forFingerprint(long fingerprint) {
+        return BY_FINGERPRINT.get(fingerprint);
+    }
+
+    /**
+     * Returns the catalog entry of the generated record with the given full name.
+     *
+     * @param fullName the record full name, including namespace
+     * @return the catalog entry, or {@code null} if no such record is known
+     */
+    public static Entry forFullName(String fullName) {
+        return BY_FULL_NAME.get(fullName);
+    }
+
+    /**
+     * Computes the parsing fingerprint used to identify a schema on the wire.
+     *
+     * @param schema the schema to fingerprint
+     * @return the 64-bit parsing fingerprint
+     */
+    public static long fingerprint(Schema schema) {
+        return SchemaNormalization.parsingFingerprint64(schema);
+    }
+
+    private static Entry register(Schema schema) {
+        Entry entry = new Entry(schema, fingerprint(schema));
+        BY_FINGERPRINT.putIfAbsent(entry.getFingerprint(), entry);
+        BY_FULL_NAME.putIfAbsent(schema.getFullName(), entry);
+        return entry;
+    }
+
+    /**
+     * A schema paired with its precomputed parsing fingerprint.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static final class Entry {
+        /**
+         * The record schema.
+         */
+        private final Schema schema;
+
+        /**
+         * The 64-bit parsing fingerprint of the schema.
+         */
+        private final long fingerprint;
+    }
+}
@@ -0,0 +1,121 @@
+package com.food.ordering.system.kafka.model.serde;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Configuration keys and parsed settings shared by {@link SpecificAvroSerializer}
+ * and {@link SpecificAvroDeserializer}.
+ * <p>
+ * The keys are read from the regular Kafka client configuration map, so they can be
+ * supplied next to the serializer class name in the producer and consumer configs.
+ * </p>
+ */
+public final class AvroSerdeConfig {
+    /**
+     * Property key for the schema registry URL, compatible with the Confluent serdes.
+     */
+    public static final String SCHEMA_REGISTRY_URL = "schema.registry.url";
+
+    /**
+     * Property key for the serde mode, see {@link AvroSerdeMode}. Both the enum name
+     * and its dashed form, such as {@code registry-free}, are accepted.
+     */
+    public static final String SERDE_MODE = "avro.serde.mode";
+
+    /**
+     * Property key for the file where resolved schema ids are persisted between restarts.
+     */
+    public static final String SCHEMA_ID_CACHE_PATH = "avro.serde.schema.id.cache.path";
+
+    /**
+     * Property key for the timeout applied to schema registry calls, in milliseconds.
+     */
+    public static final String REGISTRY_TIMEOUT_MS = "avro.serde.registry.timeout.ms";
+
+    /**
+     * Default schema registry timeout used when none is configured.
+     */
+    private static final Duration DEFAULT_REGISTRY_TIMEOUT = Duration.ofSeconds(5);
+
+    /**
+     * The configured schema registry URL, or {@code null} when not configured.
+     */
+    private final String schemaRegistryUrl;
+
+    /**
+     * The configured serde mode.
+     */
+    private final AvroSerdeMode mode;
+
+    /**
+     * The configured schema id cache file, or {@code null} to keep ids in memory only.
+     */
+    private final String schemaIdCachePath;
+
+    /**
+     * The timeout applied to schema registry calls.
+     */
+    private final Duration registryTimeout;
+
+    /**
+     * Parses the serde settings from a Kafka client configuration map.
+     *
+     * @param configs the Kafka client configuration map
+     */
+    public AvroSerdeConfig(Map<String, ?> configs) {
+        this.schemaRegistryUrl = stringValue(configs, SCHEMA_REGISTRY_URL);
+        String modeValue = stringValue(configs, SERDE_MODE);
+        this.mode = modeValue == null ? AvroSerdeMode.REGISTRY
+                : AvroSerdeMode.valueOf(modeValue.trim().replace('-', '_').toUpperCase(Locale.ROOT));
+        this.schemaIdCachePath = stringValue(configs, SCHEMA_ID_CACHE_PATH);
+        String timeoutValue = stringValue(configs, REGISTRY_TIMEOUT_MS);
+        this.registryTimeout = timeoutValue == null ? DEFAULT_REGISTRY_TIMEOUT
+                : Duration.ofMillis(Long.parseLong(timeoutValue.trim()));
+    }
+
+    /**
+     * Returns the configured schema registry URL.
+     *
+     * @return the schema registry URL, or {@code null} when not configured
+     */
+    public String getSchemaRegistryUrl() {
+        return schemaRegistryUrl;
+    }
+
+    /**
+     * Returns the configured serde mode.
+     *
+     * @return the serde mode
+     */
+    public AvroSerdeMode getMode() {
+        return mode;
+    }
+
+    /**
+     * Returns the configured schema id cache file.
+     *
+     * @return the cache file path, or {@code null} when ids are kept in memory only
+     */
+    public String getSchemaIdCachePath() {
+        return schemaIdCachePath;
+    }
+
+    /**
+     * Returns the timeout applied to schema registry calls.
+     *
+     * @return the registry timeout
+     */
+    public Duration getRegistryTimeout() {
+        return registryTimeout;
+    }
+
+    private static String stringValue(Map<String, ?> configs, String key) {
+        Object value = configs.get(key);
+        if (value == null || value.toString().isBlank()) {
+            return null;
+        }
+        return value.toString();
+    }
+}
@@ -0,0 +1,22 @@
+package com.food.ordering.system.kafka.model.serde;
+
+/**
+ * Wire formats supported by {@link SpecificAvroSerializer}.
+ * <p>
+ * {@link SpecificAvroDeserializer} detects the format of each record from its first
+ * bytes, so consumers read both formats regardless of the configured mode.
+ * </p>
+ */
+public enum AvroSerdeMode {
+    /**
+     * Confluent wire format: magic byte {@code 0x00}, 4-byte schema id, Avro binary payload.
+     * Schema ids are served from the local cache and registered on first use only.
+     */
+    REGISTRY,
+
+    /**
+     * Avro single-object encoding: marker {@code 0xC3 0x01}, 8-byte schema fingerprint,
+     * Avro binary payload. Never contacts the schema registry.
+     */
+    REGISTRY_FREE
+}
@@ -0,0 +1,109 @@
+package com.food.ordering.system.kafka.model.serde;
+
+import java.io.ByteArrayOutputStream;
+
+/**
+ * Header layouts of the two Avro wire formats understood by the serdes.
+ */
+public final class AvroWireFormat {
+    /**
+     * First byte of a Confluent wire format record.
+     */
+    public static final byte REGISTRY_MAGIC_BYTE = 0x00;
+
+    /**
+     * Length of the Confluent wire format header: magic byte and 4-byte big-endian schema id.
+     */
+    public static final int REGISTRY_HEADER_LENGTH = 5;
+
+    /**
+     * First marker byte of an Avro single-object encoded record.
+     */
+    public static final byte SINGLE_OBJECT_MARKER_0 = (byte) 0xC3;
+
+    /**
+     * Second marker byte of an Avro single-object encoded record.
+     */
+    public static final byte SINGLE_OBJECT_MARKER_1 = 0x01;
+
+    /**
+     * Length of the single-object header: two marker bytes and 8-byte little-endian fingerprint.
+     */
+    public static final int SINGLE_OBJECT_HEADER_LENGTH = 10;
+
+    private AvroWireFormat() {
+    }
+
+    /**
+     * Tells whether the data starts with a Confluent wire format header.
+     *
+     * @param data the serialized record
+     * @return true if the data is in Confluent wire format
+     */
+    public static boolean isRegistryFormat(byte[] data) {
+        return data.length >= REGISTRY_HEADER_LENGTH && data[0] == REGISTRY_MAGIC_BYTE;
+    }
+
+    /**
+     * Tells whether the data starts with an Avro single-object header.
+     *
+     * @param data the serialized record
+     * @return true if the data is single-object encoded
+     */
+    public static boolean isSingleObjectFormat(byte[] data) {
+        return data.length >= SINGLE_OBJECT_HEADER_LENGTH && data[0] == SINGLE_OBJECT_MARKER_0
+                && data[1] == SINGLE_OBJECT_MARKER_1;
+    }
+
+    /**
+     * Writes a Confluent wire format header.
+     *
+     * @param out      the output buffer
+     * @param schemaId the registry id of the writer schema
+     */
+    public static void writeRegistryHeader(ByteArrayOutputStream out, int schemaId) {
+        out.write(REGISTRY_MAGIC_BYTE);
+        out.write(schemaId >>> 24);
+        out.write(schemaId >>> 16);
+        out.write(schemaId >>> 8);
+        out.write(schemaId);
+    }
+
+    /**
+     * Reads the schema id from a Confluent wire format header.
+     *
+     * @param data the serialized record
+     * @return the registry id of the writer schema
+     */
+    public static int readSchemaId(byte[] data) {
+        return (data[1] & 0xFF) << 24 | (data[2] & 0xFF) << 16 | (data[3] & 0xFF) << 8 | data[4] & 0xFF;
+    }
+
+    /**
+     * Writes an Avro single-object header.
+     *
+     * @param out         the output buffer
+     * @param fingerprint the parsing fingerprint of the writer schema
+     */
+    public static void writeSingleObjectHeader(ByteArrayOutputStream out, long fingerprint) {
+        out.write(SINGLE_OBJECT_MARKER_0);
+        out.write(SINGLE_OBJECT_MARKER_1);
+        for (int i = 0; i < Long.BYTES; i++) {
+            out.write((int) (fingerprint >>> (8 * i)));
+        }
+    }
+
+    /**
+     * Reads the schema fingerprint from an Avro single-object header.
+     *
+     * @param data the serialized record
+     * @return the parsing fingerprint of the writer schema
+     */
+    public static long readFingerprint(byte[] data) {
+        long fingerprint = 0;
+        for (int i = 0; i < Long.BYTES; i++) {
+            fingerprint |= (data[2 + i] & 0xFFL) << (8 * i);
+        }
+        return fingerprint;
+    }
+}
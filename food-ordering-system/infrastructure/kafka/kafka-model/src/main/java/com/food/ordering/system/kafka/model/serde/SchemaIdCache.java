@@ -0,0 +1,197 @@
+package com.food.ordering.system.kafka.model.serde;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaParseException;
+import org.apache.kafka.common.errors.SerializationException;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Schema id cache backed by a local file, with the schema registry as fallback.
+ * <p>
+ * Ids resolved from the registry are written to disk, so after the first run a
+ * service starts with every id it has used before and never calls the registry for
+ * them again. An unreadable or corrupt cache file is logged and ignored, and is
+ * rewritten with the next resolved id. One instance is shared by all serdes using
+ * the same registry URL and cache file.
+ * </p>
+ */
+@Slf4j
+public final class SchemaIdCache {
+    /**
+     * Shared instances indexed by registry URL and cache file.
+     */
+    private static final Map<String, SchemaIdCache> INSTANCES = new ConcurrentHashMap<>();
+
+    /**
+     * Property name prefix of subject/fingerprint to id entries in the cache file.
+     */
+    private static final String ID_PREFIX = "id.";
+
+    /**
+     * Property name prefix of id to schema entries in the cache file.
+     */
+    private static final String SCHEMA_PREFIX = "schema.";
+
+    /**
+     * Schema ids indexed by subject and writer schema fingerprint.
+     */
+    private final Map<String, Integer> idsBySubjectAndFingerprint = new ConcurrentHashMap<>();
+
+    /**
+     * Writer schemas indexed by registry id.
+     */
+    private final Map<Integer, Schema> schemasById = new ConcurrentHashMap<>();
+
+    /**
+     * Cache file, or {@code null} when ids are kept in memory only.
+     */
+    private final Path cacheFile;
+
+    /**
+     * Registry client used on cache misses, or {@code null} when no registry is configured.
+     */
+    private final SchemaRegistryHttpClient registryClient;
+
+    private SchemaIdCache(Path cacheFile, SchemaRegistryHttpClient registryClient) {
+        this.cacheFile = cacheFile;
+        this.registryClient = registryClient;
+        load();
+    }
+
+    /**
+     * Returns the shared cache for the registry URL and cache file of the given configuration.
+     *
+     * @param config the serde configuration
+     * @return the shared schema id cache
+     */
+    public static SchemaIdCache getInstance(AvroSerdeConfig config) {
+        String key = config.getSchemaRegistryUrl() + "|" + config.getSchemaIdCachePath();
+        return INSTANCES.computeIfAbsent(key, ignored -> new SchemaIdCache(
+                config.getSchemaIdCachePath() == null ? null : Path.of(config.getSchemaIdCachePath()),
+                config.getSchemaRegistryUrl() == null ? null
+                        : new SchemaRegistryHttpClient(config.getSchemaRegistryUrl(), config.getRegistryTimeout())));
+    }
+
+    /**
+     * Returns the registry id of a writer schema under a subject, registering it on first use.
+     *
+     * @param subject the subject name
+     * @param entry   the catalog entry of the writer schema
+     * @return the registry id
+     */
+    public int idFor(String subject, AvroSchemaCatalog.Entry entry) {
+        String key = subject + ":" + Long.toHexString(entry.getFingerprint());
+        Integer id = idsBySubjectAndFingerprint.get(key);
+        if (id != null) {
+            return id;
+        }
+        synchronized (this) {
+            id = idsBySubjectAndFingerprint.get(key);
+            if (id == null) {
+                id = requireRegistry(subject).register(subject, entry.getSchema());
+                log.info("Registered schema {} under subject {} with id {}", entry.getSchema().getFullName(), subject,
+                        id);
+                schemasById.putIfAbsent(id, entry.getSchema());
+                idsBySubjectAndFingerprint.put(key, id);
+                persist();
+            }
+            return id;
+        }
+    }
+
+    /**
+     * Returns the writer schema registered under an id, fetching it from the registry on first use.
+     *
+     * @param id the registry id
+     * @return the writer schema
+     */
+    public Schema schemaFor(int id) {
+        Schema schema = schemasById.get(id);
+        if (schema != null) {
+            return schema;
+        }
+        synchronized (this) {
+            schema = schemasById.get(id);
+            if (schema == null) {
+                schema = requireRegistry("schema id " + id).fetch(id);
+                log.info("Fetched writer schema {} with id {} from schema registry", schema.getFullName(), id);
+                schemasById.put(id, schema);
+                persist();
+            }
+            return schema;
+        }
+    }
+
+    private SchemaRegistryHttpClient requireRegistry(String what) {
+        if (registryClient == null) {
+            throw new SerializationException("No cached schema id for " + what + " and no schema registry configured");
+        }
+        return registryClient;
+    }
+
+    private void load() {
+        if (cacheFile == null || !Files.exists(cacheFile)) {
+            return;
+        }
+        Properties properties = new Properties();
+        try (InputStream in = Files.newInputStream(cacheFile)) {
+            properties.load(in);
+        } catch (IOException e) {
+            log.warn("Could not read schema id cache {}, starting with an empty cache: {}", cacheFile,
+                    e.getMessage());
+            return;
+        }
+        Map<String, Integer> ids = new HashMap<>();
+        Map<Integer, Schema> schemas = new HashMap<>();
+        try {
+            for (String key : properties.stringPropertyNames()) {
+                String value = properties.getProperty(key);
+                if (key.startsWith(ID_PREFIX)) {
+                    ids.put(key.substring(ID_PREFIX.length()), Integer.valueOf(value));
+                } else if (key.startsWith(SCHEMA_PREFIX)) {
+                    schemas.put(Integer.valueOf(key.substring(SCHEMA_PREFIX.length())),
+                            new Schema.Parser().parse(value));
+                }
+            }
+        } catch (NumberFormatException | SchemaParseException e) {
+            log.warn("Ignoring corrupt schema id cache {}, starting with an empty cache: {}", cacheFile,
+                    e.getMessage());
+            return;
+        }
+        idsBySubjectAndFingerprint.putAll(ids);
+        schemasById.putAll(schemas);
+    }
+
+    private void persist() {
+        if (cacheFile == null) {
+            return;
+        }
+        Properties properties = new Properties();
+        idsBySubjectAndFingerprint.forEach((key, id) -> properties.setProperty(ID_PREFIX + key, id.toString()));
+        schemasById.forEach((id, schema) -> properties.setProperty(SCHEMA_PREFIX + id, schema.toString()));
+        try {
+            Path directory = cacheFile.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+            Path tempFile = Files.createTempFile(directory, cacheFile.getFileName().toString(), ".tmp");
+            try (OutputStream out = Files.newOutputStream(tempFile)) {
+                properties.store(out, "Avro schema id cache");
+            }
+            Files.move(tempFile, cacheFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("Could not write schema id cache {}, ids are kept in memory only: {}", cacheFile,
+                    e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.food.ordering.system.kafka.model.serde;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+
+import org.apache.avro.Schema;
+import org.apache.kafka.common.errors.SerializationException;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Minimal schema registry client covering the two calls the serdes need: registering a
+ * writer schema under a subject and fetching a writer schema by id.
+ * <p>
+ * It is only used on cache misses; resolved ids are kept by {@link SchemaIdCache}.
+ * </p>
+ */
+public class SchemaRegistryHttpClient {
+    /**
+     * Content type expected by the schema registry REST API.
+     */
+    private static final String CONTENT_TYPE = "application/vnd.schemaregistry.v1+json";
+
+    /**
+     * JSON mapper used for request and response bodies.
+     */
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    /**
+     * Base URL of the schema registry, without trailing slash.
+     */
+    private final String baseUrl;
+
+    /**
+     * Timeout applied to each registry request.
+     */
+    private final Duration timeout;
+
+    /**
+     * HTTP client used for registry requests.
+     */
+    private final HttpClient httpClient;
+
+    /**
+     * Constructs a new SchemaRegistryHttpClient.
+     *
+     * @param schemaRegistryUrl the registry URL; when a comma-separated list is given the first one is used
+     * @param timeout           the timeout applied to each registry request
+     */
+    public SchemaRegistryHttpClient(String schemaRegistryUrl, Duration timeout) {
+        String url = schemaRegistryUrl.split(",")[0].trim();
+        this.baseUrl = url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+        this.timeout = timeout;
+        this.httpClient = HttpClient.newBuilder().connectTimeout(timeout).build();
+    }
+
+    /**
+     * Registers a schema under a subject, returning the existing id if it is already registered.
+     *
+     * @param subject the subject name
+     * @param schema  the schema to register
+     * @return the registry id of the schema
+     */
+    public int register(String subject, Schema schema) {
+        try {
+            String body = OBJECT_MAPPER.writeValueAsString(Map.of("schema", schema.toString()));
+            HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/subjects/"
+                    + URLEncoder.encode(subject, StandardCharsets.UTF_8) + "/versions"))
+                    .timeout(timeout)
+                    .header("Content-Type", CONTENT_TYPE)
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build();
+            return execute(request).get("id").asInt();
+        } catch (IOException e) {
+            throw new SerializationException("Could not register schema for subject " + subject, e);
+        }
+    }
+
+    /**
+     * Fetches the schema registered under an id.
+     *
+     * @param id the registry id
+     * @return the registered schema
+     */
+    public Schema fetch(int id) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/schemas/ids/" + id))
+                .timeout(timeout)
+                .header("Accept", CONTENT_TYPE)
+                .GET()
+                .build();
+        return new Schema.Parser().parse(execute(request).get("schema").asText());
+    }
+
+    private JsonNode execute(HttpRequest request) {
+        try {
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() / 100 != 2) {
+                throw new SerializationException("Schema registry returned status " + response.statusCode()
+                        + " for " + request.uri() + ": " + response.body());
+            }
+            return OBJECT_MAPPER.readTree(response.body());
+        } catch (IOException e) {
+            throw new SerializationException("Schema registry request failed for " + request.uri(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SerializationException("Interrupted while calling schema registry " + request.uri(), e);
+        }
+    }
+}
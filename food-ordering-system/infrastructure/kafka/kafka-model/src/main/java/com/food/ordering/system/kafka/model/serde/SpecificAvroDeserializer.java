@@ -0,0 +1,119 @@
+package com.food.ordering.system.kafka.model.serde;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.avro.Schema;
+import org.apache.avro.io.BinaryDecoder;
+import org.apache.avro.io.DatumReader;
+import org.apache.avro.io.DecoderFactory;
+import org.apache.avro.specific.SpecificData;
+import org.apache.avro.specific.SpecificDatumReader;
+import org.apache.avro.specific.SpecificRecord;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Deserializer;
+
+/**
+ * Kafka deserializer for generated Avro records that resolves writer schemas locally.
+ * <p>
+ * Both the Confluent wire format and Avro single-object encoding are accepted. Writer
+ * schemas are looked up in {@link AvroSchemaCatalog} by fingerprint or in
+ * {@link SchemaIdCache} by id; the schema registry is only contacted for ids that have
+ * never been seen before, and never while holding a lock of the reader maps. Records
+ * are always read into the generated class matching the writer schema name, resolving
+ * schema evolution against the local schema.
+ * </p>
+ *
+ * @param <T> the generated record type
+ */
+public class SpecificAvroDeserializer<T extends SpecificRecord> implements Deserializer<T> {
+    /**
+     * Per-thread binary decoder, reused across records.
+     */
+    private static final ThreadLocal<BinaryDecoder> DECODER = new ThreadLocal<>();
+
+    /**
+     * Datum readers indexed by writer schema registry id.
+     */
+    private final Map<Integer, DatumReader<T>> readersById = new ConcurrentHashMap<>();
+
+    /**
+     * Datum readers indexed by writer schema fingerprint.
+     */
+    private final Map<Long, DatumReader<T>> readersByFingerprint = new ConcurrentHashMap<>();
+
+    /**
+     * Schema id cache used for Confluent wire format records.
+     */
+    private SchemaIdCache schemaIdCache;
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        this.schemaIdCache = SchemaIdCache.getInstance(new AvroSerdeConfig(configs));
+    }
+
+    @Override
+    public T deserialize(String topic, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        DatumReader<T> reader;
+        int offset;
+        if (AvroWireFormat.isRegistryFormat(data)) {
+            int schemaId = AvroWireFormat.readSchemaId(data);
+            reader = readersById.get(schemaId);
+            if (reader == null) {
+                reader = cacheReader(readersById, schemaId, createReader(schemaIdCache.schemaFor(schemaId)));
+            }
+            offset = AvroWireFormat.REGISTRY_HEADER_LENGTH;
+        } else if (AvroWireFormat.isSingleObjectFormat(data)) {
+            long fingerprint = AvroWireFormat.readFingerprint(data);
+            reader = readersByFingerprint.get(fingerprint);
+            if (reader == null) {
+                reader = cacheReader(readersByFingerprint, fingerprint, createReader(fingerprint));
+            }
+            offset = AvroWireFormat.SINGLE_OBJECT_HEADER_LENGTH;
+        } else {
+            throw new SerializationException("Unknown Avro wire format for record on topic " + topic);
+        }
+        try {
+            BinaryDecoder decoder = DecoderFactory.get().binaryDecoder(data, offset, data.length - offset,
+                    DECODER.get());
+            DECODER.set(decoder);
+            return reader.read(null, decoder);
+        } catch (IOException | RuntimeException e) {
+            throw new SerializationException("Error deserializing Avro record on topic " + topic, e);
+        }
+    }
+
+    /**
+     * Caches a reader created outside the map, so a registry call never runs under the
+     * lock of a map bin. When two threads race, the first cached reader wins.
+     */
+    private static <K, R> R cacheReader(Map<K, R> readers, K key, R reader) {
+        R cached = readers.putIfAbsent(key, reader);
+        return cached != null ? cached : reader;
+    }
+
+    private DatumReader<T> createReader(long fingerprint) {
+        AvroSchemaCatalog.Entry entry = AvroSchemaCatalog.forFingerprint(fingerprint);
+        if (entry == null) {
+            throw new SerializationException("Unknown writer schema fingerprint " + Long.toHexString(fingerprint));
+        }
+        return createReader(entry.getSchema());
+    }
+
+    private DatumReader<T> createReader(Schema writerSchema) {
+        AvroSchemaCatalog.Entry readerEntry = AvroSchemaCatalog.forFullName(writerSchema.getFullName());
+        if (readerEntry == null) {
+            Class<?> recordClass = SpecificData.get().getClass(writerSchema);
+            if (recordClass == null) {
+                throw new SerializationException("No generated class for writer schema " + writerSchema.getFullName());
+            }
+            readerEntry = AvroSchemaCatalog.forClass(recordClass);
+        }
+        Schema readerSchema = readerEntry.getSchema();
+        return new SpecificDatumReader<>(writerSchema, readerSchema, SpecificData.getForSchema(readerSchema));
+    }
+}
@@ -0,0 +1,107 @@
+package com.food.ordering.system.kafka.model.serde;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Map;
+
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.DatumWriter;
+import org.apache.avro.io.EncoderFactory;
+import org.apache.avro.specific.SpecificData;
+import org.apache.avro.specific.SpecificDatumWriter;
+import org.apache.avro.specific.SpecificRecord;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Serializer;
+
+/**
+ * Kafka serializer for generated Avro records that resolves schema ids locally.
+ * <p>
+ * In {@link AvroSerdeMode#REGISTRY} mode records are written in the Confluent wire
+ * format, so existing {@code KafkaAvroDeserializer} consumers keep working; the schema
+ * id comes from {@link SchemaIdCache} and the registry is only called the first time
+ * a schema is seen. In {@link AvroSerdeMode#REGISTRY_FREE} mode records use Avro
+ * single-object encoding keyed by the precomputed schema fingerprint.
+ * </p>
+ *
+ * @param <T> the generated record type
+ */
+public class SpecificAvroSerializer<T extends SpecificRecord> implements Serializer<T> {
+    /**
+     * Datum writers indexed by generated record class.
+     */
+    private static final ClassValue<DatumWriter<Object>> WRITERS = new ClassValue<>() {
+        @Override
+        protected DatumWriter<Object> computeValue(Class<?> type) {
+            return new SpecificDatumWriter<>(AvroSchemaCatalog.forClass(type).getSchema(),
+                    SpecificData.getForClass(type));
+        }
+    };
+
+    /**
+     * Per-thread output buffer and encoder, reused across records.
+     */
+    private static final ThreadLocal<EncoderState> ENCODER_STATE = ThreadLocal.withInitial(EncoderState::new);
+
+    /**
+     * The configured serde mode.
+     */
+    private AvroSerdeMode mode = AvroSerdeMode.REGISTRY;
+
+    /**
+     * Schema id cache used in registry mode.
+     */
+    private SchemaIdCache schemaIdCache;
+
+    /**
+     * Whether this serializer is used for record keys.
+     */
+    private boolean isKey;
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        AvroSerdeConfig config = new AvroSerdeConfig(configs);
+        this.mode = config.getMode();
+        this.schemaIdCache = mode == AvroSerdeMode.REGISTRY ? SchemaIdCache.getInstance(config) : null;
+        this.isKey = isKey;
+    }
+
+    @Override
+    public byte[] serialize(String topic, T data) {
+        if (data == null) {
+            return null;
+        }
+        AvroSchemaCatalog.Entry entry = AvroSchemaCatalog.forClass(data.getClass());
+        EncoderState state = ENCODER_STATE.get();
+        state.buffer.reset();
+        try {
+            if (mode == AvroSerdeMode.REGISTRY) {
+                int schemaId = schemaIdCache.idFor(topic + (isKey ? "-key" : "-value"), entry);
+                AvroWireFormat.writeRegistryHeader(state.buffer, schemaId);
+            } else {
+                AvroWireFormat.writeSingleObjectHeader(state.buffer, entry.getFingerprint());
+            }
+            state.encoder = EncoderFactory.get().binaryEncoder(state.buffer, state.encoder);
+            WRITERS.get(data.getClass()).write(data, state.encoder);
+            state.encoder.flush();
+            return state.buffer.toByteArray();
+        } catch (IOException | RuntimeException e) {
+            throw new SerializationException("Error serializing Avro record " + entry.getSchema().getFullName()
+                    + " for topic " + topic, e);
+        }
+    }
+
+    /**
+     * Reusable per-thread encoding state.
+     */
+    private static final class EncoderState {
+        /**
+         * Output buffer, reset before each record.
+         */
+        private final ByteArrayOutputStream buffer = new ByteArrayOutputStream(1024);
+
+        /**
+         * Binary encoder bound to the buffer, reused across records.
+         */
+        private BinaryEncoder encoder;
+    }
+}
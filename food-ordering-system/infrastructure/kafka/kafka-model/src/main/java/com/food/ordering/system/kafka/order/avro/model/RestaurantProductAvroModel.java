@@ -0,0 +1,741 @@
+/**
+ * Autogenerated by Avro
+ *
+ * DO NOT EDIT DIRECTLY
+ */
+package com.food.ordering.system.kafka.order.avro.model;
+
+import org.apache.avro.specific.SpecificData;
+import org.apache.avro.util.Utf8;
+import org.apache.avro.message.BinaryMessageEncoder;
+import org.apache.avro.message.BinaryMessageDecoder;
+import org.apache.avro.message.SchemaStore;
+
+@org.apache.avro.specific.AvroGenerated
+public class RestaurantProductAvroModel extends org.apache.avro.specific.SpecificRecordBase implements org.apache.avro.specific.SpecificRecord {
+  private static final long serialVersionUID = -1035871841211924781L;
+
+
+  public static final org.apache.avro.Schema SCHEMA$ = new org.apache.avro.Schema.Parser().parse("{\"type\":\"record\",\"name\":\"RestaurantProductAvroModel\",\"namespace\":\"com.food.ordering.system.kafka.order.avro.model\",\"fields\":[{\"name\":\"restaurantId\",\"type\":{\"type\":\"string\",\"logicalType\":\"uuid\"}},{\"name\":\"productId\",\"type\":{\"type\":\"string\",\"logicalType\":\"uuid\"}},{\"name\":\"restaurantName\",\"type\":{\"type\":\"string\",\"avro.java.string\":\"String\"}},{\"name\":\"restaurantActive\",\"type\":\"boolean\"},{\"name\":\"productName\",\"type\":{\"type\":\"string\",\"avro.java.string\":\"String\"}},{\"name\":\"productPrice\",\"type\":{\"type\":\"bytes\",\"logicalType\":\"decimal\",\"precision\":10,\"scale\":2}},{\"name\":\"changedAt\",\"type\":{\"type\":\"long\",\"logicalType\":\"timestamp-millis\"}}]}");
+  public static org.apache.avro.Schema getClassSchema() { return SCHEMA$; }
+
+  private static final SpecificData MODEL$ = new SpecificData();
+  static {
+    MODEL$.addLogicalTypeConversion(new org.apache.avro.Conversions.UUIDConversion());
+    MODEL$.addLogicalTypeConversion(new org.apache.avro.data.TimeConversions.TimestampMillisConversion());
+    MODEL$.addLogicalTypeConversion(new org.apache.avro.Conversions.DecimalConversion());
+  }
+
+  private static final BinaryMessageEncoder<RestaurantProductAvroModel> ENCODER =
+      new BinaryMessageEncoder<>(MODEL$, SCHEMA$);
+
+  private static final BinaryMessageDecoder<RestaurantProductAvroModel> DECODER =
+      new BinaryMessageDecoder<>(MODEL$, SCHEMA$);
+
+  /**
+   * Return the BinaryMessageEncoder instance used by this class.
+   * @return the message encoder used by this class
+   */
+  public static BinaryMessageEncoder<RestaurantProductAvroModel> getEncoder() {
+    return ENCODER;
+  }
+
+  /**
+   * Return the BinaryMessageDecoder instance used by this class.
+   * @return the message decoder used by this class
+   */
+  public static BinaryMessageDecoder<RestaurantProductAvroModel> getDecoder() {
+    return DECODER;
+  }
+
+  /**
+   * Create a new BinaryMessageDecoder instance for this class that uses the specified {@link SchemaStore}.
+   * @param resolver a {@link SchemaStore} used to find schemas by fingerprint
+   * @return a BinaryMessageDecoder instance for this class backed by the given SchemaStore
+   */
+  public static BinaryMessageDecoder<RestaurantProductAvroModel> createDecoder(SchemaStore resolver) {
+    return new BinaryMessageDecoder<>(MODEL$, SCHEMA$, resolver);
+  }
+
+  /**
+   * Serializes this RestaurantProductAvroModel to a ByteBuffer.
+   * @return a buffer holding the serialized data for this instance
+   * @throws java.io.IOException if this instance could not be serialized
+   */
+  public java.nio.ByteBuffer toByteBuffer() throws java.io.IOException {
+    return ENCODER.encode(this);
+  }
+
+  /**
+   * Deserializes a RestaurantProductAvroModel from a ByteBuffer.
+   * @param b a byte buffer holding serialized data for an instance of this class
+   * @return a RestaurantProductAvroModel instance decoded from the given buffer
+   * @throws java.io.IOException if the given bytes could not be deserialized into an instance of this class
+   */
+  public static RestaurantProductAvroModel fromByteBuffer(
+      java.nio.ByteBuffer b) throws java.io.IOException {
+    return DECODER.decode(b);
+  }
+
+  private java.util.UUID restaurantId;
+  private java.util.UUID productId;
+  private java.lang.String restaurantName;
+  private boolean restaurantActive;
+  private java.lang.String productName;
+  private java.math.BigDecimal productPrice;
+  private java.time.Instant changedAt;
+
+  /**
+   * Default constructor.  Note that this does not initialize fields
+   * to their default values from the schema.  If that is desired then
+   * one should use <code>newBuilder()</code>.
+   */
+  public RestaurantProductAvroModel() {}
+
+  /**
+   * All-args constructor.
+   * @param restaurantId The new value for restaurantId
+   * @param productId The new value for productId
+   * @param restaurantName The new value for restaurantName
+   * @param restaurantActive The new value for restaurantActive
+   * @param productName The new value for productName
+   * @param productPrice The new value for productPrice
+   * @param changedAt The new value for changedAt
+   */
+  public RestaurantProductAvroModel(java.util.UUID restaurantId, java.util.UUID productId, java.lang.String restaurantName, java.lang.Boolean restaurantActive, java.lang.String productName, java.math.BigDecimal productPrice, java.time.Instant changedAt) {
+    this.restaurantId = restaurantId;
+    this.productId = productId;
+    this.restaurantName = restaurantName;
+    this.restaurantActive = restaurantActive;
+    this.productName = productName;
+    this.productPrice = productPrice;
+    this.changedAt = changedAt.truncatedTo(java.time.temporal.ChronoUnit.MILLIS);
+  }
+
+  @Override
+  public org.apache.avro.specific.SpecificData getSpecificData() { return MODEL$; }
+
+  @Override
+  public org.apache.avro.Schema getSchema() { return SCHEMA$; }
+
+  // Used by DatumWriter.  Applications should not call.
+  @Override
+  public java.lang.Object get(int field$) {
+    switch (field$) {
+    case 0: return restaurantId;
+    case 1: return productId;
+    case 2: return restaurantName;
+    case 3: return restaurantActive;
+    case 4: return productName;
+    case 5: return productPrice;
+    case 6: return changedAt;
+    default: throw new IndexOutOfBoundsException("Invalid index: " + field$);
+    }
+  }
+
+  private static final org.apache.avro.Conversion<?>[] conversions =
+      new org.apache.avro.Conversion<?>[] {
+      new org.apache.avro.Conversions.UUIDConversion(),
+      new org.apache.avro.Conversions.UUIDConversion(),
+      null,
+      null,
+      null,
+      new org.apache.avro.Conversions.DecimalConversion(),
+      new org.apache.avro.data.TimeConversions.TimestampMillisConversion(),
+      null
+  };
+
+  @Override
+  public org.apache.avro.Conversion<?> getConversion(int field) {
+    return conversions[field];
+  }
+
+  // Used by DatumReader.  Applications should not call.
+  @Override
+  @SuppressWarnings(value="unchecked")
+  public void put(int field$, java.lang.Object value$) {
+    switch (field$) {
+    case 0: restaurantId = (java.util.UUID)value$; break;
+    case 1: productId = (java.util.UUID)value$; break;
+    case 2: restaurantName = value$ != null ? value$.toString() : null; break;
+    case 3: restaurantActive = (java.lang.Boolean)value$; break;
+    case 4: productName = value$ != null ? value$.toString() : null; break;
+    case 5: productPrice = (java.math.BigDecimal)value$; break;
+    case 6: changedAt = (java.time.Instant)value$; break;
+    default: throw new IndexOutOfBoundsException("Invalid index: " + field$);
+    }
+  }
+
+  /**
+   * Gets the value of the 'restaurantId' field.
+   * @return The value of the 'restaurantId' field.
+   */
+  public java.util.UUID getRestaurantId() {
+    return restaurantId;
+  }
+
+
+  /**
+   * Sets the value of the 'restaurantId' field.
+   * @param value the value to set.
+   */
+  public void setRestaurantId(java.util.UUID value) {
+    this.restaurantId = value;
+  }
+
+  /**
+   * Gets the value of the 'productId' field.
+   * @return The value of the 'productId' field.
+   */
+  public java.util.UUID getProductId() {
+    return productId;
+  }
+
+
+  /**
+   * Sets the value of the 'productId' field.
+   * @param value the value to set.
+   */
+  public void setProductId(java.util.UUID value) {
+    this.productId = value;
+  }
+
+  /**
+   * Gets the value of the 'restaurantName' field.
+   * @return The value of the 'restaurantName' field.
+   */
+  public java.lang.String getRestaurantName() {
+    return restaurantName;
+  }
+
+
+  /**
+   * Sets the value of the 'restaurantName' field.
+   * @param value the value to set.
+   */
+  public void setRestaurantName(java.lang.String value) {
+    this.restaurantName = value;
+  }
+
+  /**
+   * Gets the value of the 'restaurantActive' field.
+   * @return The value of the 'restaurantActive' field.
+   */
+  public boolean getRestaurantActive() {
+    return restaurantActive;
+  }
+
+
+  /**
+   * Sets the value of the 'restaurantActive' field.
+   * @param value the value to set.
+   */
+  public void setRestaurantActive(boolean value) {
+    this.restaurantActive = value;
+  }
+
+  /**
+   * Gets the value of the 'productName' field.
+   * @return The value of the 'productName' field.
+   */
+  public java.lang.String getProductName() {
+    return productName;
+  }
+
+
+  /**
+   * Sets the value of the 'productName' field.
+   * @param value the value to set.
+   */
+  public void setProductName(java.lang.String value) {
+    this.productName = value;
+  }
+
+  /**
+   * Gets the value of the 'productPrice' field.
+   * @return The value of the 'productPrice' field.
+   */
+  public java.math.BigDecimal getProductPrice() {
+    return productPrice;
+  }
+
+
+  /**
+   * Sets the value of the 'productPrice' field.
+   * @param value the value to set.
+   */
+  public void setProductPrice(java.math.BigDecimal value) {
+    this.productPrice = value;
+  }
+
+  /**
+   * Gets the value of the 'changedAt' field.
+   * @return The value of the 'changedAt' field.
+   */
+  public java.time.Instant getChangedAt() {
+    return changedAt;
+  }
+
+
+  /**
+   * Sets the value of the 'changedAt' field.
+   * @param value the value to set.
+   */
+  public void setChangedAt(java.time.Instant value) {
+    this.changedAt = value.truncatedTo(java.time.temporal.ChronoUnit.MILLIS);
+  }
+
+  /**
+   * Creates a new RestaurantProductAvroModel RecordBuilder.
+   * @return A new RestaurantProductAvroModel RecordBuilder
+   */
+  public static com.food.ordering.system.kafka.order.avro.model.RestaurantProductAvroModel.Builder newBuilder() {
+    return new com.food.ordering.system.kafka.order.avro.model.RestaurantProductAvroModel.Builder();
+  }
+
+  /**
+   * Creates a new RestaurantProductAvroModel RecordBuilder by copying an existing Builder.
+   * @param other The existing builder to copy.
+   * @return A new RestaurantProductAvroModel RecordBuilder
+   */
+  public static com.food.ordering.system.kafka.order.avro.model.RestaurantProductAvroModel.Builder newBuilder(com.food.ordering.system.kafka.order.avro.model.RestaurantProductAvroModel.Builder other) {
+    if (other == null) {
+      return new com.food.ordering.system.kafka.order.avro.model.RestaurantProductAvroModel.Builder();
+    } else {
+      return new com.food.ordering.system.kafka.order.avro.model.RestaurantProductAvroModel.Builder(other);
+    }
+  }
+
+  /**
+   * Creates a new RestaurantProductAvroModel RecordBuilder by copying an existing RestaurantProductAvroModel instance.
+   * @param other The existing instance to copy.
+   * @return A new RestaurantProductAvroModel RecordBuilder
+   */
+  public static com.food.ordering.system.kafka.order.avro.model.RestaurantProductAvroModel.Builder newBuilder(com.food.ordering.system.kafka.order.avro.model.RestaurantProductAvroModel other) {
+    if (other == null) {
+      return new com.food.ordering.system.kafka.order.avro.model.RestaurantProductAvroModel.Builder();
+    } else {
+      return new com.food.ordering.system.kafka.order.avro.model.RestaurantProductAvroModel.Builder(other);
+    }
+  }
+
+  /**
+   * RecordBuilder for RestaurantProductAvroModel instances.
+   */
+  @org.apache.avro.specific.AvroGenerated
+  public static class Builder extends org.apache.avro.specific.SpecificRecordBuilderBase<RestaurantProductAvroModel>
+    implements org.apache.avro.data.RecordBuilder<RestaurantProductAvroModel> {
+
+    private java.util.UUID restaurantId;
+    private java.util.UUID productId;
+    private java.lang.String restaurantName;
+    private boolean restaurantActive;
+    private java.lang.String productName;
+    private java.math.BigDecimal productPrice;
+    private java.time.Instant changedAt;
+
+    /** Creates a new Builder */
+    private Builder() {
+      super(SCHEMA$, MODEL$);
+    }
+
+    /**
+     * Creates a Builder by copying an existing Builder.
+     * @param other The existing Builder to copy.
+     */
+    private Builder(com.food.ordering.system.kafka.order.avro.model.RestaurantProductAvroModel.Builder other) {
+      super(other);
+      if (isValidValue(fields()[0], other.restaurantId)) {
+        this.restaurantId = data().deepCopy(fields()[0].schema(), other.restaurantId);
+        fieldSetFlags()[0] = other.fieldSetFlags()[0];
+      }
+      if (isValidValue(fields()[1], other.productId)) {
+        this.productId = data().deepCopy(fields()[1].schema(), other.productId);
+        fieldSetFlags()[1] = other.fieldSetFlags()[1];
+      }
+      if (isValidValue(fields()[2], other.restaurantName)) {
+        this.restaurantName = data().deepCopy(fields()[2].schema(), other.restaurantName);
+        fieldSetFlags()[2] = other.fieldSetFlags()[2];
+      }
+      if (isValidValue(fields()[3], other.restaurantActive)) {
+        this.restaurantActive = data().deepCopy(fields()[3].schema(), other.restaurantActive);
+        fieldSetFlags()[3] = other.fieldSetFlags()[3];
+      }
+      if (isValidValue(fields()[4], other.productName)) {
+        this.productName = data().deepCopy(fields()[4].schema(), other.productName);
+        fieldSetFlags()[4] = other.fieldSetFlags()[4];
+      }
+      if (isValidValue(fields()[5], other.productPrice)) {
+        this.productPrice = data().deepCopy(fields()[5].schema(), other.productPrice);
+        fieldSetFlags()[5] = other.fieldSetFlags()[5];
+      }
+      if (isValidValue(fields()[6], other.changedAt)) {
+        this.changedAt = data().deepCopy(fields()[6].schema(), other.changedAt);
+        fieldSetFlags()[6] = other.fieldSetFlags()[6];
+      }
+    }
+
+    /**
+     * Creates a Builder by copying an existing RestaurantProductAvroModel instance
+     * @param other The existing instance to copy.
+     */
+    private Builder(com.food.ordering.system.kafka.order.avro.model.RestaurantProductAvroModel other) {
+      super(SCHEMA$, MODEL$);
+      if (isValidValue(fields()[0], other.restaurantId)) {
+        this.restaurantId = data().deepCopy(fields()[0].schema(), other.restaurantId);
+        fieldSetFlags()[0] = true;
+      }
+      if (isValidValue(fields()[1], other.productId)) {
+        this.productId = data().deepCopy(fields()[1].schema(), other.productId);
+        fieldSetFlags()[1] = true;
+      }
+      if (isValidValue(fields()[2], other.restaurantName)) {
+        this.restaurantName = data().deepCopy(fields()[2].schema(), other.restaurantName);
+        fieldSetFlags()[2] = true;
+      }
+      if (isValidValue(fields()[3], other.restaurantActive)) {
+        this.restaurantActive = data().deepCopy(fields()[3].schema(), other.restaurantActive);
+        fieldSetFlags()[3] = true;
+      }
+      if (isValidValue(fields()[4], other.productName)) {
+        this.productName = data().deepCopy(fields()[4].schema(), other.productName);
+        fieldSetFlags()[4] = true;
+      }
+      if (isValidValue(fields()[5], other.productPrice)) {
+        this.productPrice = data().deepCopy(fields()[5].schema(), other.productPrice);
+        fieldSetFlags()[5] = true;
+      }
+      if (isValidValue(fields()[6], other.changedAt)) {
+        this.changedAt = data().deepCopy(fields()[6].schema(), other.changedAt);
+        fieldSetFlags()[6] = true;
+      }
+    }
+
+    /**
+      * Gets the value of the 'restaurantId' field.
+      * @return The value.
+      */
+    public java.util.UUID getRestaurantId() {
+      return restaurantId;
+    }
+
+
+    /**
+      * Sets the value of the 'restaurantId' field.
+      * @param value The value of 'restaurantId'.
+      * @return This builder.
+      */
+    public com.food.ordering.system.kafka.order.avro.model.RestaurantProductAvroModel.Builder setRestaurantId(java.util.UUID value) {
+      validate(fields()[0], value);
+      this.restaurantId = value;
+      fieldSetFlags()[0] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'restaurantId' field has been set.
+      * @return True if the 'restaurantId' field has been set, false otherwise.
+      */
+    public boolean hasRestaurantId() {
+      return fieldSetFlags()[0];
+    }
+
+
+    /**
+      * Clears the value of the 'restaurantId' field.
+      * @return This builder.
+      */
+    public com.food.ordering.system.kafka.order.avro.model.RestaurantProductAvroModel.Builder clearRestaurantId() {
+      restaurantId = null;
+      fieldSetFlags()[0] = false;
+      return this;
+    }
+
+    /**
+      * Gets the value of the 'productId' field.
+      * @return The value.
+      */
+    public java.util.UUID getProductId() {
+      return productId;
+    }
+
+
+    /**
+      * Sets the value of the 'productId' field.
+      * @param value The value of 'productId'.
+      * @return This builder.
+      */
+    public com.food.ordering.system.kafka.order.avro.model.RestaurantProductAvroModel.Builder setProductId(java.util.UUID value) {
+      validate(fields()[1], value);
+      this.productId = value;
+      fieldSetFlags()[1] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'productId' field has been set.
+      * @return True if the 'productId' field has been set, false otherwise.
+      */
+    public boolean hasProductId() {
+      return fieldSetFlags()[1];
+    }
+
+
+    /**
+      * Clears the value of the 'productId' field.
+      * @return This builder.
+      */
+    public com.food.ordering.system.kafka.order.avro.model.RestaurantProductAvroModel.Builder clearProductId() {
+      productId = null;
+      fieldSetFlags()[1] = false;
+      return this;
+    }
+
+    /**
+      * Gets the value of the 'restaurantName' field.
+      * @return The value.
+      */
+    public java.lang.String getRestaurantName() {
+      return restaurantName;
+    }
+
+
+    /**
+      * Sets the value of the 'restaurantName' field.
+      * @param value The value of 'restaurantName'.
+      * @return This builder.
+      */
+    public com.food.ordering.system.kafka.order.avro.model.RestaurantProductAvroModel.Builder setRestaurantName(java.lang.String value) {
+      validate(fields()[2], value);
+      this.restaurantName = value;
+      fieldSetFlags()[2] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'restaurantName' field has been set.
+      * @return True if the 'restaurantName' field has been set, false otherwise.
+      */
+    public boolean hasRestaurantName() {
+      return fieldSetFlags()[2];
+    }
+
+
+    /**
+      * Clears the value of the 'restaurantName' field.
+      * @return This builder.
+      */
+    public com.food.ordering.system.kafka.order.avro.model.RestaurantProductAvroModel.Builder clearRestaurantName() {
+      restaurantName = null;
+      fieldSetFlags()[2] = false;
+      return this;
+    }
+
+    /**
+      * Gets the value of the 'restaurantActive' field.
+      * @return The value.
+      */
+    public boolean getRestaurantActive() {
+      return restaurantActive;
+    }
+
+
+    /**
+      * Sets the value of the 'restaurantActive' field.
+      * @param value The value of 'restaurantActive'.
+      * @return This builder.
+      */
+    public com.food.ordering.system.kafka.order.avro.model.RestaurantProductAvroModel.Builder setRestaurantActive(boolean value) {
+      validate(fields()[3], value);
+      this.restaurantActive = value;
+      fieldSetFlags()[3] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'restaurantActive' field has been set.
+      * @return True if the 'restaurantActive' field has been set, false otherwise.
+      */
+    public boolean hasRestaurantActive() {
+      return fieldSetFlags()[3];
+    }
+
+
+    /**
+      * Clears the value of the 'restaurantActive' field.
+      * @return This builder.
+      */
+    public com.food.ordering.system.kafka.order.avro.model.RestaurantProductAvroModel.Builder clearRestaurantActive() {
+      fieldSetFlags()[3] = false;
+      return this;
+    }
+
+    /**
+      * Gets the value of the 'productName' field.
+      * @return The value.
+      */
+    public java.lang.String getProductName() {
+      return productName;
+    }
+
+
+    /**
+      * Sets the value of the 'productName' field.
+      * @param value The value of 'productName'.
+      * @return This builder.
+      */
+    public com.food.ordering.system.kafka.order.avro.model.RestaurantProductAvroModel.Builder setProductName(java.lang.String value) {
+      validate(fields()[4], value);
+      this.productName = value;
+      fieldSetFlags()[4] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'productName' field has been set.
+      * @return True if the 'productName' field has been set, false otherwise.
+      */
+    public boolean hasProductName() {
+      return fieldSetFlags()[4];
+    }
+
+
+    /**
+      * Clears the value of the 'productName' field.
+      * @return This builder.
+      */
+    public com.food.ordering.system.kafka.order.avro.model.RestaurantProductAvroModel.Builder clearProductName() {
+      productName = null;
+      fieldSetFlags()[4] = false;
+      return this;
+    }
+
+    /**
+      * Gets the value of the 'productPrice' field.
+      * @return The value.
+      */
+    public java.math.BigDecimal getProductPrice() {
+      return productPrice;
+    }
+
+
+    /**
+      * Sets the value of the 'productPrice' field.
+      * @param value The value of 'productPrice'.
+      * @return This builder.
+      */
+    public com.food.ordering.system.kafka.order.avro.model.RestaurantProductAvroModel.Builder setProductPrice(java.math.BigDecimal value) {
+      validate(fields()[5], value);
+      this.productPrice = value;
+      fieldSetFlags()[5] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'productPrice' field has been set.
+      * @return True if the 'productPrice' field has been set, false otherwise.
+      */
+    public boolean hasProductPrice() {
+      return fieldSetFlags()[5];
+    }
+
+
+    /**
+      * Clears the value of the 'productPrice' field.
+      * @return This builder.
+      */
+    public com.food.ordering.system.kafka.order.avro.model.RestaurantProductAvroModel.Builder clearProductPrice() {
+      productPrice = null;
+      fieldSetFlags()[5] = false;
+      return this;
+    }
+
+    /**
+      * Gets the value of the 'changedAt' field.
+      * @return The value.
+      */
+    public java.time.Instant getChangedAt() {
+      return changedAt;
+    }
+
+
+    /**
+      * Sets the value of the 'changedAt' field.
+      * @param value The value of 'changedAt'.
+      * @return This builder.
+      */
+    public com.food.ordering.system.kafka.order.avro.model.RestaurantProductAvroModel.Builder setChangedAt(java.time.Instant value) {
+      validate(fields()[6], value);
+      this.changedAt = value.truncatedTo(java.time.temporal.ChronoUnit.MILLIS);
+      fieldSetFlags()[6] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'changedAt' field has been set.
+      * @return True if the 'changedAt' field has been set, false otherwise.
+      */
+    public boolean hasChangedAt() {
+      return fieldSetFlags()[6];
+    }
+
+
+    /**
+      * Clears the value of the 'changedAt' field.
+      * @return This builder.
+      */
+    public com.food.ordering.system.kafka.order.avro.model.RestaurantProductAvroModel.Builder clearChangedAt() {
+      fieldSetFlags()[6] = false;
+      return this;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public RestaurantProductAvroModel build() {
+      try {
+        RestaurantProductAvroModel record = new RestaurantProductAvroModel();
+        record.restaurantId = fieldSetFlags()[0] ? this.restaurantId : (java.util.UUID) defaultValue(fields()[0]);
+        record.productId = fieldSetFlags()[1] ? this.productId : (java.util.UUID) defaultValue(fields()[1]);
+        record.restaurantName = fieldSetFlags()[2] ? this.restaurantName : (java.lang.String) defaultValue(fields()[2]);
+        record.restaurantActive = fieldSetFlags()[3] ? this.restaurantActive : (java.lang.Boolean) defaultValue(fields()[3]);
+        record.productName = fieldSetFlags()[4] ? this.productName : (java.lang.String) defaultValue(fields()[4]);
+        record.productPrice = fieldSetFlags()[5] ? this.productPrice : (java.math.BigDecimal) defaultValue(fields()[5]);
+        record.changedAt = fieldSetFlags()[6] ? this.changedAt : (java.time.Instant) defaultValue(fields()[6]);
+        return record;
+      } catch (org.apache.avro.AvroMissingFieldException e) {
+        throw e;
+      } catch (java.lang.Exception e) {
+        throw new org.apache.avro.AvroRuntimeException(e);
+      }
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static final org.apache.avro.io.DatumWriter<RestaurantProductAvroModel>
+    WRITER$ = (org.apache.avro.io.DatumWriter<RestaurantProductAvroModel>)MODEL$.createDatumWriter(SCHEMA$);
+
+  @Override public void writeExternal(java.io.ObjectOutput out)
+    throws java.io.IOException {
+    WRITER$.write(this, SpecificData.getEncoder(out));
+  }
+
+  @SuppressWarnings("unchecked")
+  private static final org.apache.avro.io.DatumReader<RestaurantProductAvroModel>
+    READER$ = (org.apache.avro.io.DatumReader<RestaurantProductAvroModel>)MODEL$.createDatumReader(SCHEMA$);
+
+  @Override public void readExternal(java.io.ObjectInput in)
+    throws java.io.IOException {
+    READER$.read(this, SpecificData.getDecoder(in));
+  }
+
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,39 @@
+package com.food.ordering.system.kafka.model.serde;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link AvroSerdeConfig}: the serde mode is accepted in its documented
+ * dashed form as well as by enum name.
+ */
+public class AvroSerdeConfigTest {
+    @Test
+    void modeDefaultsToRegistry() {
+        assertEquals(AvroSerdeMode.REGISTRY, new AvroSerdeConfig(Map.of()).getMode());
+    }
+
+    @Test
+    void dashedModesAreAccepted() {
+        assertEquals(AvroSerdeMode.REGISTRY_FREE,
+                new AvroSerdeConfig(Map.of(AvroSerdeConfig.SERDE_MODE, "registry-free")).getMode());
+        assertEquals(AvroSerdeMode.REGISTRY,
+                new AvroSerdeConfig(Map.of(AvroSerdeConfig.SERDE_MODE, " registry ")).getMode());
+    }
+
+    @Test
+    void enumNamesAreAccepted() {
+        assertEquals(AvroSerdeMode.REGISTRY_FREE,
+                new AvroSerdeConfig(Map.of(AvroSerdeConfig.SERDE_MODE, "REGISTRY_FREE")).getMode());
+    }
+
+    @Test
+    void registryTimeoutIsParsed() {
+        assertEquals(Duration.ofMillis(250),
+                new AvroSerdeConfig(Map.of(AvroSerdeConfig.REGISTRY_TIMEOUT_MS, "250")).getRegistryTimeout());
+    }
+}
@@ -0,0 +1,111 @@
+package com.food.ordering.system.kafka.model.serde;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Properties;
+import java.util.UUID;
+
+import org.apache.kafka.common.errors.SerializationException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.food.ordering.system.kafka.order.avro.model.PaymentOrderStatus;
+import com.food.ordering.system.kafka.order.avro.model.PaymentRequestAvroModel;
+
+/**
+ * Round-trip tests for {@link SpecificAvroSerializer} and
+ * {@link SpecificAvroDeserializer} in both serde modes. The registry mode runs
+ * against a pre-populated schema id cache file, without a schema registry.
+ */
+public class SpecificAvroSerdeTest {
+    private static final String TOPIC = "payment-request";
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void registryFreeRecordSurvivesRoundTrip() {
+        Map<String, Object> configs = Map.of(AvroSerdeConfig.SERDE_MODE, "registry-free");
+
+        byte[] data = serialize(configs, paymentRequest());
+
+        assertTrue(AvroWireFormat.isSingleObjectFormat(data));
+        assertEquals(paymentRequest(), deserialize(configs, data));
+    }
+
+    @Test
+    void registryRecordSurvivesRoundTripFromCachedIds() throws IOException {
+        AvroSchemaCatalog.Entry entry = AvroSchemaCatalog.forClass(PaymentRequestAvroModel.class);
+        Properties properties = new Properties();
+        properties.setProperty("id." + TOPIC + "-value:" + Long.toHexString(entry.getFingerprint()), "7");
+        properties.setProperty("schema.7", entry.getSchema().toString());
+        Path cacheFile = tempDir.resolve("schema-ids.properties");
+        try (OutputStream out = Files.newOutputStream(cacheFile)) {
+            properties.store(out, null);
+        }
+        Map<String, Object> configs = Map.of(AvroSerdeConfig.SERDE_MODE, "registry",
+                AvroSerdeConfig.SCHEMA_ID_CACHE_PATH, cacheFile.toString());
+
+        byte[] data = serialize(configs, paymentRequest());
+
+        assertTrue(AvroWireFormat.isRegistryFormat(data));
+        assertEquals(7, AvroWireFormat.readSchemaId(data));
+        assertEquals(paymentRequest(), deserialize(configs, data));
+    }
+
+    @Test
+    void deserializerReadsBothFormats() {
+        Map<String, Object> registryFreeConfigs = Map.of(AvroSerdeConfig.SERDE_MODE, "registry-free");
+        byte[] data = serialize(registryFreeConfigs, paymentRequest());
+
+        assertEquals(paymentRequest(), deserialize(Map.of(), data));
+        assertArrayEquals(data, serialize(registryFreeConfigs, deserialize(Map.of(), data)));
+    }
+
+    @Test
+    void corruptCacheFileIsIgnored() throws IOException {
+        Path cacheFile = tempDir.resolve("corrupt-schema-ids.properties");
+        Files.writeString(cacheFile, "id.topic-value\\:abc=not-a-number\nschema.1={not a schema\n");
+        Map<String, Object> configs = Map.of(AvroSerdeConfig.SCHEMA_ID_CACHE_PATH, cacheFile.toString());
+
+        SchemaIdCache schemaIdCache = SchemaIdCache.getInstance(new AvroSerdeConfig(configs));
+
+        assertThrows(SerializationException.class, () -> schemaIdCache.schemaFor(1));
+    }
+
+    private static byte[] serialize(Map<String, Object> configs, PaymentRequestAvroModel paymentRequest) {
+        try (SpecificAvroSerializer<PaymentRequestAvroModel> serializer = new SpecificAvroSerializer<>()) {
+            serializer.configure(configs, false);
+            return serializer.serialize(TOPIC, paymentRequest);
+        }
+    }
+
+    private static PaymentRequestAvroModel deserialize(Map<String, Object> configs, byte[] data) {
+        try (SpecificAvroDeserializer<PaymentRequestAvroModel> deserializer = new SpecificAvroDeserializer<>()) {
+            deserializer.configure(configs, false);
+            return deserializer.deserialize(TOPIC, data);
+        }
+    }
+
+    private static PaymentRequestAvroModel paymentRequest() {
+        return PaymentRequestAvroModel.newBuilder()
+                .setId(new UUID(1, 1))
+                .setSagaId(new UUID(1, 2))
+                .setCustomerId(new UUID(1, 3))
+                .setOrderId(new UUID(1, 4))
+                .setPrice(new BigDecimal("125.50"))
+                .setCreatedAt(Instant.parse("2024-01-01T12:00:00Z"))
+                .setPaymentOrderStatus(PaymentOrderStatus.PENDING)
+                .build();
+    }
+}
@@ -6,6 +6,7 @@ import java.util.Map;
 
 import org.apache.avro.specific.SpecificRecordBase;
 import org.apache.kafka.clients.producer.ProducerConfig;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.core.DefaultKafkaProducerFactory;
@@ -14,10 +15,16 @@ import org.springframework.kafka.core.ProducerFactory;
 
 import com.food.ordering.system.kafka.config.data.KafkaConfigData;
 import com.food.ordering.system.kafka.config.data.KafkaProducerConfigData;
+import com.food.ordering.system.kafka.producer.pool.KafkaProducerPoolRegistry;
+import com.food.ordering.system.kafka.producer.pool.KafkaProducerSaturationLimits;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
 
 /**
  * Configuration class for Kafka producer.
- * Provides beans for producer configuration, factory, and template.
+ * Provides beans for producer configuration, factory, template and the registry of
+ * per-topic producer pools.
  *
  * @param <K> the type of the key, must be Serializable
  * @param <V> the type of the value, must extend SpecificRecordBase
@@ -34,15 +41,23 @@ public class KafkaProducerConfig<K extends Serializable, V extends SpecificRecor
      */
     private final KafkaProducerConfigData kafkaProducerConfigData;
 
+    /**
+     * Registry receiving the producer metrics.
+     */
+    private final MeterRegistry meterRegistry;
+
     /**
      * Constructs a new KafkaProducerConfig with the given configuration data.
      *
      * @param kafkaConfigData         general Kafka configuration data
      * @param kafkaProducerConfigData producer-specific configuration data
+     * @param meterRegistryProvider   the provider of the registry receiving the producer metrics
      */
-    public KafkaProducerConfig(KafkaConfigData kafkaConfigData, KafkaProducerConfigData kafkaProducerConfigData) {
+    public KafkaProducerConfig(KafkaConfigData kafkaConfigData, KafkaProducerConfigData kafkaProducerConfigData,
+            ObjectProvider<MeterRegistry> meterRegistryProvider) {
         this.kafkaConfigData = kafkaConfigData;
         this.kafkaProducerConfigData = kafkaProducerConfigData;
+        this.meterRegistry = meterRegistryProvider.getIfAvailable(() -> Metrics.globalRegistry);
     }
 
     /**
@@ -55,6 +70,12 @@ public class KafkaProducerConfig<K extends Serializable, V extends SpecificRecor
         Map<String, Object> props = new HashMap<>();
         props.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, kafkaConfigData.getBootstrapServers());
         props.put(kafkaConfigData.getSchemaRegistryUrlKey(), kafkaConfigData.getSchemaRegistryUrl());
+        if (kafkaConfigData.getAvroSerdeModeKey() != null) {
+            props.put(kafkaConfigData.getAvroSerdeModeKey(), kafkaConfigData.getAvroSerdeMode());
+        }
+        if (kafkaConfigData.getSchemaIdCachePathKey() != null) {
+            props.put(kafkaConfigData.getSchemaIdCachePathKey(), kafkaConfigData.getSchemaIdCachePath());
+        }
         props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, kafkaProducerConfigData.getKeySerializerClass());
         props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, kafkaProducerConfigData.getValueSerializerClass());
         props.put(ProducerConfig.BATCH_SIZE_CONFIG, kafkaProducerConfigData.getBatchSize() *
@@ -64,6 +85,12 @@ public class KafkaProducerConfig<K extends Serializable, V extends SpecificRecor
         props.put(ProducerConfig.ACKS_CONFIG, kafkaProducerConfigData.getAcks());
         props.put(ProducerConfig.REQUEST_TIMEOUT_MS_CONFIG, kafkaProducerConfigData.getRequestTimeoutMs());
         props.put(ProducerConfig.RETRIES_CONFIG, kafkaProducerConfigData.getRetryCount());
+        if (kafkaProducerConfigData.getBufferMemory() != null) {
+            props.put(ProducerConfig.BUFFER_MEMORY_CONFIG, kafkaProducerConfigData.getBufferMemory());
+        }
+        if (kafkaProducerConfigData.getMaxBlockMs() != null) {
+            props.put(ProducerConfig.MAX_BLOCK_MS_CONFIG, kafkaProducerConfigData.getMaxBlockMs());
+        }
         return props;
     }
 
@@ -86,4 +113,20 @@ public class KafkaProducerConfig<K extends Serializable, V extends SpecificRecor
     public KafkaTemplate<K, V> kafkaTemplate() {
         return new KafkaTemplate<>(producerFactory());
     }
+
+    /**
+     * Creates the registry of producer pools, with a dedicated pool for every topic
+     * configured under {@code kafka-producer-config.topic-pools}. The pools are closed
+     * by {@link com.food.ordering.system.kafka.producer.service.impl.KafkaProducer}.
+     *
+     * @return a KafkaProducerPoolRegistry instance
+     */
+    @Bean(destroyMethod = "")
+    public KafkaProducerPoolRegistry<K, V> kafkaProducerPoolRegistry() {
+        return new KafkaProducerPoolRegistry<>(producerConfig(), kafkaTemplate(),
+                kafkaProducerConfigData.getTopicPools(),
+                new KafkaProducerSaturationLimits(kafkaProducerConfigData.getMaxInFlightSends(),
+                        kafkaProducerConfigData.getMinBufferAvailableRatio()),
+                meterRegistry);
+    }
 }
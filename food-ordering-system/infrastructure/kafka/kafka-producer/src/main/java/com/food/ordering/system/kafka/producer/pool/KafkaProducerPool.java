@@ -0,0 +1,268 @@
+package com.food.ordering.system.kafka.producer.pool;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.kafka.clients.producer.BufferExhaustedException;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.Metric;
+import org.apache.kafka.common.MetricName;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.kafka.support.SendResult;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.Getter;
+
+/**
+ * A Kafka producer with its own buffer memory, batching settings and metrics.
+ * <p>
+ * Each pool wraps a dedicated {@link KafkaTemplate}, so a slow partition leader on one
+ * topic only fills the buffer of the pool serving that topic. The pool records the
+ * acknowledgement latency of every send in the {@code kafka.producer.pool.send} timer
+ * and counts sends rejected because the buffer was full in
+ * {@code kafka.producer.pool.buffer.exhausted}.
+ * </p>
+ * <p>
+ * The pool also tracks the sends waiting for an acknowledgement and the free buffer
+ * memory of its producer, exposed as the {@code kafka.producer.pool.in.flight} and
+ * {@code kafka.producer.pool.buffer.available} gauges. Callers use
+ * {@link #isSaturated()} to reject work up front instead of blocking in {@code send}
+ * until {@code max.block.ms} expires.
+ * </p>
+ *
+ * @param <K> the type of the key
+ * @param <V> the type of the value
+ */
+public class KafkaProducerPool<K, V> {
+    /**
+     * Name of the producer metric holding the unused buffer memory.
+     */
+    private static final String BUFFER_AVAILABLE_BYTES_METRIC = "buffer-available-bytes";
+
+    /**
+     * Name of the producer metric holding the total buffer memory.
+     */
+    private static final String BUFFER_TOTAL_BYTES_METRIC = "buffer-total-bytes";
+
+    /**
+     * Group of the producer-wide metrics.
+     */
+    private static final String PRODUCER_METRICS_GROUP = "producer-metrics";
+
+    /**
+     * The name of the pool, used as the {@code pool} metric tag.
+     */
+    @Getter
+    private final String name;
+
+    /**
+     * Template sending the records of the pool.
+     */
+    @Getter
+    private final KafkaTemplate<K, V> kafkaTemplate;
+
+    /**
+     * Limits above which the pool reports itself as saturated.
+     */
+    private final KafkaProducerSaturationLimits saturationLimits;
+
+    /**
+     * Latency of acknowledged sends.
+     */
+    private final Timer successTimer;
+
+    /**
+     * Latency of failed sends.
+     */
+    private final Timer failureTimer;
+
+    /**
+     * Sends rejected because the buffer memory of the pool was exhausted.
+     */
+    private final Counter bufferExhaustedCounter;
+
+    /**
+     * Sends handed to the producer and not yet acknowledged.
+     */
+    private final AtomicInteger inFlightSends = new AtomicInteger();
+
+    /**
+     * Buffer metrics of the current producer, absent until the producer is created.
+     */
+    private volatile BufferMetrics bufferMetrics;
+
+    /**
+     * Constructs a new KafkaProducerPool.
+     *
+     * @param name             the name of the pool
+     * @param kafkaTemplate    the template sending the records of the pool
+     * @param saturationLimits the limits above which the pool is saturated
+     * @param meterRegistry    the registry receiving the metrics of the pool
+     */
+    public KafkaProducerPool(String name, KafkaTemplate<K, V> kafkaTemplate,
+            KafkaProducerSaturationLimits saturationLimits, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.kafkaTemplate = kafkaTemplate;
+        this.saturationLimits = saturationLimits;
+        this.successTimer = Timer.builder("kafka.producer.pool.send").tag("pool", name).tag("outcome", "success")
+                .description("Time from send until acknowledgement").register(meterRegistry);
+        this.failureTimer = Timer.builder("kafka.producer.pool.send").tag("pool", name).tag("outcome", "failure")
+                .description("Time from send until acknowledgement").register(meterRegistry);
+        this.bufferExhaustedCounter = Counter.builder("kafka.producer.pool.buffer.exhausted").tag("pool", name)
+                .description("Sends rejected because the producer buffer was full").register(meterRegistry);
+        Gauge.builder("kafka.producer.pool.in.flight", inFlightSends, AtomicInteger::get).tag("pool", name)
+                .description("Sends waiting for an acknowledgement").register(meterRegistry);
+        Gauge.builder("kafka.producer.pool.buffer.available", this, KafkaProducerPool::getBufferAvailableRatio)
+                .tag("pool", name).description("Share of the producer buffer memory that is free")
+                .register(meterRegistry);
+        trackProducers(kafkaTemplate.getProducerFactory());
+    }
+
+    /**
+     * Sends a record through the template of the pool and records its latency.
+     *
+     * @param producerRecord the record to send
+     * @return a future completed with the send result
+     */
+    public CompletableFuture<SendResult<K, V>> send(ProducerRecord<K, V> producerRecord) {
+        long startNanos = System.nanoTime();
+        inFlightSends.incrementAndGet();
+        CompletableFuture<SendResult<K, V>> future;
+        try {
+            future = kafkaTemplate.send(producerRecord);
+        } catch (RuntimeException e) {
+            inFlightSends.decrementAndGet();
+            recordFailure(e, startNanos);
+            throw e;
+        }
+        return future.whenComplete((result, throwable) -> {
+            inFlightSends.decrementAndGet();
+            if (throwable == null) {
+                successTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+            } else {
+                recordFailure(throwable, startNanos);
+            }
+        });
+    }
+
+    /**
+     * Returns the number of sends waiting for an acknowledgement.
+     *
+     * @return the in-flight send count
+     */
+    public int getInFlightCount() {
+        return inFlightSends.get();
+    }
+
+    /**
+     * Returns the share of the producer buffer memory that is free.
+     *
+     * @return a ratio between 0 and 1, or 1 if the producer has not been created yet
+     */
+    public double getBufferAvailableRatio() {
+        BufferMetrics current = bufferMetrics;
+        if (current == null) {
+            return 1;
+        }
+        double total = current.value(current.totalBytes);
+        return total <= 0 ? 1 : Math.min(1, current.value(current.availableBytes) / total);
+    }
+
+    /**
+     * Tells whether a new send would likely block on the producer buffer or pile up
+     * behind too many unacknowledged sends.
+     *
+     * @return true if the pool exceeds one of its saturation limits
+     */
+    public boolean isSaturated() {
+        Integer maxInFlightSends = saturationLimits.getMaxInFlightSends();
+        if (maxInFlightSends != null && inFlightSends.get() >= maxInFlightSends) {
+            return true;
+        }
+        Double minBufferAvailableRatio = saturationLimits.getMinBufferAvailableRatio();
+        return minBufferAvailableRatio != null && getBufferAvailableRatio() < minBufferAvailableRatio;
+    }
+
+    /**
+     * Sends the buffered records of the pool immediately and blocks until they are
+     * acknowledged or failed.
+     */
+    public void flush() {
+        kafkaTemplate.flush();
+    }
+
+    /**
+     * Closes the producers of the pool.
+     */
+    public void close() {
+        kafkaTemplate.destroy();
+        kafkaTemplate.getProducerFactory().reset();
+    }
+
+    private void recordFailure(Throwable throwable, long startNanos) {
+        failureTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        for (Throwable cause = throwable; cause != null; cause = cause.getCause()) {
+            if (cause instanceof BufferExhaustedException) {
+                bufferExhaustedCounter.increment();
+                return;
+            }
+        }
+    }
+
+    private void trackProducers(ProducerFactory<K, V> producerFactory) {
+        if (producerFactory instanceof DefaultKafkaProducerFactory<K, V> defaultKafkaProducerFactory) {
+            defaultKafkaProducerFactory.addListener(new ProducerFactory.Listener<>() {
+                @Override
+                public void producerAdded(String id, Producer<K, V> producer) {
+                    bufferMetrics = BufferMetrics.of(producer.metrics());
+                }
+
+                @Override
+                public void producerRemoved(String id, Producer<K, V> producer) {
+                    bufferMetrics = null;
+                }
+            });
+        }
+    }
+
+    /**
+     * Buffer memory metrics of one producer instance.
+     */
+    private static final class BufferMetrics {
+        private final Metric availableBytes;
+        private final Metric totalBytes;
+
+        private BufferMetrics(Metric availableBytes, Metric totalBytes) {
+            this.availableBytes = availableBytes;
+            this.totalBytes = totalBytes;
+        }
+
+        private static BufferMetrics of(Map<MetricName, ? extends Metric> metrics) {
+            Metric availableBytes = null;
+            Metric totalBytes = null;
+            for (Map.Entry<MetricName, ? extends Metric> metric : metrics.entrySet()) {
+                if (!PRODUCER_METRICS_GROUP.equals(metric.getKey().group())) {
+                    continue;
+                }
+                if (BUFFER_AVAILABLE_BYTES_METRIC.equals(metric.getKey().name())) {
+                    availableBytes = metric.getValue();
+                } else if (BUFFER_TOTAL_BYTES_METRIC.equals(metric.getKey().name())) {
+                    totalBytes = metric.getValue();
+                }
+            }
+            return availableBytes == null || totalBytes == null ? null : new BufferMetrics(availableBytes, totalBytes);
+        }
+
+        private double value(Metric metric) {
+            return metric.metricValue() instanceof Number number ? number.doubleValue() : 0;
+        }
+    }
+}
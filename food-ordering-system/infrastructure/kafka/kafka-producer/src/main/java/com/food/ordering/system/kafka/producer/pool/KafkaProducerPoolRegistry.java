@@ -0,0 +1,138 @@
+package com.food.ordering.system.kafka.producer.pool;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.MicrometerProducerListener;
+import org.springframework.kafka.core.ProducerFactory;
+
+import com.food.ordering.system.kafka.config.data.KafkaProducerPoolConfigData;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Holds the Kafka producer pools and selects the pool serving each topic.
+ * <p>
+ * Every topic configured under {@code kafka-producer-config.topic-pools} gets its own
+ * producer factory, built from the shared producer properties overridden by the topic
+ * settings, including an optional partitioner and its properties. All other topics
+ * are served by the shared default pool. The client metrics of every pool, such as
+ * {@code buffer-available-bytes} and {@code bufferpool-wait-time}, are bound to
+ * Micrometer with a {@code pool} tag.
+ * </p>
+ *
+ * @param <K> the type of the key
+ * @param <V> the type of the value
+ */
+@Slf4j
+public class KafkaProducerPoolRegistry<K, V> {
+    /**
+     * Name of the pool serving the topics without a dedicated pool.
+     */
+    public static final String DEFAULT_POOL_NAME = "default";
+
+    /**
+     * Pool serving the topics without a dedicated pool.
+     */
+    private final KafkaProducerPool<K, V> defaultPool;
+
+    /**
+     * Dedicated pools indexed by topic name.
+     */
+    private final Map<String, KafkaProducerPool<K, V>> poolsByTopic = new HashMap<>();
+
+    /**
+     * Constructs a new KafkaProducerPoolRegistry.
+     *
+     * @param producerConfig   the shared producer properties
+     * @param defaultTemplate  the template of the shared default pool
+     * @param topicPools       the dedicated pool settings indexed by topic name, may be null
+     * @param saturationLimits the limits above which a pool is saturated
+     * @param meterRegistry    the registry receiving the metrics of the pools
+     */
+    public KafkaProducerPoolRegistry(Map<String, Object> producerConfig, KafkaTemplate<K, V> defaultTemplate,
+            Map<String, KafkaProducerPoolConfigData> topicPools, KafkaProducerSaturationLimits saturationLimits,
+            MeterRegistry meterRegistry) {
+        bindClientMetrics(defaultTemplate.getProducerFactory(), DEFAULT_POOL_NAME, meterRegistry);
+        this.defaultPool = new KafkaProducerPool<>(DEFAULT_POOL_NAME, defaultTemplate, saturationLimits,
+                meterRegistry);
+        if (topicPools != null) {
+            topicPools.forEach((topic, poolConfig) -> {
+                poolsByTopic.put(topic, createPool(topic, producerConfig, poolConfig, saturationLimits,
+                        meterRegistry));
+                log.info("Created dedicated kafka producer pool for topic {}", topic);
+            });
+        }
+    }
+
+    /**
+     * Returns the pool serving a topic.
+     *
+     * @param topicName the name of the topic
+     * @return the dedicated pool of the topic, or the default pool
+     */
+    public KafkaProducerPool<K, V> poolFor(String topicName) {
+        return poolsByTopic.getOrDefault(topicName, defaultPool);
+    }
+
+    /**
+     * Returns all pools, starting with the default pool.
+     *
+     * @return the pools of the registry
+     */
+    public Collection<KafkaProducerPool<K, V>> getPools() {
+        List<KafkaProducerPool<K, V>> pools = new ArrayList<>(poolsByTopic.size() + 1);
+        pools.add(defaultPool);
+        pools.addAll(poolsByTopic.values());
+        return Collections.unmodifiableList(pools);
+    }
+
+    /**
+     * Closes the producers of all pools.
+     */
+    public void close() {
+        getPools().forEach(KafkaProducerPool::close);
+    }
+
+    private KafkaProducerPool<K, V> createPool(String topic, Map<String, Object> producerConfig,
+            KafkaProducerPoolConfigData poolConfig, KafkaProducerSaturationLimits saturationLimits,
+            MeterRegistry meterRegistry) {
+        Map<String, Object> props = new HashMap<>(producerConfig);
+        if (poolConfig.getBufferMemory() != null) {
+            props.put(ProducerConfig.BUFFER_MEMORY_CONFIG, poolConfig.getBufferMemory());
+        }
+        if (poolConfig.getBatchSize() != null) {
+            props.put(ProducerConfig.BATCH_SIZE_CONFIG, poolConfig.getBatchSize());
+        }
+        if (poolConfig.getLingerMs() != null) {
+            props.put(ProducerConfig.LINGER_MS_CONFIG, poolConfig.getLingerMs());
+        }
+        if (poolConfig.getPartitionerClass() != null) {
+            props.put(ProducerConfig.PARTITIONER_CLASS_CONFIG, poolConfig.getPartitionerClass());
+        }
+        if (poolConfig.getProperties() != null) {
+            props.putAll(poolConfig.getProperties());
+        }
+        props.put(ProducerConfig.CLIENT_ID_CONFIG, topic + "-producer");
+        DefaultKafkaProducerFactory<K, V> producerFactory = new DefaultKafkaProducerFactory<>(props);
+        bindClientMetrics(producerFactory, topic, meterRegistry);
+        return new KafkaProducerPool<>(topic, new KafkaTemplate<>(producerFactory), saturationLimits, meterRegistry);
+    }
+
+    private void bindClientMetrics(ProducerFactory<K, V> producerFactory, String poolName,
+            MeterRegistry meterRegistry) {
+        if (producerFactory instanceof DefaultKafkaProducerFactory<K, V> defaultKafkaProducerFactory) {
+            defaultKafkaProducerFactory.addListener(
+                    new MicrometerProducerListener<>(meterRegistry, List.of(Tag.of("pool", poolName))));
+        }
+    }
+}
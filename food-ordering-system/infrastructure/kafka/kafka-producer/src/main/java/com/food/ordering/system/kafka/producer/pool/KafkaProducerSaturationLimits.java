@@ -0,0 +1,22 @@
+package com.food.ordering.system.kafka.producer.pool;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Limits above which a {@link KafkaProducerPool} reports itself as saturated.
+ * A null limit is not enforced.
+ */
+@Getter
+@AllArgsConstructor
+public class KafkaProducerSaturationLimits {
+    /**
+     * The maximum number of unacknowledged sends.
+     */
+    private final Integer maxInFlightSends;
+
+    /**
+     * The minimum share of free producer buffer memory.
+     */
+    private final Double minBufferAvailableRatio;
+}
@@ -4,6 +4,7 @@ import java.io.Serializable;
 import java.util.function.BiConsumer;
 
 import org.apache.avro.specific.SpecificRecordBase;
+import org.apache.kafka.common.header.Headers;
 import org.springframework.kafka.support.SendResult;
 
 /**
@@ -23,4 +24,33 @@ public interface IKafkaProducer<K extends Serializable, V extends SpecificRecord
      *                  operation
      */
     void send(String topicName, K key, V message, BiConsumer<SendResult<K, V>, Throwable> callback);
+
+    /**
+     * Sends a message with record headers to the specified Kafka topic.
+     *
+     * @param topicName the name of the Kafka topic
+     * @param key       the key of the message
+     * @param message   the message to send
+     * @param headers   the record headers to send with the message
+     * @param callback  a callback to handle the result or error of the send
+     *                  operation
+     */
+    void send(String topicName, K key, V message, Headers headers, BiConsumer<SendResult<K, V>, Throwable> callback);
+
+    /**
+     * Tells whether the producer serving a topic is saturated, in which case a new
+     * send would block on the producer buffer or queue behind too many
+     * unacknowledged sends.
+     *
+     * @param topicName the name of the Kafka topic
+     * @return true if new messages for the topic should be rejected
+     */
+    boolean isSaturated(String topicName);
+
+    /**
+     * Sends every buffered message of all topics immediately and blocks until they
+     * are acknowledged or failed, so that a batch of sends shares one round of
+     * requests instead of waiting for linger.ms.
+     */
+    void flush();
 }
@@ -5,12 +5,16 @@ import java.util.concurrent.CompletableFuture;
 import java.util.function.BiConsumer;
 
 import org.apache.avro.specific.SpecificRecordBase;
+import org.apache.kafka.clients.producer.ProducerRecord;
 import org.apache.kafka.common.KafkaException;
-import org.springframework.kafka.core.KafkaTemplate;
+import org.apache.kafka.common.header.Headers;
 import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Component;
 
+import com.food.ordering.system.logging.SampledLogger;
 import com.food.ordering.system.kafka.producer.exception.KafkaProducerException;
+import com.food.ordering.system.kafka.producer.pool.KafkaProducerPool;
+import com.food.ordering.system.kafka.producer.pool.KafkaProducerPoolRegistry;
 import com.food.ordering.system.kafka.producer.service.IKafkaProducer;
 
 import jakarta.annotation.PreDestroy;
@@ -18,6 +22,9 @@ import lombok.extern.slf4j.Slf4j;
 
 /**
  * Kafka producer implementation for sending messages to Kafka topics.
+ * Every message is sent through the producer pool serving its topic. Sends are logged
+ * sampled and by key only, since formatting every record costs more CPU than the
+ * send itself.
  *
  * @param <K> the type of the key, must be Serializable
  * @param <V> the type of the value, must extend SpecificRecordBase
@@ -26,24 +33,30 @@ import lombok.extern.slf4j.Slf4j;
 @Component
 public class KafkaProducer<K extends Serializable, V extends SpecificRecordBase> implements IKafkaProducer<K, V> {
     /**
-     * KafkaTemplate used to send messages to Kafka.
+     * Sampled logger for the send path.
      */
-    private final KafkaTemplate<K, V> kafkaTemplate;
+    private static final SampledLogger SEND_LOG = SampledLogger.of(log, 100, 5);
 
     /**
-     * Constructs a new KafkaProducer with the given KafkaTemplate.
+     * Registry of the producer pools used to send messages to Kafka.
+     */
+    private final KafkaProducerPoolRegistry<K, V> kafkaProducerPoolRegistry;
+
+    /**
+     * Constructs a new KafkaProducer with the given producer pools.
      *
-     * @param kafkaTemplate the KafkaTemplate to use for sending messages
+     * @param kafkaProducerPoolRegistry the registry of the producer pools to use for sending messages
      */
-    public KafkaProducer(KafkaTemplate<K, V> kafkaTemplate) {
-        this.kafkaTemplate = kafkaTemplate;
+    public KafkaProducer(KafkaProducerPoolRegistry<K, V> kafkaProducerPoolRegistry) {
+        this.kafkaProducerPoolRegistry = kafkaProducerPoolRegistry;
     }
 
     @Override
     public void send(String topicName, K key, V message, BiConsumer<SendResult<K, V>, Throwable> callback) {
         try {
-            log.info("Sending message={} to topic={}", message, topicName);
-            CompletableFuture<SendResult<K, V>> kafkaResultFuture = kafkaTemplate.send(topicName, key, message);
+            SEND_LOG.debug("Sending message with key={} to topic={}", key, topicName);
+            CompletableFuture<SendResult<K, V>> kafkaResultFuture = kafkaProducerPoolRegistry.poolFor(topicName)
+                    .send(new ProducerRecord<>(topicName, key, message));
             kafkaResultFuture.whenComplete(callback);
         } catch (KafkaException e) {
             log.error("Error on kafka producer with key: {}, message: {} and exception: {}", key, message,
@@ -52,15 +65,40 @@ public class KafkaProducer<K extends Serializable, V extends SpecificRecordBase>
         }
     }
 
+    @Override
+    public void send(String topicName, K key, V message, Headers headers,
+            BiConsumer<SendResult<K, V>, Throwable> callback) {
+        try {
+            SEND_LOG.debug("Sending message with key={} to topic={}", key, topicName);
+            CompletableFuture<SendResult<K, V>> kafkaResultFuture = kafkaProducerPoolRegistry.poolFor(topicName)
+                    .send(new ProducerRecord<>(topicName, null, key, message, headers));
+            kafkaResultFuture.whenComplete(callback);
+        } catch (KafkaException e) {
+            log.error("Error on kafka producer with key: {}, message: {} and exception: {}", key, message,
+                    e.getMessage());
+            throw new KafkaProducerException("Error on kafka producer with key: " + key + " and message: " + message);
+        }
+    }
+
+    @Override
+    public boolean isSaturated(String topicName) {
+        return kafkaProducerPoolRegistry.poolFor(topicName).isSaturated();
+    }
+
+    @Override
+    public void flush() {
+        kafkaProducerPoolRegistry.getPools().forEach(KafkaProducerPool::flush);
+    }
+
     /**
      * Closes the Kafka producer and releases resources.
      * This method is called before the bean is destroyed.
      */
     @PreDestroy
     public void close() {
-        if (kafkaTemplate != null) {
+        if (kafkaProducerPoolRegistry != null) {
             log.info("Closing kafka producer!");
-            kafkaTemplate.destroy();
+            kafkaProducerPoolRegistry.close();
         }
     }
 }
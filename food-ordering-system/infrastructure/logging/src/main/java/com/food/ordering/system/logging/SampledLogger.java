@@ -0,0 +1,146 @@
+package com.food.ordering.system.logging;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+
+/**
+ * Rate-limited, sampled wrapper around an SLF4J {@link Logger} for log points on hot
+ * paths such as Kafka sends, acknowledgements and listener loops.
+ * <p>
+ * Only one in every {@code sampleEvery} events is considered for logging, and at most
+ * {@code maxPerSecond} of those are written per second. The number of events skipped
+ * since the last written line is appended to the next one, so the volume stays visible
+ * without paying the formatting and appender cost of every event. Nothing is counted
+ * while the level is disabled. Errors are not sampled and should keep using the
+ * wrapped logger directly.
+ * </p>
+ */
+public final class SampledLogger {
+    /**
+     * Suffix appended to the message when events were skipped.
+     */
+    private static final String SUPPRESSED_SUFFIX = " ({} similar events suppressed)";
+
+    /**
+     * Logger receiving the sampled events.
+     */
+    private final Logger logger;
+
+    /**
+     * One in this many events is considered for logging.
+     */
+    private final int sampleEvery;
+
+    /**
+     * Maximum number of events written per second.
+     */
+    private final int maxPerSecond;
+
+    /**
+     * Events seen while the level was enabled.
+     */
+    private final AtomicLong events = new AtomicLong();
+
+    /**
+     * Events skipped since the last written line.
+     */
+    private final AtomicLong suppressed = new AtomicLong();
+
+    /**
+     * Second of the current rate window, derived from {@link System#nanoTime()}.
+     */
+    private final AtomicLong windowSecond = new AtomicLong(Long.MIN_VALUE);
+
+    /**
+     * Events written in the current rate window.
+     */
+    private final AtomicInteger windowCount = new AtomicInteger();
+
+    private SampledLogger(Logger logger, int sampleEvery, int maxPerSecond) {
+        this.logger = logger;
+        this.sampleEvery = Math.max(1, sampleEvery);
+        this.maxPerSecond = Math.max(1, maxPerSecond);
+    }
+
+    /**
+     * Creates a sampled logger.
+     *
+     * @param logger       the logger receiving the sampled events
+     * @param sampleEvery  one in this many events is considered for logging
+     * @param maxPerSecond the maximum number of events written per second
+     * @return the sampled logger
+     */
+    public static SampledLogger of(Logger logger, int sampleEvery, int maxPerSecond) {
+        return new SampledLogger(logger, sampleEvery, maxPerSecond);
+    }
+
+    /**
+     * Logs an event at INFO level if it is sampled and within the rate limit.
+     *
+     * @param format the message format
+     * @param args   the message arguments
+     */
+    public void info(String format, Object... args) {
+        if (logger.isInfoEnabled() && admit()) {
+            long skipped = suppressed.getAndSet(0);
+            if (skipped == 0) {
+                logger.info(format, args);
+            } else {
+                logger.info(format + SUPPRESSED_SUFFIX, append(args, skipped));
+            }
+        }
+    }
+
+    /**
+     * Logs an event at DEBUG level if it is sampled and within the rate limit.
+     *
+     * @param format the message format
+     * @param args   the message arguments
+     */
+    public void debug(String format, Object... args) {
+        if (logger.isDebugEnabled() && admit()) {
+            long skipped = suppressed.getAndSet(0);
+            if (skipped == 0) {
+                logger.debug(format, args);
+            } else {
+                logger.debug(format + SUPPRESSED_SUFFIX, append(args, skipped));
+            }
+        }
+    }
+
+    /**
+     * Returns the number of events skipped since the last written line.
+     *
+     * @return the suppressed event count
+     */
+    public long getSuppressedCount() {
+        return suppressed.get();
+    }
+
+    private boolean admit() {
+        if ((events.getAndIncrement() % sampleEvery) != 0) {
+            suppressed.incrementAndGet();
+            return false;
+        }
+        long second = TimeUnit.NANOSECONDS.toSeconds(System.nanoTime());
+        long current = windowSecond.get();
+        if (current != second && windowSecond.compareAndSet(current, second)) {
+            windowCount.set(0);
+        }
+        if (windowCount.incrementAndGet() > maxPerSecond) {
+            suppressed.incrementAndGet();
+            return false;
+        }
+        return true;
+    }
+
+    private static Object[] append(Object[] args, long skipped) {
+        Object[] extended = Arrays.copyOf(args, args.length + 1);
+        extended[args.length] = skipped;
+        return extended;
+    }
+}
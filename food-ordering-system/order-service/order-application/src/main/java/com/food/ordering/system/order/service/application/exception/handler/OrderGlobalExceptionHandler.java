@@ -10,6 +10,7 @@ import com.food.ordering.system.application.handler.ErrorDto;
 import com.food.ordering.system.application.handler.GlobalExceptionHandler;
 import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
 import com.food.ordering.system.order.service.domain.exception.OrderNotFoundException;
+import com.food.ordering.system.order.service.domain.exception.OrderServiceUnavailableException;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -51,4 +52,20 @@ public class OrderGlobalExceptionHandler extends GlobalExceptionHandler {
         return ErrorDto.builder().code(HttpStatus.NOT_FOUND.getReasonPhrase())
                 .message(orderNotFoundException.getMessage()).build();
     }
+
+    /**
+     * Handles {@link OrderServiceUnavailableException} and returns a
+     * SERVICE_UNAVAILABLE error response.
+     *
+     * @param orderServiceUnavailableException the thrown unavailable exception
+     * @return an {@link ErrorDto} with error details
+     */
+    @ResponseBody
+    @ExceptionHandler(value = { OrderServiceUnavailableException.class })
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public ErrorDto handleException(OrderServiceUnavailableException orderServiceUnavailableException) {
+        log.warn(orderServiceUnavailableException.getMessage());
+        return ErrorDto.builder().code(HttpStatus.SERVICE_UNAVAILABLE.getReasonPhrase())
+                .message(orderServiceUnavailableException.getMessage()).build();
+    }
 }
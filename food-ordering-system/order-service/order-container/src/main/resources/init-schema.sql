@@ -4,9 +4,6 @@ CREATE SCHEMA "order";
 
 CREATE EXTENSION IF NOT EXISTS "uuid-ossp";
 
--- Configure search_path to include customer schema
-ALTER DATABASE "order" SET search_path TO "order", customer, public;
-
 
 DROP TYPE IF EXISTS order_status;
 CREATE TYPE order_status AS ENUM ('PENDING', 'PAID', 'APPROVED', 'CANCELLED', 'CANCELLING');
@@ -120,67 +117,52 @@ CREATE INDEX "restaurant_approval_outbox_saga_status"
 --    ON "order".restaurant_approval_outbox
 --    (type, saga_id, saga_status);
 
--- Criar uma view no schema order que referencia a materialized view do customer
--- Isso permite que o Hibernate acesse os dados do customer através do schema order
-DROP VIEW IF EXISTS "order".order_customer_m_view;
-CREATE VIEW "order".order_customer_m_view AS 
-SELECT id, username, first_name, last_name 
-FROM customer.order_customer_m_view;
+DROP TABLE IF EXISTS "order".processed_message CASCADE;
+
+-- Ids of the consumed messages, claimed in the transaction of their handler so a
+-- redelivered message is dropped before any domain work
+CREATE TABLE "order".processed_message
+(
+    consumer_group_id character varying NOT NULL,
+    message_id uuid NOT NULL,
+    processed_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    CONSTRAINT processed_message_pkey PRIMARY KEY (consumer_group_id, message_id)
+);
 
--- Criar schema restaurant e materialized view para dados de mock
-DROP SCHEMA IF EXISTS restaurant CASCADE;
-CREATE SCHEMA restaurant;
+DROP TABLE IF EXISTS "order".customers CASCADE;
 
--- Criar tabela de restaurantes mock
-CREATE TABLE restaurant.restaurants
+-- Local projection of the customers published by the customer service on the
+-- customer topic, maintained with batched upserts
+CREATE TABLE "order".customers
 (
     id uuid NOT NULL,
-    name character varying COLLATE pg_catalog."default" NOT NULL,
-    active boolean NOT NULL DEFAULT true,
-    CONSTRAINT restaurants_pkey PRIMARY KEY (id)
+    username character varying COLLATE pg_catalog."default" NOT NULL,
+    first_name character varying COLLATE pg_catalog."default" NOT NULL,
+    last_name character varying COLLATE pg_catalog."default" NOT NULL,
+    CONSTRAINT customers_pkey PRIMARY KEY (id)
 );
 
--- Criar tabela de produtos mock
-CREATE TABLE restaurant.products
+DROP TABLE IF EXISTS "order".restaurant_products CASCADE;
+
+-- Local projection of the restaurant products published by the restaurant
+-- service on the restaurant topic, maintained with batched upserts of the
+-- changed (restaurant, product) rows only
+CREATE TABLE "order".restaurant_products
 (
-    id uuid NOT NULL,
     restaurant_id uuid NOT NULL,
-    name character varying COLLATE pg_catalog."default" NOT NULL,
-    price numeric(10,2) NOT NULL,
-    CONSTRAINT products_pkey PRIMARY KEY (id),
-    CONSTRAINT fk_restaurant FOREIGN KEY (restaurant_id) REFERENCES restaurant.restaurants (id)
+    product_id uuid NOT NULL,
+    restaurant_name character varying COLLATE pg_catalog."default" NOT NULL,
+    restaurant_active boolean NOT NULL,
+    product_name character varying COLLATE pg_catalog."default" NOT NULL,
+    product_price numeric(10,2) NOT NULL,
+    CONSTRAINT restaurant_products_pkey PRIMARY KEY (restaurant_id, product_id)
 );
 
--- Inserir dados mock de restaurante
-INSERT INTO restaurant.restaurants(id, name, active)
-VALUES ('d215b5f8-0249-4dc5-89a3-51fd148cfb45', 'Test Restaurant', true);
-
--- Inserir dados mock de produtos
-INSERT INTO restaurant.products(id, restaurant_id, name, price)
-VALUES 
-  ('d215b5f8-0249-4dc5-89a3-51fd148cfb48', 'd215b5f8-0249-4dc5-89a3-51fd148cfb45', 'Test Product 1', 50.00),
-  ('d215b5f8-0249-4dc5-89a3-51fd148cfb49', 'd215b5f8-0249-4dc5-89a3-51fd148cfb45', 'Test Product 2', 25.00);
-
--- Criar materialized view restaurant
-DROP MATERIALIZED VIEW IF EXISTS restaurant.order_restaurant_m_view;
-CREATE MATERIALIZED VIEW restaurant.order_restaurant_m_view
-TABLESPACE pg_default
-AS
-SELECT 
-    p.id as product_id,
-    r.id as restaurant_id,
-    p.name as product_name,
-    p.price as product_price,
-    r.active as restaurant_active,
-    r.name as restaurant_name
-FROM restaurant.restaurants r
-JOIN restaurant.products p ON r.id = p.restaurant_id
-WITH DATA;
-
--- Refresh a materialized view
-REFRESH MATERIALIZED VIEW restaurant.order_restaurant_m_view;
-
--- Conceder permissões no schema restaurant
-GRANT USAGE ON SCHEMA restaurant TO postgres;
-GRANT SELECT ON restaurant.order_restaurant_m_view TO postgres;
-GRANT SELECT ON ALL TABLES IN SCHEMA restaurant TO postgres;
+-- Inserir dados mock de restaurante e produtos
+INSERT INTO "order".restaurant_products(restaurant_id, product_id, restaurant_name, restaurant_active,
+    product_name, product_price)
+VALUES
+  ('d215b5f8-0249-4dc5-89a3-51fd148cfb45', 'd215b5f8-0249-4dc5-89a3-51fd148cfb48', 'Test Restaurant', true,
+    'Test Product 1', 50.00),
+  ('d215b5f8-0249-4dc5-89a3-51fd148cfb45', 'd215b5f8-0249-4dc5-89a3-51fd148cfb49', 'Test Restaurant', true,
+    'Test Product 2', 25.00);
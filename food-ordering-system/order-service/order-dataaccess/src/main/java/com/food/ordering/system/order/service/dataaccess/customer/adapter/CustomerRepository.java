@@ -1,8 +1,10 @@
 package com.food.ordering.system.order.service.dataaccess.customer.adapter;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
 import com.food.ordering.system.order.service.dataaccess.customer.mapper.CustomerDataAccessMapper;
@@ -21,9 +23,22 @@ import com.food.ordering.system.order.service.domain.ports.output.repository.ICu
  * It handles the conversion between domain entities and data access entities
  * using
  * the CustomerDataAccessMapper.
+ * 
+ * The customer projection is written with one batched upsert per call, which
+ * leaves the rows whose values did not change untouched.
  */
 @Component
 public class CustomerRepository implements ICustomerRepository {
+    /**
+     * Inserts a customer, or updates it when one of its values changed.
+     */
+    private static final String UPSERT_CUSTOMER = "INSERT INTO \"order\".customers "
+            + "(id, username, first_name, last_name) VALUES (?, ?, ?, ?) "
+            + "ON CONFLICT (id) DO UPDATE SET username = EXCLUDED.username, "
+            + "first_name = EXCLUDED.first_name, last_name = EXCLUDED.last_name "
+            + "WHERE (customers.username, customers.first_name, customers.last_name) "
+            + "IS DISTINCT FROM (EXCLUDED.username, EXCLUDED.first_name, EXCLUDED.last_name)";
+
     /**
      * JPA repository for performing database operations on CustomerEntity objects.
      */
@@ -35,6 +50,11 @@ public class CustomerRepository implements ICustomerRepository {
      */
     private final CustomerDataAccessMapper customerDataAccessMapper;
 
+    /**
+     * JDBC template running the batched upserts of the customer projection.
+     */
+    private final JdbcTemplate jdbcTemplate;
+
     /**
      * Constructs a new CustomerRepository with the required dependencies.
      * 
@@ -42,15 +62,31 @@ public class CustomerRepository implements ICustomerRepository {
      *                                 operations
      * @param customerDataAccessMapper the mapper for entity conversions between
      *                                 layers
+     * @param jdbcTemplate             the JDBC template running the batched
+     *                                 upserts
      */
     public CustomerRepository(ICustomerJpaRepository customerJpaRepository,
-            CustomerDataAccessMapper customerDataAccessMapper) {
+            CustomerDataAccessMapper customerDataAccessMapper, JdbcTemplate jdbcTemplate) {
         this.customerJpaRepository = customerJpaRepository;
         this.customerDataAccessMapper = customerDataAccessMapper;
+        this.jdbcTemplate = jdbcTemplate;
     }
 
     @Override
     public Optional<Customer> findCustomer(UUID customerId) {
         return customerJpaRepository.findById(customerId).map(customerDataAccessMapper::customerEntityToCustomer);
     }
+
+    @Override
+    public void saveAll(List<Customer> customers) {
+        if (customers.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(UPSERT_CUSTOMER, customers, customers.size(), (statement, customer) -> {
+            statement.setObject(1, customer.getId().getValue());
+            statement.setString(2, customer.getUsername());
+            statement.setString(3, customer.getFirstName());
+            statement.setString(4, customer.getLastName());
+        });
+    }
 }
@@ -14,10 +14,9 @@ import lombok.Setter;
 /**
  * JPA entity representing a customer in the order service data access layer.
  * 
- * This entity maps to the "order_customer_m_view" materialized view in the
- * "customer" schema,
- * providing a read-only representation of customer data for order processing
- * operations.
+ * This entity maps to the "customers" table in the "order" schema, a local
+ * projection of the customers published by the customer service on the
+ * customer topic.
  * The entity follows the builder pattern and uses Lombok annotations for
  * boilerplate code generation.
  */
@@ -26,7 +25,7 @@ import lombok.Setter;
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor
-@Table(name = "order_customer_m_view", schema = "customer")
+@Table(name = "customers", schema = "order")
 @Entity
 public class CustomerEntity {
     /**
@@ -37,4 +36,19 @@ public class CustomerEntity {
      */
     @Id
     private UUID id;
+
+    /**
+     * The username of the customer.
+     */
+    private String username;
+
+    /**
+     * The first name of the customer.
+     */
+    private String firstName;
+
+    /**
+     * The last name of the customer.
+     */
+    private String lastName;
 }
@@ -23,9 +23,10 @@ public class CustomerDataAccessMapper {
      * entity.
      * 
      * @param customerEntity the customer entity from the database layer
-     * @return a Customer domain object with the corresponding customer ID
+     * @return a Customer domain object with the corresponding customer data
      */
     public Customer customerEntityToCustomer(CustomerEntity customerEntity) {
-        return new Customer(new CustomerId(customerEntity.getId()));
+        return new Customer(new CustomerId(customerEntity.getId()), customerEntity.getUsername(),
+                customerEntity.getFirstName(), customerEntity.getLastName());
     }
 }
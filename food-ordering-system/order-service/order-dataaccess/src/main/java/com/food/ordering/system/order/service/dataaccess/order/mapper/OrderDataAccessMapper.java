@@ -3,24 +3,21 @@ package com.food.ordering.system.order.service.dataaccess.order.mapper;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.stream.Collectors;
 
-import org.springframework.stereotype.Component;
+import org.mapstruct.AfterMapping;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingConstants;
+import org.mapstruct.MappingTarget;
+import org.mapstruct.ReportingPolicy;
 
-import com.food.ordering.system.domain.valueobject.CustomerId;
-import com.food.ordering.system.domain.valueobject.Money;
-import com.food.ordering.system.domain.valueobject.OrderId;
-import com.food.ordering.system.domain.valueobject.ProductId;
-import com.food.ordering.system.domain.valueobject.RestaurantId;
 import com.food.ordering.system.order.service.dataaccess.order.entity.OrderAddressEntity;
 import com.food.ordering.system.order.service.dataaccess.order.entity.OrderEntity;
 import com.food.ordering.system.order.service.dataaccess.order.entity.OrderItemEntity;
 import com.food.ordering.system.order.service.domain.entity.Order;
 import com.food.ordering.system.order.service.domain.entity.OrderItem;
-import com.food.ordering.system.order.service.domain.entity.Product;
-import com.food.ordering.system.order.service.domain.valueobject.OrderItemId;
+import com.food.ordering.system.order.service.domain.mapper.OrderValueObjectMapper;
 import com.food.ordering.system.order.service.domain.valueobject.StreetAddress;
-import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
 
 /**
  * Data access mapper for converting between Order domain objects and Order data
@@ -28,9 +25,11 @@ import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
  * This mapper handles the transformation of Order objects to and from their
  * corresponding database entities,
  * providing a clean separation between the domain layer and data access layer.
+ * The implementation is generated by MapStruct at compile time.
  */
-@Component
-public class OrderDataAccessMapper {
+@Mapper(componentModel = MappingConstants.ComponentModel.SPRING, uses = OrderValueObjectMapper.class,
+                unmappedTargetPolicy = ReportingPolicy.ERROR)
+public abstract class OrderDataAccessMapper {
 
         /**
          * Converts an Order domain object to an OrderEntity for database persistence.
@@ -41,25 +40,13 @@ public class OrderDataAccessMapper {
          * @return OrderEntity ready for database persistence with all relationships
          *         properly set
          */
-        public OrderEntity orderToOrderEntity(Order order) {
-                OrderEntity orderEntity = OrderEntity.builder()
-                                .id(order.getId().getValue())
-                                .customerId(order.getCustomerId().getValue())
-                                .restaurantId(order.getRestaurantId().getValue())
-                                .trackingId(order.getTrackingId().getValue())
-                                .address(deliveryAddressToAddressEntity(order.getDeliveryAddress()))
-                                .price(order.getPrice().getAmount())
-                                .items(orderItemsToOrderItemEntities(order.getItems()))
-                                .orderStatus(order.getOrderStatus())
-                                .failureMessages(order.getFailureMessages() != null
-                                                ? String.join(Order.FAILURE_MESSAGE_DELIMITER,
-                                                                order.getFailureMessages())
-                                                : "")
-                                .build();
-                orderEntity.getAddress().setOrder(orderEntity);
-                orderEntity.getItems().forEach(orderItemEntity -> orderItemEntity.setOrder(orderEntity));
-                return orderEntity;
-        }
+        @Mapping(target = "id", source = "id.value")
+        @Mapping(target = "customerId", source = "customerId.value")
+        @Mapping(target = "restaurantId", source = "restaurantId.value")
+        @Mapping(target = "trackingId", source = "trackingId.value")
+        @Mapping(target = "address", source = "deliveryAddress")
+        @Mapping(target = "price", source = "price.amount")
+        public abstract OrderEntity orderToOrderEntity(Order order);
 
         /**
          * Converts an OrderEntity from the database to an Order domain object.
@@ -69,20 +56,22 @@ public class OrderDataAccessMapper {
          * @return Order domain object with all properties and relationships properly
          *         set
          */
-        public Order orderEntityToOrder(OrderEntity orderEntity) {
-                return Order.builder()
-                                .orderId(new OrderId(orderEntity.getId()))
-                                .customerId(new CustomerId(orderEntity.getCustomerId()))
-                                .restaurantId(new RestaurantId(orderEntity.getRestaurantId()))
-                                .deliveryAddress(addressEntityToDeliveryAddress(orderEntity.getAddress()))
-                                .price(new Money(orderEntity.getPrice()))
-                                .items(orderItemEntitiesToOrderItems(orderEntity.getItems()))
-                                .trackingId(new TrackingId(orderEntity.getTrackingId()))
-                                .orderStatus(orderEntity.getOrderStatus())
-                                .failureMessages(orderEntity.getFailureMessages().isEmpty() ? new ArrayList<>()
-                                                : new ArrayList<>(Arrays.asList(orderEntity.getFailureMessages()
-                                                                .split(Order.FAILURE_MESSAGE_DELIMITER))))
-                                .build();
+        @Mapping(target = "orderId", source = "id")
+        @Mapping(target = "deliveryAddress", source = "address")
+        public abstract Order orderEntityToOrder(OrderEntity orderEntity);
+
+        /**
+         * Links the address and the items of a mapped OrderEntity back to it, as the
+         * owning side of their relationships.
+         *
+         * @param orderEntity the mapped OrderEntity
+         */
+        @AfterMapping
+        protected void linkOrder(@MappingTarget OrderEntity orderEntity) {
+                orderEntity.getAddress().setOrder(orderEntity);
+                for (OrderItemEntity orderItemEntity : orderEntity.getItems()) {
+                        orderItemEntity.setOrder(orderEntity);
+                }
         }
 
         /**
@@ -94,17 +83,17 @@ public class OrderDataAccessMapper {
          * @param items the list of OrderItemEntity objects from the database
          * @return list of OrderItem domain objects
          */
-        private List<OrderItem> orderItemEntitiesToOrderItems(List<OrderItemEntity> items) {
-                return items.stream()
-                                .map(orderItemEntity -> OrderItem.builder()
-                                                .orderItemId(new OrderItemId(orderItemEntity.getId()))
-                                                .product(new Product(new ProductId(orderItemEntity.getProductId())))
-                                                .price(new Money(orderItemEntity.getPrice()))
-                                                .quantity(orderItemEntity.getQuantity())
-                                                .subTotal(new Money(orderItemEntity.getSubTotal()))
-                                                .build())
-                                .collect(Collectors.toList());
-        }
+        protected abstract List<OrderItem> orderItemEntitiesToOrderItems(List<OrderItemEntity> items);
+
+        /**
+         * Converts an OrderItemEntity to an OrderItem domain object.
+         *
+         * @param orderItemEntity the OrderItemEntity from the database
+         * @return OrderItem domain object
+         */
+        @Mapping(target = "orderItemId", source = "id")
+        @Mapping(target = "product", source = "productId")
+        protected abstract OrderItem orderItemEntityToOrderItem(OrderItemEntity orderItemEntity);
 
         /**
          * Converts an OrderAddressEntity to a StreetAddress value object.
@@ -113,7 +102,7 @@ public class OrderDataAccessMapper {
          * @param address the OrderAddressEntity from the database
          * @return StreetAddress value object containing the address information
          */
-        private StreetAddress addressEntityToDeliveryAddress(OrderAddressEntity address) {
+        protected StreetAddress addressEntityToDeliveryAddress(OrderAddressEntity address) {
                 return new StreetAddress(address.getId(),
                                 address.getStreet(),
                                 address.getPostalCode(),
@@ -129,17 +118,21 @@ public class OrderDataAccessMapper {
          * @param items the list of OrderItem domain objects
          * @return list of OrderItemEntity objects ready for database persistence
          */
-        private List<OrderItemEntity> orderItemsToOrderItemEntities(List<OrderItem> items) {
-                return items.stream()
-                                .map(orderItem -> OrderItemEntity.builder()
-                                                .id(orderItem.getId().getValue())
-                                                .productId(orderItem.getProduct().getId().getValue())
-                                                .price(orderItem.getPrice().getAmount())
-                                                .quantity(orderItem.getQuantity())
-                                                .subTotal(orderItem.getSubTotal().getAmount())
-                                                .build())
-                                .collect(Collectors.toList());
-        }
+        protected abstract List<OrderItemEntity> orderItemsToOrderItemEntities(List<OrderItem> items);
+
+        /**
+         * Converts an OrderItem domain object to an OrderItemEntity. The order is
+         * linked once the OrderEntity is built.
+         *
+         * @param orderItem the OrderItem domain object
+         * @return OrderItemEntity ready for database persistence
+         */
+        @Mapping(target = "id", source = "id.value")
+        @Mapping(target = "productId", source = "product.id.value")
+        @Mapping(target = "price", source = "price.amount")
+        @Mapping(target = "subTotal", source = "subTotal.amount")
+        @Mapping(target = "order", ignore = true)
+        protected abstract OrderItemEntity orderItemToOrderItemEntity(OrderItem orderItem);
 
         /**
          * Converts a StreetAddress value object to an OrderAddressEntity.
@@ -149,12 +142,28 @@ public class OrderDataAccessMapper {
          * @param deliveryAddress the StreetAddress value object from the domain
          * @return OrderAddressEntity ready for database persistence
          */
-        private OrderAddressEntity deliveryAddressToAddressEntity(StreetAddress deliveryAddress) {
-                return OrderAddressEntity.builder()
-                                .id(deliveryAddress.getId())
-                                .street(deliveryAddress.getStreet())
-                                .postalCode(deliveryAddress.getPostalCode())
-                                .city(deliveryAddress.getCity())
-                                .build();
+        @Mapping(target = "order", ignore = true)
+        protected abstract OrderAddressEntity deliveryAddressToAddressEntity(StreetAddress deliveryAddress);
+
+        /**
+         * Joins the failure messages of an order into the single column they are
+         * stored in.
+         *
+         * @param failureMessages the failure messages of the order
+         * @return the joined failure messages, or an empty string if there are none
+         */
+        protected String joinFailureMessages(List<String> failureMessages) {
+                return failureMessages != null ? String.join(Order.FAILURE_MESSAGE_DELIMITER, failureMessages) : "";
+        }
+
+        /**
+         * Splits the stored failure messages of an order.
+         *
+         * @param failureMessages the joined failure messages
+         * @return the failure messages, empty if none were stored
+         */
+        protected List<String> splitFailureMessages(String failureMessages) {
+                return failureMessages.isEmpty() ? new ArrayList<>()
+                                : new ArrayList<>(Arrays.asList(failureMessages.split(Order.FAILURE_MESSAGE_DELIMITER)));
         }
 }
@@ -4,6 +4,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
 import com.food.ordering.system.order.service.dataaccess.restaurant.entity.RestaurantEntity;
@@ -16,9 +17,26 @@ import com.food.ordering.system.order.service.domain.ports.output.repository.IRe
  * Repository adapter implementation for restaurant data access operations.
  * Acts as a bridge between the domain layer and the data access layer,
  * implementing the IRestaurantRepository port interface.
+ * 
+ * The restaurant projection is written with one batched upsert per call, which
+ * leaves the (restaurant, product) rows whose values did not change untouched.
  */
 @Component
 public class RestaurantRepository implements IRestaurantRepository {
+    /**
+     * Inserts a restaurant product, or updates it when one of its values changed.
+     */
+    private static final String UPSERT_RESTAURANT_PRODUCT = "INSERT INTO \"order\".restaurant_products "
+            + "(restaurant_id, product_id, restaurant_name, restaurant_active, product_name, product_price) "
+            + "VALUES (?, ?, ?, ?, ?, ?) "
+            + "ON CONFLICT (restaurant_id, product_id) DO UPDATE SET restaurant_name = EXCLUDED.restaurant_name, "
+            + "restaurant_active = EXCLUDED.restaurant_active, product_name = EXCLUDED.product_name, "
+            + "product_price = EXCLUDED.product_price "
+            + "WHERE (restaurant_products.restaurant_name, restaurant_products.restaurant_active, "
+            + "restaurant_products.product_name, restaurant_products.product_price) "
+            + "IS DISTINCT FROM (EXCLUDED.restaurant_name, EXCLUDED.restaurant_active, "
+            + "EXCLUDED.product_name, EXCLUDED.product_price)";
+
     /**
      * JPA repository for restaurant entity database operations.
      */
@@ -29,6 +47,11 @@ public class RestaurantRepository implements IRestaurantRepository {
      */
     private final RestaurantDataAccessMapper restaurantDataAccessMapper;
 
+    /**
+     * JDBC template running the batched upserts of the restaurant projection.
+     */
+    private final JdbcTemplate jdbcTemplate;
+
     /**
      * Constructs a new RestaurantRepository with the required dependencies.
      * 
@@ -36,11 +59,14 @@ public class RestaurantRepository implements IRestaurantRepository {
      *                                   operations
      * @param restaurantDataAccessMapper the mapper for entity-domain object
      *                                   conversion
+     * @param jdbcTemplate               the JDBC template running the batched
+     *                                   upserts
      */
     public RestaurantRepository(IRestaurantJpaRepository restaurantJpaRepository,
-            RestaurantDataAccessMapper restaurantDataAccessMapper) {
+            RestaurantDataAccessMapper restaurantDataAccessMapper, JdbcTemplate jdbcTemplate) {
         this.restaurantJpaRepository = restaurantJpaRepository;
         this.restaurantDataAccessMapper = restaurantDataAccessMapper;
+        this.jdbcTemplate = jdbcTemplate;
     }
 
     @Override
@@ -51,4 +77,22 @@ public class RestaurantRepository implements IRestaurantRepository {
                         restaurantProducts);
         return restaurantEntities.map(restaurantDataAccessMapper::restaurantEntityToRestaurant);
     }
+
+    @Override
+    public void saveAll(List<Restaurant> restaurants) {
+        List<RestaurantEntity> restaurantEntities = restaurantDataAccessMapper
+                .restaurantsToRestaurantEntities(restaurants);
+        if (restaurantEntities.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(UPSERT_RESTAURANT_PRODUCT, restaurantEntities, restaurantEntities.size(),
+                (statement, restaurantEntity) -> {
+                    statement.setObject(1, restaurantEntity.getRestaurantId());
+                    statement.setObject(2, restaurantEntity.getProductId());
+                    statement.setString(3, restaurantEntity.getRestaurantName());
+                    statement.setBoolean(4, restaurantEntity.getRestaurantActive());
+                    statement.setString(5, restaurantEntity.getProductName());
+                    statement.setBigDecimal(6, restaurantEntity.getProductPrice());
+                });
+    }
 }
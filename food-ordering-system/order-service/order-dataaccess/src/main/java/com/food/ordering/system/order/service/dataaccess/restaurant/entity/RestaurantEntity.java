@@ -16,8 +16,8 @@ import lombok.Setter;
 
 /**
  * JPA entity representing a restaurant with associated product information.
- * Maps to the order_restaurant_m_view materialized view in the restaurant
- * schema.
+ * Maps to the restaurant_products projection table in the order schema, kept
+ * up to date from the restaurant topic.
  * Uses composite primary key consisting of restaurantId and productId.
  */
 @Getter
@@ -26,7 +26,7 @@ import lombok.Setter;
 @AllArgsConstructor
 @NoArgsConstructor
 @IdClass(RestaurantEntityId.class)
-@Table(name = "order_restaurant_m_view", schema = "restaurant")
+@Table(name = "restaurant_products", schema = "order")
 @Entity
 public class RestaurantEntity {
     /**
@@ -1,10 +1,13 @@
 package com.food.ordering.system.order.service.dataaccess.restaurant.mapper;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
-import org.springframework.stereotype.Component;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingConstants;
+import org.mapstruct.ReportingPolicy;
 
 import com.food.ordering.system.domain.valueobject.Money;
 import com.food.ordering.system.domain.valueobject.ProductId;
@@ -18,22 +21,21 @@ import com.food.ordering.system.order.service.domain.entity.Restaurant;
  * Data access mapper for restaurant-related entities and domain objects.
  * Provides mapping functionality between restaurant entities and domain models
  * in the order service data access layer.
+ * The implementation is generated by MapStruct at compile time.
  */
-@Component
-public class RestaurantDataAccessMapper {
+@Mapper(componentModel = MappingConstants.ComponentModel.SPRING, unmappedTargetPolicy = ReportingPolicy.ERROR)
+public abstract class RestaurantDataAccessMapper {
 
     /**
      * Converts a Restaurant domain object to a list of product UUIDs.
      * Extracts all product IDs from the restaurant's product list for database
      * queries.
-     * 
+     *
      * @param restaurant the Restaurant domain object containing products
      * @return a list of UUID values representing the product IDs
      */
     public List<UUID> restaurantToRestaurantProducts(Restaurant restaurant) {
-        return restaurant.getProducts().stream()
-                .map(product -> product.getId().getValue())
-                .collect(Collectors.toList());
+        return productsToProductIds(restaurant.getProducts());
     }
 
     /**
@@ -41,7 +43,7 @@ public class RestaurantDataAccessMapper {
      * Maps database entities to domain model, combining product information from
      * multiple entities
      * that share the same restaurant ID.
-     * 
+     *
      * @param restaurantEntities the list of RestaurantEntity objects from the
      *                           database
      * @return a Restaurant domain object with mapped products and restaurant
@@ -50,18 +52,87 @@ public class RestaurantDataAccessMapper {
      *                                       the list
      */
     public Restaurant restaurantEntityToRestaurant(List<RestaurantEntity> restaurantEntities) {
-        RestaurantEntity restaurantEntity = restaurantEntities.stream().findFirst()
-                .orElseThrow(() -> new RestaurantDataAccessException("Restaurant could not be found!"));
-
-        List<Product> restaurantProducts = restaurantEntities.stream()
-                .map(entity -> new Product(new ProductId(entity.getProductId()), entity.getProductName(),
-                        new Money(entity.getProductPrice())))
-                .toList();
-
+        if (restaurantEntities.isEmpty()) {
+            throw new RestaurantDataAccessException("Restaurant could not be found!");
+        }
+        RestaurantEntity restaurantEntity = restaurantEntities.get(0);
         return Restaurant.builder()
                 .restaurantId(new RestaurantId(restaurantEntity.getRestaurantId()))
-                .products(restaurantProducts)
+                .products(restaurantEntitiesToProducts(restaurantEntities))
                 .active(restaurantEntity.getRestaurantActive())
                 .build();
     }
+
+    /**
+     * Converts Restaurant domain objects to RestaurantEntity objects, one per
+     * product of each restaurant.
+     *
+     * @param restaurants the Restaurant domain objects with their products
+     * @return the RestaurantEntity objects of the restaurant projection
+     */
+    public List<RestaurantEntity> restaurantsToRestaurantEntities(List<Restaurant> restaurants) {
+        int productCount = 0;
+        for (Restaurant restaurant : restaurants) {
+            productCount += restaurant.getProducts().size();
+        }
+        List<RestaurantEntity> restaurantEntities = new ArrayList<>(productCount);
+        for (Restaurant restaurant : restaurants) {
+            for (Product product : restaurant.getProducts()) {
+                restaurantEntities.add(restaurantProductToRestaurantEntity(restaurant, product));
+            }
+        }
+        return restaurantEntities;
+    }
+
+    /**
+     * Converts products to their UUIDs.
+     *
+     * @param products the products
+     * @return the UUIDs of the products
+     */
+    protected abstract List<UUID> productsToProductIds(List<Product> products);
+
+    /**
+     * Extracts the UUID of a product.
+     *
+     * @param product the product
+     * @return the UUID of the product
+     */
+    protected UUID productToProductId(Product product) {
+        return product.getId().getValue();
+    }
+
+    /**
+     * Converts RestaurantEntity objects to the products of their restaurant.
+     *
+     * @param restaurantEntities the RestaurantEntity objects, one per product
+     * @return the products with their name and price
+     */
+    protected abstract List<Product> restaurantEntitiesToProducts(List<RestaurantEntity> restaurantEntities);
+
+    /**
+     * Converts a RestaurantEntity to the product it holds.
+     *
+     * @param restaurantEntity the RestaurantEntity
+     * @return the product with its name and price
+     */
+    protected Product restaurantEntityToProduct(RestaurantEntity restaurantEntity) {
+        return new Product(new ProductId(restaurantEntity.getProductId()), restaurantEntity.getProductName(),
+                new Money(restaurantEntity.getProductPrice()));
+    }
+
+    /**
+     * Converts a product of a restaurant to its RestaurantEntity.
+     *
+     * @param restaurant the restaurant
+     * @param product    the product of the restaurant
+     * @return the RestaurantEntity of the product
+     */
+    @Mapping(target = "restaurantId", source = "restaurant.id.value")
+    @Mapping(target = "productId", source = "product.id.value")
+    @Mapping(target = "restaurantName", source = "restaurant.name")
+    @Mapping(target = "restaurantActive", source = "restaurant.active")
+    @Mapping(target = "productName", source = "product.name")
+    @Mapping(target = "productPrice", source = "product.price.amount")
+    protected abstract RestaurantEntity restaurantProductToRestaurantEntity(Restaurant restaurant, Product product);
 }
@@ -0,0 +1,104 @@
+package com.food.ordering.system.order.service.dataaccess.order.mapper;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import com.food.ordering.system.domain.valueobject.CustomerId;
+import com.food.ordering.system.domain.valueobject.Money;
+import com.food.ordering.system.domain.valueobject.ProductId;
+import com.food.ordering.system.domain.valueobject.RestaurantId;
+import com.food.ordering.system.order.service.dataaccess.order.entity.OrderEntity;
+import com.food.ordering.system.order.service.dataaccess.order.entity.OrderItemEntity;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.entity.OrderItem;
+import com.food.ordering.system.order.service.domain.entity.Product;
+import com.food.ordering.system.order.service.domain.valueobject.StreetAddress;
+
+/**
+ * Round-trip tests for the generated {@link OrderDataAccessMapper}: an order mapped
+ * to its entity and back must keep every value, and the entity must own its address
+ * and items.
+ */
+public class OrderDataAccessMapperTest {
+    private final OrderDataAccessMapper orderDataAccessMapper = new OrderDataAccessMapperImpl();
+
+    @Test
+    void orderSurvivesRoundTrip() {
+        Order order = order();
+        order.pay();
+        order.initCancel(List.of("Restaurant is closed", "Product is not available"));
+
+        OrderEntity orderEntity = orderDataAccessMapper.orderToOrderEntity(order);
+        Order mapped = orderDataAccessMapper.orderEntityToOrder(orderEntity);
+
+        assertEquals(order.getId(), mapped.getId());
+        assertEquals(order.getCustomerId(), mapped.getCustomerId());
+        assertEquals(order.getRestaurantId(), mapped.getRestaurantId());
+        assertEquals(order.getTrackingId(), mapped.getTrackingId());
+        assertEquals(order.getDeliveryAddress(), mapped.getDeliveryAddress());
+        assertEquals(order.getPrice(), mapped.getPrice());
+        assertEquals(order.getOrderStatus(), mapped.getOrderStatus());
+        assertEquals(order.getFailureMessages(), mapped.getFailureMessages());
+        assertEquals(order.getItems().size(), mapped.getItems().size());
+        for (int i = 0; i < order.getItems().size(); i++) {
+            OrderItem expected = order.getItems().get(i);
+            OrderItem actual = mapped.getItems().get(i);
+            assertEquals(expected.getId(), actual.getId());
+            assertEquals(expected.getProduct().getId(), actual.getProduct().getId());
+            assertEquals(expected.getPrice(), actual.getPrice());
+            assertEquals(expected.getQuantity(), actual.getQuantity());
+            assertEquals(expected.getSubTotal(), actual.getSubTotal());
+        }
+    }
+
+    @Test
+    void entityOwnsAddressAndItems() {
+        OrderEntity orderEntity = orderDataAccessMapper.orderToOrderEntity(order());
+
+        assertSame(orderEntity, orderEntity.getAddress().getOrder());
+        for (OrderItemEntity orderItemEntity : orderEntity.getItems()) {
+            assertSame(orderEntity, orderItemEntity.getOrder());
+        }
+    }
+
+    @Test
+    void orderWithoutFailureMessagesSurvivesRoundTrip() {
+        Order order = order();
+
+        OrderEntity orderEntity = orderDataAccessMapper.orderToOrderEntity(order);
+        Order mapped = orderDataAccessMapper.orderEntityToOrder(orderEntity);
+
+        assertEquals("", orderEntity.getFailureMessages());
+        assertTrue(mapped.getFailureMessages().isEmpty());
+    }
+
+    private static Order order() {
+        Order order = Order.builder()
+                .customerId(new CustomerId(UUID.randomUUID()))
+                .restaurantId(new RestaurantId(UUID.randomUUID()))
+                .deliveryAddress(new StreetAddress(UUID.randomUUID(), "street", "1234AB", "city"))
+                .price(new Money(new BigDecimal("200.00")))
+                .items(List.of(
+                        orderItem(1, new BigDecimal("50.00")),
+                        orderItem(3, new BigDecimal("50.00"))))
+                .build();
+        order.initializeOrder();
+        return order;
+    }
+
+    private static OrderItem orderItem(int quantity, BigDecimal price) {
+        return OrderItem.builder()
+                .product(new Product(new ProductId(UUID.randomUUID())))
+                .price(new Money(price))
+                .quantity(quantity)
+                .subTotal(new Money(price.multiply(BigDecimal.valueOf(quantity))))
+                .build();
+    }
+}
@@ -0,0 +1,64 @@
+package com.food.ordering.system.order.service.dataaccess.restaurant.mapper;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import com.food.ordering.system.domain.valueobject.Money;
+import com.food.ordering.system.domain.valueobject.ProductId;
+import com.food.ordering.system.domain.valueobject.RestaurantId;
+import com.food.ordering.system.order.service.dataaccess.restaurant.entity.RestaurantEntity;
+import com.food.ordering.system.order.service.dataaccess.restaurant.exception.RestaurantDataAccessException;
+import com.food.ordering.system.order.service.domain.entity.Product;
+import com.food.ordering.system.order.service.domain.entity.Restaurant;
+
+/**
+ * Round-trip tests for the generated {@link RestaurantDataAccessMapper}: a restaurant
+ * projected to one entity per product and read back must keep its products.
+ */
+public class RestaurantDataAccessMapperTest {
+    private final RestaurantDataAccessMapper restaurantDataAccessMapper = new RestaurantDataAccessMapperImpl();
+
+    @Test
+    void restaurantSurvivesRoundTrip() {
+        Restaurant restaurant = Restaurant.builder()
+                .restaurantId(new RestaurantId(UUID.randomUUID()))
+                .name("restaurant")
+                .active(true)
+                .products(List.of(
+                        new Product(new ProductId(UUID.randomUUID()), "product-1", new Money(new BigDecimal("25.00"))),
+                        new Product(new ProductId(UUID.randomUUID()), "product-2", new Money(new BigDecimal("40.50")))))
+                .build();
+
+        List<RestaurantEntity> restaurantEntities = restaurantDataAccessMapper
+                .restaurantsToRestaurantEntities(List.of(restaurant));
+        Restaurant mapped = restaurantDataAccessMapper.restaurantEntityToRestaurant(restaurantEntities);
+
+        assertEquals(2, restaurantEntities.size());
+        assertEquals("restaurant", restaurantEntities.get(0).getRestaurantName());
+        assertEquals(restaurant.getId(), mapped.getId());
+        assertEquals(restaurant.isActive(), mapped.isActive());
+        assertEquals(restaurant.getProducts().size(), mapped.getProducts().size());
+        for (int i = 0; i < restaurant.getProducts().size(); i++) {
+            Product expected = restaurant.getProducts().get(i);
+            Product actual = mapped.getProducts().get(i);
+            assertEquals(expected.getId(), actual.getId());
+            assertEquals(expected.getName(), actual.getName());
+            assertEquals(expected.getPrice(), actual.getPrice());
+        }
+        assertEquals(List.of(restaurant.getProducts().get(0).getId().getValue(),
+                restaurant.getProducts().get(1).getId().getValue()),
+                restaurantDataAccessMapper.restaurantToRestaurantProducts(mapped));
+    }
+
+    @Test
+    void missingRestaurantIsRejected() {
+        assertThrows(RestaurantDataAccessException.class,
+                () -> restaurantDataAccessMapper.restaurantEntityToRestaurant(List.of()));
+    }
+}
@@ -0,0 +1,61 @@
+package com.food.ordering.system.order.service.domain;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.validation.annotation.Validated;
+
+import com.food.ordering.system.order.service.domain.dto.message.CustomerModel;
+import com.food.ordering.system.order.service.domain.entity.Customer;
+import com.food.ordering.system.order.service.domain.mapper.OrderDataMapper;
+import com.food.ordering.system.order.service.domain.ports.input.message.listener.customer.ICustomerMessageListener;
+import com.food.ordering.system.order.service.domain.ports.output.repository.ICustomerRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Listener implementation keeping the local customer projection up to date.
+ * <p>
+ * Only the last change of each customer in a batch is written, and the whole
+ * batch is upserted at once.
+ * </p>
+ */
+@Slf4j
+@Validated
+@Service
+public class CustomerMessageListener implements ICustomerMessageListener {
+    /**
+     * Repository for the customer projection.
+     */
+    private final ICustomerRepository customerRepository;
+
+    /**
+     * Mapper for converting customer models to domain entities.
+     */
+    private final OrderDataMapper orderDataMapper;
+
+    /**
+     * Constructs a new CustomerMessageListener.
+     *
+     * @param customerRepository the repository for the customer projection
+     * @param orderDataMapper    the mapper for customer models
+     */
+    public CustomerMessageListener(ICustomerRepository customerRepository, OrderDataMapper orderDataMapper) {
+        this.customerRepository = customerRepository;
+        this.orderDataMapper = orderDataMapper;
+    }
+
+    @Override
+    @Transactional
+    public void customersChanged(List<CustomerModel> customerModels) {
+        Map<UUID, Customer> latestCustomers = new LinkedHashMap<>();
+        customerModels.forEach(customerModel -> latestCustomers.put(customerModel.getId(),
+                orderDataMapper.customerModelToCustomer(customerModel)));
+        customerRepository.saveAll(List.copyOf(latestCustomers.values()));
+        log.info("{} customers saved to the customer projection", latestCustomers.size());
+    }
+}
@@ -5,6 +5,7 @@ import com.food.ordering.system.order.service.domain.dto.create.CreateOrderComma
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderResponse;
 import com.food.ordering.system.order.service.domain.event.OrderCreatedEvent;
 import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
+import com.food.ordering.system.order.service.domain.exception.OrderServiceUnavailableException;
 import com.food.ordering.system.order.service.domain.mapper.OrderDataMapper;
 import com.food.ordering.system.order.service.domain.ports.output.message.publisher.payment.OrderCreatedPaymentRequestMessagePublisher;
 
@@ -61,10 +62,18 @@ public class OrderCreateCommandHandler {
      *
      * @param createOrderCommand the command containing order details
      * @return a {@link CreateOrderResponse} with order tracking information
-     * @throws OrderDomainException if customer or restaurant is not found, or order
-     *                              cannot be saved
+     * @throws OrderDomainException             if customer or restaurant is not
+     *                                          found, or order cannot be saved
+     * @throws OrderServiceUnavailableException if the payment request publisher is
+     *                                          saturated
      */
     public CreateOrderResponse createOrder(CreateOrderCommand createOrderCommand) {
+        if (orderCreatedPaymentRequestMessagePublisher.isSaturated()) {
+            // reject before opening a transaction instead of blocking the request thread on the producer
+            log.warn("Rejecting order for customer {}, payment request publisher is saturated",
+                    createOrderCommand.getCustomerId());
+            throw new OrderServiceUnavailableException("Order service is temporarily overloaded, retry later");
+        }
         OrderCreatedEvent orderCreatedEvent = orderCreateHelper.persistOrder(createOrderCommand);
         log.info("Order is created with id {}", orderCreatedEvent.getOrder().getId().getValue().toString());
         orderCreatedPaymentRequestMessagePublisher.publish(orderCreatedEvent);
@@ -0,0 +1,106 @@
+package com.food.ordering.system.order.service.domain;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.validation.annotation.Validated;
+
+import com.food.ordering.system.order.service.domain.dto.message.RestaurantProductModel;
+import com.food.ordering.system.order.service.domain.entity.Restaurant;
+import com.food.ordering.system.order.service.domain.mapper.OrderDataMapper;
+import com.food.ordering.system.order.service.domain.ports.input.message.listener.restaurant.IRestaurantMessageListener;
+import com.food.ordering.system.order.service.domain.ports.output.repository.IRestaurantRepository;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Listener implementation keeping the local restaurant projection up to date.
+ * <p>
+ * Only the last change of each (restaurant, product) pair in a batch is written,
+ * and the whole batch is upserted at once. The number of products applied per batch
+ * and the time from each change in the restaurant service to its application here
+ * are recorded.
+ * </p>
+ */
+@Slf4j
+@Validated
+@Service
+public class RestaurantMessageListener implements IRestaurantMessageListener {
+    /**
+     * Repository for the restaurant projection.
+     */
+    private final IRestaurantRepository restaurantRepository;
+
+    /**
+     * Mapper for converting restaurant product models to domain entities.
+     */
+    private final OrderDataMapper orderDataMapper;
+
+    /**
+     * Restaurant products applied per batch.
+     */
+    private final DistributionSummary batchSizeSummary;
+
+    /**
+     * Time from a change in the restaurant service to its application.
+     */
+    private final Timer applyLatencyTimer;
+
+    /**
+     * Constructs a new RestaurantMessageListener.
+     *
+     * @param restaurantRepository  the repository for the restaurant projection
+     * @param orderDataMapper       the mapper for restaurant product models
+     * @param meterRegistryProvider the provider of the registry receiving the metrics
+     */
+    public RestaurantMessageListener(IRestaurantRepository restaurantRepository, OrderDataMapper orderDataMapper,
+            ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        this.restaurantRepository = restaurantRepository;
+        this.orderDataMapper = orderDataMapper;
+        MeterRegistry meterRegistry = meterRegistryProvider.getIfAvailable(() -> Metrics.globalRegistry);
+        this.batchSizeSummary = DistributionSummary.builder("order.restaurant.projection.batch.size")
+                .description("Restaurant products applied to the restaurant projection per batch")
+                .register(meterRegistry);
+        this.applyLatencyTimer = Timer.builder("order.restaurant.projection.apply.latency")
+                .description("Time from a restaurant product change to its application to the restaurant projection")
+                .register(meterRegistry);
+    }
+
+    @Override
+    @Transactional
+    public void restaurantProductsChanged(List<RestaurantProductModel> restaurantProductModels) {
+        Map<List<Object>, RestaurantProductModel> latestProducts = new LinkedHashMap<>();
+        restaurantProductModels.forEach(model -> latestProducts
+                .put(List.of(model.getRestaurantId(), model.getProductId()), model));
+        List<RestaurantProductModel> changes = List.copyOf(latestProducts.values());
+        List<Restaurant> restaurants = orderDataMapper.restaurantProductModelsToRestaurants(changes);
+        restaurantRepository.saveAll(restaurants);
+        batchSizeSummary.record(changes.size());
+        // The changes are visible to order creation once the transaction commits.
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                recordApplyLatency(changes);
+            }
+        });
+        log.info("{} products of {} restaurants saved to the restaurant projection", changes.size(),
+                restaurants.size());
+    }
+
+    private void recordApplyLatency(List<RestaurantProductModel> changes) {
+        Instant appliedAt = Instant.now();
+        changes.forEach(model -> applyLatencyTimer.record(Duration.between(model.getChangedAt(), appliedAt)));
+    }
+}
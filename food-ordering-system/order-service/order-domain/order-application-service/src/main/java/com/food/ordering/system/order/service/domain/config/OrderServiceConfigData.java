@@ -38,4 +38,25 @@ public class OrderServiceConfigData {
      * Used to receive restaurant approval results from the restaurant service.
      */
     private String restaurantApprovalResponseTopicName;
+
+    /**
+     * The Kafka topic name for publishing coalesced restaurant approval request batches.
+     * Used instead of the single request topic when approval batching is enabled.
+     */
+    private String restaurantApprovalRequestBatchTopicName;
+
+    /**
+     * Whether paid orders are coalesced into one approval request batch per restaurant.
+     */
+    private Boolean restaurantApprovalBatchEnabled;
+
+    /**
+     * The maximum time in milliseconds a paid order waits in a restaurant batch before it is sent.
+     */
+    private Long restaurantApprovalBatchWindowMs;
+
+    /**
+     * The maximum number of orders in one restaurant approval request batch.
+     */
+    private Integer restaurantApprovalBatchMaxSize;
 }
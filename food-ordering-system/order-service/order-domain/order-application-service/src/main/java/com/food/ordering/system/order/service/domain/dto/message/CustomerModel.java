@@ -0,0 +1,35 @@
+package com.food.ordering.system.order.service.domain.dto.message;
+
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Data transfer object representing a customer published by the customer service.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class CustomerModel {
+    /**
+     * Unique identifier of the customer.
+     */
+    private UUID id;
+
+    /**
+     * Username of the customer.
+     */
+    private String username;
+
+    /**
+     * First name of the customer.
+     */
+    private String firstName;
+
+    /**
+     * Last name of the customer.
+     */
+    private String lastName;
+}
@@ -3,6 +3,7 @@ package com.food.ordering.system.order.service.domain.dto.message;
 import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.List;
+import java.util.UUID;
 
 import com.food.ordering.system.domain.valueobject.PaymentStatus;
 
@@ -20,27 +21,27 @@ public class PaymentResponse {
     /**
      * Unique identifier for the payment response.
      */
-    private String id;
+    private UUID id;
 
     /**
      * Identifier for the saga process associated with this payment.
      */
-    private String sagaId;
+    private UUID sagaId;
 
     /**
      * Identifier of the order related to the payment.
      */
-    private String orderId;
+    private UUID orderId;
 
     /**
      * Identifier of the payment transaction.
      */
-    private String paymentId;
+    private UUID paymentId;
 
     /**
      * Identifier of the customer who made the payment.
      */
-    private String customerId;
+    private UUID customerId;
 
     /**
      * The price amount involved in the payment.
@@ -2,6 +2,7 @@ package com.food.ordering.system.order.service.domain.dto.message;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.UUID;
 
 import com.food.ordering.system.domain.valueobject.OrderApprovalStatus;
 
@@ -20,22 +21,22 @@ public class RestaurantApprovalResponse {
     /**
      * Unique identifier for the restaurant approval response.
      */
-    private String id;
+    private UUID id;
 
     /**
      * Identifier for the saga process associated with this approval.
      */
-    private String sagaId;
+    private UUID sagaId;
 
     /**
      * Identifier of the order related to the approval.
      */
-    private String orderId;
+    private UUID orderId;
 
     /**
      * Identifier of the restaurant processing the approval.
      */
-    private String restaurantId;
+    private UUID restaurantId;
 
     /**
      * The timestamp when the approval response was created.
@@ -0,0 +1,53 @@
+package com.food.ordering.system.order.service.domain.dto.message;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Data transfer object representing a changed product of a restaurant, published
+ * on the restaurant topic.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class RestaurantProductModel {
+    /**
+     * Unique identifier of the restaurant.
+     */
+    private UUID restaurantId;
+
+    /**
+     * Unique identifier of the product.
+     */
+    private UUID productId;
+
+    /**
+     * Name of the restaurant.
+     */
+    private String restaurantName;
+
+    /**
+     * Whether the restaurant is accepting orders.
+     */
+    private boolean restaurantActive;
+
+    /**
+     * Name of the product.
+     */
+    private String productName;
+
+    /**
+     * Price of the product.
+     */
+    private BigDecimal productPrice;
+
+    /**
+     * Time the change was made in the restaurant service.
+     */
+    private Instant changedAt;
+}
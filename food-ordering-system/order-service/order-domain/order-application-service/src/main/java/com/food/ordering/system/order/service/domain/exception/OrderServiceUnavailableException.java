@@ -0,0 +1,22 @@
+package com.food.ordering.system.order.service.domain.exception;
+
+import com.food.ordering.system.domain.exception.DomainException;
+
+/**
+ * Exception thrown when the order service cannot accept new orders for the moment.
+ * <p>
+ * This exception is raised before any work is done, for example when the message
+ * publisher is saturated, so the client can safely retry the request later.
+ * </p>
+ */
+public class OrderServiceUnavailableException extends DomainException {
+    /**
+     * Constructs a new {@code OrderServiceUnavailableException} with the specified
+     * detail message.
+     *
+     * @param message the detail message
+     */
+    public OrderServiceUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -1,10 +1,15 @@
 package com.food.ordering.system.order.service.domain.mapper;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
-import org.springframework.stereotype.Component;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingConstants;
+import org.mapstruct.ReportingPolicy;
 
 import com.food.ordering.system.domain.valueobject.CustomerId;
 import com.food.ordering.system.domain.valueobject.Money;
@@ -13,7 +18,10 @@ import com.food.ordering.system.domain.valueobject.RestaurantId;
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderResponse;
 import com.food.ordering.system.order.service.domain.dto.create.OrderAddress;
+import com.food.ordering.system.order.service.domain.dto.message.CustomerModel;
+import com.food.ordering.system.order.service.domain.dto.message.RestaurantProductModel;
 import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
+import com.food.ordering.system.order.service.domain.entity.Customer;
 import com.food.ordering.system.order.service.domain.entity.Order;
 import com.food.ordering.system.order.service.domain.entity.OrderItem;
 import com.food.ordering.system.order.service.domain.entity.Product;
@@ -24,9 +32,16 @@ import com.food.ordering.system.order.service.domain.valueobject.StreetAddress;
  * Mapper class for converting order-related data between different layers.
  * Handles transformations between domain entities and DTOs for the order
  * service.
+ * <p>
+ * The implementation is generated by MapStruct at compile time as a Spring
+ * component; the abstract methods become plain builder calls and pre-sized loops.
+ * Mappings MapStruct cannot derive, such as the grouping of restaurant products,
+ * are written by hand in the same style.
+ * </p>
  */
-@Component
-public class OrderDataMapper {
+@Mapper(componentModel = MappingConstants.ComponentModel.SPRING, uses = OrderValueObjectMapper.class,
+                unmappedTargetPolicy = ReportingPolicy.ERROR)
+public abstract class OrderDataMapper {
 
         /**
          * Maps a {@link CreateOrderCommand} to a {@link Restaurant} domain entity.
@@ -35,14 +50,10 @@ public class OrderDataMapper {
          *                           information
          * @return a {@link Restaurant} entity populated with the provided data
          */
-        public Restaurant createOrderCommandToRestaurant(CreateOrderCommand createOrderCommand) {
-                return Restaurant.builder()
-                                .restaurantId(new RestaurantId(createOrderCommand.getRestaurantId()))
-                                .products(createOrderCommand.getItems().stream()
-                                                .map(orderItem -> new Product(new ProductId(orderItem.getProductId())))
-                                                .collect(Collectors.toList()))
-                                .build();
-        }
+        @Mapping(target = "products", source = "items")
+        @Mapping(target = "name", ignore = true)
+        @Mapping(target = "active", ignore = true)
+        public abstract Restaurant createOrderCommandToRestaurant(CreateOrderCommand createOrderCommand);
 
         /**
          * Maps a {@link CreateOrderCommand} to an {@link Order} domain entity.
@@ -50,15 +61,12 @@ public class OrderDataMapper {
          * @param createOrderCommand the command containing order details
          * @return an {@link Order} entity populated with the provided data
          */
-        public Order createOrderCommandToOrder(CreateOrderCommand createOrderCommand) {
-                return Order.builder()
-                                .customerId(new CustomerId(createOrderCommand.getCustomerId()))
-                                .restaurantId(new RestaurantId(createOrderCommand.getRestaurantId()))
-                                .deliveryAddress(orderAddressToStreetAddress(createOrderCommand.getAddress()))
-                                .price(new Money(createOrderCommand.getPrice()))
-                                .items(orderItemsToOrderItemEntities(createOrderCommand.getItems()))
-                                .build();
-        }
+        @Mapping(target = "deliveryAddress", source = "address")
+        @Mapping(target = "orderId", ignore = true)
+        @Mapping(target = "trackingId", ignore = true)
+        @Mapping(target = "orderStatus", ignore = true)
+        @Mapping(target = "failureMessages", ignore = true)
+        public abstract Order createOrderCommandToOrder(CreateOrderCommand createOrderCommand);
 
         /**
          * Maps an {@link Order} domain entity to a {@link CreateOrderResponse} DTO.
@@ -72,24 +80,10 @@ public class OrderDataMapper {
          * @return a {@link CreateOrderResponse} containing the order's tracking ID,
          *         status, and message
          */
-        public CreateOrderResponse orderToCreateOrderResponse(Order order, String message) {
-                return CreateOrderResponse.builder()
-                                .orderTrackingId(order.getTrackingId().getValue())
-                                .orderStatus(order.getOrderStatus())
-                                .message(message)
-                                .build();
-        }
-
-        /**
-         * Converts an {@link OrderAddress} DTO to a {@link StreetAddress} value object.
-         *
-         * @param orderAddress the address DTO to convert
-         * @return a {@link StreetAddress} value object with a generated UUID
-         */
-        private StreetAddress orderAddressToStreetAddress(OrderAddress orderAddress) {
-                return new StreetAddress(UUID.randomUUID(), orderAddress.getStreet(), orderAddress.getPostalCode(),
-                                orderAddress.getCity());
-        }
+        @Mapping(target = "orderTrackingId", source = "order.trackingId.value")
+        @Mapping(target = "orderStatus", source = "order.orderStatus")
+        @Mapping(target = "message", source = "message")
+        public abstract CreateOrderResponse orderToCreateOrderResponse(Order order, String message);
 
         /**
          * Maps an {@link Order} domain entity to a {@link TrackOrderResponse} DTO.
@@ -103,12 +97,59 @@ public class OrderDataMapper {
          * @return a {@link TrackOrderResponse} containing tracking information and
          *         status
          */
-        public TrackOrderResponse orderToTrackOrderResponse(Order order) {
-                return TrackOrderResponse.builder()
-                                .orderTrackingId(order.getTrackingId().getValue())
-                                .orderStatus(order.getOrderStatus())
-                                .failureMessages(order.getFailureMessages())
-                                .build();
+        @Mapping(target = "orderTrackingId", source = "trackingId.value")
+        public abstract TrackOrderResponse orderToTrackOrderResponse(Order order);
+
+        /**
+         * Maps a {@link CustomerModel} published by the customer service to a
+         * {@link Customer} domain entity.
+         *
+         * @param customerModel the customer model
+         * @return a {@link Customer} entity with the customer data
+         */
+        public Customer customerModelToCustomer(CustomerModel customerModel) {
+                return new Customer(new CustomerId(customerModel.getId()), customerModel.getUsername(),
+                                customerModel.getFirstName(), customerModel.getLastName());
+        }
+
+        /**
+         * Groups {@link RestaurantProductModel}s published by the restaurant service
+         * into {@link Restaurant} domain entities, one per restaurant. The name and
+         * active status of each restaurant are taken from its last product.
+         *
+         * @param restaurantProductModels the restaurant product models
+         * @return the {@link Restaurant} entities with their products
+         */
+        public List<Restaurant> restaurantProductModelsToRestaurants(
+                        List<RestaurantProductModel> restaurantProductModels) {
+                Map<UUID, List<RestaurantProductModel>> productsByRestaurant = new LinkedHashMap<>();
+                for (RestaurantProductModel model : restaurantProductModels) {
+                        productsByRestaurant.computeIfAbsent(model.getRestaurantId(), id -> new ArrayList<>())
+                                        .add(model);
+                }
+                List<Restaurant> restaurants = new ArrayList<>(productsByRestaurant.size());
+                for (Map.Entry<UUID, List<RestaurantProductModel>> entry : productsByRestaurant.entrySet()) {
+                        List<RestaurantProductModel> models = entry.getValue();
+                        RestaurantProductModel last = models.get(models.size() - 1);
+                        restaurants.add(Restaurant.builder()
+                                        .restaurantId(new RestaurantId(entry.getKey()))
+                                        .name(last.getRestaurantName())
+                                        .active(last.isRestaurantActive())
+                                        .products(restaurantProductModelsToProducts(models))
+                                        .build());
+                }
+                return restaurants;
+        }
+
+        /**
+         * Converts an {@link OrderAddress} DTO to a {@link StreetAddress} value object.
+         *
+         * @param orderAddress the address DTO to convert
+         * @return a {@link StreetAddress} value object with a generated UUID
+         */
+        protected StreetAddress orderAddressToStreetAddress(OrderAddress orderAddress) {
+                return new StreetAddress(UUID.randomUUID(), orderAddress.getStreet(), orderAddress.getPostalCode(),
+                                orderAddress.getCity());
         }
 
         /**
@@ -120,16 +161,74 @@ public class OrderDataMapper {
          * @param orderItems the list of order item DTOs to convert
          * @return a list of {@link OrderItem} entities
          */
-        private List<OrderItem> orderItemsToOrderItemEntities(
-                        List<com.food.ordering.system.order.service.domain.dto.create.OrderItem> orderItems) {
-                return orderItems.stream()
-                                .map(orderItem -> OrderItem.builder()
-                                                .product(new Product(new ProductId(orderItem.getProductId())))
-                                                .price(new Money(orderItem.getPrice()))
-                                                .quantity(orderItem.getQuantity())
-                                                .subTotal(new Money(orderItem.getSubTotal()))
-                                                .build())
-                                .collect(Collectors.toList());
+        protected abstract List<OrderItem> orderItemsToOrderItemEntities(
+                        List<com.food.ordering.system.order.service.domain.dto.create.OrderItem> orderItems);
+
+        /**
+         * Converts an order item DTO to an {@link OrderItem} domain entity. The item id
+         * is assigned when the order is initialized.
+         *
+         * @param orderItem the order item DTO to convert
+         * @return the {@link OrderItem} entity
+         */
+        @Mapping(target = "product", source = "productId")
+        @Mapping(target = "orderItemId", ignore = true)
+        protected abstract OrderItem orderItemToOrderItemEntity(
+                        com.food.ordering.system.order.service.domain.dto.create.OrderItem orderItem);
+
+        /**
+         * Converts a list of order item DTOs to the {@link Product}s they reference.
+         *
+         * @param orderItems the list of order item DTOs to convert
+         * @return the referenced {@link Product}s
+         */
+        protected abstract List<Product> orderItemsToProducts(
+                        List<com.food.ordering.system.order.service.domain.dto.create.OrderItem> orderItems);
+
+        /**
+         * Converts an order item DTO to the {@link Product} it references.
+         *
+         * @param orderItem the order item DTO to convert
+         * @return the referenced {@link Product}
+         */
+        protected Product orderItemToProduct(
+                        com.food.ordering.system.order.service.domain.dto.create.OrderItem orderItem) {
+                return new Product(new ProductId(orderItem.getProductId()));
+        }
+
+        /**
+         * Converts restaurant product models to the {@link Product}s of their
+         * restaurant.
+         *
+         * @param restaurantProductModels the restaurant product models
+         * @return the {@link Product}s
+         */
+        protected abstract List<Product> restaurantProductModelsToProducts(
+                        List<RestaurantProductModel> restaurantProductModels);
+
+        /**
+         * Converts a restaurant product model to a {@link Product} with its name and
+         * price.
+         *
+         * @param restaurantProductModel the restaurant product model
+         * @return the {@link Product}
+         */
+        protected Product restaurantProductModelToProduct(RestaurantProductModel restaurantProductModel) {
+                return new Product(new ProductId(restaurantProductModel.getProductId()),
+                                restaurantProductModel.getProductName(),
+                                new Money(restaurantProductModel.getProductPrice()));
+        }
+
+        /**
+         * Passes a list that needs no conversion, such as the failure messages of an
+         * order, to the target as is instead of copying it.
+         *
+         * @param <T>  the type of the elements
+         * @param list the list
+         * @return the same list
+         */
+        protected <T> List<T> passList(List<T> list) {
+                return list;
         }
 
 }
@@ -0,0 +1,94 @@
+package com.food.ordering.system.order.service.domain.mapper;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import com.food.ordering.system.domain.valueobject.CustomerId;
+import com.food.ordering.system.domain.valueobject.Money;
+import com.food.ordering.system.domain.valueobject.OrderId;
+import com.food.ordering.system.domain.valueobject.ProductId;
+import com.food.ordering.system.domain.valueobject.RestaurantId;
+import com.food.ordering.system.order.service.domain.entity.Product;
+import com.food.ordering.system.order.service.domain.valueobject.OrderItemId;
+import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
+
+/**
+ * Conversions from raw values to the value objects of the order domain, shared by
+ * the generated mappers of the order service through {@code @Mapper(uses = ...)}.
+ * The methods are static so the generated code calls them directly, without a bean
+ * to inject.
+ */
+public final class OrderValueObjectMapper {
+    private OrderValueObjectMapper() {
+    }
+
+    /**
+     * Wraps a UUID in an {@link OrderId}.
+     *
+     * @param id the order id
+     * @return the {@link OrderId}, or null if the id is null
+     */
+    public static OrderId toOrderId(UUID id) {
+        return id == null ? null : new OrderId(id);
+    }
+
+    /**
+     * Wraps a UUID in a {@link CustomerId}.
+     *
+     * @param id the customer id
+     * @return the {@link CustomerId}, or null if the id is null
+     */
+    public static CustomerId toCustomerId(UUID id) {
+        return id == null ? null : new CustomerId(id);
+    }
+
+    /**
+     * Wraps a UUID in a {@link RestaurantId}.
+     *
+     * @param id the restaurant id
+     * @return the {@link RestaurantId}, or null if the id is null
+     */
+    public static RestaurantId toRestaurantId(UUID id) {
+        return id == null ? null : new RestaurantId(id);
+    }
+
+    /**
+     * Wraps a UUID in a {@link TrackingId}.
+     *
+     * @param id the tracking id
+     * @return the {@link TrackingId}, or null if the id is null
+     */
+    public static TrackingId toTrackingId(UUID id) {
+        return id == null ? null : new TrackingId(id);
+    }
+
+    /**
+     * Wraps a sequence number in an {@link OrderItemId}.
+     *
+     * @param id the order item id
+     * @return the {@link OrderItemId}, or null if the id is null
+     */
+    public static OrderItemId toOrderItemId(Long id) {
+        return id == null ? null : new OrderItemId(id);
+    }
+
+    /**
+     * Creates a {@link Product} known only by its id, as referenced by an order item.
+     *
+     * @param productId the product id
+     * @return the {@link Product}, or null if the id is null
+     */
+    public static Product toProduct(UUID productId) {
+        return productId == null ? null : new Product(new ProductId(productId));
+    }
+
+    /**
+     * Wraps an amount in {@link Money}.
+     *
+     * @param amount the amount
+     * @return the {@link Money}, or null if the amount is null
+     */
+    public static Money toMoney(BigDecimal amount) {
+        return amount == null ? null : new Money(amount);
+    }
+}
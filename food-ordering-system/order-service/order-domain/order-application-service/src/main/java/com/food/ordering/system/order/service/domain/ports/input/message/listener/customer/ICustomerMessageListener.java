@@ -0,0 +1,19 @@
+package com.food.ordering.system.order.service.domain.ports.input.message.listener.customer;
+
+import java.util.List;
+
+import com.food.ordering.system.order.service.domain.dto.message.CustomerModel;
+
+/**
+ * Listener interface for handling customer messages published by the customer
+ * service.
+ */
+public interface ICustomerMessageListener {
+    /**
+     * Applies a batch of created or updated customers to the local customer
+     * projection.
+     *
+     * @param customerModels the customers, in the order they were published
+     */
+    void customersChanged(List<CustomerModel> customerModels);
+}
@@ -0,0 +1,20 @@
+package com.food.ordering.system.order.service.domain.ports.input.message.listener.restaurant;
+
+import java.util.List;
+
+import com.food.ordering.system.order.service.domain.dto.message.RestaurantProductModel;
+
+/**
+ * Listener interface for handling restaurant product changes published by the
+ * restaurant service.
+ */
+public interface IRestaurantMessageListener {
+    /**
+     * Applies a batch of created or updated restaurant products to the local
+     * restaurant projection.
+     *
+     * @param restaurantProductModels the restaurant products, in the order they were
+     *                                published
+     */
+    void restaurantProductsChanged(List<RestaurantProductModel> restaurantProductModels);
+}
@@ -9,5 +9,13 @@ import com.food.ordering.system.order.service.domain.event.OrderCreatedEvent;
  * Extends {@link IDomainEventPublisher} for {@link OrderCreatedEvent}.
  */
 public interface OrderCreatedPaymentRequestMessagePublisher extends IDomainEventPublisher<OrderCreatedEvent> {
-
+    /**
+     * Tells whether the publisher is saturated and new orders should be rejected
+     * instead of waiting for it to accept their payment requests.
+     *
+     * @return true if the publisher cannot take more messages right now
+     */
+    default boolean isSaturated() {
+        return false;
+    }
 }
@@ -1,5 +1,6 @@
 package com.food.ordering.system.order.service.domain.ports.output.repository;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -7,7 +8,8 @@ import com.food.ordering.system.order.service.domain.entity.Customer;
 
 /**
  * Repository interface for accessing customer data.
- * Provides method to find a customer by ID.
+ * Provides methods to find a customer by ID and to maintain the local customer
+ * projection.
  */
 public interface ICustomerRepository {
     /**
@@ -18,4 +20,11 @@ public interface ICustomerRepository {
      *         found
      */
     Optional<Customer> findCustomer(UUID customerId);
+
+    /**
+     * Inserts or updates the given customers.
+     *
+     * @param customers the customers to save
+     */
+    void saveAll(List<Customer> customers);
 }
@@ -1,12 +1,14 @@
 package com.food.ordering.system.order.service.domain.ports.output.repository;
 
+import java.util.List;
 import java.util.Optional;
 
 import com.food.ordering.system.order.service.domain.entity.Restaurant;
 
 /**
  * Repository interface for accessing restaurant data.
- * Provides method to retrieve restaurant information.
+ * Provides methods to retrieve restaurant information and to maintain the local
+ * restaurant projection.
  */
 public interface IRestaurantRepository {
     /**
@@ -17,4 +19,13 @@ public interface IRestaurantRepository {
      *         found
      */
     Optional<Restaurant> findRestaurantInformation(Restaurant restaurant);
+
+    /**
+     * Creates or updates the products of the given restaurants in the local
+     * restaurant projection. Products whose values did not change are left
+     * untouched.
+     *
+     * @param restaurants the restaurants with their changed products
+     */
+    void saveAll(List<Restaurant> restaurants);
 }
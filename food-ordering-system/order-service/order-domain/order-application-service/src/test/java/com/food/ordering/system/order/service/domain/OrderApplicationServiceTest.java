@@ -32,7 +32,9 @@ import com.food.ordering.system.order.service.domain.entity.Order;
 import com.food.ordering.system.order.service.domain.entity.Product;
 import com.food.ordering.system.order.service.domain.entity.Restaurant;
 import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
+import com.food.ordering.system.order.service.domain.exception.OrderServiceUnavailableException;
 import com.food.ordering.system.order.service.domain.mapper.OrderDataMapper;
+import com.food.ordering.system.order.service.domain.ports.output.message.publisher.payment.OrderCreatedPaymentRequestMessagePublisher;
 import com.food.ordering.system.order.service.domain.ports.output.repository.ICustomerRepository;
 import com.food.ordering.system.order.service.domain.ports.output.repository.IOrderRepository;
 import com.food.ordering.system.order.service.domain.ports.output.repository.IRestaurantRepository;
@@ -56,6 +58,12 @@ public class OrderApplicationServiceTest {
     @Autowired
     private OrderDataMapper orderDataMapper;
 
+    /**
+     * Publisher for payment requests of created orders.
+     */
+    @Autowired
+    private OrderCreatedPaymentRequestMessagePublisher orderCreatedPaymentRequestMessagePublisher;
+
     /**
      * Repository for persisting and retrieving orders.
      */
@@ -267,4 +275,19 @@ public class OrderApplicationServiceTest {
         assertEquals("Restaurant with id " + RESTAURANT_ID + " is currently not active!",
                 orderDomainException.getMessage());
     }
+
+    /**
+     * Tests order creation while the payment request publisher is saturated.
+     * Expects {@link OrderServiceUnavailableException}.
+     */
+    @Test
+    public void testCreateOrderWithSaturatedPublisher() {
+        when(orderCreatedPaymentRequestMessagePublisher.isSaturated()).thenReturn(true);
+        try {
+            assertThrows(OrderServiceUnavailableException.class,
+                    () -> orderApplicationService.createOrder(createOrderCommand));
+        } finally {
+            when(orderCreatedPaymentRequestMessagePublisher.isSaturated()).thenReturn(false);
+        }
+    }
 }
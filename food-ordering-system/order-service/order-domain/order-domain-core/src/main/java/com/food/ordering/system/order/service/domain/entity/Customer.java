@@ -4,10 +4,67 @@ import com.food.ordering.system.domain.entity.AggregateRoot;
 import com.food.ordering.system.domain.valueobject.CustomerId;
 
 public class Customer extends AggregateRoot<CustomerId> {
+    /**
+     * The username of the customer.
+     */
+    private String username;
+
+    /**
+     * The first name of the customer.
+     */
+    private String firstName;
+
+    /**
+     * The last name of the customer.
+     */
+    private String lastName;
+
     public Customer() {
     }
 
     public Customer(CustomerId customerId) {
         setId(customerId);
     }
+
+    /**
+     * Creates a customer projected from the customer service.
+     *
+     * @param customerId the customer ID
+     * @param username   the username of the customer
+     * @param firstName  the first name of the customer
+     * @param lastName   the last name of the customer
+     */
+    public Customer(CustomerId customerId, String username, String firstName, String lastName) {
+        setId(customerId);
+        this.username = username;
+        this.firstName = firstName;
+        this.lastName = lastName;
+    }
+
+    /**
+     * Gets the username of the customer.
+     *
+     * @return the username
+     */
+    public String getUsername() {
+        return username;
+    }
+
+    /**
+     * Gets the first name of the customer.
+     *
+     * @return the first name
+     */
+    public String getFirstName() {
+        return firstName;
+    }
+
+    /**
+     * Gets the last name of the customer.
+     *
+     * @return the last name
+     */
+    public String getLastName() {
+        return lastName;
+    }
 }
@@ -21,6 +21,10 @@ public class Restaurant extends AggregateRoot<RestaurantId> {
      * Each {@link Product} represents a menu item available for ordering.
      */
     private final List<Product> products;
+    /**
+     * The name of the restaurant.
+     */
+    private final String name;
     /**
      * Indicates whether the restaurant is currently active and able to accept
      * orders.
@@ -40,6 +44,7 @@ public class Restaurant extends AggregateRoot<RestaurantId> {
     private Restaurant(Builder builder) {
         setId(builder.restaurantId);
         products = builder.products;
+        name = builder.name;
         active = builder.active;
     }
 
@@ -52,6 +57,15 @@ public class Restaurant extends AggregateRoot<RestaurantId> {
         return products;
     }
 
+    /**
+     * Retrieves the name of the restaurant.
+     *
+     * @return the name of the restaurant
+     */
+    public String getName() {
+        return name;
+    }
+
     /**
      * Checks if the restaurant is currently active and able to accept orders.
      *
@@ -103,6 +117,10 @@ public class Restaurant extends AggregateRoot<RestaurantId> {
          * The list of products offered by the restaurant.
          */
         private List<Product> products;
+        /**
+         * The name of the restaurant.
+         */
+        private String name;
         /**
          * Indicates whether the restaurant is currently active.
          */
@@ -139,6 +157,17 @@ public class Restaurant extends AggregateRoot<RestaurantId> {
             return this;
         }
 
+        /**
+         * Sets the name of the restaurant.
+         *
+         * @param name the name of the restaurant
+         * @return the current Builder instance for method chaining
+         */
+        public Builder name(String name) {
+            this.name = name;
+            return this;
+        }
+
         /**
          * Sets the active status for the restaurant.
          *
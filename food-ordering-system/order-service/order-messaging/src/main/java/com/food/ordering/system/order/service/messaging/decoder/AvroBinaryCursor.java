@@ -0,0 +1,208 @@
+package com.food.ordering.system.order.service.messaging.decoder;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import org.apache.kafka.common.errors.SerializationException;
+
+/**
+ * Forward-only reader over an Avro binary encoded record.
+ * <p>
+ * The cursor decodes the primitive and logical types used by the order-service
+ * response schemas straight into their Java representations: UUIDs are parsed from
+ * the encoded ASCII bytes without building an intermediate string, decimals are built
+ * from the encoded two's-complement bytes and timestamps become {@link Instant}s.
+ * Instances are not thread-safe and are meant to be reused by a single thread through
+ * {@link #reset(byte[], int)}.
+ * </p>
+ */
+public final class AvroBinaryCursor {
+    /**
+     * Length of the canonical textual representation of a UUID.
+     */
+    private static final int UUID_LENGTH = 36;
+
+    /**
+     * The record being read.
+     */
+    private byte[] data;
+
+    /**
+     * The position of the next byte to read.
+     */
+    private int position;
+
+    /**
+     * Points the cursor to a new record.
+     *
+     * @param data   the serialized record
+     * @param offset the position of the first byte of the Avro body
+     * @return this cursor
+     */
+    public AvroBinaryCursor reset(byte[] data, int offset) {
+        this.data = data;
+        this.position = offset;
+        return this;
+    }
+
+    /**
+     * Reads a zig-zag encoded Avro long.
+     *
+     * @return the decoded value
+     */
+    public long readLong() {
+        long value = 0;
+        int shift = 0;
+        int current;
+        do {
+            if (shift > 63) {
+                throw new SerializationException("Invalid Avro varint at position " + position);
+            }
+            current = nextByte();
+            value |= (long) (current & 0x7F) << shift;
+            shift += 7;
+        } while ((current & 0x80) != 0);
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    /**
+     * Reads a zig-zag encoded Avro int.
+     *
+     * @return the decoded value
+     */
+    public int readInt() {
+        long value = readLong();
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+            throw new SerializationException("Avro int out of range: " + value);
+        }
+        return (int) value;
+    }
+
+    /**
+     * Reads a string with the {@code uuid} logical type.
+     *
+     * @return the decoded UUID
+     */
+    public UUID readUuid() {
+        int length = readLength();
+        if (length != UUID_LENGTH || data[position + 8] != '-' || data[position + 13] != '-'
+                || data[position + 18] != '-' || data[position + 23] != '-') {
+            // non-canonical representation, let the JDK parser handle it
+            return UUID.fromString(readString(length));
+        }
+        long mostSignificantBits = hex(position, 8) << 32 | hex(position + 9, 4) << 16 | hex(position + 14, 4);
+        long leastSignificantBits = hex(position + 19, 4) << 48 | hex(position + 24, 12);
+        position += length;
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+
+    /**
+     * Reads bytes with the {@code decimal} logical type.
+     *
+     * @param scale the scale declared by the schema
+     * @return the decoded decimal
+     */
+    public BigDecimal readDecimal(int scale) {
+        int length = readLength();
+        BigInteger unscaled = length == 0 ? BigInteger.ZERO : new BigInteger(data, position, length);
+        position += length;
+        return new BigDecimal(unscaled, scale);
+    }
+
+    /**
+     * Reads a long with the {@code timestamp-millis} logical type.
+     *
+     * @return the decoded instant
+     */
+    public Instant readTimestampMillis() {
+        return Instant.ofEpochMilli(readLong());
+    }
+
+    /**
+     * Reads an enum symbol and maps it to a constant by its position in the schema.
+     *
+     * @param constants the constants declared in the same order as the schema symbols
+     * @param <E>       the enum type
+     * @return the decoded constant
+     */
+    public <E extends Enum<E>> E readEnum(E[] constants) {
+        int index = readInt();
+        if (index < 0 || index >= constants.length) {
+            throw new SerializationException("Enum symbol index " + index + " out of range");
+        }
+        return constants[index];
+    }
+
+    /**
+     * Reads a string.
+     *
+     * @return the decoded string
+     */
+    public String readString() {
+        return readString(readLength());
+    }
+
+    /**
+     * Reads an array of strings.
+     *
+     * @return the decoded strings
+     */
+    public List<String> readStringArray() {
+        long blockCount = readLong();
+        if (blockCount == 0) {
+            return Collections.emptyList();
+        }
+        List<String> values = new ArrayList<>();
+        while (blockCount != 0) {
+            if (blockCount < 0) {
+                // a negative count is followed by the block size in bytes, which is not needed here
+                blockCount = -blockCount;
+                readLong();
+            }
+            for (long i = 0; i < blockCount; i++) {
+                values.add(readString());
+            }
+            blockCount = readLong();
+        }
+        return values;
+    }
+
+    private String readString(int length) {
+        String value = new String(data, position, length, StandardCharsets.UTF_8);
+        position += length;
+        return value;
+    }
+
+    private int readLength() {
+        int length = readInt();
+        if (length < 0 || length > data.length - position) {
+            throw new SerializationException("Invalid Avro length " + length + " at position " + position);
+        }
+        return length;
+    }
+
+    private int nextByte() {
+        if (position >= data.length) {
+            throw new SerializationException("Unexpected end of Avro record");
+        }
+        return data[position++];
+    }
+
+    private long hex(int offset, int digits) {
+        long value = 0;
+        for (int i = offset; i < offset + digits; i++) {
+            int digit = Character.digit(data[i], 16);
+            if (digit < 0) {
+                throw new SerializationException("Invalid UUID character at position " + i);
+            }
+            value = value << 4 | digit;
+        }
+        return value;
+    }
+}
@@ -0,0 +1,115 @@
+package com.food.ordering.system.order.service.messaging.decoder;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.avro.specific.SpecificRecord;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Deserializer;
+
+import com.food.ordering.system.kafka.model.serde.AvroSchemaCatalog;
+import com.food.ordering.system.kafka.model.serde.AvroSerdeConfig;
+import com.food.ordering.system.kafka.model.serde.AvroWireFormat;
+import com.food.ordering.system.kafka.model.serde.SchemaIdCache;
+import com.food.ordering.system.kafka.model.serde.SpecificAvroDeserializer;
+
+/**
+ * Base Kafka deserializer decoding Avro records straight into application DTOs.
+ * <p>
+ * When the writer schema of a record is the schema compiled into the service, the
+ * Avro body is read field by field with a per-thread {@link AvroBinaryCursor}, without
+ * materializing the generated {@link SpecificRecord} or intermediate strings. Records
+ * written with any other schema version are decoded through
+ * {@link SpecificAvroDeserializer}, which resolves schema evolution, and converted
+ * with {@link #fromSpecificRecord(SpecificRecord)}.
+ * </p>
+ *
+ * @param <A> the generated Avro record type the decoder reads
+ * @param <T> the application DTO type the decoder produces
+ */
+public abstract class DirectAvroDecoder<A extends SpecificRecord, T> implements Deserializer<T> {
+    /**
+     * Per-thread cursor, reused across records.
+     */
+    private static final ThreadLocal<AvroBinaryCursor> CURSOR = ThreadLocal.withInitial(AvroBinaryCursor::new);
+
+    /**
+     * Fingerprint of the schema the direct decoding is written against.
+     */
+    private final long expectedFingerprint;
+
+    /**
+     * Writer schema fingerprints indexed by schema registry id.
+     */
+    private final Map<Integer, Long> fingerprintsById = new ConcurrentHashMap<>();
+
+    /**
+     * Deserializer used for records written with another schema version.
+     */
+    private final SpecificAvroDeserializer<A> fallbackDeserializer = new SpecificAvroDeserializer<>();
+
+    /**
+     * Schema id cache used for Confluent wire format records.
+     */
+    private SchemaIdCache schemaIdCache;
+
+    /**
+     * Constructs a new DirectAvroDecoder.
+     *
+     * @param avroClass the generated Avro record type the decoder reads
+     */
+    protected DirectAvroDecoder(Class<A> avroClass) {
+        this.expectedFingerprint = AvroSchemaCatalog.forClass(avroClass).getFingerprint();
+    }
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        this.schemaIdCache = SchemaIdCache.getInstance(new AvroSerdeConfig(configs));
+        fallbackDeserializer.configure(configs, isKey);
+    }
+
+    @Override
+    public T deserialize(String topic, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        long writerFingerprint;
+        int offset;
+        if (AvroWireFormat.isRegistryFormat(data)) {
+            writerFingerprint = fingerprintsById.computeIfAbsent(AvroWireFormat.readSchemaId(data),
+                    id -> AvroSchemaCatalog.fingerprint(schemaIdCache.schemaFor(id)));
+            offset = AvroWireFormat.REGISTRY_HEADER_LENGTH;
+        } else if (AvroWireFormat.isSingleObjectFormat(data)) {
+            writerFingerprint = AvroWireFormat.readFingerprint(data);
+            offset = AvroWireFormat.SINGLE_OBJECT_HEADER_LENGTH;
+        } else {
+            throw new SerializationException("Unknown Avro wire format for record on topic " + topic);
+        }
+        if (writerFingerprint != expectedFingerprint) {
+            return fromSpecificRecord(fallbackDeserializer.deserialize(topic, data));
+        }
+        try {
+            return decode(CURSOR.get().reset(data, offset));
+        } catch (SerializationException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            throw new SerializationException("Error decoding Avro record on topic " + topic, e);
+        }
+    }
+
+    /**
+     * Decodes the Avro body of a record written with the expected schema.
+     *
+     * @param cursor the cursor positioned at the first field
+     * @return the decoded DTO
+     */
+    protected abstract T decode(AvroBinaryCursor cursor);
+
+    /**
+     * Converts a record decoded by the fallback deserializer.
+     *
+     * @param avroModel the decoded Avro record
+     * @return the converted DTO
+     */
+    protected abstract T fromSpecificRecord(A avroModel);
+}
@@ -0,0 +1,61 @@
+package com.food.ordering.system.order.service.messaging.decoder;
+
+import java.util.Arrays;
+
+import org.mapstruct.factory.Mappers;
+
+import com.food.ordering.system.domain.valueobject.PaymentStatus;
+import com.food.ordering.system.kafka.order.avro.model.PaymentResponseAvroModel;
+import com.food.ordering.system.order.service.domain.dto.message.PaymentResponse;
+import com.food.ordering.system.order.service.messaging.mapper.OrderMessagingDataMapper;
+
+/**
+ * Kafka deserializer reading payment response records directly into
+ * {@link PaymentResponse} DTOs.
+ */
+public class PaymentResponseAvroDecoder extends DirectAvroDecoder<PaymentResponseAvroModel, PaymentResponse> {
+    /**
+     * Scale of the price field declared by the schema.
+     */
+    private static final int PRICE_SCALE = 2;
+
+    /**
+     * Domain payment statuses indexed by the position of their symbol in the schema.
+     */
+    private static final PaymentStatus[] PAYMENT_STATUSES = Arrays
+            .stream(com.food.ordering.system.kafka.order.avro.model.PaymentStatus.values())
+            .map(status -> PaymentStatus.valueOf(status.name()))
+            .toArray(PaymentStatus[]::new);
+
+    /**
+     * Mapper used for records decoded by the fallback deserializer.
+     */
+    private final OrderMessagingDataMapper orderMessagingDataMapper = Mappers.getMapper(OrderMessagingDataMapper.class);
+
+    /**
+     * Constructs a new PaymentResponseAvroDecoder.
+     */
+    public PaymentResponseAvroDecoder() {
+        super(PaymentResponseAvroModel.class);
+    }
+
+    @Override
+    protected PaymentResponse decode(AvroBinaryCursor cursor) {
+        return PaymentResponse.builder()
+                .id(cursor.readUuid())
+                .sagaId(cursor.readUuid())
+                .paymentId(cursor.readUuid())
+                .customerId(cursor.readUuid())
+                .orderId(cursor.readUuid())
+                .price(cursor.readDecimal(PRICE_SCALE))
+                .createdAt(cursor.readTimestampMillis())
+                .paymentStatus(cursor.readEnum(PAYMENT_STATUSES))
+                .failureMessages(cursor.readStringArray())
+                .build();
+    }
+
+    @Override
+    protected PaymentResponse fromSpecificRecord(PaymentResponseAvroModel avroModel) {
+        return orderMessagingDataMapper.paymentResponseAvroModelToPaymentResponse(avroModel);
+    }
+}
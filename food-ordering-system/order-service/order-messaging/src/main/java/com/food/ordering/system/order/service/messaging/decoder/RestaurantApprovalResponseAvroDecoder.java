@@ -0,0 +1,55 @@
+package com.food.ordering.system.order.service.messaging.decoder;
+
+import java.util.Arrays;
+
+import org.mapstruct.factory.Mappers;
+
+import com.food.ordering.system.domain.valueobject.OrderApprovalStatus;
+import com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalResponseAvroModel;
+import com.food.ordering.system.order.service.domain.dto.message.RestaurantApprovalResponse;
+import com.food.ordering.system.order.service.messaging.mapper.OrderMessagingDataMapper;
+
+/**
+ * Kafka deserializer reading restaurant approval response records directly into
+ * {@link RestaurantApprovalResponse} DTOs.
+ */
+public class RestaurantApprovalResponseAvroDecoder
+        extends DirectAvroDecoder<RestaurantApprovalResponseAvroModel, RestaurantApprovalResponse> {
+    /**
+     * Domain approval statuses indexed by the position of their symbol in the schema.
+     */
+    private static final OrderApprovalStatus[] ORDER_APPROVAL_STATUSES = Arrays
+            .stream(com.food.ordering.system.kafka.order.avro.model.OrderApprovalStatus.values())
+            .map(status -> OrderApprovalStatus.valueOf(status.name()))
+            .toArray(OrderApprovalStatus[]::new);
+
+    /**
+     * Mapper used for records decoded by the fallback deserializer.
+     */
+    private final OrderMessagingDataMapper orderMessagingDataMapper = Mappers.getMapper(OrderMessagingDataMapper.class);
+
+    /**
+     * Constructs a new RestaurantApprovalResponseAvroDecoder.
+     */
+    public RestaurantApprovalResponseAvroDecoder() {
+        super(RestaurantApprovalResponseAvroModel.class);
+    }
+
+    @Override
+    protected RestaurantApprovalResponse decode(AvroBinaryCursor cursor) {
+        return RestaurantApprovalResponse.builder()
+                .id(cursor.readUuid())
+                .sagaId(cursor.readUuid())
+                .restaurantId(cursor.readUuid())
+                .orderId(cursor.readUuid())
+                .createdAt(cursor.readTimestampMillis())
+                .orderApprovalStatus(cursor.readEnum(ORDER_APPROVAL_STATUSES))
+                .failureMessages(cursor.readStringArray())
+                .build();
+    }
+
+    @Override
+    protected RestaurantApprovalResponse fromSpecificRecord(RestaurantApprovalResponseAvroModel avroModel) {
+        return orderMessagingDataMapper.approvalResponseAvroModelToApprovalResponse(avroModel);
+    }
+}
@@ -0,0 +1,67 @@
+package com.food.ordering.system.order.service.messaging.listener.kafka;
+
+import java.util.List;
+
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.stereotype.Component;
+
+import com.food.ordering.system.logging.SampledLogger;
+import com.food.ordering.system.kafka.consumer.IKafkaConsumer;
+import com.food.ordering.system.kafka.order.avro.model.CustomerAvroModel;
+import com.food.ordering.system.order.service.domain.ports.input.message.listener.customer.ICustomerMessageListener;
+import com.food.ordering.system.order.service.messaging.mapper.OrderMessagingDataMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Kafka listener for customer messages.
+ * Each polled batch is applied to the local customer projection with one batched
+ * upsert. Customers are keyed by id, so the changes of a customer arrive in order;
+ * the upsert is idempotent, so a redelivered batch needs no deduplication.
+ */
+@Slf4j
+@Component
+public class CustomerKafkaListener implements IKafkaConsumer<CustomerAvroModel> {
+    /**
+     * Sampled logger for the received batches.
+     */
+    private static final SampledLogger BATCH_LOG = SampledLogger.of(log, 1, 10);
+
+    /**
+     * Domain service for handling customer messages.
+     */
+    private final ICustomerMessageListener customerMessageListener;
+
+    /**
+     * Mapper for converting Avro models to domain DTOs.
+     */
+    private final OrderMessagingDataMapper orderMessagingDataMapper;
+
+    /**
+     * Constructs a CustomerKafkaListener with required dependencies.
+     *
+     * @param customerMessageListener  the domain service for customer messages
+     * @param orderMessagingDataMapper the mapper for Avro models
+     */
+    public CustomerKafkaListener(ICustomerMessageListener customerMessageListener,
+            OrderMessagingDataMapper orderMessagingDataMapper) {
+        this.customerMessageListener = customerMessageListener;
+        this.orderMessagingDataMapper = orderMessagingDataMapper;
+    }
+
+    @Override
+    @KafkaListener(id = "${kafka-consumer-config.customer-group-id}", topics = "${order-service.customer-topic-name}")
+    public void receive(@Payload List<CustomerAvroModel> messages,
+            @Header(KafkaHeaders.RECEIVED_KEY) List<Long> keys,
+            @Header(KafkaHeaders.RECEIVED_PARTITION) List<Integer> partitions,
+            @Header(KafkaHeaders.OFFSET) List<Long> offsets) {
+        BATCH_LOG.info("{} number of customer messages received with keys {}, partitions {} and offsets {}",
+                messages.size(), keys, partitions, offsets);
+        customerMessageListener.customersChanged(messages.stream()
+                .map(orderMessagingDataMapper::customerAvroModelToCustomerModel)
+                .toList());
+    }
+}
@@ -1,20 +1,23 @@
 package com.food.ordering.system.order.service.messaging.listener.kafka;
 
 import java.util.List;
+import java.util.UUID;
 
 import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.kafka.support.KafkaUtils;
 import org.springframework.stereotype.Component;
 
+import com.food.ordering.system.logging.SampledLogger;
+import com.food.ordering.system.domain.valueobject.PaymentStatus;
 import com.food.ordering.system.kafka.consumer.IKafkaConsumer;
-import com.food.ordering.system.kafka.order.avro.model.PaymentResponseAvroModel;
-import com.food.ordering.system.kafka.order.avro.model.PaymentStatus;
+import com.food.ordering.system.kafka.consumer.idempotency.IMessageDeduplicator;
+import com.food.ordering.system.order.service.domain.dto.message.PaymentResponse;
 import com.food.ordering.system.order.service.domain.exception.OrderNotFoundException;
 import com.food.ordering.system.order.service.domain.ports.input.message.listener.payment.IPaymentResponseMessageListener;
-import com.food.ordering.system.order.service.messaging.mapper.OrderMessagingDataMapper;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -23,66 +26,91 @@ import lombok.extern.slf4j.Slf4j;
  * This class listens to payment response events from Kafka and delegates
  * processing
  * to the appropriate domain service based on payment status.
+ * Messages arrive already decoded into domain DTOs by
+ * {@link com.food.ordering.system.order.service.messaging.decoder.PaymentResponseAvroDecoder}.
+ * Each message is claimed by its id in the transaction of its handler, so a
+ * redelivered response is dropped before any domain work.
  */
 @Slf4j
 @Component
-public class PaymentResponseKafkaListener implements IKafkaConsumer<PaymentResponseAvroModel> {
+public class PaymentResponseKafkaListener implements IKafkaConsumer<PaymentResponse> {
+    /**
+     * Sampled logger for the received batches.
+     */
+    private static final SampledLogger BATCH_LOG = SampledLogger.of(log, 1, 10);
+
+    /**
+     * Sampled logger for the processed messages.
+     */
+    private static final SampledLogger RECORD_LOG = SampledLogger.of(log, 100, 5);
+
     /**
      * Domain service for handling payment response messages.
      */
     private final IPaymentResponseMessageListener paymentResponseMessageListener;
 
     /**
-     * Mapper for converting Avro models to domain DTOs.
+     * Deduplicator dropping the already processed responses.
      */
-    private final OrderMessagingDataMapper orderMessagingDataMapper;
+    private final IMessageDeduplicator messageDeduplicator;
 
     /**
      * Constructs a PaymentResponseKafkaListener with required dependencies.
      *
      * @param paymentResponseMessageListener the domain service for payment
      *                                       responses
-     * @param orderMessagingDataMapper       the mapper for Avro to domain
-     *                                       conversion
+     * @param messageDeduplicator            the deduplicator dropping the already
+     *                                       processed responses
      */
     public PaymentResponseKafkaListener(IPaymentResponseMessageListener paymentResponseMessageListener,
-            OrderMessagingDataMapper orderMessagingDataMapper) {
+            IMessageDeduplicator messageDeduplicator) {
         this.paymentResponseMessageListener = paymentResponseMessageListener;
-        this.orderMessagingDataMapper = orderMessagingDataMapper;
+        this.messageDeduplicator = messageDeduplicator;
     }
 
     @Override
     @KafkaListener(id = "${kafka-consumer-config.payment-consumer-group-id}", topics = "${order-service.payment-response-topic-name}")
-    public void receive(@Payload List<PaymentResponseAvroModel> messages,
+    public void receive(@Payload List<PaymentResponse> messages,
             @Header(KafkaHeaders.RECEIVED_KEY) List<Long> keys,
             @Header(KafkaHeaders.RECEIVED_PARTITION) List<Integer> partitions,
             @Header(KafkaHeaders.OFFSET) List<Long> offsets) {
-        log.info("{} number of payment responses received with keys:{}, partitions:{} and offsets: {}",
-                messages.size(),
-                keys.toString(),
-                partitions.toString(),
-                offsets.toString());
-        messages.forEach(paymentResponseAvroModel -> {
+        BATCH_LOG.info("{} number of payment responses received with keys:{}, partitions:{} and offsets: {}",
+                messages.size(), keys, partitions, offsets);
+        String consumerGroupId = KafkaUtils.getConsumerGroupId();
+        for (int i = 0; i < messages.size(); i++) {
+            PaymentResponse paymentResponse = messages.get(i);
+            UUID messageId = paymentResponse.getId();
             try {
-                if (PaymentStatus.COMPLETED == paymentResponseAvroModel.getPaymentStatus()) {
-                    log.info("Processing successful payment for order id: {}", paymentResponseAvroModel.getOrderId());
-                    paymentResponseMessageListener.paymentCompleted(orderMessagingDataMapper
-                            .paymentResponseAvroModelToPaymentResponse(paymentResponseAvroModel));
-                } else if (PaymentStatus.CANCELLED == paymentResponseAvroModel.getPaymentStatus() ||
-                        PaymentStatus.FAILED == paymentResponseAvroModel.getPaymentStatus()) {
-                    log.info("Processing unsuccessful payment for order id: {}", paymentResponseAvroModel.getOrderId());
-                    paymentResponseMessageListener.paymentCancelled(orderMessagingDataMapper
-                            .paymentResponseAvroModelToPaymentResponse(paymentResponseAvroModel));
+                if (!messageDeduplicator.handle(consumerGroupId, partitions.get(i), messageId,
+                        () -> process(paymentResponse))) {
+                    RECORD_LOG.info("Dropped duplicate payment response {} for order id: {}", messageId,
+                            paymentResponse.getOrderId());
                 }
             } catch (OptimisticLockingFailureException e) {
                 // NO-OP for optimistic lock. This means another thread finished the work, do
                 // not throw error to prevent reading the data from kafka again!
                 log.error("Caught optimistic locking exception in PaymentResponseKafkaListener for order id: {}",
-                        paymentResponseAvroModel.getOrderId().toString());
+                        paymentResponse.getOrderId().toString());
             } catch (OrderNotFoundException e) {
                 // NO-OP for OrderNotFoundException
-                log.error("No order found for order id: {}", paymentResponseAvroModel.getOrderId().toString());
+                log.error("No order found for order id: {}", paymentResponse.getOrderId().toString());
             }
-        });
+        }
+    }
+
+    /**
+     * Delegates a payment response to the domain service based on its status.
+     *
+     * @param paymentResponse the payment response to process
+     */
+    private void process(PaymentResponse paymentResponse) {
+        if (PaymentStatus.COMPLETED == paymentResponse.getPaymentStatus()) {
+            RECORD_LOG.info("Processing successful payment for order id: {}", paymentResponse.getOrderId());
+            paymentResponseMessageListener.paymentCompleted(paymentResponse);
+        } else if (PaymentStatus.CANCELLED == paymentResponse.getPaymentStatus() ||
+                PaymentStatus.FAILED == paymentResponse.getPaymentStatus()) {
+            log.info("Processing unsuccessful payment for order id: {}", paymentResponse.getOrderId());
+            paymentResponseMessageListener.paymentCancelled(paymentResponse);
+        }
     }
 }
@@ -1,21 +1,24 @@
 package com.food.ordering.system.order.service.messaging.listener.kafka;
 
 import java.util.List;
+import java.util.UUID;
 
 import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.kafka.support.KafkaUtils;
 import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Component;
 
+import com.food.ordering.system.logging.SampledLogger;
+import com.food.ordering.system.domain.valueobject.OrderApprovalStatus;
 import com.food.ordering.system.kafka.consumer.IKafkaConsumer;
-import com.food.ordering.system.kafka.order.avro.model.OrderApprovalStatus;
-import com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalResponseAvroModel;
+import com.food.ordering.system.kafka.consumer.idempotency.IMessageDeduplicator;
+import com.food.ordering.system.order.service.domain.dto.message.RestaurantApprovalResponse;
 import com.food.ordering.system.order.service.domain.entity.Order;
 import com.food.ordering.system.order.service.domain.exception.OrderNotFoundException;
 import com.food.ordering.system.order.service.domain.ports.input.message.listener.restaurantapproval.IRestaurantApprovalResponseMessageListener;
-import com.food.ordering.system.order.service.messaging.mapper.OrderMessagingDataMapper;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -24,20 +27,34 @@ import lombok.extern.slf4j.Slf4j;
  * This class listens to restaurant approval response events from Kafka and
  * delegates processing
  * to the appropriate domain service based on approval status.
+ * Messages arrive already decoded into domain DTOs by
+ * {@link com.food.ordering.system.order.service.messaging.decoder.RestaurantApprovalResponseAvroDecoder}.
+ * Each message is claimed by its id in the transaction of its handler, so a
+ * redelivered response is dropped before any domain work.
  */
 @Slf4j
 @Component
 public class RestaurantApprovalResponseKafkaListener
-        implements IKafkaConsumer<RestaurantApprovalResponseAvroModel> {
+        implements IKafkaConsumer<RestaurantApprovalResponse> {
+    /**
+     * Sampled logger for the received batches.
+     */
+    private static final SampledLogger BATCH_LOG = SampledLogger.of(log, 1, 10);
+
+    /**
+     * Sampled logger for the processed messages.
+     */
+    private static final SampledLogger RECORD_LOG = SampledLogger.of(log, 100, 5);
+
     /**
      * Domain service for handling restaurant approval response messages.
      */
     private final IRestaurantApprovalResponseMessageListener restaurantApprovalResponseMessageListener;
 
     /**
-     * Mapper for converting Avro models to domain DTOs.
+     * Deduplicator dropping the already processed responses.
      */
-    private final OrderMessagingDataMapper orderMessagingDataMapper;
+    private final IMessageDeduplicator messageDeduplicator;
 
     /**
      * Constructs a RestaurantApprovalResponseKafkaListener with required
@@ -46,55 +63,68 @@ public class RestaurantApprovalResponseKafkaListener
      * @param restaurantApprovalResponseMessageListener the domain service for
      *                                                  restaurant approval
      *                                                  responses
-     * @param orderMessagingDataMapper                  the mapper for Avro to
-     *                                                  domain conversion
+     * @param messageDeduplicator                       the deduplicator dropping
+     *                                                  the already processed
+     *                                                  responses
      */
     public RestaurantApprovalResponseKafkaListener(
             IRestaurantApprovalResponseMessageListener restaurantApprovalResponseMessageListener,
-            OrderMessagingDataMapper orderMessagingDataMapper) {
+            IMessageDeduplicator messageDeduplicator) {
         this.restaurantApprovalResponseMessageListener = restaurantApprovalResponseMessageListener;
-        this.orderMessagingDataMapper = orderMessagingDataMapper;
+        this.messageDeduplicator = messageDeduplicator;
     }
 
     @Override
     @KafkaListener(id = "${kafka-consumer-config.restaurant-approval-consumer-group-id}", topics = "${order-service.restaurant-approval-response-topic-name}")
-    public void receive(@Payload List<RestaurantApprovalResponseAvroModel> messages,
+    public void receive(@Payload List<RestaurantApprovalResponse> messages,
             @Header(KafkaHeaders.RECEIVED_KEY) List<Long> keys,
             @Header(KafkaHeaders.RECEIVED_PARTITION) List<Integer> partitions,
             @Header(KafkaHeaders.OFFSET) List<Long> offsets) {
-        log.info("{} number of restaurant approval responses received with keys {}, partitions {} and offsets {}",
-                messages.size(),
-                keys.toString(),
-                partitions.toString(),
-                offsets.toString());
+        BATCH_LOG.info("{} number of restaurant approval responses received with keys {}, partitions {} and offsets {}",
+                messages.size(), keys, partitions, offsets);
 
-        messages.forEach(restaurantApprovalResponseAvroModel -> {
+        String consumerGroupId = KafkaUtils.getConsumerGroupId();
+        for (int i = 0; i < messages.size(); i++) {
+            RestaurantApprovalResponse restaurantApprovalResponse = messages.get(i);
+            UUID messageId = restaurantApprovalResponse.getId();
             try {
-                if (OrderApprovalStatus.APPROVED == restaurantApprovalResponseAvroModel.getOrderApprovalStatus()) {
-                    log.info("Processing approved order for order id: {}",
-                            restaurantApprovalResponseAvroModel.getOrderId());
-                    restaurantApprovalResponseMessageListener.orderApproved(orderMessagingDataMapper
-                            .approvalResponseAvroModelToApprovalResponse(restaurantApprovalResponseAvroModel));
-                } else if (OrderApprovalStatus.REJECTED == restaurantApprovalResponseAvroModel
-                        .getOrderApprovalStatus()) {
-                    log.info("Processing rejected order for order id: {}, with failure messages: {}",
-                            restaurantApprovalResponseAvroModel.getOrderId(),
-                            String.join(Order.FAILURE_MESSAGE_DELIMITER,
-                                    restaurantApprovalResponseAvroModel.getFailureMessages()));
-                    restaurantApprovalResponseMessageListener.orderRejected(orderMessagingDataMapper
-                            .approvalResponseAvroModelToApprovalResponse(restaurantApprovalResponseAvroModel));
+                if (!messageDeduplicator.handle(consumerGroupId, partitions.get(i), messageId,
+                        () -> process(restaurantApprovalResponse))) {
+                    RECORD_LOG.info("Dropped duplicate restaurant approval response {} for order id: {}", messageId,
+                            restaurantApprovalResponse.getOrderId());
                 }
             } catch (OptimisticLockingFailureException e) {
                 // NO-OP for optimistic lock. This means another thread finished the work, do
                 // not throw error to prevent reading the data from kafka again!
                 log.error(
                         "Caught optimistic locking exception in RestaurantApprovalResponseKafkaListener for order id: {}",
-                        restaurantApprovalResponseAvroModel.getOrderId().toString());
+                        restaurantApprovalResponse.getOrderId().toString());
             } catch (OrderNotFoundException e) {
                 // NO-OP for OrderNotFoundException
                 log.error("No order found for order id: {}",
-                        restaurantApprovalResponseAvroModel.getOrderId().toString());
+                        restaurantApprovalResponse.getOrderId().toString());
             }
-        });
+        }
+    }
+
+    /**
+     * Delegates a restaurant approval response to the domain service based on its
+     * approval status.
+     *
+     * @param restaurantApprovalResponse the restaurant approval response to process
+     */
+    private void process(RestaurantApprovalResponse restaurantApprovalResponse) {
+        if (OrderApprovalStatus.APPROVED == restaurantApprovalResponse.getOrderApprovalStatus()) {
+            RECORD_LOG.info("Processing approved order for order id: {}",
+                    restaurantApprovalResponse.getOrderId());
+            restaurantApprovalResponseMessageListener.orderApproved(restaurantApprovalResponse);
+        } else if (OrderApprovalStatus.REJECTED == restaurantApprovalResponse
+                .getOrderApprovalStatus()) {
+            log.info("Processing rejected order for order id: {}, with failure messages: {}",
+                    restaurantApprovalResponse.getOrderId(),
+                    String.join(Order.FAILURE_MESSAGE_DELIMITER,
+                            restaurantApprovalResponse.getFailureMessages()));
+            restaurantApprovalResponseMessageListener.orderRejected(restaurantApprovalResponse);
+        }
     }
 }
@@ -0,0 +1,69 @@
+package com.food.ordering.system.order.service.messaging.listener.kafka;
+
+import java.util.List;
+
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.stereotype.Component;
+
+import com.food.ordering.system.logging.SampledLogger;
+import com.food.ordering.system.kafka.consumer.IKafkaConsumer;
+import com.food.ordering.system.kafka.order.avro.model.RestaurantProductAvroModel;
+import com.food.ordering.system.order.service.domain.ports.input.message.listener.restaurant.IRestaurantMessageListener;
+import com.food.ordering.system.order.service.messaging.mapper.OrderMessagingDataMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Kafka listener for restaurant product messages.
+ * Each polled batch is applied to the local restaurant projection with one batched
+ * upsert. Restaurant products are keyed by restaurant id, so the changes of a
+ * restaurant arrive in order; the upsert is idempotent, so a redelivered batch
+ * needs no deduplication.
+ */
+@Slf4j
+@Component
+public class RestaurantKafkaListener implements IKafkaConsumer<RestaurantProductAvroModel> {
+    /**
+     * Sampled logger for the received batches.
+     */
+    private static final SampledLogger BATCH_LOG = SampledLogger.of(log, 1, 10);
+
+    /**
+     * Domain service for handling restaurant product messages.
+     */
+    private final IRestaurantMessageListener restaurantMessageListener;
+
+    /**
+     * Mapper for converting Avro models to domain DTOs.
+     */
+    private final OrderMessagingDataMapper orderMessagingDataMapper;
+
+    /**
+     * Constructs a RestaurantKafkaListener with required dependencies.
+     *
+     * @param restaurantMessageListener the domain service for restaurant product
+     *                                  messages
+     * @param orderMessagingDataMapper  the mapper for Avro models
+     */
+    public RestaurantKafkaListener(IRestaurantMessageListener restaurantMessageListener,
+            OrderMessagingDataMapper orderMessagingDataMapper) {
+        this.restaurantMessageListener = restaurantMessageListener;
+        this.orderMessagingDataMapper = orderMessagingDataMapper;
+    }
+
+    @Override
+    @KafkaListener(id = "${kafka-consumer-config.restaurant-group-id}", topics = "${order-service.restaurant-topic-name}")
+    public void receive(@Payload List<RestaurantProductAvroModel> messages,
+            @Header(KafkaHeaders.RECEIVED_KEY) List<Long> keys,
+            @Header(KafkaHeaders.RECEIVED_PARTITION) List<Integer> partitions,
+            @Header(KafkaHeaders.OFFSET) List<Long> offsets) {
+        BATCH_LOG.info("{} number of restaurant product messages received with keys {}, partitions {} and offsets {}",
+                messages.size(), keys, partitions, offsets);
+        restaurantMessageListener.restaurantProductsChanged(messages.stream()
+                .map(orderMessagingDataMapper::restaurantProductAvroModelToRestaurantProductModel)
+                .toList());
+    }
+}
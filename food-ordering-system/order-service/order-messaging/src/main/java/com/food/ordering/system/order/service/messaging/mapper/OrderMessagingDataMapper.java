@@ -1,19 +1,28 @@
 package com.food.ordering.system.order.service.messaging.mapper;
 
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.List;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
-import org.springframework.stereotype.Component;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingConstants;
+import org.mapstruct.ReportingPolicy;
 
-import com.food.ordering.system.kafka.order.avro.model.PaymentOrderStatus;
+import com.food.ordering.system.kafka.order.avro.model.CustomerAvroModel;
 import com.food.ordering.system.kafka.order.avro.model.PaymentRequestAvroModel;
 import com.food.ordering.system.kafka.order.avro.model.PaymentResponseAvroModel;
 import com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalRequestAvroModel;
+import com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalRequestBatchAvroModel;
+import com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalRequestEntry;
 import com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalResponseAvroModel;
-import com.food.ordering.system.kafka.order.avro.model.RestaurantOrderStatus;
+import com.food.ordering.system.kafka.order.avro.model.RestaurantProductAvroModel;
+import com.food.ordering.system.order.service.domain.dto.message.CustomerModel;
 import com.food.ordering.system.order.service.domain.dto.message.PaymentResponse;
 import com.food.ordering.system.order.service.domain.dto.message.RestaurantApprovalResponse;
-import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.dto.message.RestaurantProductModel;
+import com.food.ordering.system.order.service.domain.entity.OrderItem;
 import com.food.ordering.system.order.service.domain.event.OrderCancelledEvent;
 import com.food.ordering.system.order.service.domain.event.OrderCreatedEvent;
 import com.food.ordering.system.order.service.domain.event.OrderPaidEvent;
@@ -22,9 +31,13 @@ import com.food.ordering.system.order.service.domain.event.OrderPaidEvent;
  * Data mapper component for converting order domain events to messaging models.
  * This mapper is responsible for transforming order events into Avro models
  * that can be published to Kafka topics for payment processing.
+ * The implementation is generated by MapStruct at compile time; the Kafka
+ * deserializers, which are not Spring beans, obtain it through
+ * {@code Mappers.getMapper(OrderMessagingDataMapper.class)}.
  */
-@Component
-public class OrderMessagingDataMapper {
+@Mapper(componentModel = MappingConstants.ComponentModel.SPRING, imports = { UUID.class, Instant.class },
+                unmappedTargetPolicy = ReportingPolicy.ERROR)
+public abstract class OrderMessagingDataMapper {
         /**
          * Converts an OrderCreatedEvent to a PaymentRequestAvroModel for payment
          * processing.
@@ -35,18 +48,14 @@ public class OrderMessagingDataMapper {
          * @param orderCreatedEvent the order created event containing order details
          * @return PaymentRequestAvroModel with payment request data in PENDING status
          */
-        public PaymentRequestAvroModel orderCreatedEventToPaymentRequestAvroModel(OrderCreatedEvent orderCreatedEvent) {
-                Order order = orderCreatedEvent.getOrder();
-                return PaymentRequestAvroModel.newBuilder()
-                                .setId(UUID.randomUUID())
-                                .setSagaId(UUID.randomUUID())
-                                .setCustomerId(order.getCustomerId().getValue())
-                                .setOrderId(order.getId().getValue())
-                                .setPrice(order.getPrice().getAmount())
-                                .setCreatedAt(orderCreatedEvent.getCreatedAt().toInstant())
-                                .setPaymentOrderStatus(PaymentOrderStatus.PENDING)
-                                .build();
-        }
+        @Mapping(target = "id", expression = "java(UUID.randomUUID())")
+        @Mapping(target = "sagaId", expression = "java(UUID.randomUUID())")
+        @Mapping(target = "customerId", source = "order.customerId.value")
+        @Mapping(target = "orderId", source = "order.id.value")
+        @Mapping(target = "price", source = "order.price.amount")
+        @Mapping(target = "paymentOrderStatus", constant = "PENDING")
+        public abstract PaymentRequestAvroModel orderCreatedEventToPaymentRequestAvroModel(
+                        OrderCreatedEvent orderCreatedEvent);
 
         /**
          * Converts an OrderCancelledEvent to a PaymentRequestAvroModel for payment
@@ -58,19 +67,14 @@ public class OrderMessagingDataMapper {
          * @param orderCancelledEvent the order cancelled event containing order details
          * @return PaymentRequestAvroModel with payment request data in CANCELLED status
          */
-        public PaymentRequestAvroModel orderCancelledEventToPaymentRequestAvroModel(
-                        OrderCancelledEvent orderCancelledEvent) {
-                Order order = orderCancelledEvent.getOrder();
-                return PaymentRequestAvroModel.newBuilder()
-                                .setId(UUID.randomUUID())
-                                .setSagaId(UUID.randomUUID())
-                                .setCustomerId(order.getCustomerId().getValue())
-                                .setOrderId(order.getId().getValue())
-                                .setPrice(order.getPrice().getAmount())
-                                .setCreatedAt(orderCancelledEvent.getCreatedAt().toInstant())
-                                .setPaymentOrderStatus(PaymentOrderStatus.CANCELLED)
-                                .build();
-        }
+        @Mapping(target = "id", expression = "java(UUID.randomUUID())")
+        @Mapping(target = "sagaId", expression = "java(UUID.randomUUID())")
+        @Mapping(target = "customerId", source = "order.customerId.value")
+        @Mapping(target = "orderId", source = "order.id.value")
+        @Mapping(target = "price", source = "order.price.amount")
+        @Mapping(target = "paymentOrderStatus", constant = "CANCELLED")
+        public abstract PaymentRequestAvroModel orderCancelledEventToPaymentRequestAvroModel(
+                        OrderCancelledEvent orderCancelledEvent);
 
         /**
          * Converts an OrderPaidEvent to a RestaurantApprovalRequestAvroModel for
@@ -85,31 +89,43 @@ public class OrderMessagingDataMapper {
          * @return RestaurantApprovalRequestAvroModel with restaurant approval request
          *         data in PAID status
          */
-        public RestaurantApprovalRequestAvroModel orderPaidEventToRestaurantApprovalRequestAvroModel(
-                        OrderPaidEvent orderPaidEvent) {
-                Order order = orderPaidEvent.getOrder();
-                return RestaurantApprovalRequestAvroModel.newBuilder()
-                                .setId(UUID.randomUUID())
-                                .setSagaId(UUID.randomUUID())
-                                .setOrderId(order.getId().getValue())
-                                .setRestaurantId(order.getRestaurantId().getValue())
-                                .setOrderId(order.getId().getValue())
-                                .setRestaurantOrderStatus(
-                                                com.food.ordering.system.kafka.order.avro.model.RestaurantOrderStatus
-                                                                .valueOf(order.getOrderStatus().name()))
-                                .setProducts(order.getItems().stream()
-                                                .map(orderItem -> com.food.ordering.system.kafka.order.avro.model.Product
-                                                                .newBuilder()
-                                                                .setId(orderItem.getProduct().getId().getValue()
-                                                                                .toString())
-                                                                .setQuantity(orderItem.getQuantity())
-                                                                .build())
-                                                .collect(Collectors.toList()))
-                                .setPrice(order.getPrice().getAmount())
-                                .setCreatedAt(orderPaidEvent.getCreatedAt().toInstant())
-                                .setRestaurantOrderStatus(RestaurantOrderStatus.PAID)
-                                .build();
-        }
+        @Mapping(target = "id", expression = "java(UUID.randomUUID())")
+        @Mapping(target = "sagaId", expression = "java(UUID.randomUUID())")
+        @Mapping(target = "restaurantId", source = "order.restaurantId.value")
+        @Mapping(target = "orderId", source = "order.id.value")
+        @Mapping(target = "products", source = "order.items")
+        @Mapping(target = "price", source = "order.price.amount")
+        @Mapping(target = "restaurantOrderStatus", constant = "PAID")
+        public abstract RestaurantApprovalRequestAvroModel orderPaidEventToRestaurantApprovalRequestAvroModel(
+                        OrderPaidEvent orderPaidEvent);
+
+        /**
+         * Converts a RestaurantApprovalRequestAvroModel to an entry of a restaurant
+         * approval request batch.
+         * The entry keeps the request, saga and order ids of the single request so that
+         * every order in the batch stays correlated with its own saga.
+         *
+         * @param restaurantApprovalRequestAvroModel the single approval request
+         * @return RestaurantApprovalRequestEntry with the order data of the request
+         */
+        public abstract RestaurantApprovalRequestEntry restaurantApprovalRequestAvroModelToEntry(
+                        RestaurantApprovalRequestAvroModel restaurantApprovalRequestAvroModel);
+
+        /**
+         * Builds a RestaurantApprovalRequestBatchAvroModel carrying the approval
+         * requests of one restaurant.
+         *
+         * @param restaurantId the id of the restaurant the requests are addressed to
+         * @param entries      the approval request entries of the batch
+         * @return RestaurantApprovalRequestBatchAvroModel in PAID status
+         */
+        @Mapping(target = "id", expression = "java(UUID.randomUUID())")
+        @Mapping(target = "restaurantId", source = "restaurantId")
+        @Mapping(target = "restaurantOrderStatus", constant = "PAID")
+        @Mapping(target = "requests", source = "entries")
+        @Mapping(target = "createdAt", expression = "java(Instant.now())")
+        public abstract RestaurantApprovalRequestBatchAvroModel restaurantApprovalRequestEntriesToBatchAvroModel(
+                        UUID restaurantId, List<RestaurantApprovalRequestEntry> entries);
 
         /**
          * Converts a PaymentResponseAvroModel to a PaymentResponse domain DTO.
@@ -120,21 +136,8 @@ public class OrderMessagingDataMapper {
          *                                 data
          * @return PaymentResponse domain DTO with mapped data
          */
-        public PaymentResponse paymentResponseAvroModelToPaymentResponse(
-                        PaymentResponseAvroModel paymentResponseAvroModel) {
-                return PaymentResponse.builder()
-                                .id(paymentResponseAvroModel.getId().toString())
-                                .sagaId(paymentResponseAvroModel.getSagaId().toString())
-                                .paymentId(paymentResponseAvroModel.getPaymentId().toString())
-                                .customerId(paymentResponseAvroModel.getCustomerId().toString())
-                                .orderId(paymentResponseAvroModel.getOrderId().toString())
-                                .price(paymentResponseAvroModel.getPrice())
-                                .createdAt(paymentResponseAvroModel.getCreatedAt())
-                                .paymentStatus(com.food.ordering.system.domain.valueobject.PaymentStatus.valueOf(
-                                                paymentResponseAvroModel.getPaymentStatus().name()))
-                                .failureMessages(paymentResponseAvroModel.getFailureMessages())
-                                .build();
-        }
+        public abstract PaymentResponse paymentResponseAvroModelToPaymentResponse(
+                        PaymentResponseAvroModel paymentResponseAvroModel);
 
         /**
          * Converts a RestaurantApprovalResponseAvroModel to a
@@ -146,19 +149,69 @@ public class OrderMessagingDataMapper {
          *                                            restaurant approval response data
          * @return RestaurantApprovalResponse domain DTO with mapped data
          */
-        public RestaurantApprovalResponse approvalResponseAvroModelToApprovalResponse(
-                        RestaurantApprovalResponseAvroModel restaurantApprovalResponseAvroModel) {
-                return RestaurantApprovalResponse.builder()
-                                .id(restaurantApprovalResponseAvroModel.getId().toString())
-                                .sagaId(restaurantApprovalResponseAvroModel.getSagaId().toString())
-                                .restaurantId(restaurantApprovalResponseAvroModel.getRestaurantId().toString())
-                                .orderId(restaurantApprovalResponseAvroModel.getOrderId().toString())
-                                .createdAt(restaurantApprovalResponseAvroModel.getCreatedAt())
-                                .orderApprovalStatus(
-                                                com.food.ordering.system.domain.valueobject.OrderApprovalStatus.valueOf(
-                                                                restaurantApprovalResponseAvroModel
-                                                                                .getOrderApprovalStatus().name()))
-                                .failureMessages(restaurantApprovalResponseAvroModel.getFailureMessages())
-                                .build();
+        public abstract RestaurantApprovalResponse approvalResponseAvroModelToApprovalResponse(
+                        RestaurantApprovalResponseAvroModel restaurantApprovalResponseAvroModel);
+
+        /**
+         * Converts a CustomerAvroModel published by the customer service to a
+         * CustomerModel domain DTO.
+         *
+         * @param customerAvroModel the Avro model containing the customer data
+         * @return CustomerModel domain DTO with mapped data
+         */
+        public abstract CustomerModel customerAvroModelToCustomerModel(CustomerAvroModel customerAvroModel);
+
+        /**
+         * Converts a RestaurantProductAvroModel published by the restaurant service
+         * to a RestaurantProductModel domain DTO.
+         *
+         * @param restaurantProductAvroModel the Avro model containing the restaurant
+         *                                   product data
+         * @return RestaurantProductModel domain DTO with mapped data
+         */
+        public abstract RestaurantProductModel restaurantProductAvroModelToRestaurantProductModel(
+                        RestaurantProductAvroModel restaurantProductAvroModel);
+
+        /**
+         * Converts the items of an order to the products of a restaurant approval
+         * request.
+         *
+         * @param orderItems the items of the order
+         * @return the products with their quantity
+         */
+        protected abstract List<com.food.ordering.system.kafka.order.avro.model.Product> orderItemsToProducts(
+                        List<OrderItem> orderItems);
+
+        /**
+         * Converts an item of an order to a product of a restaurant approval request.
+         *
+         * @param orderItem the item of the order
+         * @return the product with its quantity
+         */
+        @Mapping(target = "id", source = "product.id.value")
+        protected abstract com.food.ordering.system.kafka.order.avro.model.Product orderItemToProduct(
+                        OrderItem orderItem);
+
+        /**
+         * Passes a list that needs no conversion, such as failure messages or
+         * products, to the target as is instead of copying it.
+         *
+         * @param <T>  the type of the elements
+         * @param list the list
+         * @return the same list
+         */
+        protected <T> List<T> passList(List<T> list) {
+                return list;
+        }
+
+        /**
+         * Converts the creation time of an event to the instant carried by the
+         * message.
+         *
+         * @param createdAt the creation time of the event
+         * @return the instant of the creation time
+         */
+        protected Instant zonedDateTimeToInstant(ZonedDateTime createdAt) {
+                return createdAt == null ? null : createdAt.toInstant();
         }
 }
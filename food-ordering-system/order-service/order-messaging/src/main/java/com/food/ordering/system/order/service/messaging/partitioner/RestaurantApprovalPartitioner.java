@@ -0,0 +1,221 @@
+package com.food.ordering.system.order.service.messaging.partitioner;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+import org.apache.kafka.clients.producer.Partitioner;
+import org.apache.kafka.common.Cluster;
+import org.apache.kafka.common.utils.Utils;
+
+import com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalRequestAvroModel;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Kafka partitioner for restaurant approval requests keyed by restaurant id.
+ * <p>
+ * Every restaurant is mapped to a home partition by the murmur2 hash of its key,
+ * like the default partitioner, so the approvals of one restaurant arrive together
+ * and can be batched and cached by the restaurant service. To keep a few very busy
+ * restaurants from overloading their home partition, the partitioner counts the
+ * records per key over a fixed time window; a key that exceeded the configured share
+ * of the previous window is hot, and its records are spread over a small number of
+ * consecutive partitions starting at the home partition. The partition within that
+ * range is chosen by order id, so all requests of one order still share a partition.
+ * </p>
+ */
+@Slf4j
+public class RestaurantApprovalPartitioner implements Partitioner {
+    /**
+     * Property key of the share of a window's records above which a key becomes hot.
+     */
+    public static final String HOT_KEY_SHARE_CONFIG = "restaurant.approval.partitioner.hot.key.share";
+
+    /**
+     * Property key of the number of partitions a hot key is spread over.
+     */
+    public static final String HOT_KEY_SPREAD_CONFIG = "restaurant.approval.partitioner.hot.key.spread";
+
+    /**
+     * Property key of the length of the counting window in milliseconds.
+     */
+    public static final String WINDOW_MS_CONFIG = "restaurant.approval.partitioner.window.ms";
+
+    /**
+     * Property key of the minimum number of records a window needs before hot keys are detected.
+     */
+    public static final String MIN_WINDOW_RECORDS_CONFIG = "restaurant.approval.partitioner.min.window.records";
+
+    /**
+     * Property key of the maximum number of keys counted per window.
+     */
+    public static final String MAX_TRACKED_KEYS_CONFIG = "restaurant.approval.partitioner.max.tracked.keys";
+
+    /**
+     * Default share of a window's records above which a key becomes hot.
+     */
+    private static final double DEFAULT_HOT_KEY_SHARE = 0.2;
+
+    /**
+     * Default number of partitions a hot key is spread over.
+     */
+    private static final int DEFAULT_HOT_KEY_SPREAD = 2;
+
+    /**
+     * Default length of the counting window in milliseconds.
+     */
+    private static final long DEFAULT_WINDOW_MS = 1000;
+
+    /**
+     * Default minimum number of records a window needs before hot keys are detected.
+     */
+    private static final long DEFAULT_MIN_WINDOW_RECORDS = 100;
+
+    /**
+     * Default maximum number of keys counted per window.
+     */
+    private static final int DEFAULT_MAX_TRACKED_KEYS = 10_000;
+
+    /**
+     * Record counts of the current window indexed by key.
+     */
+    private final Map<String, LongAdder> windowCounts = new ConcurrentHashMap<>();
+
+    /**
+     * Total record count of the current window.
+     */
+    private final LongAdder windowTotal = new LongAdder();
+
+    /**
+     * Counter used to spread records without an order id.
+     */
+    private final AtomicInteger spreadCounter = new AtomicInteger();
+
+    /**
+     * Keys found hot in the previous window.
+     */
+    private volatile Set<String> hotKeys = Set.of();
+
+    /**
+     * Start of the current window in epoch milliseconds.
+     */
+    private volatile long windowStartMs = System.currentTimeMillis();
+
+    /**
+     * Share of a window's records above which a key becomes hot.
+     */
+    private double hotKeyShare = DEFAULT_HOT_KEY_SHARE;
+
+    /**
+     * Number of partitions a hot key is spread over.
+     */
+    private int hotKeySpread = DEFAULT_HOT_KEY_SPREAD;
+
+    /**
+     * Length of the counting window in milliseconds.
+     */
+    private long windowMs = DEFAULT_WINDOW_MS;
+
+    /**
+     * Minimum number of records a window needs before hot keys are detected.
+     */
+    private long minWindowRecords = DEFAULT_MIN_WINDOW_RECORDS;
+
+    /**
+     * Maximum number of keys counted per window, bounding the memory of the partitioner.
+     */
+    private int maxTrackedKeys = DEFAULT_MAX_TRACKED_KEYS;
+
+    @Override
+    public void configure(Map<String, ?> configs) {
+        hotKeyShare = doubleConfig(configs, HOT_KEY_SHARE_CONFIG, DEFAULT_HOT_KEY_SHARE);
+        hotKeySpread = (int) longConfig(configs, HOT_KEY_SPREAD_CONFIG, DEFAULT_HOT_KEY_SPREAD);
+        windowMs = longConfig(configs, WINDOW_MS_CONFIG, DEFAULT_WINDOW_MS);
+        minWindowRecords = longConfig(configs, MIN_WINDOW_RECORDS_CONFIG, DEFAULT_MIN_WINDOW_RECORDS);
+        maxTrackedKeys = (int) longConfig(configs, MAX_TRACKED_KEYS_CONFIG, DEFAULT_MAX_TRACKED_KEYS);
+    }
+
+    @Override
+    public int partition(String topic, Object key, byte[] keyBytes, Object value, byte[] valueBytes,
+            Cluster cluster) {
+        int partitionCount = cluster.partitionCountForTopic(topic);
+        if (keyBytes == null) {
+            return Utils.toPositive(spreadCounter.getAndIncrement()) % partitionCount;
+        }
+        int homePartition = Utils.toPositive(Utils.murmur2(keyBytes)) % partitionCount;
+        String restaurantKey = key.toString();
+        countRecord(restaurantKey);
+        int spread = Math.min(hotKeySpread, partitionCount);
+        if (spread <= 1 || !hotKeys.contains(restaurantKey)) {
+            return homePartition;
+        }
+        int offset = value instanceof RestaurantApprovalRequestAvroModel restaurantApprovalRequestAvroModel
+                ? Utils.toPositive(restaurantApprovalRequestAvroModel.getOrderId().hashCode()) % spread
+                : Utils.toPositive(spreadCounter.getAndIncrement()) % spread;
+        return (homePartition + offset) % partitionCount;
+    }
+
+    @Override
+    public void close() {
+        windowCounts.clear();
+    }
+
+    /**
+     * Returns the keys found hot in the previous window.
+     *
+     * @return the hot keys
+     */
+    public Set<String> getHotKeys() {
+        return hotKeys;
+    }
+
+    private void countRecord(String restaurantKey) {
+        long now = System.currentTimeMillis();
+        if (now - windowStartMs >= windowMs) {
+            rollWindow(now);
+        }
+        LongAdder count = windowCounts.get(restaurantKey);
+        if (count == null && windowCounts.size() < maxTrackedKeys) {
+            count = windowCounts.computeIfAbsent(restaurantKey, ignored -> new LongAdder());
+        }
+        if (count != null) {
+            count.increment();
+        }
+        windowTotal.increment();
+    }
+
+    private synchronized void rollWindow(long now) {
+        if (now - windowStartMs < windowMs) {
+            return;
+        }
+        long total = windowTotal.sumThenReset();
+        Set<String> newHotKeys = Set.of();
+        if (total >= minWindowRecords) {
+            long threshold = (long) Math.ceil(total * hotKeyShare);
+            newHotKeys = windowCounts.entrySet().stream()
+                    .filter(entry -> entry.getValue().sum() >= threshold)
+                    .map(Map.Entry::getKey)
+                    .collect(Collectors.toUnmodifiableSet());
+        }
+        if (!newHotKeys.equals(hotKeys)) {
+            log.debug("Hot restaurant keys changed to {} after a window of {} records", newHotKeys, total);
+        }
+        hotKeys = newHotKeys;
+        windowCounts.clear();
+        windowStartMs = now;
+    }
+
+    private static double doubleConfig(Map<String, ?> configs, String name, double defaultValue) {
+        Object value = configs.get(name);
+        return value == null ? defaultValue : Double.parseDouble(value.toString().trim());
+    }
+
+    private static long longConfig(Map<String, ?> configs, String name, long defaultValue) {
+        Object value = configs.get(name);
+        return value == null ? defaultValue : Long.parseLong(value.toString().trim());
+    }
+}
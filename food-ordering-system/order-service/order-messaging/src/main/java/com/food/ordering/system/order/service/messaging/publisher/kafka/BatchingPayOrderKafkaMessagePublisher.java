@@ -0,0 +1,249 @@
+package com.food.ordering.system.order.service.messaging.publisher.kafka;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.annotation.Primary;
+import org.springframework.kafka.listener.AbstractMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import com.food.ordering.system.logging.SampledLogger;
+import com.food.ordering.system.kafka.model.header.AvroMessageHeaders;
+import com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalRequestAvroModel;
+import com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalRequestBatchAvroModel;
+import com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalRequestEntry;
+import com.food.ordering.system.kafka.producer.service.IKafkaProducer;
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.order.service.domain.event.OrderPaidEvent;
+import com.food.ordering.system.order.service.domain.ports.output.message.publisher.restaurantapproval.OrderPaidRestaurantRequestMessagePublisher;
+import com.food.ordering.system.order.service.messaging.mapper.OrderMessagingDataMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Kafka message publisher coalescing the restaurant approval requests of paid orders
+ * into one batch message per restaurant.
+ * <p>
+ * Enabled with {@code order-service.restaurant-approval-batch-enabled=true}, in which
+ * case it replaces {@link PayOrderKafkaMessagePublisher}. Paid orders are accumulated
+ * per restaurant and sent as a single {@link RestaurantApprovalRequestBatchAvroModel}
+ * once the batch reaches the configured size or its oldest order waited for the
+ * configured window. Each entry keeps the request, saga and order ids of its order, so
+ * the saga correlation of every order is preserved.
+ * </p>
+ * <p>
+ * The publisher runs in a lifecycle phase below the one of the Kafka listener
+ * containers, so it stops after them: the pending batches are sent once the containers
+ * finished their last batch, and the orders paid while stopping are sent right away
+ * instead of being queued.
+ * </p>
+ */
+@Slf4j
+@Primary
+@Component
+@ConditionalOnProperty(prefix = "order-service", name = "restaurant-approval-batch-enabled", havingValue = "true")
+public class BatchingPayOrderKafkaMessagePublisher implements OrderPaidRestaurantRequestMessagePublisher,
+        SmartLifecycle {
+    /**
+     * Sampled logger for the publish path.
+     */
+    private static final SampledLogger PUBLISH_LOG = SampledLogger.of(log, 10, 5);
+
+    /**
+     * Lifecycle phase of the publisher, below the phase of the Kafka listener containers.
+     */
+    private static final int PHASE = AbstractMessageListenerContainer.DEFAULT_PHASE - 100;
+
+    /**
+     * Mapper for converting domain events to Avro models.
+     */
+    private final OrderMessagingDataMapper orderMessagingDataMapper;
+
+    /**
+     * Configuration data for the order service.
+     */
+    private final OrderServiceConfigData orderServiceConfigData;
+
+    /**
+     * Helper for Kafka message operations.
+     */
+    private final OrderKafkaMessageHelper orderKafkaMessageHelper;
+
+    /**
+     * Kafka producer for sending batch messages.
+     */
+    private final IKafkaProducer<String, RestaurantApprovalRequestBatchAvroModel> kafkaProducer;
+
+    /**
+     * Batches waiting to be sent indexed by restaurant id, guarded by its own monitor.
+     */
+    private final Map<UUID, PendingBatch> pendingBatches = new HashMap<>();
+
+    /**
+     * Executor sending the batches whose window expired, present while running and
+     * only changed while holding the monitor of {@link #pendingBatches}.
+     */
+    private volatile ScheduledExecutorService scheduler;
+
+    /**
+     * Constructs a BatchingPayOrderKafkaMessagePublisher with required dependencies.
+     *
+     * @param orderMessagingDataMapper Mapper for domain events to Avro models
+     * @param orderServiceConfigData   Configuration data for order service
+     * @param orderKafkaMessageHelper  Helper for Kafka message operations
+     * @param kafkaProducer            Kafka producer for sending batch messages
+     */
+    public BatchingPayOrderKafkaMessagePublisher(OrderMessagingDataMapper orderMessagingDataMapper,
+            OrderServiceConfigData orderServiceConfigData, OrderKafkaMessageHelper orderKafkaMessageHelper,
+            IKafkaProducer<String, RestaurantApprovalRequestBatchAvroModel> kafkaProducer) {
+        this.orderMessagingDataMapper = orderMessagingDataMapper;
+        this.orderServiceConfigData = orderServiceConfigData;
+        this.orderKafkaMessageHelper = orderKafkaMessageHelper;
+        this.kafkaProducer = kafkaProducer;
+    }
+
+    @Override
+    public void publish(OrderPaidEvent domainEvent) {
+        String orderId = domainEvent.getOrder().getId().getValue().toString();
+        log.debug("Received OrderPaidEvent for order id: {}", orderId);
+        RestaurantApprovalRequestAvroModel restaurantApprovalRequestAvroModel = orderMessagingDataMapper
+                .orderPaidEventToRestaurantApprovalRequestAvroModel(domainEvent);
+        UUID restaurantId = restaurantApprovalRequestAvroModel.getRestaurantId();
+        RestaurantApprovalRequestEntry entry = orderMessagingDataMapper
+                .restaurantApprovalRequestAvroModelToEntry(restaurantApprovalRequestAvroModel);
+        List<RestaurantApprovalRequestEntry> fullBatch = null;
+        synchronized (pendingBatches) {
+            if (scheduler == null) {
+                fullBatch = List.of(entry);
+            } else {
+                PendingBatch pendingBatch = pendingBatches.computeIfAbsent(restaurantId,
+                        ignored -> new PendingBatch(System.nanoTime()));
+                pendingBatch.entries.add(entry);
+                    if (pendingBatch.entries.size() >= orderServiceConfigData.getRestaurantApprovalBatchMaxSize()) {
+                    pendingBatches.remove(restaurantId);
+                    fullBatch = pendingBatch.entries;
+                }
+            }
+        }
+        if (fullBatch != null) {
+            send(restaurantId, fullBatch);
+        }
+    }
+
+    @Override
+    public void start() {
+        ScheduledExecutorService current = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "restaurant-approval-batcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long checkIntervalMs = Math.max(1, orderServiceConfigData.getRestaurantApprovalBatchWindowMs() / 4);
+        current.scheduleWithFixedDelay(this::sendExpiredBatches, checkIntervalMs, checkIntervalMs,
+                TimeUnit.MILLISECONDS);
+        synchronized (pendingBatches) {
+            scheduler = current;
+        }
+    }
+
+    @Override
+    public void stop() {
+        ScheduledExecutorService current;
+        synchronized (pendingBatches) {
+            current = scheduler;
+            scheduler = null;
+        }
+        if (current != null) {
+            current.shutdown();
+        }
+        sendBatches(Long.MAX_VALUE);
+    }
+
+    @Override
+    public boolean isRunning() {
+        return scheduler != null;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    private void sendExpiredBatches() {
+        try {
+            sendBatches(TimeUnit.MILLISECONDS.toNanos(orderServiceConfigData.getRestaurantApprovalBatchWindowMs()));
+        } catch (RuntimeException e) {
+            log.error("Error while sending restaurant approval request batches: {}", e.getMessage(), e);
+        }
+    }
+
+    private void sendBatches(long minAgeNanos) {
+        Map<UUID, List<RestaurantApprovalRequestEntry>> dueBatches = new HashMap<>();
+        long now = System.nanoTime();
+        synchronized (pendingBatches) {
+            Iterator<Map.Entry<UUID, PendingBatch>> iterator = pendingBatches.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<UUID, PendingBatch> pendingBatch = iterator.next();
+                if (minAgeNanos == Long.MAX_VALUE || now - pendingBatch.getValue().createdNanos >= minAgeNanos) {
+                    dueBatches.put(pendingBatch.getKey(), pendingBatch.getValue().entries);
+                    iterator.remove();
+                }
+            }
+        }
+        dueBatches.forEach(this::send);
+    }
+
+    private void send(UUID restaurantId, List<RestaurantApprovalRequestEntry> entries) {
+        String topicName = orderServiceConfigData.getRestaurantApprovalRequestBatchTopicName();
+        String orderIds = entries.stream().map(entry -> entry.getOrderId().toString())
+                .collect(Collectors.joining(","));
+        try {
+            RestaurantApprovalRequestBatchAvroModel restaurantApprovalRequestBatchAvroModel = orderMessagingDataMapper
+                    .restaurantApprovalRequestEntriesToBatchAvroModel(restaurantId, entries);
+            kafkaProducer.send(topicName, restaurantId.toString(), restaurantApprovalRequestBatchAvroModel,
+                    AvroMessageHeaders.of(restaurantApprovalRequestBatchAvroModel,
+                            restaurantApprovalRequestBatchAvroModel.getRestaurantOrderStatus()),
+                    orderKafkaMessageHelper.getKafkaCallback(topicName, restaurantApprovalRequestBatchAvroModel,
+                            orderIds, "RestaurantApprovalRequestBatchAvroModel"));
+            PUBLISH_LOG.info("RestaurantApprovalRequestBatchAvroModel with {} orders sent to Kafka for restaurant id: {}",
+                    entries.size(), restaurantId);
+        } catch (Exception e) {
+            log.error(
+                    "Error while sending RestaurantApprovalRequestBatchAvroModel message to kafka with order ids: {} error: {}",
+                    orderIds, e.getMessage());
+        }
+    }
+
+    /**
+     * Approval request entries of one restaurant waiting to be sent.
+     */
+    private static final class PendingBatch {
+        /**
+         * {@link System#nanoTime()} at which the first entry was added.
+         */
+        private final long createdNanos;
+
+        /**
+         * Approval request entries of the batch, in the order they were published.
+         */
+        private final List<RestaurantApprovalRequestEntry> entries = new ArrayList<>();
+
+        /**
+         * Constructs an empty pending batch.
+         *
+         * @param createdNanos {@link System#nanoTime()} at which the first entry was added
+         */
+        private PendingBatch(long createdNanos) {
+            this.createdNanos = createdNanos;
+        }
+    }
+}
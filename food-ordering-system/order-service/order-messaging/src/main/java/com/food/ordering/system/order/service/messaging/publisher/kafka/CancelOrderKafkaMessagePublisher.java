@@ -2,6 +2,8 @@ package com.food.ordering.system.order.service.messaging.publisher.kafka;
 
 import org.springframework.stereotype.Component;
 
+import com.food.ordering.system.logging.SampledLogger;
+import com.food.ordering.system.kafka.model.header.AvroMessageHeaders;
 import com.food.ordering.system.kafka.order.avro.model.PaymentRequestAvroModel;
 import com.food.ordering.system.kafka.producer.service.IKafkaProducer;
 import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
@@ -18,6 +20,11 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 @Component
 public class CancelOrderKafkaMessagePublisher implements OrderCancelledPaymentRequestMessagePublisher {
+    /**
+     * Sampled logger for the publish path.
+     */
+    private static final SampledLogger PUBLISH_LOG = SampledLogger.of(log, 100, 5);
+
     /**
      * Mapper for converting domain events to Avro models.
      */
@@ -58,15 +65,15 @@ public class CancelOrderKafkaMessagePublisher implements OrderCancelledPaymentRe
     @Override
     public void publish(OrderCancelledEvent domainEvent) {
         String orderId = domainEvent.getOrder().getId().getValue().toString();
-        log.info("Received OrderCancelledEvent for order id: {}", orderId);
+        log.debug("Received OrderCancelledEvent for order id: {}", orderId);
         try {
             PaymentRequestAvroModel paymentRequestAvroModel = orderMessagingDataMapper
                     .orderCancelledEventToPaymentRequestAvroModel(domainEvent);
             kafkaProducer.send(orderServiceConfigData.getPaymentRequestTopicName(), orderId, paymentRequestAvroModel,
+                    AvroMessageHeaders.of(paymentRequestAvroModel, paymentRequestAvroModel.getPaymentOrderStatus()),
                     orderKafkaMessageHelper.getKafkaCallback(orderServiceConfigData.getPaymentRequestTopicName(),
                             paymentRequestAvroModel, orderId, "PaymentRequestAvroModel"));
-            log.info("PaymentRequestAvroModel sent to Kafka for order id: {}",
-                    paymentRequestAvroModel.getOrderId().toString());
+            PUBLISH_LOG.info("PaymentRequestAvroModel sent to Kafka for order id: {}", orderId);
         } catch (Exception e) {
             log.error("Error while sending PaymentRequestAvroModel message to kafka with order id: {} error: {}",
                     orderId, e.getMessage());
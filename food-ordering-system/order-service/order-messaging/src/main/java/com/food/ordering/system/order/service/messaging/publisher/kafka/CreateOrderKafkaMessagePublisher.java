@@ -2,6 +2,8 @@ package com.food.ordering.system.order.service.messaging.publisher.kafka;
 
 import org.springframework.stereotype.Component;
 
+import com.food.ordering.system.logging.SampledLogger;
+import com.food.ordering.system.kafka.model.header.AvroMessageHeaders;
 import com.food.ordering.system.kafka.order.avro.model.PaymentRequestAvroModel;
 import com.food.ordering.system.kafka.producer.service.IKafkaProducer;
 import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
@@ -18,6 +20,11 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 @Component
 public class CreateOrderKafkaMessagePublisher implements OrderCreatedPaymentRequestMessagePublisher {
+    /**
+     * Sampled logger for the publish path.
+     */
+    private static final SampledLogger PUBLISH_LOG = SampledLogger.of(log, 100, 5);
+
     /**
      * Mapper for converting domain events to Avro models.
      */
@@ -58,18 +65,23 @@ public class CreateOrderKafkaMessagePublisher implements OrderCreatedPaymentRequ
     @Override
     public void publish(OrderCreatedEvent domainEvent) {
         String orderId = domainEvent.getOrder().getId().getValue().toString();
-        log.info("Received OrderCreatedEvent for order id: {}", orderId);
+        log.debug("Received OrderCreatedEvent for order id: {}", orderId);
         try {
             PaymentRequestAvroModel paymentRequestAvroModel = orderMessagingDataMapper
                     .orderCreatedEventToPaymentRequestAvroModel(domainEvent);
             kafkaProducer.send(orderServiceConfigData.getPaymentRequestTopicName(), orderId, paymentRequestAvroModel,
+                    AvroMessageHeaders.of(paymentRequestAvroModel, paymentRequestAvroModel.getPaymentOrderStatus()),
                     orderKafkaMessageHelper.getKafkaCallback(orderServiceConfigData.getPaymentRequestTopicName(),
                             paymentRequestAvroModel, orderId, "PaymentRequestAvroModel"));
-            log.info("PaymentRequestAvroModel sent to Kafka for order id: {}",
-                    paymentRequestAvroModel.getOrderId().toString());
+            PUBLISH_LOG.info("PaymentRequestAvroModel sent to Kafka for order id: {}", orderId);
         } catch (Exception e) {
             log.error("Error while sending PaymentRequestAvroModel message to kafka with order id: {} error: {}",
                     orderId, e.getMessage());
         }
     }
+
+    @Override
+    public boolean isSaturated() {
+        return kafkaProducer.isSaturated(orderServiceConfigData.getPaymentRequestTopicName());
+    }
 }
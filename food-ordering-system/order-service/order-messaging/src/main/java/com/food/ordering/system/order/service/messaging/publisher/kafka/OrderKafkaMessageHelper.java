@@ -6,6 +6,8 @@ import org.apache.kafka.clients.producer.RecordMetadata;
 import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Component;
 
+import com.food.ordering.system.logging.SampledLogger;
+
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -15,6 +17,10 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 @Component
 public class OrderKafkaMessageHelper {
+    /**
+     * Sampled logger for the acknowledgements, which arrive once per sent message.
+     */
+    private static final SampledLogger ACK_LOG = SampledLogger.of(log, 100, 5);
 
     /**
      * Returns a Kafka callback {@link BiConsumer} to handle the result of sending a
@@ -37,7 +43,7 @@ public class OrderKafkaMessageHelper {
                         requestAvroModelName, requestAvroModel.toString(), requestTopicName);
             } else if (sendResult != null) {
                 RecordMetadata recordMetadata = sendResult.getRecordMetadata();
-                log.info(
+                ACK_LOG.info(
                         "Received successful response from Kafka for order id: {} Topic: {} Partition: {} Offset: {} Timestamp: {}",
                         orderId, recordMetadata.topic(), recordMetadata.partition(), recordMetadata.offset(),
                         recordMetadata.timestamp());
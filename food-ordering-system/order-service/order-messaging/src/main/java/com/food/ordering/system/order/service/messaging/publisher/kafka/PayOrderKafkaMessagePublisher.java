@@ -2,6 +2,8 @@ package com.food.ordering.system.order.service.messaging.publisher.kafka;
 
 import org.springframework.stereotype.Component;
 
+import com.food.ordering.system.logging.SampledLogger;
+import com.food.ordering.system.kafka.model.header.AvroMessageHeaders;
 import com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalRequestAvroModel;
 import com.food.ordering.system.kafka.producer.service.IKafkaProducer;
 import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
@@ -14,10 +16,18 @@ import lombok.extern.slf4j.Slf4j;
 /**
  * Kafka message publisher for sending restaurant approval requests when an
  * order is paid.
+ * Requests are keyed by restaurant id so that the approvals of one restaurant
+ * share a partition, see
+ * {@link com.food.ordering.system.order.service.messaging.partitioner.RestaurantApprovalPartitioner}.
  */
 @Slf4j
 @Component
 public class PayOrderKafkaMessagePublisher implements OrderPaidRestaurantRequestMessagePublisher {
+    /**
+     * Sampled logger for the publish path.
+     */
+    private static final SampledLogger PUBLISH_LOG = SampledLogger.of(log, 100, 5);
+
     /**
      * Mapper for converting domain events to Avro models.
      */
@@ -58,16 +68,19 @@ public class PayOrderKafkaMessagePublisher implements OrderPaidRestaurantRequest
     @Override
     public void publish(OrderPaidEvent domainEvent) {
         String orderId = domainEvent.getOrder().getId().getValue().toString();
-        log.info("Received OrderPaidEvent for order id: {}", orderId);
+        String restaurantId = domainEvent.getOrder().getRestaurantId().getValue().toString();
+        log.debug("Received OrderPaidEvent for order id: {}", orderId);
         try {
             RestaurantApprovalRequestAvroModel restaurantApprovalRequestAvroModel = orderMessagingDataMapper
                     .orderPaidEventToRestaurantApprovalRequestAvroModel(domainEvent);
-            kafkaProducer.send(orderServiceConfigData.getPaymentRequestTopicName(), orderId,
+            kafkaProducer.send(orderServiceConfigData.getRestaurantApprovalRequestTopicName(), restaurantId,
                     restaurantApprovalRequestAvroModel,
-                    orderKafkaMessageHelper.getKafkaCallback(orderServiceConfigData.getPaymentRequestTopicName(),
+                    AvroMessageHeaders.of(restaurantApprovalRequestAvroModel,
+                            restaurantApprovalRequestAvroModel.getRestaurantOrderStatus()),
+                    orderKafkaMessageHelper.getKafkaCallback(
+                            orderServiceConfigData.getRestaurantApprovalRequestTopicName(),
                             restaurantApprovalRequestAvroModel, orderId, "RestaurantApprovalRequestAvroModel"));
-            log.info("RestaurantApprovalRequestAvroModel sent to Kafka for order id: {}",
-                    restaurantApprovalRequestAvroModel.getOrderId().toString());
+            PUBLISH_LOG.info("RestaurantApprovalRequestAvroModel sent to Kafka for order id: {}", orderId);
         } catch (Exception e) {
             log.error(
                     "Error while sending RestaurantApprovalRequestAvroModel message to kafka with order id: {} error: {}",
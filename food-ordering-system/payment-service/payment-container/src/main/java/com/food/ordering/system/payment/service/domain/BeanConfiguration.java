@@ -0,0 +1,21 @@
+package com.food.ordering.system.payment.service.domain;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration class for defining beans in the payment service domain.
+ */
+@Configuration
+public class BeanConfiguration {
+
+    /**
+     * Creates and returns an instance of {@link IPaymentDomainService}.
+     *
+     * @return a new instance of {@link PaymentDomainService}
+     */
+    @Bean
+    public IPaymentDomainService paymentDomainService() {
+        return new PaymentDomainService();
+    }
+}
@@ -0,0 +1,24 @@
+package com.food.ordering.system.payment.service.domain;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+/**
+ * Main application class for the Payment Service.
+ * Configures JPA repositories and entity scanning.
+ */
+@EnableJpaRepositories(basePackages = "com.food.ordering.system.payment.service.dataaccess")
+@EntityScan(basePackages = "com.food.ordering.system.payment.service.dataaccess")
+@SpringBootApplication(scanBasePackages = "com.food.ordering.system")
+public class PaymentServiceApplication {
+    /**
+     * Entry point for the Payment Service Spring Boot application.
+     *
+     * @param args command-line arguments
+     */
+    public static void main(String[] args) {
+        SpringApplication.run(PaymentServiceApplication.class, args);
+    }
+}
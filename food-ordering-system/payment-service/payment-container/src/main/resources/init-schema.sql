@@ -0,0 +1,88 @@
+DROP SCHEMA IF EXISTS payment CASCADE;
+
+CREATE SCHEMA payment;
+
+CREATE EXTENSION IF NOT EXISTS "uuid-ossp";
+
+DROP TYPE IF EXISTS payment_status;
+CREATE TYPE payment_status AS ENUM ('COMPLETED', 'CANCELLED', 'FAILED');
+
+DROP TABLE IF EXISTS "payment".payments CASCADE;
+
+CREATE TABLE "payment".payments
+(
+    id uuid NOT NULL,
+    customer_id uuid NOT NULL,
+    order_id uuid NOT NULL,
+    price numeric(10,2) NOT NULL,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    status payment_status NOT NULL,
+    CONSTRAINT payments_pkey PRIMARY KEY (id)
+);
+
+-- One payment per order; serves findByOrderId on the cancel path
+CREATE UNIQUE INDEX "payments_order_id"
+    ON "payment".payments
+    (order_id);
+
+DROP TABLE IF EXISTS "payment".credit_entry CASCADE;
+
+CREATE TABLE "payment".credit_entry
+(
+    id uuid NOT NULL,
+    customer_id uuid NOT NULL,
+    total_credit_amount numeric(10,2) NOT NULL,
+    version integer NOT NULL DEFAULT 0,
+    CONSTRAINT credit_entry_pkey PRIMARY KEY (id)
+);
+
+-- One credit entry per customer; serves findByCustomerId on every payment
+CREATE UNIQUE INDEX "credit_entry_customer_id"
+    ON "payment".credit_entry
+    (customer_id);
+
+DROP TYPE IF EXISTS transaction_type;
+CREATE TYPE transaction_type AS ENUM ('DEBIT', 'CREDIT');
+
+DROP TABLE IF EXISTS "payment".credit_history CASCADE;
+
+CREATE TABLE "payment".credit_history
+(
+    id uuid NOT NULL,
+    customer_id uuid NOT NULL,
+    amount numeric(10,2) NOT NULL,
+    type transaction_type NOT NULL,
+    CONSTRAINT credit_history_pkey PRIMARY KEY (id)
+);
+
+-- Serves findByCustomerId and the per-type sums that seed credit_history_totals;
+-- type and amount are included so both read the index only
+CREATE INDEX "credit_history_customer_id"
+    ON "payment".credit_history
+    (customer_id)
+    INCLUDE (type, amount);
+
+DROP TABLE IF EXISTS "payment".credit_history_totals CASCADE;
+
+-- Running CREDIT and DEBIT totals per customer, updated with every credit_history
+-- insert so payment validation does not scan the history
+CREATE TABLE "payment".credit_history_totals
+(
+    customer_id uuid NOT NULL,
+    total_credit_amount numeric(12,2) NOT NULL,
+    total_debit_amount numeric(12,2) NOT NULL,
+    version integer NOT NULL DEFAULT 0,
+    CONSTRAINT credit_history_totals_pkey PRIMARY KEY (customer_id)
+);
+
+DROP TABLE IF EXISTS "payment".processed_message CASCADE;
+
+-- Ids of the consumed messages, claimed in the transaction of their handler so a
+-- redelivered message is dropped before any domain work
+CREATE TABLE "payment".processed_message
+(
+    consumer_group_id character varying NOT NULL,
+    message_id uuid NOT NULL,
+    processed_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    CONSTRAINT processed_message_pkey PRIMARY KEY (consumer_group_id, message_id)
+);
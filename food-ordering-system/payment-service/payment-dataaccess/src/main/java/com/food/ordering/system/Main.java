@@ -1,7 +0,0 @@
-package com.food.ordering.system;
-
-public class Main {
-    public static void main(String[] args) {
-        System.out.println("Hello world!");
-    }
-}
\ No newline at end of file
@@ -0,0 +1,102 @@
+package com.food.ordering.system.payment.service.dataaccess.creditentry.adapter;
+
+import java.util.Optional;
+
+import org.springframework.stereotype.Component;
+
+import com.food.ordering.system.domain.valueobject.CustomerId;
+import com.food.ordering.system.payment.service.dataaccess.creditentry.entity.CreditEntryEntity;
+import com.food.ordering.system.payment.service.dataaccess.creditentry.mapper.CreditEntryDataAccessMapper;
+import com.food.ordering.system.payment.service.dataaccess.creditentry.repository.ICreditEntryJpaRepository;
+import com.food.ordering.system.payment.service.domain.entity.CreditEntry;
+import com.food.ordering.system.payment.service.domain.entity.CreditHistory;
+import com.food.ordering.system.payment.service.domain.ports.output.repository.ICreditEntryRepository;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Repository adapter implementation for CreditEntry entities.
+ * <p>
+ * The payment flow reads the credit entry and saves it in the same transaction, so
+ * saving looks the entity up by id in the persistence context, without a query, and
+ * updates the managed instance. The update is flushed with the version read at the
+ * start of the transaction, so a concurrent payment of the same customer fails with
+ * an optimistic locking exception instead of being overwritten.
+ * </p>
+ * <p>
+ * Debits can also be applied with {@link #debitCreditAmount(CreditHistory)}, a
+ * single guarded statement that neither reads the entry first nor conflicts on its
+ * version. The statement bypasses the persistence context, so the pending changes
+ * are flushed before it and the context is cleared after a debit, as
+ * {@code @Modifying(flushAutomatically = true, clearAutomatically = true)} would do
+ * for a statement that returns no rows; a credit entry or history totals read
+ * later in the transaction then see the debit and its versions.
+ * </p>
+ */
+@Component
+public class CreditEntryRepository implements ICreditEntryRepository {
+    /**
+     * JPA repository for performing database operations on CreditEntryEntity
+     * objects.
+     */
+    private final ICreditEntryJpaRepository creditEntryJpaRepository;
+
+    /**
+     * Mapper for converting between CreditEntry domain objects and
+     * CreditEntryEntity data access objects.
+     */
+    private final CreditEntryDataAccessMapper creditEntryDataAccessMapper;
+
+    /**
+     * Entity manager used to keep the persistence context in step with the guarded
+     * debits.
+     */
+    private final EntityManager entityManager;
+
+    /**
+     * Constructs a new CreditEntryRepository with the required dependencies.
+     *
+     * @param creditEntryJpaRepository    the JPA repository for credit entry
+     *                                    database operations
+     * @param creditEntryDataAccessMapper the mapper for converting between domain
+     *                                    and entity objects
+     * @param entityManager               the shared entity manager
+     */
+    public CreditEntryRepository(ICreditEntryJpaRepository creditEntryJpaRepository,
+            CreditEntryDataAccessMapper creditEntryDataAccessMapper, EntityManager entityManager) {
+        this.creditEntryJpaRepository = creditEntryJpaRepository;
+        this.creditEntryDataAccessMapper = creditEntryDataAccessMapper;
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public CreditEntry save(CreditEntry creditEntry) {
+        Optional<CreditEntryEntity> storedCreditEntryEntity = creditEntryJpaRepository
+                .findById(creditEntry.getId().getValue());
+        if (storedCreditEntryEntity.isPresent()) {
+            CreditEntryEntity creditEntryEntity = storedCreditEntryEntity.get();
+            creditEntryEntity.setTotalCreditAmount(creditEntry.getTotalCreditAmount().getAmount());
+            return creditEntryDataAccessMapper.creditEntryEntityToCreditEntry(creditEntryEntity);
+        }
+        CreditEntryEntity savedCreditEntryEntity = creditEntryJpaRepository
+                .save(creditEntryDataAccessMapper.creditEntryToCreditEntryEntity(creditEntry));
+        return creditEntryDataAccessMapper.creditEntryEntityToCreditEntry(savedCreditEntryEntity);
+    }
+
+    @Override
+    public Optional<CreditEntry> findByCustomerId(CustomerId customerId) {
+        return creditEntryJpaRepository.findByCustomerId(customerId.getValue())
+                .map(creditEntryDataAccessMapper::creditEntryEntityToCreditEntry);
+    }
+
+    @Override
+    public boolean debitCreditAmount(CreditHistory creditHistory) {
+        entityManager.flush();
+        boolean debited = creditEntryJpaRepository.debitCreditAmount(creditHistory.getCustomerId().getValue(),
+                creditHistory.getAmount().getAmount(), creditHistory.getId().getValue()) == 1;
+        if (debited) {
+            entityManager.clear();
+        }
+        return debited;
+    }
+}
@@ -0,0 +1,100 @@
+package com.food.ordering.system.payment.service.dataaccess.creditentry.entity;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+import java.util.UUID;
+
+import org.springframework.data.domain.Persistable;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import jakarta.persistence.Version;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Entity representing the credit balance of a customer in the payment service
+ * data access layer. This entity maps to the "credit_entry" table in the
+ * "payment" schema.
+ * <p>
+ * Concurrent payments of the same customer update the same row, so the entity
+ * carries a version column: an update whose version no longer matches the row fails
+ * with an optimistic locking exception instead of overwriting the other payment.
+ * </p>
+ */
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "credit_entry", schema = "payment")
+@Entity
+public class CreditEntryEntity implements Persistable<UUID> {
+    /**
+     * The unique identifier for the credit entry.
+     */
+    @Id
+    private UUID id;
+
+    /**
+     * The unique identifier of the customer owning the credit.
+     */
+    private UUID customerId;
+
+    /**
+     * The total credit amount available for the customer.
+     */
+    private BigDecimal totalCreditAmount;
+
+    /**
+     * Version of the row, incremented by every update.
+     */
+    @Version
+    private Integer version;
+
+    /**
+     * Whether the entity has not been inserted yet.
+     */
+    @Transient
+    @Builder.Default
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private boolean newEntity = true;
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    /**
+     * Marks the entity as stored once it has been inserted or loaded.
+     */
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        newEntity = false;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj)
+            return true;
+        if (obj == null || getClass() != obj.getClass())
+            return false;
+        CreditEntryEntity that = (CreditEntryEntity) obj;
+        return id.equals(that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(id);
+    }
+}
@@ -0,0 +1,46 @@
+package com.food.ordering.system.payment.service.dataaccess.creditentry.mapper;
+
+import org.springframework.stereotype.Component;
+
+import com.food.ordering.system.domain.valueobject.CustomerId;
+import com.food.ordering.system.domain.valueobject.Money;
+import com.food.ordering.system.payment.service.dataaccess.creditentry.entity.CreditEntryEntity;
+import com.food.ordering.system.payment.service.domain.entity.CreditEntry;
+import com.food.ordering.system.payment.service.domain.valueobject.CreditEntryId;
+
+/**
+ * Data access mapper for converting between CreditEntry domain objects and
+ * CreditEntryEntity data access objects.
+ */
+@Component
+public class CreditEntryDataAccessMapper {
+    /**
+     * Converts a CreditEntry domain object to a new CreditEntryEntity for database
+     * persistence.
+     *
+     * @param creditEntry the CreditEntry domain object to convert
+     * @return CreditEntryEntity ready to be inserted
+     */
+    public CreditEntryEntity creditEntryToCreditEntryEntity(CreditEntry creditEntry) {
+        return CreditEntryEntity.builder()
+                .id(creditEntry.getId().getValue())
+                .customerId(creditEntry.getCustomerId().getValue())
+                .totalCreditAmount(creditEntry.getTotalCreditAmount().getAmount())
+                .build();
+    }
+
+    /**
+     * Converts a CreditEntryEntity from the database to a CreditEntry domain
+     * object.
+     *
+     * @param creditEntryEntity the CreditEntryEntity from the database
+     * @return CreditEntry domain object with all properties set
+     */
+    public CreditEntry creditEntryEntityToCreditEntry(CreditEntryEntity creditEntryEntity) {
+        return CreditEntry.builder()
+                .creditEntryId(new CreditEntryId(creditEntryEntity.getId()))
+                .customerId(new CustomerId(creditEntryEntity.getCustomerId()))
+                .totalCreditAmount(new Money(creditEntryEntity.getTotalCreditAmount()))
+                .build();
+    }
+}
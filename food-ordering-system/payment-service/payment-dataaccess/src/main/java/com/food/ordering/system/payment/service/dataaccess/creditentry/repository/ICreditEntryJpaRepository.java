@@ -0,0 +1,72 @@
+package com.food.ordering.system.payment.service.dataaccess.creditentry.repository;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.food.ordering.system.payment.service.dataaccess.creditentry.entity.CreditEntryEntity;
+
+/**
+ * JPA repository interface for managing {@link CreditEntryEntity} persistence
+ * operations.
+ */
+@Repository
+public interface ICreditEntryJpaRepository extends JpaRepository<CreditEntryEntity, UUID> {
+    /**
+     * Finds the credit entry of a customer, using the unique customer id index.
+     *
+     * @param customerId the unique identifier of the customer
+     * @return an {@link Optional} containing the credit entry entity if found,
+     *         or empty if the customer has no credit entry
+     */
+    Optional<CreditEntryEntity> findByCustomerId(UUID customerId);
+
+    /**
+     * Debits a customer's credit in one statement, guarded by the same checks as
+     * the payment validation: the credit must cover the amount and must equal the
+     * balance of the credit history totals. The totals row is locked first, so
+     * concurrent debits of the same customer queue on it and each one sees the
+     * balance left by the previous one. When the guard passes, the DEBIT credit
+     * history row is inserted and the totals updated by the same statement.
+     *
+     * @param customerId      the unique identifier of the customer
+     * @param amount          the amount to debit
+     * @param creditHistoryId the unique identifier of the DEBIT credit history row
+     * @return 1 if the credit was debited, 0 if the guard rejected the debit
+     */
+    @Query(nativeQuery = true, value = """
+            WITH totals AS (
+                SELECT t.customer_id, t.total_credit_amount, t.total_debit_amount
+                FROM payment.credit_history_totals t
+                WHERE t.customer_id = :customerId
+                FOR UPDATE
+            ), debited AS (
+                UPDATE payment.credit_entry e
+                SET total_credit_amount = e.total_credit_amount - :amount, version = e.version + 1
+                FROM totals t
+                WHERE e.customer_id = t.customer_id
+                  AND e.total_credit_amount >= :amount
+                  AND e.total_credit_amount = t.total_credit_amount - t.total_debit_amount
+                RETURNING e.customer_id
+            ), history AS (
+                INSERT INTO payment.credit_history (id, customer_id, amount, type)
+                SELECT :creditHistoryId, d.customer_id, :amount, 'DEBIT'
+                FROM debited d
+                RETURNING customer_id
+            ), updated_totals AS (
+                UPDATE payment.credit_history_totals t
+                SET total_debit_amount = t.total_debit_amount + :amount, version = t.version + 1
+                FROM history h
+                WHERE t.customer_id = h.customer_id
+                RETURNING t.customer_id
+            )
+            SELECT CAST(count(*) AS integer) FROM updated_totals
+            """)
+    int debitCreditAmount(@Param("customerId") UUID customerId, @Param("amount") BigDecimal amount,
+            @Param("creditHistoryId") UUID creditHistoryId);
+}
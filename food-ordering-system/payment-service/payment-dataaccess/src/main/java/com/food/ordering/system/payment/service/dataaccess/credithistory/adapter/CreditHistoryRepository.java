@@ -0,0 +1,61 @@
+package com.food.ordering.system.payment.service.dataaccess.credithistory.adapter;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.stereotype.Component;
+
+import com.food.ordering.system.domain.valueobject.CustomerId;
+import com.food.ordering.system.payment.service.dataaccess.credithistory.entity.CreditHistoryEntity;
+import com.food.ordering.system.payment.service.dataaccess.credithistory.mapper.CreditHistoryDataAccessMapper;
+import com.food.ordering.system.payment.service.dataaccess.credithistory.repository.ICreditHistoryJpaRepository;
+import com.food.ordering.system.payment.service.domain.entity.CreditHistory;
+import com.food.ordering.system.payment.service.domain.ports.output.repository.ICreditHistoryRepository;
+
+/**
+ * Repository adapter implementation for CreditHistory entities.
+ * Credit history rows are never updated, so every save is an insert.
+ */
+@Component
+public class CreditHistoryRepository implements ICreditHistoryRepository {
+    /**
+     * JPA repository for performing database operations on CreditHistoryEntity
+     * objects.
+     */
+    private final ICreditHistoryJpaRepository creditHistoryJpaRepository;
+
+    /**
+     * Mapper for converting between CreditHistory domain objects and
+     * CreditHistoryEntity data access objects.
+     */
+    private final CreditHistoryDataAccessMapper creditHistoryDataAccessMapper;
+
+    /**
+     * Constructs a new CreditHistoryRepository with the required dependencies.
+     *
+     * @param creditHistoryJpaRepository    the JPA repository for credit history
+     *                                      database operations
+     * @param creditHistoryDataAccessMapper the mapper for converting between
+     *                                      domain and entity objects
+     */
+    public CreditHistoryRepository(ICreditHistoryJpaRepository creditHistoryJpaRepository,
+            CreditHistoryDataAccessMapper creditHistoryDataAccessMapper) {
+        this.creditHistoryJpaRepository = creditHistoryJpaRepository;
+        this.creditHistoryDataAccessMapper = creditHistoryDataAccessMapper;
+    }
+
+    @Override
+    public CreditHistory save(CreditHistory creditHistory) {
+        CreditHistoryEntity savedCreditHistoryEntity = creditHistoryJpaRepository
+                .save(creditHistoryDataAccessMapper.creditHistoryToCreditHistoryEntity(creditHistory));
+        return creditHistoryDataAccessMapper.creditHistoryEntityToCreditHistory(savedCreditHistoryEntity);
+    }
+
+    @Override
+    public Optional<List<CreditHistory>> findByCustomerId(CustomerId customerId) {
+        return creditHistoryJpaRepository.findByCustomerId(customerId.getValue())
+                .map(creditHistoryEntities -> creditHistoryEntities.stream()
+                        .map(creditHistoryDataAccessMapper::creditHistoryEntityToCreditHistory)
+                        .toList());
+    }
+}
@@ -0,0 +1,110 @@
+package com.food.ordering.system.payment.service.dataaccess.credithistory.adapter;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import com.food.ordering.system.domain.valueobject.CustomerId;
+import com.food.ordering.system.payment.service.dataaccess.credithistory.entity.CreditHistoryTotalsEntity;
+import com.food.ordering.system.payment.service.dataaccess.credithistory.mapper.CreditHistoryDataAccessMapper;
+import com.food.ordering.system.payment.service.dataaccess.credithistory.repository.ICreditHistoryJpaRepository;
+import com.food.ordering.system.payment.service.dataaccess.credithistory.repository.ICreditHistoryJpaRepository.TransactionTypeTotal;
+import com.food.ordering.system.payment.service.dataaccess.credithistory.repository.ICreditHistoryTotalsJpaRepository;
+import com.food.ordering.system.payment.service.domain.entity.CreditHistoryTotals;
+import com.food.ordering.system.payment.service.domain.ports.output.repository.ICreditHistoryTotalsRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Repository adapter implementation for CreditHistoryTotals entities.
+ * <p>
+ * Totals are read by primary key. A customer whose credit history predates the
+ * totals table gets them computed once from the history with a grouped sum; the
+ * next save inserts the row. Saving updates the instance loaded earlier in the
+ * transaction, and its version column makes a concurrent update of the same
+ * customer fail instead of losing an append. Two transactions inserting the first
+ * row of a customer are told apart the same way: the insert skips an existing row,
+ * and the loser gets an {@link OptimisticLockingFailureException} so it is applied
+ * again from the stored row.
+ * </p>
+ */
+@Slf4j
+@Component
+public class CreditHistoryTotalsRepository implements ICreditHistoryTotalsRepository {
+    /**
+     * JPA repository for performing database operations on
+     * CreditHistoryTotalsEntity objects.
+     */
+    private final ICreditHistoryTotalsJpaRepository creditHistoryTotalsJpaRepository;
+
+    /**
+     * JPA repository used to compute missing totals from the credit history.
+     */
+    private final ICreditHistoryJpaRepository creditHistoryJpaRepository;
+
+    /**
+     * Mapper for converting between CreditHistoryTotals domain objects and
+     * CreditHistoryTotalsEntity data access objects.
+     */
+    private final CreditHistoryDataAccessMapper creditHistoryDataAccessMapper;
+
+    /**
+     * Constructs a new CreditHistoryTotalsRepository with the required
+     * dependencies.
+     *
+     * @param creditHistoryTotalsJpaRepository the JPA repository for credit
+     *                                         history totals database operations
+     * @param creditHistoryJpaRepository       the JPA repository for credit
+     *                                         history database operations
+     * @param creditHistoryDataAccessMapper    the mapper for converting between
+     *                                         domain and entity objects
+     */
+    public CreditHistoryTotalsRepository(ICreditHistoryTotalsJpaRepository creditHistoryTotalsJpaRepository,
+            ICreditHistoryJpaRepository creditHistoryJpaRepository,
+            CreditHistoryDataAccessMapper creditHistoryDataAccessMapper) {
+        this.creditHistoryTotalsJpaRepository = creditHistoryTotalsJpaRepository;
+        this.creditHistoryJpaRepository = creditHistoryJpaRepository;
+        this.creditHistoryDataAccessMapper = creditHistoryDataAccessMapper;
+    }
+
+    @Override
+    public CreditHistoryTotals save(CreditHistoryTotals creditHistoryTotals) {
+        Optional<CreditHistoryTotalsEntity> storedCreditHistoryTotalsEntity = creditHistoryTotalsJpaRepository
+                .findById(creditHistoryTotals.getCustomerId().getValue());
+        if (storedCreditHistoryTotalsEntity.isPresent()) {
+            CreditHistoryTotalsEntity creditHistoryTotalsEntity = storedCreditHistoryTotalsEntity.get();
+            creditHistoryTotalsEntity.setTotalCreditAmount(creditHistoryTotals.getTotalCreditAmount().getAmount());
+            creditHistoryTotalsEntity.setTotalDebitAmount(creditHistoryTotals.getTotalDebitAmount().getAmount());
+            return creditHistoryDataAccessMapper.creditHistoryTotalsEntityToCreditHistoryTotals(
+                    creditHistoryTotalsEntity);
+        }
+        int inserted = creditHistoryTotalsJpaRepository.insertIfAbsent(creditHistoryTotals.getCustomerId().getValue(),
+                creditHistoryTotals.getTotalCreditAmount().getAmount(),
+                creditHistoryTotals.getTotalDebitAmount().getAmount());
+        if (inserted == 0) {
+            throw new OptimisticLockingFailureException("Credit history totals of customer id: "
+                    + creditHistoryTotals.getCustomerId().getValue() + " were inserted concurrently");
+        }
+        return creditHistoryTotals;
+    }
+
+    @Override
+    public Optional<CreditHistoryTotals> findByCustomerId(CustomerId customerId) {
+        Optional<CreditHistoryTotalsEntity> creditHistoryTotalsEntity = creditHistoryTotalsJpaRepository
+                .findById(customerId.getValue());
+        if (creditHistoryTotalsEntity.isPresent()) {
+            return creditHistoryTotalsEntity
+                    .map(creditHistoryDataAccessMapper::creditHistoryTotalsEntityToCreditHistoryTotals);
+        }
+        List<TransactionTypeTotal> transactionTypeTotals = creditHistoryJpaRepository
+                .sumAmountByType(customerId.getValue());
+        if (transactionTypeTotals.isEmpty()) {
+            return Optional.empty();
+        }
+        log.info("Computed credit history totals from credit history for customer id: {}", customerId.getValue());
+        return Optional.of(creditHistoryDataAccessMapper.transactionTypeTotalsToCreditHistoryTotals(customerId,
+                transactionTypeTotals));
+    }
+}
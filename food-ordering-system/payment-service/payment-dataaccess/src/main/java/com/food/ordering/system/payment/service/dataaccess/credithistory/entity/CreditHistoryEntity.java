@@ -0,0 +1,103 @@
+package com.food.ordering.system.payment.service.dataaccess.credithistory.entity;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+import java.util.UUID;
+
+import org.springframework.data.domain.Persistable;
+
+import com.food.ordering.system.payment.service.domain.valueobject.TransactionType;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Entity representing a credit transaction of a customer in the payment service
+ * data access layer. This entity maps to the "credit_history" table in the
+ * "payment" schema.
+ * <p>
+ * Credit history is append-only, so new rows are always inserted without a prior
+ * select and are batched together with the payment of the same transaction.
+ * </p>
+ */
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "credit_history", schema = "payment")
+@Entity
+public class CreditHistoryEntity implements Persistable<UUID> {
+    /**
+     * The unique identifier for the credit history entry.
+     */
+    @Id
+    private UUID id;
+
+    /**
+     * The unique identifier of the customer owning the credit.
+     */
+    private UUID customerId;
+
+    /**
+     * The amount of the credit transaction.
+     */
+    private BigDecimal amount;
+
+    /**
+     * The type of the credit transaction (CREDIT or DEBIT).
+     * Stored as string representation in the database.
+     */
+    @Enumerated(EnumType.STRING)
+    private TransactionType type;
+
+    /**
+     * Whether the entity has not been inserted yet.
+     */
+    @Transient
+    @Builder.Default
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private boolean newEntity = true;
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    /**
+     * Marks the entity as stored once it has been inserted or loaded.
+     */
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        newEntity = false;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj)
+            return true;
+        if (obj == null || getClass() != obj.getClass())
+            return false;
+        CreditHistoryEntity that = (CreditHistoryEntity) obj;
+        return id.equals(that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(id);
+    }
+}
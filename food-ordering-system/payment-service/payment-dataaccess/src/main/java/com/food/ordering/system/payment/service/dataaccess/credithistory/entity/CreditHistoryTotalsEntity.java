@@ -0,0 +1,100 @@
+package com.food.ordering.system.payment.service.dataaccess.credithistory.entity;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+import java.util.UUID;
+
+import org.springframework.data.domain.Persistable;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import jakarta.persistence.Version;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Entity representing the running totals of the credit history of a customer.
+ * This entity maps to the "credit_history_totals" table in the "payment" schema
+ * and is updated in the same transaction as every credit history insert.
+ */
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "credit_history_totals", schema = "payment")
+@Entity
+public class CreditHistoryTotalsEntity implements Persistable<UUID> {
+    /**
+     * The unique identifier of the customer owning the totals.
+     */
+    @Id
+    private UUID customerId;
+
+    /**
+     * The sum of all CREDIT transactions of the customer.
+     */
+    private BigDecimal totalCreditAmount;
+
+    /**
+     * The sum of all DEBIT transactions of the customer.
+     */
+    private BigDecimal totalDebitAmount;
+
+    /**
+     * Version of the row, incremented by every update.
+     */
+    @Version
+    private Integer version;
+
+    /**
+     * Whether the entity has not been inserted yet.
+     */
+    @Transient
+    @Builder.Default
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private boolean newEntity = true;
+
+    @Override
+    public UUID getId() {
+        return customerId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    /**
+     * Marks the entity as stored once it has been inserted or loaded.
+     */
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        newEntity = false;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj)
+            return true;
+        if (obj == null || getClass() != obj.getClass())
+            return false;
+        CreditHistoryTotalsEntity that = (CreditHistoryTotalsEntity) obj;
+        return customerId.equals(that.customerId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(customerId);
+    }
+}
@@ -0,0 +1,100 @@
+package com.food.ordering.system.payment.service.dataaccess.credithistory.mapper;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+
+import com.food.ordering.system.domain.valueobject.CustomerId;
+import com.food.ordering.system.domain.valueobject.Money;
+import com.food.ordering.system.payment.service.dataaccess.credithistory.entity.CreditHistoryEntity;
+import com.food.ordering.system.payment.service.dataaccess.credithistory.entity.CreditHistoryTotalsEntity;
+import com.food.ordering.system.payment.service.dataaccess.credithistory.repository.ICreditHistoryJpaRepository.TransactionTypeTotal;
+import com.food.ordering.system.payment.service.domain.entity.CreditHistory;
+import com.food.ordering.system.payment.service.domain.entity.CreditHistoryTotals;
+import com.food.ordering.system.payment.service.domain.valueobject.CreditHistoryId;
+import com.food.ordering.system.payment.service.domain.valueobject.TransactionType;
+
+/**
+ * Data access mapper for converting between CreditHistory domain objects and
+ * CreditHistoryEntity data access objects, and between CreditHistoryTotals
+ * domain objects and CreditHistoryTotalsEntity data access objects.
+ */
+@Component
+public class CreditHistoryDataAccessMapper {
+    /**
+     * Converts a CreditHistory domain object to a new CreditHistoryEntity for
+     * database persistence.
+     *
+     * @param creditHistory the CreditHistory domain object to convert
+     * @return CreditHistoryEntity ready to be inserted
+     */
+    public CreditHistoryEntity creditHistoryToCreditHistoryEntity(CreditHistory creditHistory) {
+        return CreditHistoryEntity.builder()
+                .id(creditHistory.getId().getValue())
+                .customerId(creditHistory.getCustomerId().getValue())
+                .amount(creditHistory.getAmount().getAmount())
+                .type(creditHistory.getTransactionType())
+                .build();
+    }
+
+    /**
+     * Converts a CreditHistoryEntity from the database to a CreditHistory domain
+     * object.
+     *
+     * @param creditHistoryEntity the CreditHistoryEntity from the database
+     * @return CreditHistory domain object with all properties set
+     */
+    public CreditHistory creditHistoryEntityToCreditHistory(CreditHistoryEntity creditHistoryEntity) {
+        return CreditHistory.builder()
+                .creditHistoryId(new CreditHistoryId(creditHistoryEntity.getId()))
+                .customerId(new CustomerId(creditHistoryEntity.getCustomerId()))
+                .amount(new Money(creditHistoryEntity.getAmount()))
+                .transactionType(creditHistoryEntity.getType())
+                .build();
+    }
+
+    /**
+     * Converts a CreditHistoryTotalsEntity from the database to a
+     * CreditHistoryTotals domain object.
+     *
+     * @param creditHistoryTotalsEntity the CreditHistoryTotalsEntity from the
+     *                                  database
+     * @return CreditHistoryTotals domain object with all properties set
+     */
+    public CreditHistoryTotals creditHistoryTotalsEntityToCreditHistoryTotals(
+            CreditHistoryTotalsEntity creditHistoryTotalsEntity) {
+        return CreditHistoryTotals.builder()
+                .customerId(new CustomerId(creditHistoryTotalsEntity.getCustomerId()))
+                .totalCreditAmount(new Money(creditHistoryTotalsEntity.getTotalCreditAmount()))
+                .totalDebitAmount(new Money(creditHistoryTotalsEntity.getTotalDebitAmount()))
+                .build();
+    }
+
+    /**
+     * Builds the credit history totals of a customer from the sums of its credit
+     * history per transaction type.
+     *
+     * @param customerId            the customer ID
+     * @param transactionTypeTotals the sums of the credit history per transaction
+     *                              type
+     * @return CreditHistoryTotals domain object with all properties set
+     */
+    public CreditHistoryTotals transactionTypeTotalsToCreditHistoryTotals(CustomerId customerId,
+            List<TransactionTypeTotal> transactionTypeTotals) {
+        BigDecimal totalCreditAmount = BigDecimal.ZERO;
+        BigDecimal totalDebitAmount = BigDecimal.ZERO;
+        for (TransactionTypeTotal transactionTypeTotal : transactionTypeTotals) {
+            if (transactionTypeTotal.getType() == TransactionType.CREDIT) {
+                totalCreditAmount = totalCreditAmount.add(transactionTypeTotal.getTotal());
+            } else {
+                totalDebitAmount = totalDebitAmount.add(transactionTypeTotal.getTotal());
+            }
+        }
+        return CreditHistoryTotals.builder()
+                .customerId(customerId)
+                .totalCreditAmount(new Money(totalCreditAmount))
+                .totalDebitAmount(new Money(totalDebitAmount))
+                .build();
+    }
+}
@@ -0,0 +1,60 @@
+package com.food.ordering.system.payment.service.dataaccess.credithistory.repository;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.food.ordering.system.payment.service.dataaccess.credithistory.entity.CreditHistoryEntity;
+import com.food.ordering.system.payment.service.domain.valueobject.TransactionType;
+
+/**
+ * JPA repository interface for managing {@link CreditHistoryEntity} persistence
+ * operations.
+ */
+@Repository
+public interface ICreditHistoryJpaRepository extends JpaRepository<CreditHistoryEntity, UUID> {
+    /**
+     * Finds the credit history of a customer, using the customer id index.
+     *
+     * @param customerId the unique identifier of the customer
+     * @return an {@link Optional} containing the credit history entities of the
+     *         customer
+     */
+    Optional<List<CreditHistoryEntity>> findByCustomerId(UUID customerId);
+
+    /**
+     * Sums the credit history of a customer per transaction type. Used to build the
+     * running totals of customers whose history predates them.
+     *
+     * @param customerId the unique identifier of the customer
+     * @return one total per transaction type present in the history
+     */
+    @Query("select h.type as type, sum(h.amount) as total from CreditHistoryEntity h "
+            + "where h.customerId = :customerId group by h.type")
+    List<TransactionTypeTotal> sumAmountByType(@Param("customerId") UUID customerId);
+
+    /**
+     * Sum of the credit history amounts of one transaction type.
+     */
+    interface TransactionTypeTotal {
+        /**
+         * Gets the transaction type.
+         *
+         * @return the transaction type
+         */
+        TransactionType getType();
+
+        /**
+         * Gets the sum of the amounts of the transaction type.
+         *
+         * @return the total amount
+         */
+        BigDecimal getTotal();
+    }
+}
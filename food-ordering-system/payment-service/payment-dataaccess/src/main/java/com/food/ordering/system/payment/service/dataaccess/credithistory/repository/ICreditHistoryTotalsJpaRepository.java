@@ -0,0 +1,42 @@
+package com.food.ordering.system.payment.service.dataaccess.credithistory.repository;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.food.ordering.system.payment.service.dataaccess.credithistory.entity.CreditHistoryTotalsEntity;
+
+/**
+ * JPA repository interface for managing {@link CreditHistoryTotalsEntity}
+ * persistence operations. The totals are keyed by customer id.
+ */
+@Repository
+public interface ICreditHistoryTotalsJpaRepository extends JpaRepository<CreditHistoryTotalsEntity, UUID> {
+    /**
+     * Inserts the totals of a customer unless a row already exists for the
+     * customer. A conflicting insert leaves the transaction usable, unlike a
+     * primary key violation, so the caller can report it as a concurrent change.
+     *
+     * @param customerId        the unique identifier of the customer
+     * @param totalCreditAmount the sum of all CREDIT transactions of the customer
+     * @param totalDebitAmount  the sum of all DEBIT transactions of the customer
+     * @return 1 if the row was inserted, 0 if the customer already had one
+     */
+    @Query(nativeQuery = true, value = """
+            WITH inserted AS (
+                INSERT INTO payment.credit_history_totals
+                    (customer_id, total_credit_amount, total_debit_amount, version)
+                VALUES (:customerId, :totalCreditAmount, :totalDebitAmount, 0)
+                ON CONFLICT (customer_id) DO NOTHING
+                RETURNING customer_id
+            )
+            SELECT CAST(count(*) AS integer) FROM inserted
+            """)
+    int insertIfAbsent(@Param("customerId") UUID customerId,
+            @Param("totalCreditAmount") BigDecimal totalCreditAmount,
+            @Param("totalDebitAmount") BigDecimal totalDebitAmount);
+}
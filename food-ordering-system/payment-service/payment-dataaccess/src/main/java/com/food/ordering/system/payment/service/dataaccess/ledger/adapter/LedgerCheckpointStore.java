@@ -0,0 +1,315 @@
+package com.food.ordering.system.payment.service.dataaccess.ledger.adapter;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.sql.DataSource;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.food.ordering.system.payment.service.dataaccess.ledger.engine.ILedgerCheckpointStore;
+import com.food.ordering.system.payment.service.dataaccess.ledger.engine.LedgerAccount;
+import com.food.ordering.system.payment.service.dataaccess.ledger.engine.LedgerAmounts;
+import com.food.ordering.system.payment.service.dataaccess.ledger.engine.LedgerRecord;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Checkpoint store of the credit ledger backed by the payment schema.
+ * <p>
+ * Accounts are loaded from credit_entry and credit_history_totals, with the totals
+ * computed from credit_history for customers whose history predates the totals
+ * table. Checkpoints are written in one transaction with batched statements keyed by
+ * the primary keys. The credit_entry and credit_history_totals rows are updated only
+ * if their version is the one loaded or last written, and inserted only if they were
+ * missing when loaded, so a row changed by another writer fails the checkpoint
+ * instead of being overwritten. Credit history inserts skip existing entries, so
+ * writing them again after a crash changes nothing.
+ * </p>
+ * <p>
+ * The writer lock is a session-level PostgreSQL advisory lock held on a dedicated
+ * connection. It is released when the ledger closes or when that connection is lost.
+ * </p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "payment-ledger", name = "enabled", havingValue = "true")
+public class LedgerCheckpointStore implements ILedgerCheckpointStore {
+    private static final int BATCH_SIZE = 500;
+
+    /**
+     * Advisory lock key identifying the credit ledger writer.
+     */
+    private static final long WRITER_LOCK_KEY = 0x4C45444745520001L;
+
+    private static final String TRY_WRITER_LOCK = "SELECT pg_try_advisory_lock(?)";
+
+    private static final String RELEASE_WRITER_LOCK = "SELECT pg_advisory_unlock(?)";
+
+    private static final String SELECT_CREDIT_ENTRY =
+            "SELECT id, total_credit_amount, version FROM payment.credit_entry WHERE customer_id = ?";
+
+    private static final String SELECT_TOTALS = "SELECT total_credit_amount, total_debit_amount, version "
+            + "FROM payment.credit_history_totals WHERE customer_id = ?";
+
+    private static final String SUM_HISTORY_BY_TYPE = "SELECT CAST(type AS varchar) AS type, sum(amount) AS total "
+            + "FROM payment.credit_history WHERE customer_id = ? GROUP BY type";
+
+    private static final String INSERT_CREDIT_ENTRY = "INSERT INTO payment.credit_entry "
+            + "(id, customer_id, total_credit_amount) VALUES (?, ?, ?)";
+
+    private static final String UPDATE_CREDIT_ENTRY = "UPDATE payment.credit_entry "
+            + "SET total_credit_amount = ?, version = version + 1 WHERE id = ? AND version = ?";
+
+    private static final String INSERT_TOTALS = "INSERT INTO payment.credit_history_totals "
+            + "(customer_id, total_credit_amount, total_debit_amount) VALUES (?, ?, ?)";
+
+    private static final String UPDATE_TOTALS = "UPDATE payment.credit_history_totals "
+            + "SET total_credit_amount = ?, total_debit_amount = ?, version = version + 1 "
+            + "WHERE customer_id = ? AND version = ?";
+
+    /**
+     * Version of a credit_entry or credit_history_totals row right after its insert.
+     */
+    private static final int INSERTED_VERSION = 0;
+
+    private static final String INSERT_HISTORY = "INSERT INTO payment.credit_history "
+            + "(id, customer_id, amount, type) VALUES (?, ?, ?, ?) ON CONFLICT (id) DO NOTHING";
+
+    private static final String DELETE_HISTORY = "DELETE FROM payment.credit_history WHERE id = ?";
+
+    /**
+     * JDBC template running the statements.
+     */
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Template wrapping every checkpoint in one transaction.
+     */
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * Version of the credit_entry row of every loaded customer that has one, as loaded
+     * or last written.
+     */
+    private final Map<UUID, Integer> creditEntryVersions = new ConcurrentHashMap<>();
+
+    /**
+     * Version of the credit_history_totals row of every loaded customer that has one,
+     * as loaded or last written.
+     */
+    private final Map<UUID, Integer> totalsVersions = new ConcurrentHashMap<>();
+
+    /**
+     * Connection holding the writer lock, present while the lock is held.
+     */
+    private Connection writerLockConnection;
+
+    /**
+     * Constructs a new LedgerCheckpointStore.
+     *
+     * @param jdbcTemplate       the JDBC template running the statements
+     * @param transactionManager the transaction manager of the payment datasource
+     */
+    public LedgerCheckpointStore(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public synchronized void acquireWriterLock() {
+        if (writerLockConnection != null) {
+            return;
+        }
+        DataSource dataSource = jdbcTemplate.getDataSource();
+        if (dataSource == null) {
+            throw new IllegalStateException("Credit ledger writer lock needs a datasource");
+        }
+        Connection connection = null;
+        try {
+            connection = dataSource.getConnection();
+            if (!callLockFunction(connection, TRY_WRITER_LOCK)) {
+                throw new IllegalStateException("Credit ledger writer lock is held by another payment service "
+                        + "instance, payment-ledger.enabled must only be set on a single instance");
+            }
+            writerLockConnection = connection;
+            log.info("Acquired the credit ledger writer lock");
+        } catch (SQLException e) {
+            throw new IllegalStateException("Could not acquire the credit ledger writer lock", e);
+        } finally {
+            if (writerLockConnection == null && connection != null) {
+                closeQuietly(connection);
+            }
+        }
+    }
+
+    @Override
+    public synchronized void releaseWriterLock() {
+        if (writerLockConnection == null) {
+            return;
+        }
+        try {
+            callLockFunction(writerLockConnection, RELEASE_WRITER_LOCK);
+            log.info("Released the credit ledger writer lock");
+        } catch (SQLException e) {
+            log.warn("Could not release the credit ledger writer lock, it is held until its session ends", e);
+        } finally {
+            closeQuietly(writerLockConnection);
+            writerLockConnection = null;
+        }
+    }
+
+    @Override
+    public Optional<LedgerAccount> load(UUID customerId) {
+        LedgerAccount.LedgerAccountBuilder account = LedgerAccount.builder().customerId(customerId);
+        boolean found = false;
+        List<Map<String, Object>> creditEntries = jdbcTemplate.queryForList(SELECT_CREDIT_ENTRY, customerId);
+        if (!creditEntries.isEmpty()) {
+            account.creditEntryId((UUID) creditEntries.get(0).get("id"))
+                    .creditCents(cents(creditEntries.get(0).get("total_credit_amount")));
+            creditEntryVersions.putIfAbsent(customerId, (Integer) creditEntries.get(0).get("version"));
+            found = true;
+        }
+        List<Map<String, Object>> totals = jdbcTemplate.queryForList(SELECT_TOTALS, customerId);
+        if (!totals.isEmpty()) {
+            account.totalCreditCents(cents(totals.get(0).get("total_credit_amount")))
+                    .totalDebitCents(cents(totals.get(0).get("total_debit_amount")))
+                    .hasTotals(true);
+            totalsVersions.putIfAbsent(customerId, (Integer) totals.get(0).get("version"));
+            found = true;
+        } else {
+            List<Map<String, Object>> sums = jdbcTemplate.queryForList(SUM_HISTORY_BY_TYPE, customerId);
+            for (Map<String, Object> sum : sums) {
+                if ("CREDIT".equals(sum.get("type"))) {
+                    account.totalCreditCents(cents(sum.get("total")));
+                } else {
+                    account.totalDebitCents(cents(sum.get("total")));
+                }
+            }
+            if (!sums.isEmpty()) {
+                account.hasTotals(true);
+                found = true;
+            }
+        }
+        return found ? Optional.of(account.build()) : Optional.empty();
+    }
+
+    @Override
+    public void write(Collection<LedgerAccount> accounts, Collection<LedgerRecord> insertedHistory,
+            Collection<UUID> deletedHistoryIds) {
+        List<LedgerAccount> insertedCreditEntries = new ArrayList<>();
+        List<LedgerAccount> updatedCreditEntries = new ArrayList<>(accounts.size());
+        List<LedgerAccount> insertedTotals = new ArrayList<>();
+        List<LedgerAccount> updatedTotals = new ArrayList<>(accounts.size());
+        for (LedgerAccount account : accounts) {
+            if (account.hasCreditEntry()) {
+                (creditEntryVersions.containsKey(account.getCustomerId()) ? updatedCreditEntries
+                        : insertedCreditEntries).add(account);
+            }
+            if (account.hasTotals()) {
+                (totalsVersions.containsKey(account.getCustomerId()) ? updatedTotals : insertedTotals).add(account);
+            }
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            insertAccountRows(INSERT_CREDIT_ENTRY, insertedCreditEntries, "credit entry", (ps, account) -> {
+                ps.setObject(1, account.getCreditEntryId());
+                ps.setObject(2, account.getCustomerId());
+                ps.setBigDecimal(3, LedgerAmounts.toDecimal(account.getCreditCents()));
+            });
+            checkUpdated(jdbcTemplate.batchUpdate(UPDATE_CREDIT_ENTRY, updatedCreditEntries, BATCH_SIZE,
+                    (ps, account) -> {
+                        ps.setBigDecimal(1, LedgerAmounts.toDecimal(account.getCreditCents()));
+                        ps.setObject(2, account.getCreditEntryId());
+                        ps.setInt(3, creditEntryVersions.get(account.getCustomerId()));
+                    }), updatedCreditEntries, "credit entry");
+            insertAccountRows(INSERT_TOTALS, insertedTotals, "credit history totals", (ps, account) -> {
+                ps.setObject(1, account.getCustomerId());
+                ps.setBigDecimal(2, LedgerAmounts.toDecimal(account.getTotalCreditCents()));
+                ps.setBigDecimal(3, LedgerAmounts.toDecimal(account.getTotalDebitCents()));
+            });
+            checkUpdated(jdbcTemplate.batchUpdate(UPDATE_TOTALS, updatedTotals, BATCH_SIZE, (ps, account) -> {
+                ps.setBigDecimal(1, LedgerAmounts.toDecimal(account.getTotalCreditCents()));
+                ps.setBigDecimal(2, LedgerAmounts.toDecimal(account.getTotalDebitCents()));
+                ps.setObject(3, account.getCustomerId());
+                ps.setInt(4, totalsVersions.get(account.getCustomerId()));
+            }), updatedTotals, "credit history totals");
+            jdbcTemplate.batchUpdate(INSERT_HISTORY, insertedHistory, BATCH_SIZE, (ps, record) -> {
+                ps.setObject(1, record.getHistoryId());
+                ps.setObject(2, record.getAccount().getCustomerId());
+                ps.setBigDecimal(3, LedgerAmounts.toDecimal(record.getHistoryAmountCents()));
+                ps.setObject(4, record.getHistoryType().name(), Types.OTHER);
+            });
+            jdbcTemplate.batchUpdate(DELETE_HISTORY, deletedHistoryIds, BATCH_SIZE,
+                    (ps, historyId) -> ps.setObject(1, historyId));
+        });
+        insertedCreditEntries.forEach(account -> creditEntryVersions.put(account.getCustomerId(), INSERTED_VERSION));
+        updatedCreditEntries.forEach(account -> creditEntryVersions.merge(account.getCustomerId(), 1, Integer::sum));
+        insertedTotals.forEach(account -> totalsVersions.put(account.getCustomerId(), INSERTED_VERSION));
+        updatedTotals.forEach(account -> totalsVersions.merge(account.getCustomerId(), 1, Integer::sum));
+    }
+
+    private void insertAccountRows(String sql, List<LedgerAccount> accounts, String rowName,
+            ParameterizedPreparedStatementSetter<LedgerAccount> setter) {
+        // no ON CONFLICT clause: the driver rewrites batched inserts and reports no row
+        // counts, so a row inserted by another writer shows up as a key violation
+        try {
+            jdbcTemplate.batchUpdate(sql, accounts, BATCH_SIZE, setter);
+        } catch (DuplicateKeyException e) {
+            throw new OptimisticLockingFailureException("A " + rowName
+                    + " row missing when the credit ledger loaded it was inserted by another writer", e);
+        }
+    }
+
+    private static void checkUpdated(int[][] updateCounts, List<LedgerAccount> accounts, String rowName) {
+        int index = 0;
+        for (int[] batch : updateCounts) {
+            for (int updateCount : batch) {
+                if (updateCount == 0) {
+                    throw new OptimisticLockingFailureException("The " + rowName + " row of customer id: "
+                            + accounts.get(index).getCustomerId() + " was changed by another writer since the "
+                            + "credit ledger loaded it");
+                }
+                index++;
+            }
+        }
+    }
+
+    private static boolean callLockFunction(Connection connection, String sql) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setLong(1, WRITER_LOCK_KEY);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() && resultSet.getBoolean(1);
+            }
+        }
+    }
+
+    private static void closeQuietly(Connection connection) {
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            log.warn("Could not close the credit ledger writer lock connection", e);
+        }
+    }
+
+    private static long cents(Object amount) {
+        return LedgerAmounts.toCents((BigDecimal) amount);
+    }
+}
@@ -0,0 +1,63 @@
+package com.food.ordering.system.payment.service.dataaccess.ledger.adapter;
+
+import java.util.Optional;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import com.food.ordering.system.domain.valueobject.CustomerId;
+import com.food.ordering.system.payment.service.dataaccess.ledger.engine.CreditLedger;
+import com.food.ordering.system.payment.service.dataaccess.ledger.engine.LedgerAccount;
+import com.food.ordering.system.payment.service.dataaccess.ledger.engine.LedgerAmounts;
+import com.food.ordering.system.payment.service.domain.entity.CreditEntry;
+import com.food.ordering.system.payment.service.domain.entity.CreditHistory;
+import com.food.ordering.system.payment.service.domain.ports.output.repository.ICreditEntryRepository;
+import com.food.ordering.system.payment.service.domain.valueobject.CreditEntryId;
+
+/**
+ * Repository adapter serving CreditEntry entities from the credit ledger, used
+ * instead of the JPA adapter when {@code payment-ledger.enabled} is true.
+ */
+@Primary
+@Component
+@ConditionalOnProperty(prefix = "payment-ledger", name = "enabled", havingValue = "true")
+public class LedgerCreditEntryRepository implements ICreditEntryRepository {
+    /**
+     * Ledger holding the credit of every customer.
+     */
+    private final CreditLedger creditLedger;
+
+    /**
+     * Constructs a new LedgerCreditEntryRepository.
+     *
+     * @param creditLedger the ledger holding the credit of every customer
+     */
+    public LedgerCreditEntryRepository(CreditLedger creditLedger) {
+        this.creditLedger = creditLedger;
+    }
+
+    @Override
+    public CreditEntry save(CreditEntry creditEntry) {
+        creditLedger.putCreditEntry(creditEntry.getCustomerId().getValue(), creditEntry.getId().getValue(),
+                LedgerAmounts.toCents(creditEntry.getTotalCreditAmount()));
+        return creditEntry;
+    }
+
+    @Override
+    public Optional<CreditEntry> findByCustomerId(CustomerId customerId) {
+        return creditLedger.find(customerId.getValue())
+                .filter(LedgerAccount::hasCreditEntry)
+                .map(account -> CreditEntry.builder()
+                        .creditEntryId(new CreditEntryId(account.getCreditEntryId()))
+                        .customerId(customerId)
+                        .totalCreditAmount(LedgerAmounts.toMoney(account.getCreditCents()))
+                        .build());
+    }
+
+    @Override
+    public boolean debitCreditAmount(CreditHistory creditHistory) {
+        return creditLedger.debit(creditHistory.getCustomerId().getValue(), creditHistory.getId().getValue(),
+                LedgerAmounts.toCents(creditHistory.getAmount()));
+    }
+}
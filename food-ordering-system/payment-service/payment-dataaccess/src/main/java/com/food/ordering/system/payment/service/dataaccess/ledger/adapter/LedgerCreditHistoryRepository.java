@@ -0,0 +1,83 @@
+package com.food.ordering.system.payment.service.dataaccess.ledger.adapter;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import com.food.ordering.system.domain.valueobject.CustomerId;
+import com.food.ordering.system.payment.service.dataaccess.credithistory.adapter.CreditHistoryRepository;
+import com.food.ordering.system.payment.service.dataaccess.ledger.engine.CreditLedger;
+import com.food.ordering.system.payment.service.dataaccess.ledger.engine.LedgerAmounts;
+import com.food.ordering.system.payment.service.dataaccess.ledger.engine.LedgerRecord;
+import com.food.ordering.system.payment.service.domain.entity.CreditHistory;
+import com.food.ordering.system.payment.service.domain.ports.output.repository.ICreditHistoryRepository;
+import com.food.ordering.system.payment.service.domain.valueobject.CreditHistoryId;
+
+/**
+ * Repository adapter appending CreditHistory entries to the credit ledger, used
+ * instead of the JPA adapter when {@code payment-ledger.enabled} is true.
+ * <p>
+ * The ledger keeps no history in memory: entries reach the credit_history table
+ * with the next checkpoint. Reading the history of a customer therefore combines the
+ * checkpointed entries with the entries appended or reverted since.
+ * </p>
+ */
+@Primary
+@Component
+@ConditionalOnProperty(prefix = "payment-ledger", name = "enabled", havingValue = "true")
+public class LedgerCreditHistoryRepository implements ICreditHistoryRepository {
+    /**
+     * Ledger the entries are appended to.
+     */
+    private final CreditLedger creditLedger;
+
+    /**
+     * JPA adapter reading the checkpointed entries.
+     */
+    private final CreditHistoryRepository creditHistoryRepository;
+
+    /**
+     * Constructs a new LedgerCreditHistoryRepository.
+     *
+     * @param creditLedger            the ledger the entries are appended to
+     * @param creditHistoryRepository the JPA adapter reading the checkpointed entries
+     */
+    public LedgerCreditHistoryRepository(CreditLedger creditLedger, CreditHistoryRepository creditHistoryRepository) {
+        this.creditLedger = creditLedger;
+        this.creditHistoryRepository = creditHistoryRepository;
+    }
+
+    @Override
+    public CreditHistory save(CreditHistory creditHistory) {
+        creditLedger.appendHistory(creditHistory.getCustomerId().getValue(), creditHistory.getId().getValue(),
+                creditHistory.getTransactionType(), LedgerAmounts.toCents(creditHistory.getAmount()));
+        return creditHistory;
+    }
+
+    @Override
+    public Optional<List<CreditHistory>> findByCustomerId(CustomerId customerId) {
+        Map<CreditHistoryId, CreditHistory> creditHistories = new LinkedHashMap<>();
+        creditHistoryRepository.findByCustomerId(customerId).ifPresent(
+                checkpointed -> checkpointed.forEach(entry -> creditHistories.put(entry.getId(), entry)));
+        for (LedgerRecord record : creditLedger.findUncheckpointedHistory(customerId.getValue())) {
+            CreditHistoryId creditHistoryId = new CreditHistoryId(record.getHistoryId());
+            if (record.getKind() == LedgerRecord.REVERT) {
+                creditHistories.remove(creditHistoryId);
+            } else {
+                creditHistories.put(creditHistoryId, CreditHistory.builder()
+                        .creditHistoryId(creditHistoryId)
+                        .customerId(customerId)
+                        .amount(LedgerAmounts.toMoney(record.getHistoryAmountCents()))
+                        .transactionType(record.getHistoryType())
+                        .build());
+            }
+        }
+        return creditHistories.isEmpty() ? Optional.empty() : Optional.of(new ArrayList<>(creditHistories.values()));
+    }
+}
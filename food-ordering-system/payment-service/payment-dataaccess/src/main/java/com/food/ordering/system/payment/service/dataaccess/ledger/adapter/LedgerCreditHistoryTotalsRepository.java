@@ -0,0 +1,57 @@
+package com.food.ordering.system.payment.service.dataaccess.ledger.adapter;
+
+import java.util.Optional;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import com.food.ordering.system.domain.valueobject.CustomerId;
+import com.food.ordering.system.payment.service.dataaccess.ledger.engine.CreditLedger;
+import com.food.ordering.system.payment.service.dataaccess.ledger.engine.LedgerAccount;
+import com.food.ordering.system.payment.service.dataaccess.ledger.engine.LedgerAmounts;
+import com.food.ordering.system.payment.service.domain.entity.CreditHistoryTotals;
+import com.food.ordering.system.payment.service.domain.ports.output.repository.ICreditHistoryTotalsRepository;
+
+/**
+ * Repository adapter serving CreditHistoryTotals from the credit ledger, used
+ * instead of the JPA adapter when {@code payment-ledger.enabled} is true. The
+ * ledger debits the totals together with the credit, so both must come from it.
+ */
+@Primary
+@Component
+@ConditionalOnProperty(prefix = "payment-ledger", name = "enabled", havingValue = "true")
+public class LedgerCreditHistoryTotalsRepository implements ICreditHistoryTotalsRepository {
+    /**
+     * Ledger holding the credit history totals of every customer.
+     */
+    private final CreditLedger creditLedger;
+
+    /**
+     * Constructs a new LedgerCreditHistoryTotalsRepository.
+     *
+     * @param creditLedger the ledger holding the credit history totals of every customer
+     */
+    public LedgerCreditHistoryTotalsRepository(CreditLedger creditLedger) {
+        this.creditLedger = creditLedger;
+    }
+
+    @Override
+    public CreditHistoryTotals save(CreditHistoryTotals creditHistoryTotals) {
+        creditLedger.putTotals(creditHistoryTotals.getCustomerId().getValue(),
+                LedgerAmounts.toCents(creditHistoryTotals.getTotalCreditAmount()),
+                LedgerAmounts.toCents(creditHistoryTotals.getTotalDebitAmount()));
+        return creditHistoryTotals;
+    }
+
+    @Override
+    public Optional<CreditHistoryTotals> findByCustomerId(CustomerId customerId) {
+        return creditLedger.find(customerId.getValue())
+                .filter(LedgerAccount::hasTotals)
+                .map(account -> CreditHistoryTotals.builder()
+                        .customerId(customerId)
+                        .totalCreditAmount(LedgerAmounts.toMoney(account.getTotalCreditCents()))
+                        .totalDebitAmount(LedgerAmounts.toMoney(account.getTotalDebitCents()))
+                        .build());
+    }
+}
@@ -0,0 +1,64 @@
+package com.food.ordering.system.payment.service.dataaccess.ledger.config;
+
+import java.nio.file.Path;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.food.ordering.system.payment.service.dataaccess.ledger.engine.CreditLedger;
+import com.food.ordering.system.payment.service.dataaccess.ledger.engine.ILedgerCheckpointStore;
+import com.food.ordering.system.payment.service.dataaccess.ledger.engine.LedgerWriteAheadLog;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+
+/**
+ * Creates the credit ledger when {@code payment-ledger.enabled} is true. The ledger
+ * takes the writer lock of the store and replays its write-ahead log on creation, so
+ * startup fails if another instance already runs a ledger, and writes a last
+ * checkpoint when the context closes.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "payment-ledger", name = "enabled", havingValue = "true")
+public class CreditLedgerConfig {
+    /**
+     * Credit ledger configuration data.
+     */
+    private final CreditLedgerConfigData creditLedgerConfigData;
+
+    /**
+     * Registry receiving the ledger metrics.
+     */
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Constructs a new CreditLedgerConfig.
+     *
+     * @param creditLedgerConfigData the credit ledger configuration data
+     * @param meterRegistryProvider  the provider of the registry receiving the ledger metrics
+     */
+    public CreditLedgerConfig(CreditLedgerConfigData creditLedgerConfigData,
+            ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        this.creditLedgerConfigData = creditLedgerConfigData;
+        this.meterRegistry = meterRegistryProvider.getIfAvailable(() -> Metrics.globalRegistry);
+    }
+
+    /**
+     * Creates and starts the credit ledger.
+     *
+     * @param checkpointStore the store the ledger loads accounts from and checkpoints to
+     * @return the started CreditLedger
+     */
+    @Bean(destroyMethod = "close")
+    public CreditLedger creditLedger(ILedgerCheckpointStore checkpointStore) {
+        LedgerWriteAheadLog writeAheadLog = new LedgerWriteAheadLog(
+                Path.of(creditLedgerConfigData.getWalDirectory()), creditLedgerConfigData.getWalSegmentRecords(),
+                meterRegistry);
+        CreditLedger creditLedger = new CreditLedger(writeAheadLog, checkpointStore,
+                creditLedgerConfigData.getCheckpointIntervalMs(), meterRegistry);
+        creditLedger.start();
+        return creditLedger;
+    }
+}
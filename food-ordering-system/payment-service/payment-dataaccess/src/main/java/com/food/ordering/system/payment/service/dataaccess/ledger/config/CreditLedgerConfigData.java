@@ -0,0 +1,35 @@
+package com.food.ordering.system.payment.service.dataaccess.ledger.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Data;
+
+/**
+ * Configuration properties for the memory-resident credit ledger.
+ * The ledger replaces the JPA credit repositories only when enabled.
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "payment-ledger")
+public class CreditLedgerConfigData {
+    /**
+     * Whether credit entries, credit history and its totals are served by the ledger.
+     */
+    private Boolean enabled;
+
+    /**
+     * Directory holding the write-ahead log segments.
+     */
+    private String walDirectory;
+
+    /**
+     * Number of records per write-ahead log segment.
+     */
+    private Integer walSegmentRecords;
+
+    /**
+     * Interval between two checkpoints of the ledger to the database.
+     */
+    private Long checkpointIntervalMs;
+}
@@ -0,0 +1,514 @@
+package com.food.ordering.system.payment.service.dataaccess.ledger.engine;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.UnaryOperator;
+
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.food.ordering.system.payment.service.domain.valueobject.TransactionType;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Memory-resident credit ledger: the credit entry and credit history totals of every
+ * customer held in a {@link LedgerAccountTable}, made durable by a
+ * {@link LedgerWriteAheadLog} and checkpointed to an {@link ILedgerCheckpointStore}.
+ * <p>
+ * Every change updates the table and appends the resulting account state to the log
+ * under one lock, which keeps both in the same order and takes well under a
+ * microsecond. Waiting for the fsync happens outside the lock: inside a Spring
+ * transaction the ledger waits before the transaction commits, so the records of the
+ * whole transaction share one group fsync, and reverts the accounts with compensating
+ * records if the transaction rolls back. Outside a transaction every change waits for
+ * its own record.
+ * </p>
+ * <p>
+ * Accounts missing from the table are loaded from the store on first use. A
+ * background thread periodically writes the durable records to the store and
+ * releases the log segments it covered. On start, the log is replayed over the
+ * table, so the ledger comes back with every durable change, checkpointed or not.
+ * </p>
+ * <p>
+ * The ledger must be the only writer of the credit data of its customers: it takes
+ * the writer lock of the store on start and fails to start if another ledger holds
+ * it. Checkpoints only overwrite rows unchanged since the ledger loaded or last wrote
+ * them; a row changed by another writer stops the ledger, since its accounts no
+ * longer match the store, and every further change fails until it is restarted. The
+ * changes of one customer must be serialized, as the payment lanes do. A record
+ * made durable by a transaction whose database commit then fails, followed by a
+ * crash before its revert is durable, is replayed on restart.
+ * </p>
+ */
+@Slf4j
+public class CreditLedger implements AutoCloseable {
+    /**
+     * Log the changes are made durable in.
+     */
+    private final LedgerWriteAheadLog writeAheadLog;
+
+    /**
+     * Store accounts are loaded from and checkpointed to.
+     */
+    private final ILedgerCheckpointStore checkpointStore;
+
+    /**
+     * Interval between two checkpoints.
+     */
+    private final long checkpointIntervalMs;
+
+    /**
+     * Guards the accounts and the uncheckpointed records, and orders log appends.
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * The accounts, indexed by customer id.
+     */
+    private final LedgerAccountTable accounts = new LedgerAccountTable();
+
+    /**
+     * Records appended and not yet checkpointed, in sequence order.
+     */
+    private final List<LedgerRecord> uncheckpointed = new ArrayList<>();
+
+    /**
+     * Time spent writing checkpoints.
+     */
+    private final Timer checkpointTimer;
+
+    /**
+     * Thread writing the periodic checkpoints.
+     */
+    private final Thread checkpointer;
+
+    /**
+     * Whether the checkpointer keeps running.
+     */
+    private volatile boolean running;
+
+    /**
+     * Conflict that stopped the ledger, present once a checkpoint found a row changed
+     * by another writer.
+     */
+    private volatile OptimisticLockingFailureException conflict;
+
+    /**
+     * Creates a credit ledger. {@link #start()} must be called before use.
+     *
+     * @param writeAheadLog        the log the changes are made durable in
+     * @param checkpointStore      the store accounts are loaded from and checkpointed to
+     * @param checkpointIntervalMs the interval between two checkpoints
+     * @param meterRegistry        the registry receiving the ledger metrics
+     */
+    public CreditLedger(LedgerWriteAheadLog writeAheadLog, ILedgerCheckpointStore checkpointStore,
+            long checkpointIntervalMs, MeterRegistry meterRegistry) {
+        this.writeAheadLog = writeAheadLog;
+        this.checkpointStore = checkpointStore;
+        this.checkpointIntervalMs = checkpointIntervalMs;
+        this.checkpointTimer = Timer.builder("payment.ledger.checkpoint")
+                .description("Time spent checkpointing the credit ledger").register(meterRegistry);
+        Gauge.builder("payment.ledger.accounts", this, CreditLedger::getAccountCount)
+                .description("Accounts held by the credit ledger").register(meterRegistry);
+        Gauge.builder("payment.ledger.checkpoint.pending", this, CreditLedger::getUncheckpointedCount)
+                .description("Credit ledger records not yet checkpointed").register(meterRegistry);
+        this.checkpointer = new Thread(this::runCheckpoints, "credit-ledger-checkpointer");
+        this.checkpointer.setDaemon(true);
+    }
+
+    /**
+     * Takes the writer lock of the store, replays the write-ahead log and starts the
+     * periodic checkpoints. The accounts replayed from the log are loaded from the
+     * store once, only to remember the row versions later checkpoints are conditional on.
+     *
+     * @throws IllegalStateException if another ledger holds the writer lock of the store
+     */
+    public void start() {
+        checkpointStore.acquireWriterLock();
+        Set<UUID> replayedCustomerIds = new LinkedHashSet<>();
+        lock.lock();
+        try {
+            long last = writeAheadLog.recover(record -> {
+                accounts.put(record.getAccount());
+                uncheckpointed.add(record);
+                replayedCustomerIds.add(record.getAccount().getCustomerId());
+            });
+            log.info("Credit ledger started with {} accounts replayed up to sequence {}", accounts.size(), last);
+        } finally {
+            lock.unlock();
+        }
+        replayedCustomerIds.forEach(checkpointStore::load);
+        running = true;
+        checkpointer.start();
+    }
+
+    /**
+     * Returns the account of a customer, loading it from the store if needed.
+     *
+     * @param customerId the id of the customer
+     * @return the account, or empty if the customer has neither a credit entry nor
+     *         credit history totals
+     */
+    public Optional<LedgerAccount> find(UUID customerId) {
+        load(customerId);
+        lock.lock();
+        try {
+            LedgerAccount account = accounts.get(customerId);
+            return account.hasCreditEntry() || account.hasTotals() ? Optional.of(account) : Optional.empty();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Sets the credit entry of a customer.
+     *
+     * @param customerId    the id of the customer
+     * @param creditEntryId the id of the credit entry
+     * @param creditCents   the available credit
+     */
+    public void putCreditEntry(UUID customerId, UUID creditEntryId, long creditCents) {
+        change(customerId, account -> account.toBuilder()
+                .creditEntryId(creditEntryId)
+                .creditCents(creditCents)
+                .build(), null, null, 0);
+    }
+
+    /**
+     * Sets the credit history totals of a customer.
+     *
+     * @param customerId       the id of the customer
+     * @param totalCreditCents the sum of all CREDIT transactions
+     * @param totalDebitCents  the sum of all DEBIT transactions
+     */
+    public void putTotals(UUID customerId, long totalCreditCents, long totalDebitCents) {
+        change(customerId, account -> account.toBuilder()
+                .totalCreditCents(totalCreditCents)
+                .totalDebitCents(totalDebitCents)
+                .hasTotals(true)
+                .build(), null, null, 0);
+    }
+
+    /**
+     * Appends a credit history entry of a customer. The totals are set separately
+     * with {@link #putTotals(UUID, long, long)}.
+     *
+     * @param customerId  the id of the customer
+     * @param historyId   the id of the credit history entry
+     * @param type        the transaction type of the entry
+     * @param amountCents the amount of the entry
+     */
+    public void appendHistory(UUID customerId, UUID historyId, TransactionType type, long amountCents) {
+        change(customerId, UnaryOperator.identity(), historyId, type, amountCents);
+    }
+
+    /**
+     * Debits the credit of a customer and appends the DEBIT history entry, provided
+     * the credit covers the amount and matches the credit history totals.
+     *
+     * @param customerId  the id of the customer
+     * @param historyId   the id of the DEBIT credit history entry
+     * @param amountCents the amount to debit
+     * @return true if the credit was debited, false if the guard rejected the debit
+     */
+    public boolean debit(UUID customerId, UUID historyId, long amountCents) {
+        ensureNoConflict();
+        load(customerId);
+        LedgerAccount before;
+        LedgerRecord record;
+        lock.lock();
+        try {
+            before = accounts.get(customerId);
+            if (!accounts.debit(customerId, amountCents)) {
+                return false;
+            }
+            record = append(LedgerRecord.APPLY, accounts.get(customerId), historyId, TransactionType.DEBIT,
+                    amountCents);
+        } finally {
+            lock.unlock();
+        }
+        commit(before, record);
+        return true;
+    }
+
+    /**
+     * Returns the credit history records of a customer not yet checkpointed, both
+     * APPLY and REVERT, in sequence order.
+     *
+     * @param customerId the id of the customer
+     * @return the uncheckpointed credit history records
+     */
+    public List<LedgerRecord> findUncheckpointedHistory(UUID customerId) {
+        lock.lock();
+        try {
+            List<LedgerRecord> history = new ArrayList<>();
+            for (LedgerRecord record : uncheckpointed) {
+                if (record.hasHistory() && record.getAccount().getCustomerId().equals(customerId)) {
+                    history.add(record);
+                }
+            }
+            return history;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Writes the durable records not yet checkpointed to the store, coalesced to the
+     * latest state of every account, and releases the log segments they covered.
+     *
+     * @throws OptimisticLockingFailureException if a row was changed by another writer,
+     *         which stops the ledger
+     */
+    public synchronized void checkpoint() {
+        long durableSequence = writeAheadLog.getDurableSequence();
+        List<LedgerRecord> batch;
+        lock.lock();
+        try {
+            int count = 0;
+            while (count < uncheckpointed.size() && uncheckpointed.get(count).getSequence() <= durableSequence) {
+                count++;
+            }
+            batch = new ArrayList<>(uncheckpointed.subList(0, count));
+        } finally {
+            lock.unlock();
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+        Map<UUID, LedgerAccount> changedAccounts = new LinkedHashMap<>();
+        Map<UUID, LedgerRecord> insertedHistory = new LinkedHashMap<>();
+        Set<UUID> deletedHistoryIds = new LinkedHashSet<>();
+        for (LedgerRecord record : batch) {
+            changedAccounts.put(record.getAccount().getCustomerId(), record.getAccount());
+            if (!record.hasHistory()) {
+                continue;
+            }
+            if (record.getKind() == LedgerRecord.APPLY) {
+                insertedHistory.put(record.getHistoryId(), record);
+                deletedHistoryIds.remove(record.getHistoryId());
+            } else if (insertedHistory.remove(record.getHistoryId()) == null) {
+                deletedHistoryIds.add(record.getHistoryId());
+            }
+        }
+        try {
+            checkpointTimer.record(() -> checkpointStore.write(changedAccounts.values(), insertedHistory.values(),
+                    deletedHistoryIds));
+        } catch (OptimisticLockingFailureException e) {
+            conflict = e;
+            log.error("Credit ledger stopped, a checkpoint found credit data changed by another writer", e);
+            throw e;
+        }
+        lock.lock();
+        try {
+            uncheckpointed.subList(0, batch.size()).clear();
+        } finally {
+            lock.unlock();
+        }
+        writeAheadLog.release(batch.get(batch.size() - 1).getSequence());
+        log.debug("Checkpointed {} credit ledger records into {} accounts", batch.size(), changedAccounts.size());
+    }
+
+    /**
+     * Returns the number of accounts held by the ledger.
+     *
+     * @return the account count
+     */
+    public int getAccountCount() {
+        lock.lock();
+        try {
+            return accounts.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of records not yet checkpointed.
+     *
+     * @return the uncheckpointed record count
+     */
+    public int getUncheckpointedCount() {
+        lock.lock();
+        try {
+            return uncheckpointed.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Stops the periodic checkpoints, writes a last checkpoint, closes the log and
+     * releases the writer lock of the store.
+     */
+    @Override
+    public void close() {
+        running = false;
+        checkpointer.interrupt();
+        try {
+            checkpointer.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        writeAheadLog.close();
+        try {
+            checkpoint();
+        } catch (RuntimeException e) {
+            log.error("Could not checkpoint credit ledger on close, the log will be replayed on restart", e);
+        }
+        checkpointStore.releaseWriterLock();
+    }
+
+    private void change(UUID customerId, UnaryOperator<LedgerAccount> change, UUID historyId,
+            TransactionType historyType, long historyAmountCents) {
+        ensureNoConflict();
+        load(customerId);
+        LedgerAccount before;
+        LedgerRecord record;
+        lock.lock();
+        try {
+            before = accounts.get(customerId);
+            LedgerAccount after = change.apply(before);
+            accounts.put(after);
+            record = append(LedgerRecord.APPLY, after, historyId, historyType, historyAmountCents);
+        } finally {
+            lock.unlock();
+        }
+        commit(before, record);
+    }
+
+    private void ensureNoConflict() {
+        if (conflict != null) {
+            throw new IllegalStateException("Credit ledger stopped after a checkpoint conflict with another writer "
+                    + "of the credit data, restart the payment service to reload it", conflict);
+        }
+    }
+
+    private LedgerRecord append(byte kind, LedgerAccount account, UUID historyId, TransactionType historyType,
+            long historyAmountCents) {
+        LedgerRecord record = writeAheadLog.append(LedgerRecord.builder()
+                .kind(kind)
+                .account(account)
+                .historyId(historyId)
+                .historyType(historyType)
+                .historyAmountCents(historyAmountCents));
+        uncheckpointed.add(record);
+        return record;
+    }
+
+    private void load(UUID customerId) {
+        lock.lock();
+        try {
+            if (accounts.contains(customerId)) {
+                return;
+            }
+        } finally {
+            lock.unlock();
+        }
+        LedgerAccount stored = checkpointStore.load(customerId)
+                .orElseGet(() -> LedgerAccount.builder().customerId(customerId).build());
+        lock.lock();
+        try {
+            if (!accounts.contains(customerId)) {
+                accounts.put(stored);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void commit(LedgerAccount before, LedgerRecord record) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            writeAheadLog.awaitDurable(record.getSequence());
+            return;
+        }
+        LedgerTransaction transaction = (LedgerTransaction) TransactionSynchronizationManager.getResource(this);
+        if (transaction == null) {
+            transaction = new LedgerTransaction();
+            TransactionSynchronizationManager.bindResource(this, transaction);
+            TransactionSynchronizationManager.registerSynchronization(transaction);
+        }
+        transaction.befores.add(before);
+        transaction.records.add(record);
+    }
+
+    private void revert(List<LedgerAccount> befores, List<LedgerRecord> records) {
+        LedgerRecord last = null;
+        lock.lock();
+        try {
+            for (int index = records.size() - 1; index >= 0; index--) {
+                LedgerRecord record = records.get(index);
+                accounts.put(befores.get(index));
+                last = append(LedgerRecord.REVERT, befores.get(index), record.getHistoryId(),
+                        record.getHistoryType(), record.getHistoryAmountCents());
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (last != null) {
+            writeAheadLog.awaitDurable(last.getSequence());
+        }
+    }
+
+    private void runCheckpoints() {
+        while (running) {
+            try {
+                Thread.sleep(checkpointIntervalMs);
+                checkpoint();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (OptimisticLockingFailureException e) {
+                return;
+            } catch (RuntimeException e) {
+                log.error("Could not checkpoint credit ledger, retrying in {} ms", checkpointIntervalMs, e);
+            }
+        }
+    }
+
+    /**
+     * Changes made by the ledger within one Spring transaction.
+     */
+    private final class LedgerTransaction implements TransactionSynchronization {
+        /**
+         * State of the changed accounts before each change.
+         */
+        private final List<LedgerAccount> befores = new ArrayList<>();
+
+        /**
+         * Records of the changes, in order.
+         */
+        private final List<LedgerRecord> records = new ArrayList<>();
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            writeAheadLog.awaitDurable(records.get(records.size() - 1).getSequence());
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(CreditLedger.this);
+            if (status != STATUS_COMMITTED) {
+                log.warn("Reverting {} credit ledger changes of a rolled back transaction", records.size());
+                try {
+                    revert(befores, records);
+                } catch (RuntimeException e) {
+                    log.error("Could not revert credit ledger changes", e);
+                }
+            }
+        }
+    }
+}
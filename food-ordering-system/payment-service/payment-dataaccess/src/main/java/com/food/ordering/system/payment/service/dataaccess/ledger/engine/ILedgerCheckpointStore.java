@@ -0,0 +1,53 @@
+package com.food.ordering.system.payment.service.dataaccess.ledger.engine;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Durable store the credit ledger loads accounts from and checkpoints to.
+ * <p>
+ * The ledger must be the only writer of the credit data it holds. The store enforces
+ * it with a writer lock held for the lifetime of the ledger, and by writing every
+ * account row only if it is unchanged since the ledger loaded or last wrote it.
+ * </p>
+ */
+public interface ILedgerCheckpointStore {
+    /**
+     * Makes the caller the only ledger writing to the store.
+     *
+     * @throws IllegalStateException if another ledger already holds the writer lock
+     */
+    void acquireWriterLock();
+
+    /**
+     * Releases the writer lock taken by {@link #acquireWriterLock()}.
+     */
+    void releaseWriterLock();
+
+    /**
+     * Loads the checkpointed account of a customer and remembers the versions of its
+     * rows, which the next write of the account is conditional on.
+     *
+     * @param customerId the id of the customer
+     * @return the account, or empty if the customer has neither a credit entry nor
+     *         credit history
+     */
+    Optional<LedgerAccount> load(UUID customerId);
+
+    /**
+     * Writes a checkpoint atomically. An account row is only written if it still has
+     * the version remembered for it, and a row missing when the account was loaded is
+     * only inserted if it is still missing. Credit history entries already present are
+     * left unchanged.
+     *
+     * @param accounts          the latest state of every account changed since the
+     *                          previous checkpoint
+     * @param insertedHistory   the APPLY records of the credit history entries to insert
+     * @param deletedHistoryIds the ids of the credit history entries to delete
+     * @throws org.springframework.dao.OptimisticLockingFailureException if a row was
+     *         changed by another writer, in which case nothing is written
+     */
+    void write(Collection<LedgerAccount> accounts, Collection<LedgerRecord> insertedHistory,
+            Collection<UUID> deletedHistoryIds);
+}
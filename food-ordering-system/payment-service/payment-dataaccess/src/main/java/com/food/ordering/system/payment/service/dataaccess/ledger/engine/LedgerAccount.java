@@ -0,0 +1,64 @@
+package com.food.ordering.system.payment.service.dataaccess.ledger.engine;
+
+import java.util.UUID;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Immutable snapshot of the credit state of a customer held by the ledger.
+ * Amounts are kept in cents.
+ */
+@Getter
+@Builder(toBuilder = true)
+public final class LedgerAccount {
+    /**
+     * The customer owning the account.
+     */
+    private final UUID customerId;
+
+    /**
+     * Id of the credit entry of the customer, null if the customer has none.
+     */
+    private final UUID creditEntryId;
+
+    /**
+     * The available credit of the customer.
+     */
+    private final long creditCents;
+
+    /**
+     * The sum of all CREDIT transactions of the customer.
+     */
+    private final long totalCreditCents;
+
+    /**
+     * The sum of all DEBIT transactions of the customer.
+     */
+    private final long totalDebitCents;
+
+    /**
+     * Whether the customer has credit history totals.
+     */
+    @Getter(AccessLevel.NONE)
+    private final boolean hasTotals;
+
+    /**
+     * Whether the customer has a credit entry.
+     *
+     * @return true if the account holds a credit entry
+     */
+    public boolean hasCreditEntry() {
+        return creditEntryId != null;
+    }
+
+    /**
+     * Whether the customer has credit history totals.
+     *
+     * @return true if the account holds credit history totals
+     */
+    public boolean hasTotals() {
+        return hasTotals;
+    }
+}
@@ -0,0 +1,194 @@
+package com.food.ordering.system.payment.service.dataaccess.ledger.engine;
+
+import java.util.UUID;
+
+/**
+ * Open-addressing hash table of ledger accounts keyed by the two halves of the
+ * customer UUID.
+ * <p>
+ * Keys and account fields are stored in parallel primitive arrays, so looking up or
+ * updating an account neither boxes the key nor allocates, and a million accounts
+ * take a few tens of megabytes without per-entry object headers. Accounts are never
+ * removed. The table is not thread-safe; {@link CreditLedger} guards it with its
+ * lock.
+ * </p>
+ */
+final class LedgerAccountTable {
+    private static final int INITIAL_CAPACITY = 1 << 10;
+    private static final double MAX_LOAD = 0.6;
+
+    private boolean[] used;
+    private long[] customerHigh;
+    private long[] customerLow;
+    private boolean[] hasCreditEntry;
+    private long[] creditEntryHigh;
+    private long[] creditEntryLow;
+    private long[] creditCents;
+    private long[] totalCreditCents;
+    private long[] totalDebitCents;
+    private boolean[] hasTotals;
+    private int size;
+
+    /**
+     * Creates an empty table.
+     */
+    LedgerAccountTable() {
+        allocate(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Returns the number of accounts in the table.
+     *
+     * @return the account count
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Whether the table holds the account of a customer.
+     *
+     * @param customerId the id of the customer
+     * @return true if the customer is in the table
+     */
+    boolean contains(UUID customerId) {
+        return find(customerId.getMostSignificantBits(), customerId.getLeastSignificantBits()) >= 0;
+    }
+
+    /**
+     * Returns the account of a customer.
+     *
+     * @param customerId the id of the customer
+     * @return the account, or null if the customer is not in the table
+     */
+    LedgerAccount get(UUID customerId) {
+        int slot = find(customerId.getMostSignificantBits(), customerId.getLeastSignificantBits());
+        if (slot < 0) {
+            return null;
+        }
+        return LedgerAccount.builder()
+                .customerId(customerId)
+                .creditEntryId(hasCreditEntry[slot] ? new UUID(creditEntryHigh[slot], creditEntryLow[slot]) : null)
+                .creditCents(creditCents[slot])
+                .totalCreditCents(totalCreditCents[slot])
+                .totalDebitCents(totalDebitCents[slot])
+                .hasTotals(hasTotals[slot])
+                .build();
+    }
+
+    /**
+     * Debits an account in place if its credit covers the amount and matches its
+     * credit history totals.
+     *
+     * @param customerId  the id of the customer
+     * @param amountCents the amount to debit
+     * @return true if the account was debited
+     */
+    boolean debit(UUID customerId, long amountCents) {
+        int slot = find(customerId.getMostSignificantBits(), customerId.getLeastSignificantBits());
+        if (slot < 0 || !hasCreditEntry[slot] || !hasTotals[slot] || creditCents[slot] < amountCents
+                || creditCents[slot] != totalCreditCents[slot] - totalDebitCents[slot]) {
+            return false;
+        }
+        creditCents[slot] -= amountCents;
+        totalDebitCents[slot] += amountCents;
+        return true;
+    }
+
+    /**
+     * Inserts or replaces the account of a customer.
+     *
+     * @param account the account
+     */
+    void put(LedgerAccount account) {
+        long high = account.getCustomerId().getMostSignificantBits();
+        long low = account.getCustomerId().getLeastSignificantBits();
+        int slot = find(high, low);
+        if (slot < 0) {
+            if (size + 1 > used.length * MAX_LOAD) {
+                rehash(used.length << 1);
+            }
+            slot = freeSlot(high, low);
+            used[slot] = true;
+            customerHigh[slot] = high;
+            customerLow[slot] = low;
+            size++;
+        }
+        hasCreditEntry[slot] = account.hasCreditEntry();
+        creditEntryHigh[slot] = account.hasCreditEntry() ? account.getCreditEntryId().getMostSignificantBits() : 0;
+        creditEntryLow[slot] = account.hasCreditEntry() ? account.getCreditEntryId().getLeastSignificantBits() : 0;
+        creditCents[slot] = account.getCreditCents();
+        totalCreditCents[slot] = account.getTotalCreditCents();
+        totalDebitCents[slot] = account.getTotalDebitCents();
+        hasTotals[slot] = account.hasTotals();
+    }
+
+    private int find(long high, long low) {
+        int mask = used.length - 1;
+        for (int slot = hash(high, low) & mask; used[slot]; slot = (slot + 1) & mask) {
+            if (customerHigh[slot] == high && customerLow[slot] == low) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    private int freeSlot(long high, long low) {
+        int mask = used.length - 1;
+        int slot = hash(high, low) & mask;
+        while (used[slot]) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void rehash(int capacity) {
+        boolean[] oldUsed = used;
+        long[] oldCustomerHigh = customerHigh;
+        long[] oldCustomerLow = customerLow;
+        boolean[] oldHasCreditEntry = hasCreditEntry;
+        long[] oldCreditEntryHigh = creditEntryHigh;
+        long[] oldCreditEntryLow = creditEntryLow;
+        long[] oldCreditCents = creditCents;
+        long[] oldTotalCreditCents = totalCreditCents;
+        long[] oldTotalDebitCents = totalDebitCents;
+        boolean[] oldHasTotals = hasTotals;
+        allocate(capacity);
+        for (int old = 0; old < oldUsed.length; old++) {
+            if (oldUsed[old]) {
+                int slot = freeSlot(oldCustomerHigh[old], oldCustomerLow[old]);
+                used[slot] = true;
+                customerHigh[slot] = oldCustomerHigh[old];
+                customerLow[slot] = oldCustomerLow[old];
+                hasCreditEntry[slot] = oldHasCreditEntry[old];
+                creditEntryHigh[slot] = oldCreditEntryHigh[old];
+                creditEntryLow[slot] = oldCreditEntryLow[old];
+                creditCents[slot] = oldCreditCents[old];
+                totalCreditCents[slot] = oldTotalCreditCents[old];
+                totalDebitCents[slot] = oldTotalDebitCents[old];
+                hasTotals[slot] = oldHasTotals[old];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        used = new boolean[capacity];
+        customerHigh = new long[capacity];
+        customerLow = new long[capacity];
+        hasCreditEntry = new boolean[capacity];
+        creditEntryHigh = new long[capacity];
+        creditEntryLow = new long[capacity];
+        creditCents = new long[capacity];
+        totalCreditCents = new long[capacity];
+        totalDebitCents = new long[capacity];
+        hasTotals = new boolean[capacity];
+    }
+
+    private static int hash(long high, long low) {
+        long h = high * 0x9E3779B97F4A7C15L ^ low;
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        return (int) h;
+    }
+}
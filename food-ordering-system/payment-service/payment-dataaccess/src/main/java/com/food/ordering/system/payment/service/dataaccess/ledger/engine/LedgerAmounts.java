@@ -0,0 +1,54 @@
+package com.food.ordering.system.payment.service.dataaccess.ledger.engine;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import com.food.ordering.system.domain.valueobject.Money;
+
+/**
+ * Conversions between {@link Money} and the cent amounts kept by the ledger.
+ */
+public final class LedgerAmounts {
+    private LedgerAmounts() {
+    }
+
+    /**
+     * Converts an amount of money to cents.
+     *
+     * @param money the amount, with at most two decimal places after rounding
+     * @return the amount in cents
+     */
+    public static long toCents(Money money) {
+        return toCents(money.getAmount());
+    }
+
+    /**
+     * Converts a decimal amount to cents.
+     *
+     * @param amount the amount, with at most two decimal places after rounding
+     * @return the amount in cents
+     */
+    public static long toCents(BigDecimal amount) {
+        return amount.setScale(2, RoundingMode.HALF_EVEN).unscaledValue().longValueExact();
+    }
+
+    /**
+     * Converts cents to an amount of money.
+     *
+     * @param cents the amount in cents
+     * @return the amount of money
+     */
+    public static Money toMoney(long cents) {
+        return new Money(toDecimal(cents));
+    }
+
+    /**
+     * Converts cents to a decimal amount with two decimal places.
+     *
+     * @param cents the amount in cents
+     * @return the decimal amount
+     */
+    public static BigDecimal toDecimal(long cents) {
+        return BigDecimal.valueOf(cents, 2);
+    }
+}
@@ -0,0 +1,178 @@
+package com.food.ordering.system.payment.service.dataaccess.ledger.engine;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+import java.util.zip.CRC32C;
+
+import com.food.ordering.system.payment.service.domain.valueobject.TransactionType;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * One write-ahead log record: the full state of a ledger account after a change,
+ * optionally with the credit history entry the change appended or reverted.
+ * <p>
+ * Records carry after-images rather than deltas, so replaying a record twice, or
+ * replaying a record already checkpointed, leaves the account in the same state.
+ * Every record has the same size and starts with a CRC32C of its content, which lets
+ * recovery tell a torn or never-written slot from a complete record.
+ * </p>
+ */
+@Getter
+@Builder
+public final class LedgerRecord {
+    /**
+     * Size of an encoded record in bytes.
+     */
+    public static final int SIZE = 112;
+
+    /**
+     * Kind of a record applying a change.
+     */
+    public static final byte APPLY = 1;
+
+    /**
+     * Kind of a record reverting a change whose transaction rolled back.
+     */
+    public static final byte REVERT = 2;
+
+    private static final byte HAS_CREDIT_ENTRY = 1;
+    private static final byte HAS_TOTALS = 2;
+    private static final byte HAS_HISTORY = 4;
+
+    /**
+     * Position of the record in the log, starting at 1.
+     */
+    private final long sequence;
+
+    /**
+     * Whether the record applies ({@link #APPLY}) or reverts ({@link #REVERT}) a change.
+     */
+    private final byte kind;
+
+    /**
+     * State of the account after the record.
+     */
+    private final LedgerAccount account;
+
+    /**
+     * Id of the credit history entry appended or reverted, null if none.
+     */
+    private final UUID historyId;
+
+    /**
+     * Transaction type of the credit history entry.
+     */
+    private final TransactionType historyType;
+
+    /**
+     * Amount of the credit history entry, in cents.
+     */
+    private final long historyAmountCents;
+
+    /**
+     * Whether the record appends or reverts a credit history entry.
+     *
+     * @return true if the record carries a credit history entry
+     */
+    public boolean hasHistory() {
+        return historyId != null;
+    }
+
+    /**
+     * Writes the record at the current position of a buffer.
+     *
+     * @param buffer the buffer with at least {@link #SIZE} bytes remaining
+     */
+    public void encode(ByteBuffer buffer) {
+        int start = buffer.position();
+        buffer.putInt(0);
+        buffer.putLong(sequence);
+        buffer.put(kind);
+        buffer.put(flags());
+        buffer.putShort((short) 0);
+        putUuid(buffer, account.getCustomerId());
+        putUuid(buffer, account.getCreditEntryId());
+        buffer.putLong(account.getCreditCents());
+        buffer.putLong(account.getTotalCreditCents());
+        buffer.putLong(account.getTotalDebitCents());
+        putUuid(buffer, historyId);
+        buffer.putLong(historyAmountCents);
+        buffer.put(historyType == TransactionType.CREDIT ? (byte) 1 : 0);
+        buffer.position(start + SIZE);
+        buffer.putInt(start, checksum(buffer, start));
+    }
+
+    /**
+     * Reads a record at the current position of a buffer.
+     *
+     * @param buffer the buffer with at least {@link #SIZE} bytes remaining
+     * @return the record, or null if the slot is empty, torn or corrupted; the buffer
+     *         position is left unchanged in that case
+     */
+    public static LedgerRecord decode(ByteBuffer buffer) {
+        int start = buffer.position();
+        int storedChecksum = buffer.getInt(start);
+        long sequence = buffer.getLong(start + Integer.BYTES);
+        if (sequence <= 0 || storedChecksum != checksum(buffer, start)) {
+            return null;
+        }
+        buffer.position(start + Integer.BYTES + Long.BYTES);
+        byte kind = buffer.get();
+        byte flags = buffer.get();
+        buffer.getShort();
+        UUID customerId = getUuid(buffer);
+        UUID creditEntryId = getUuid(buffer);
+        LedgerAccount account = LedgerAccount.builder()
+                .customerId(customerId)
+                .creditEntryId((flags & HAS_CREDIT_ENTRY) != 0 ? creditEntryId : null)
+                .creditCents(buffer.getLong())
+                .totalCreditCents(buffer.getLong())
+                .totalDebitCents(buffer.getLong())
+                .hasTotals((flags & HAS_TOTALS) != 0)
+                .build();
+        UUID historyId = getUuid(buffer);
+        long historyAmountCents = buffer.getLong();
+        TransactionType historyType = buffer.get() == 1 ? TransactionType.CREDIT : TransactionType.DEBIT;
+        buffer.position(start + SIZE);
+        boolean hasHistory = (flags & HAS_HISTORY) != 0;
+        return LedgerRecord.builder()
+                .sequence(sequence)
+                .kind(kind)
+                .account(account)
+                .historyId(hasHistory ? historyId : null)
+                .historyType(hasHistory ? historyType : null)
+                .historyAmountCents(hasHistory ? historyAmountCents : 0)
+                .build();
+    }
+
+    private byte flags() {
+        int flags = 0;
+        if (account.getCreditEntryId() != null) {
+            flags |= HAS_CREDIT_ENTRY;
+        }
+        if (account.hasTotals()) {
+            flags |= HAS_TOTALS;
+        }
+        if (historyId != null) {
+            flags |= HAS_HISTORY;
+        }
+        return (byte) flags;
+    }
+
+    private static int checksum(ByteBuffer buffer, int start) {
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.slice(start + Integer.BYTES, SIZE - Integer.BYTES));
+        return (int) crc.getValue();
+    }
+
+    private static void putUuid(ByteBuffer buffer, UUID uuid) {
+        buffer.putLong(uuid != null ? uuid.getMostSignificantBits() : 0);
+        buffer.putLong(uuid != null ? uuid.getLeastSignificantBits() : 0);
+    }
+
+    private static UUID getUuid(ByteBuffer buffer) {
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+}
@@ -0,0 +1,399 @@
+package com.food.ordering.system.payment.service.dataaccess.ledger.engine;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Memory-mapped, segmented write-ahead log of {@link LedgerRecord}s with group fsync.
+ * <p>
+ * Appending copies the record into the mapped active segment, which costs a memory
+ * write and no system call. A flusher thread forces the appended range to disk and
+ * advances the durable sequence; every append made while a force is running is
+ * covered by the next one, so under load a single fsync commits a whole group of
+ * records. Callers that need durability wait with {@link #awaitDurable(long)}.
+ * </p>
+ * <p>
+ * Segments are preallocated files named after the sequence of their first record.
+ * A full segment is forced and a new one is started. Segments are deleted once all
+ * their records were checkpointed, see {@link #release(long)}. Recovery reads every
+ * segment up to its first empty, torn or out-of-sequence record, and discards the
+ * segments that do not continue the sequence. Appending then always starts in a new,
+ * zero-filled segment, so stale bytes after a torn record are never mistaken for
+ * new records.
+ * </p>
+ */
+@Slf4j
+public final class LedgerWriteAheadLog implements AutoCloseable {
+    private static final String SEGMENT_PREFIX = "ledger-";
+    private static final String SEGMENT_SUFFIX = ".wal";
+
+    /**
+     * Directory holding the segments.
+     */
+    private final Path directory;
+
+    /**
+     * Number of records per segment.
+     */
+    private final int segmentRecords;
+
+    /**
+     * Guards the active segment and the sequences.
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * Signalled when records are appended or the log is closed.
+     */
+    private final Condition appended = lock.newCondition();
+
+    /**
+     * Signalled when the durable sequence advances or forcing failed.
+     */
+    private final Condition forced = lock.newCondition();
+
+    /**
+     * Segment files indexed by the sequence of their first record.
+     */
+    private final NavigableMap<Long, Path> segments = new TreeMap<>();
+
+    /**
+     * Time spent forcing appended records to disk.
+     */
+    private final Timer fsyncTimer;
+
+    /**
+     * Number of records made durable by one force.
+     */
+    private final DistributionSummary groupSize;
+
+    /**
+     * Thread forcing appended records to disk.
+     */
+    private final Thread flusher;
+
+    private FileChannel activeChannel;
+    private MappedByteBuffer activeBuffer;
+    private int unforcedFrom;
+    private long lastSequence;
+    private long durableSequence;
+    private RuntimeException failure;
+    private boolean closed;
+
+    /**
+     * Creates a write-ahead log. {@link #recover(Consumer)} must be called before
+     * appending.
+     *
+     * @param directory      the directory holding the segments, created if missing
+     * @param segmentRecords the number of records per segment
+     * @param meterRegistry  the registry receiving the fsync metrics
+     */
+    public LedgerWriteAheadLog(Path directory, int segmentRecords, MeterRegistry meterRegistry) {
+        this.directory = directory;
+        this.segmentRecords = segmentRecords;
+        this.fsyncTimer = Timer.builder("payment.ledger.wal.fsync")
+                .description("Time spent forcing credit ledger records to disk").register(meterRegistry);
+        this.groupSize = DistributionSummary.builder("payment.ledger.wal.group.size")
+                .description("Credit ledger records made durable by one fsync").register(meterRegistry);
+        this.flusher = new Thread(this::flush, "credit-ledger-wal-flusher");
+        this.flusher.setDaemon(true);
+    }
+
+    /**
+     * Replays the records of the existing segments in order, then opens a new active
+     * segment and starts the flusher.
+     *
+     * @param consumer receives every recovered record
+     * @return the sequence of the last recovered record, 0 if none
+     */
+    public long recover(Consumer<LedgerRecord> consumer) {
+        lock.lock();
+        try {
+            Files.createDirectories(directory);
+            NavigableMap<Long, Path> found = listSegments();
+            long last = found.isEmpty() ? 0 : found.firstKey() - 1;
+            for (Map.Entry<Long, Path> segment : found.entrySet()) {
+                if (segment.getKey() != last + 1) {
+                    log.warn("Discarding credit ledger segment {} written after the last intact record {}",
+                            segment.getValue(), last);
+                    Files.delete(segment.getValue());
+                    continue;
+                }
+                long before = last;
+                last = replay(segment.getValue(), last, consumer);
+                if (last == before) {
+                    Files.delete(segment.getValue());
+                } else {
+                    segments.put(segment.getKey(), segment.getValue());
+                }
+            }
+            lastSequence = last;
+            durableSequence = last;
+            openSegment(last + 1);
+            log.info("Recovered credit ledger write-ahead log up to sequence {}", last);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not recover credit ledger write-ahead log", e);
+        } finally {
+            lock.unlock();
+        }
+        flusher.start();
+        return lastSequence;
+    }
+
+    /**
+     * Appends a record with the next sequence. Callers appending concurrently must
+     * serialize their calls if the order of their records matters.
+     *
+     * @param record the record to append, its sequence is assigned by the log
+     * @return the appended record
+     */
+    public LedgerRecord append(LedgerRecord.LedgerRecordBuilder record) {
+        lock.lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("Credit ledger write-ahead log is closed");
+            }
+            if (activeBuffer.remaining() < LedgerRecord.SIZE) {
+                rollSegment();
+            }
+            LedgerRecord appendedRecord = record.sequence(lastSequence + 1).build();
+            appendedRecord.encode(activeBuffer);
+            lastSequence = appendedRecord.getSequence();
+            appended.signal();
+            return appendedRecord;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Waits until a record is durable.
+     *
+     * @param sequence the sequence of the record
+     * @throws IllegalStateException if forcing failed or the log was closed first
+     */
+    public void awaitDurable(long sequence) {
+        lock.lock();
+        try {
+            while (durableSequence < sequence) {
+                if (failure != null) {
+                    throw new IllegalStateException("Credit ledger write-ahead log could not be forced", failure);
+                }
+                if (closed) {
+                    throw new IllegalStateException("Credit ledger write-ahead log is closed");
+                }
+                forced.awaitUninterruptibly();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the sequence of the last durable record.
+     *
+     * @return the durable sequence
+     */
+    public long getDurableSequence() {
+        lock.lock();
+        try {
+            return durableSequence;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Deletes the segments whose records are all checkpointed. The active segment is
+     * kept.
+     *
+     * @param checkpointedSequence the sequence up to which all records are checkpointed
+     */
+    public void release(long checkpointedSequence) {
+        lock.lock();
+        try {
+            Iterator<Map.Entry<Long, Path>> iterator = segments.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<Long, Path> segment = iterator.next();
+                Long next = segments.higherKey(segment.getKey());
+                if (next == null || next - 1 > checkpointedSequence) {
+                    break;
+                }
+                Files.deleteIfExists(segment.getValue());
+                iterator.remove();
+                log.debug("Released credit ledger segment {}", segment.getValue());
+            }
+        } catch (IOException e) {
+            log.warn("Could not delete checkpointed credit ledger segment", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the segment files currently held by the log.
+     *
+     * @return the segment paths in sequence order
+     */
+    public List<Path> getSegments() {
+        lock.lock();
+        try {
+            return List.copyOf(segments.values());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Forces the appended records, stops the flusher and closes the active segment.
+     */
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            appended.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        try {
+            flusher.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        lock.lock();
+        try {
+            if (activeBuffer != null) {
+                activeBuffer.force();
+                durableSequence = lastSequence;
+                activeChannel.close();
+            }
+            forced.signalAll();
+        } catch (IOException e) {
+            log.warn("Could not close credit ledger segment", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void flush() {
+        lock.lock();
+        try {
+            while (true) {
+                while (!closed && lastSequence == durableSequence) {
+                    appended.awaitUninterruptibly();
+                }
+                if (closed) {
+                    return;
+                }
+                MappedByteBuffer buffer = activeBuffer;
+                int from = unforcedFrom;
+                int to = buffer.position();
+                long target = lastSequence;
+                unforcedFrom = to;
+                lock.unlock();
+                long start = System.nanoTime();
+                try {
+                    buffer.force(from, to - from);
+                } catch (RuntimeException e) {
+                    log.error("Could not force credit ledger write-ahead log", e);
+                    lock.lock();
+                    failure = e;
+                    forced.signalAll();
+                    return;
+                }
+                fsyncTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                lock.lock();
+                if (target > durableSequence) {
+                    groupSize.record(target - durableSequence);
+                    durableSequence = target;
+                }
+                forced.signalAll();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void rollSegment() {
+        try {
+            activeBuffer.force();
+            activeChannel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not close credit ledger segment", e);
+        }
+        if (lastSequence > durableSequence) {
+            groupSize.record(lastSequence - durableSequence);
+            durableSequence = lastSequence;
+            forced.signalAll();
+        }
+        openSegment(lastSequence + 1);
+    }
+
+    private void openSegment(long firstSequence) {
+        Path path = directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, firstSequence, SEGMENT_SUFFIX));
+        try {
+            Files.deleteIfExists(path);
+            activeChannel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE);
+            activeBuffer = activeChannel.map(FileChannel.MapMode.READ_WRITE, 0,
+                    (long) segmentRecords * LedgerRecord.SIZE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not open credit ledger segment " + path, e);
+        }
+        unforcedFrom = 0;
+        segments.put(firstSequence, path);
+    }
+
+    private long replay(Path path, long last, Consumer<LedgerRecord> consumer) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            while (buffer.remaining() >= LedgerRecord.SIZE) {
+                LedgerRecord record = LedgerRecord.decode(buffer);
+                if (record == null || record.getSequence() != last + 1) {
+                    break;
+                }
+                consumer.accept(record);
+                last = record.getSequence();
+            }
+        }
+        return last;
+    }
+
+    private NavigableMap<Long, Path> listSegments() throws IOException {
+        NavigableMap<Long, Path> found = new TreeMap<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            files.forEach(path -> {
+                String name = path.getFileName().toString();
+                if (name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX)) {
+                    found.put(Long.parseLong(name.substring(SEGMENT_PREFIX.length(),
+                            name.length() - SEGMENT_SUFFIX.length())), path);
+                }
+            });
+        }
+        return found;
+    }
+}
@@ -0,0 +1,81 @@
+package com.food.ordering.system.payment.service.dataaccess.payment.adapter;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.stereotype.Component;
+
+import com.food.ordering.system.payment.service.dataaccess.payment.entity.PaymentEntity;
+import com.food.ordering.system.payment.service.dataaccess.payment.mapper.PaymentDataAccessMapper;
+import com.food.ordering.system.payment.service.dataaccess.payment.repository.IPaymentJpaRepository;
+import com.food.ordering.system.payment.service.domain.entity.Payment;
+import com.food.ordering.system.payment.service.domain.ports.output.repository.IPaymentRepository;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Repository adapter implementation for Payment entities.
+ * <p>
+ * A payment loaded in the current transaction, as in the cancel flow, is still
+ * managed by the persistence context; its status is updated in place and flushed
+ * as a plain update. Any other payment is new and is inserted without the select
+ * a merge on an assigned id would issue first.
+ * </p>
+ */
+@Component
+public class PaymentRepository implements IPaymentRepository {
+    /**
+     * JPA repository for performing database operations on PaymentEntity objects.
+     */
+    private final IPaymentJpaRepository paymentJpaRepository;
+
+    /**
+     * Mapper for converting between Payment domain objects and PaymentEntity data
+     * access objects.
+     */
+    private final PaymentDataAccessMapper paymentDataAccessMapper;
+
+    /**
+     * Entity manager used to look up payments already managed by the current
+     * transaction.
+     */
+    private final EntityManager entityManager;
+
+    /**
+     * Constructs a new PaymentRepository with the required dependencies.
+     *
+     * @param paymentJpaRepository    the JPA repository for payment database
+     *                                operations
+     * @param paymentDataAccessMapper the mapper for converting between domain and
+     *                                entity objects
+     * @param entityManager           the shared entity manager
+     */
+    public PaymentRepository(IPaymentJpaRepository paymentJpaRepository,
+            PaymentDataAccessMapper paymentDataAccessMapper, EntityManager entityManager) {
+        this.paymentJpaRepository = paymentJpaRepository;
+        this.paymentDataAccessMapper = paymentDataAccessMapper;
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public Payment save(Payment payment) {
+        // getReference never queries: it returns the managed entity if this transaction
+        // loaded it, or an uninitialized proxy otherwise.
+        PaymentEntity managedPaymentEntity = entityManager.getReference(PaymentEntity.class,
+                payment.getId().getValue());
+        if (entityManager.getEntityManagerFactory().getPersistenceUnitUtil().isLoaded(managedPaymentEntity)) {
+            managedPaymentEntity.setStatus(payment.getPaymentStatus());
+            return paymentDataAccessMapper.paymentEntityToPayment(managedPaymentEntity);
+        }
+        entityManager.detach(managedPaymentEntity);
+        PaymentEntity savedPaymentEntity = paymentJpaRepository
+                .save(paymentDataAccessMapper.paymentToPaymentEntity(payment));
+        return paymentDataAccessMapper.paymentEntityToPayment(savedPaymentEntity);
+    }
+
+    @Override
+    public Optional<Payment> findByOrderId(UUID orderId) {
+        return paymentJpaRepository.findByOrderId(orderId)
+                .map(paymentDataAccessMapper::paymentEntityToPayment);
+    }
+}
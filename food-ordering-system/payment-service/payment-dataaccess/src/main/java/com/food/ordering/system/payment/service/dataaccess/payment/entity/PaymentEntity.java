@@ -0,0 +1,115 @@
+package com.food.ordering.system.payment.service.dataaccess.payment.entity;
+
+import java.math.BigDecimal;
+import java.time.ZonedDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+import org.springframework.data.domain.Persistable;
+
+import com.food.ordering.system.domain.valueobject.PaymentStatus;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Entity representing a payment in the payment service data access layer.
+ * This entity maps to the "payments" table in the "payment" schema.
+ * <p>
+ * Payment ids are assigned by the domain, so the entity implements
+ * {@link Persistable} to tell Spring Data whether it is new. New payments are
+ * persisted with a plain insert, which Hibernate can batch, instead of the select
+ * a merge would issue to find out whether the row exists.
+ * </p>
+ */
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "payments", schema = "payment")
+@Entity
+public class PaymentEntity implements Persistable<UUID> {
+    /**
+     * The unique identifier for the payment.
+     */
+    @Id
+    private UUID id;
+
+    /**
+     * The unique identifier of the customer making the payment.
+     */
+    private UUID customerId;
+
+    /**
+     * The unique identifier of the order paid by this payment.
+     */
+    private UUID orderId;
+
+    /**
+     * The total price amount of the payment.
+     */
+    private BigDecimal price;
+
+    /**
+     * The current status of the payment (e.g., COMPLETED, CANCELLED, FAILED).
+     * Stored as string representation in the database.
+     */
+    @Enumerated(EnumType.STRING)
+    private PaymentStatus status;
+
+    /**
+     * The timestamp when the payment was created.
+     */
+    private ZonedDateTime createdAt;
+
+    /**
+     * Whether the entity has not been inserted yet.
+     */
+    @Transient
+    @Builder.Default
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private boolean newEntity = true;
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    /**
+     * Marks the entity as stored once it has been inserted or loaded.
+     */
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        newEntity = false;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj)
+            return true;
+        if (obj == null || getClass() != obj.getClass())
+            return false;
+        PaymentEntity that = (PaymentEntity) obj;
+        return id.equals(that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(id);
+    }
+}
@@ -0,0 +1,52 @@
+package com.food.ordering.system.payment.service.dataaccess.payment.mapper;
+
+import org.springframework.stereotype.Component;
+
+import com.food.ordering.system.domain.valueobject.CustomerId;
+import com.food.ordering.system.domain.valueobject.Money;
+import com.food.ordering.system.domain.valueobject.OrderId;
+import com.food.ordering.system.payment.service.dataaccess.payment.entity.PaymentEntity;
+import com.food.ordering.system.payment.service.domain.entity.Payment;
+import com.food.ordering.system.payment.service.domain.valueobject.PaymentId;
+
+/**
+ * Data access mapper for converting between Payment domain objects and
+ * PaymentEntity data access objects.
+ */
+@Component
+public class PaymentDataAccessMapper {
+    /**
+     * Converts a Payment domain object to a new PaymentEntity for database
+     * persistence.
+     *
+     * @param payment the Payment domain object to convert
+     * @return PaymentEntity ready to be inserted
+     */
+    public PaymentEntity paymentToPaymentEntity(Payment payment) {
+        return PaymentEntity.builder()
+                .id(payment.getId().getValue())
+                .customerId(payment.getCustomerId().getValue())
+                .orderId(payment.getOrderId().getValue())
+                .price(payment.getPrice().getAmount())
+                .status(payment.getPaymentStatus())
+                .createdAt(payment.getCreatedAt())
+                .build();
+    }
+
+    /**
+     * Converts a PaymentEntity from the database to a Payment domain object.
+     *
+     * @param paymentEntity the PaymentEntity from the database
+     * @return Payment domain object with all properties set
+     */
+    public Payment paymentEntityToPayment(PaymentEntity paymentEntity) {
+        return Payment.builder()
+                .paymentId(new PaymentId(paymentEntity.getId()))
+                .customerId(new CustomerId(paymentEntity.getCustomerId()))
+                .orderId(new OrderId(paymentEntity.getOrderId()))
+                .price(new Money(paymentEntity.getPrice()))
+                .paymentStatus(paymentEntity.getStatus())
+                .createdAt(paymentEntity.getCreatedAt())
+                .build();
+    }
+}
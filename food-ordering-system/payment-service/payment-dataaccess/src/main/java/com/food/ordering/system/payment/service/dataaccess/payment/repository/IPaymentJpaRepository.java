@@ -0,0 +1,25 @@
+package com.food.ordering.system.payment.service.dataaccess.payment.repository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.food.ordering.system.payment.service.dataaccess.payment.entity.PaymentEntity;
+
+/**
+ * JPA repository interface for managing {@link PaymentEntity} persistence
+ * operations.
+ */
+@Repository
+public interface IPaymentJpaRepository extends JpaRepository<PaymentEntity, UUID> {
+    /**
+     * Finds a payment entity by the order it pays, using the unique order id index.
+     *
+     * @param orderId the unique identifier of the order
+     * @return an {@link Optional} containing the payment entity if found,
+     *         or empty if no payment exists for the order
+     */
+    Optional<PaymentEntity> findByOrderId(UUID orderId);
+}
@@ -0,0 +1,56 @@
+package com.food.ordering.system.payment.service.dataaccess.reconciliation.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.food.ordering.system.payment.service.dataaccess.reconciliation.engine.CreditReconciliationEngine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+
+/**
+ * Creates the credit reconciliation engine when {@code payment-reconciliation.enabled}
+ * is true.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "payment-reconciliation", name = "enabled", havingValue = "true")
+public class CreditReconciliationConfig {
+    /**
+     * Credit reconciliation configuration data.
+     */
+    private final CreditReconciliationConfigData creditReconciliationConfigData;
+
+    /**
+     * Registry receiving the reconciliation metrics.
+     */
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Constructs a new CreditReconciliationConfig.
+     *
+     * @param creditReconciliationConfigData the credit reconciliation configuration data
+     * @param meterRegistryProvider          the provider of the registry receiving the
+     *                                       reconciliation metrics
+     */
+    public CreditReconciliationConfig(CreditReconciliationConfigData creditReconciliationConfigData,
+            ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        this.creditReconciliationConfigData = creditReconciliationConfigData;
+        this.meterRegistry = meterRegistryProvider.getIfAvailable(() -> Metrics.globalRegistry);
+    }
+
+    /**
+     * Creates the credit reconciliation engine.
+     *
+     * @param jdbcTemplate the template running the reconciliation queries
+     * @return the CreditReconciliationEngine
+     */
+    @Bean
+    public CreditReconciliationEngine creditReconciliationEngine(JdbcTemplate jdbcTemplate) {
+        return new CreditReconciliationEngine(jdbcTemplate, creditReconciliationConfigData.getParallelism(),
+                creditReconciliationConfigData.getRangeCount(), creditReconciliationConfigData.getFetchSize(),
+                creditReconciliationConfigData.getMaxReportedMismatches(), meterRegistry);
+    }
+}
@@ -0,0 +1,47 @@
+package com.food.ordering.system.payment.service.dataaccess.reconciliation.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Data;
+
+/**
+ * Configuration properties for the offline credit reconciliation.
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "payment-reconciliation")
+public class CreditReconciliationConfigData {
+    /**
+     * Whether the credit reconciliation engine is created.
+     */
+    private Boolean enabled;
+
+    /**
+     * Number of customer id ranges reconciled at the same time, each holding one
+     * database connection.
+     */
+    private Integer parallelism;
+
+    /**
+     * Number of customer id ranges the customers are split into.
+     */
+    private Integer rangeCount;
+
+    /**
+     * Number of rows fetched per round trip by the server-side cursors.
+     */
+    private Integer fetchSize;
+
+    /**
+     * Maximum number of mismatches logged and kept in the report of a run; further
+     * mismatches are only counted.
+     */
+    private Integer maxReportedMismatches;
+
+    /**
+     * Interval between two scheduled runs; runs are only started on demand when not
+     * positive.
+     */
+    private Long intervalMs;
+}
@@ -0,0 +1,87 @@
+package com.food.ordering.system.payment.service.dataaccess.reconciliation.config;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import com.food.ordering.system.payment.service.dataaccess.reconciliation.engine.CreditReconciliationEngine;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Runs the credit reconciliation every {@code payment-reconciliation.interval-ms}.
+ * Nothing is scheduled when the interval is not positive, leaving the runs to callers
+ * of {@link CreditReconciliationEngine#reconcile()}.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "payment-reconciliation", name = "enabled", havingValue = "true")
+public class CreditReconciliationScheduler implements SmartLifecycle {
+    /**
+     * Engine running the reconciliation.
+     */
+    private final CreditReconciliationEngine creditReconciliationEngine;
+
+    /**
+     * Credit reconciliation configuration data.
+     */
+    private final CreditReconciliationConfigData creditReconciliationConfigData;
+
+    /**
+     * Executor running the scheduled reconciliation, present while running.
+     */
+    private volatile ScheduledExecutorService scheduler;
+
+    /**
+     * Constructs a new CreditReconciliationScheduler.
+     *
+     * @param creditReconciliationEngine     the engine running the reconciliation
+     * @param creditReconciliationConfigData the credit reconciliation configuration data
+     */
+    public CreditReconciliationScheduler(CreditReconciliationEngine creditReconciliationEngine,
+            CreditReconciliationConfigData creditReconciliationConfigData) {
+        this.creditReconciliationEngine = creditReconciliationEngine;
+        this.creditReconciliationConfigData = creditReconciliationConfigData;
+    }
+
+    @Override
+    public void start() {
+        Long intervalMs = creditReconciliationConfigData.getIntervalMs();
+        if (intervalMs == null || intervalMs <= 0) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "credit-reconciliation-scheduler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::reconcileSafely, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+        log.info("Credit reconciliation scheduled every {} ms", intervalMs);
+    }
+
+    @Override
+    public void stop() {
+        ScheduledExecutorService current = scheduler;
+        if (current != null) {
+            current.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return scheduler != null;
+    }
+
+    private void reconcileSafely() {
+        try {
+            creditReconciliationEngine.reconcile();
+        } catch (RuntimeException e) {
+            log.error("Credit reconciliation failed: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.food.ordering.system.payment.service.dataaccess.reconciliation.engine;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * One inconsistency between the credit entry, the credit history and the credit
+ * history totals of a customer.
+ */
+@Getter
+@Builder
+public class CreditMismatch {
+    /**
+     * The customer whose credit is inconsistent.
+     */
+    private final UUID customerId;
+
+    /**
+     * The kind of inconsistency.
+     */
+    private final CreditMismatchType type;
+
+    /**
+     * The amount derived from the credit history.
+     */
+    private final BigDecimal expected;
+
+    /**
+     * The amount stored, null when the row is missing.
+     */
+    private final BigDecimal actual;
+
+    @Override
+    public String toString() {
+        return type + " for customer " + customerId + ": expected " + expected + ", actual " + actual;
+    }
+}
@@ -0,0 +1,26 @@
+package com.food.ordering.system.payment.service.dataaccess.reconciliation.engine;
+
+/**
+ * Kinds of inconsistency found by the credit reconciliation.
+ */
+public enum CreditMismatchType {
+    /**
+     * The credit entry does not equal the credits minus the debits of the history.
+     */
+    ENTRY_HISTORY,
+
+    /**
+     * The customer has credit history but no credit entry.
+     */
+    MISSING_ENTRY,
+
+    /**
+     * The running credit total does not equal the credits of the history.
+     */
+    TOTALS_CREDIT,
+
+    /**
+     * The running debit total does not equal the debits of the history.
+     */
+    TOTALS_DEBIT
+}
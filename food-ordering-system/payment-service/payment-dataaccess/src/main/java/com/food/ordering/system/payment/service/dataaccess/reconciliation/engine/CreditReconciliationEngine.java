@@ -0,0 +1,343 @@
+package com.food.ordering.system.payment.service.dataaccess.reconciliation.engine;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Offline reconciliation of the credit entries against the credit history.
+ * <p>
+ * The customer id space is split into ranges which a fork-join pool reconciles in
+ * parallel. Every range is read on its own connection, in one repeatable read
+ * transaction, through two server-side cursors sorted by customer id: the per-customer
+ * CREDIT and DEBIT sums of credit_history, and the credit entries joined with their
+ * running totals. The two cursors are merged one customer at a time, so the heap used
+ * does not grow with the size of the history. Only the first mismatches are logged and
+ * kept in the report; the others are counted.
+ * </p>
+ * <p>
+ * Progress is exposed through the {@code payment.reconciliation.*} metrics. With the
+ * credit ledger enabled, the database reflects the last ledger checkpoint.
+ * </p>
+ */
+@Slf4j
+public class CreditReconciliationEngine {
+    /**
+     * Per-customer sums of the credit history in a range. The aggregate reads the
+     * covering customer_id index only.
+     */
+    private static final String SELECT_HISTORY_SUMS = "SELECT customer_id, count(*), "
+            + "coalesce(sum(amount) FILTER (WHERE type = 'CREDIT'), 0), "
+            + "coalesce(sum(amount) FILTER (WHERE type = 'DEBIT'), 0) "
+            + "FROM payment.credit_history WHERE customer_id BETWEEN ? AND ? "
+            + "GROUP BY customer_id ORDER BY customer_id";
+
+    /**
+     * Credit entries of a range with their running totals, null when the totals were
+     * not seeded yet.
+     */
+    private static final String SELECT_ENTRIES = "SELECT e.customer_id, e.total_credit_amount, "
+            + "t.total_credit_amount, t.total_debit_amount "
+            + "FROM payment.credit_entry e "
+            + "LEFT JOIN payment.credit_history_totals t ON t.customer_id = e.customer_id "
+            + "WHERE e.customer_id BETWEEN ? AND ? ORDER BY e.customer_id";
+
+    /**
+     * Template running the range queries.
+     */
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Number of ranges reconciled at the same time.
+     */
+    private final int parallelism;
+
+    /**
+     * Number of ranges the customers are split into.
+     */
+    private final int rangeCount;
+
+    /**
+     * Number of rows fetched per round trip by the cursors.
+     */
+    private final int fetchSize;
+
+    /**
+     * Maximum number of mismatches logged and reported per run.
+     */
+    private final int maxReportedMismatches;
+
+    /**
+     * Credit history rows read.
+     */
+    private final Counter rowsCounter;
+
+    /**
+     * Customers checked.
+     */
+    private final Counter customersCounter;
+
+    /**
+     * Mismatches found, by type.
+     */
+    private final Map<CreditMismatchType, Counter> mismatchCounters = new EnumMap<>(CreditMismatchType.class);
+
+    /**
+     * Duration of the runs.
+     */
+    private final Timer runTimer;
+
+    /**
+     * Ranges reconciled by the current or last run.
+     */
+    private final AtomicInteger completedRanges = new AtomicInteger();
+
+    /**
+     * Constructs a new CreditReconciliationEngine.
+     *
+     * @param jdbcTemplate          the template running the range queries
+     * @param parallelism           the number of ranges reconciled at the same time
+     * @param rangeCount            the number of ranges the customers are split into
+     * @param fetchSize             the number of rows fetched per round trip by the cursors
+     * @param maxReportedMismatches the maximum number of mismatches logged and reported per run
+     * @param meterRegistry         the registry receiving the reconciliation metrics
+     */
+    public CreditReconciliationEngine(JdbcTemplate jdbcTemplate, int parallelism, int rangeCount, int fetchSize,
+            int maxReportedMismatches, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.parallelism = parallelism;
+        this.rangeCount = Math.max(rangeCount, parallelism);
+        this.fetchSize = fetchSize;
+        this.maxReportedMismatches = maxReportedMismatches;
+        this.rowsCounter = Counter.builder("payment.reconciliation.rows")
+                .description("Credit history rows read by the reconciliation").register(meterRegistry);
+        this.customersCounter = Counter.builder("payment.reconciliation.customers")
+                .description("Customers checked by the reconciliation").register(meterRegistry);
+        for (CreditMismatchType type : CreditMismatchType.values()) {
+            mismatchCounters.put(type, Counter.builder("payment.reconciliation.mismatches").tag("type", type.name())
+                    .description("Credit mismatches found by the reconciliation").register(meterRegistry));
+        }
+        this.runTimer = Timer.builder("payment.reconciliation.duration")
+                .description("Duration of the credit reconciliation runs").register(meterRegistry);
+        Gauge.builder("payment.reconciliation.progress", completedRanges, ranges -> (double) ranges.get() / this.rangeCount)
+                .description("Share of the customer ranges reconciled by the current or last run")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Reconciles all customers. Concurrent calls run one after the other.
+     *
+     * @return the report of the run
+     */
+    public synchronized CreditReconciliationReport reconcile() {
+        CustomerIdRange[] ranges = CustomerIdRange.split(rangeCount);
+        completedRanges.set(0);
+        Run run = new Run();
+        long startNanos = System.nanoTime();
+        ForkJoinPool pool = new ForkJoinPool(parallelism, CreditReconciliationEngine::newWorkerThread, null, false);
+        RangeResult result;
+        try {
+            result = pool.invoke(new RangeTask(ranges, 0, ranges.length, run));
+        } finally {
+            pool.shutdownNow();
+        }
+        long elapsedNanos = System.nanoTime() - startNanos;
+        runTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        CreditReconciliationReport report = CreditReconciliationReport.builder()
+                .customers(result.customers)
+                .historyRows(result.historyRows)
+                .mismatchCount(result.mismatches)
+                .mismatches(List.copyOf(run.reportedMismatches))
+                .elapsedMs(TimeUnit.NANOSECONDS.toMillis(elapsedNanos))
+                .build();
+        log.info("Credit reconciliation checked {} customers and {} history rows in {} ms ({} rows/s), "
+                + "{} mismatches found", report.getCustomers(), report.getHistoryRows(), report.getElapsedMs(),
+                report.getRowsPerSecond(), report.getMismatchCount());
+        return report;
+    }
+
+    private RangeResult reconcileRange(CustomerIdRange range, Run run) {
+        RangeResult result = jdbcTemplate.execute((ConnectionCallback<RangeResult>) connection -> {
+            boolean autoCommit = connection.getAutoCommit();
+            int isolation = connection.getTransactionIsolation();
+            // The PostgreSQL driver only streams through a cursor inside a transaction;
+            // repeatable read gives both cursors the same snapshot.
+            connection.setReadOnly(true);
+            connection.setTransactionIsolation(Connection.TRANSACTION_REPEATABLE_READ);
+            connection.setAutoCommit(false);
+            try (PreparedStatement historyStatement = prepare(connection, SELECT_HISTORY_SUMS, range);
+                    PreparedStatement entryStatement = prepare(connection, SELECT_ENTRIES, range);
+                    ResultSet historySums = historyStatement.executeQuery();
+                    ResultSet entries = entryStatement.executeQuery()) {
+                return merge(historySums, entries, run);
+            } finally {
+                connection.rollback();
+                connection.setAutoCommit(autoCommit);
+                connection.setTransactionIsolation(isolation);
+                connection.setReadOnly(false);
+            }
+        });
+        log.info("Reconciled customer range {} ({} of {}): {} customers, {} history rows, {} mismatches", range,
+                completedRanges.incrementAndGet(), rangeCount, result.customers, result.historyRows,
+                result.mismatches);
+        return result;
+    }
+
+    private PreparedStatement prepare(Connection connection, String sql, CustomerIdRange range) throws SQLException {
+        PreparedStatement statement = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY,
+                ResultSet.CONCUR_READ_ONLY);
+        statement.setFetchSize(fetchSize);
+        statement.setObject(1, range.getLower());
+        statement.setObject(2, range.getUpper());
+        return statement;
+    }
+
+    private RangeResult merge(ResultSet historySums, ResultSet entries, Run run) throws SQLException {
+        RangeResult result = new RangeResult();
+        boolean hasHistory = historySums.next();
+        boolean hasEntry = entries.next();
+        while (hasHistory || hasEntry) {
+            UUID historyCustomerId = hasHistory ? historySums.getObject(1, UUID.class) : null;
+            UUID entryCustomerId = hasEntry ? entries.getObject(1, UUID.class) : null;
+            int order = historyCustomerId == null ? 1
+                    : entryCustomerId == null ? -1 : CustomerIdRange.compare(historyCustomerId, entryCustomerId);
+            if (order < 0) {
+                long rows = historySums.getLong(2);
+                BigDecimal balance = historySums.getBigDecimal(3).subtract(historySums.getBigDecimal(4));
+                report(run, result, historyCustomerId, CreditMismatchType.MISSING_ENTRY, balance, null);
+                result.historyRows += rows;
+                rowsCounter.increment(rows);
+                hasHistory = historySums.next();
+            } else if (order > 0) {
+                checkEntry(entries, entryCustomerId, BigDecimal.ZERO, BigDecimal.ZERO, run, result);
+                hasEntry = entries.next();
+            } else {
+                long rows = historySums.getLong(2);
+                checkEntry(entries, entryCustomerId, historySums.getBigDecimal(3), historySums.getBigDecimal(4),
+                        run, result);
+                result.historyRows += rows;
+                rowsCounter.increment(rows);
+                hasHistory = historySums.next();
+                hasEntry = entries.next();
+            }
+            result.customers++;
+            customersCounter.increment();
+        }
+        return result;
+    }
+
+    private void checkEntry(ResultSet entries, UUID customerId, BigDecimal credits, BigDecimal debits, Run run,
+            RangeResult result) throws SQLException {
+        BigDecimal balance = credits.subtract(debits);
+        BigDecimal entryAmount = entries.getBigDecimal(2);
+        if (entryAmount.compareTo(balance) != 0) {
+            report(run, result, customerId, CreditMismatchType.ENTRY_HISTORY, balance, entryAmount);
+        }
+        BigDecimal totalCredit = entries.getBigDecimal(3);
+        if (totalCredit != null && totalCredit.compareTo(credits) != 0) {
+            report(run, result, customerId, CreditMismatchType.TOTALS_CREDIT, credits, totalCredit);
+        }
+        BigDecimal totalDebit = entries.getBigDecimal(4);
+        if (totalDebit != null && totalDebit.compareTo(debits) != 0) {
+            report(run, result, customerId, CreditMismatchType.TOTALS_DEBIT, debits, totalDebit);
+        }
+    }
+
+    private void report(Run run, RangeResult result, UUID customerId, CreditMismatchType type, BigDecimal expected,
+            BigDecimal actual) {
+        result.mismatches++;
+        mismatchCounters.get(type).increment();
+        if (run.reportedCount.getAndIncrement() < maxReportedMismatches) {
+            CreditMismatch mismatch = CreditMismatch.builder()
+                    .customerId(customerId)
+                    .type(type)
+                    .expected(expected)
+                    .actual(actual)
+                    .build();
+            log.warn("Credit mismatch: {}", mismatch);
+            run.reportedMismatches.add(mismatch);
+        }
+    }
+
+    private static ForkJoinWorkerThread newWorkerThread(ForkJoinPool pool) {
+        ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+        thread.setName("credit-reconciliation-" + thread.getPoolIndex());
+        return thread;
+    }
+
+    /**
+     * Splits a slice of the ranges in halves until one range is left, which is then
+     * reconciled on the worker thread.
+     */
+    private final class RangeTask extends RecursiveTask<RangeResult> {
+        private final transient CustomerIdRange[] ranges;
+        private final int from;
+        private final int to;
+        private final transient Run run;
+
+        private RangeTask(CustomerIdRange[] ranges, int from, int to, Run run) {
+            this.ranges = ranges;
+            this.from = from;
+            this.to = to;
+            this.run = run;
+        }
+
+        @Override
+        protected RangeResult compute() {
+            if (to - from == 1) {
+                return reconcileRange(ranges[from], run);
+            }
+            int middle = (from + to) >>> 1;
+            RangeTask left = new RangeTask(ranges, from, middle, run);
+            left.fork();
+            RangeResult right = new RangeTask(ranges, middle, to, run).compute();
+            return left.join().add(right);
+        }
+    }
+
+    /**
+     * State shared by the tasks of one run.
+     */
+    private static final class Run {
+        private final AtomicInteger reportedCount = new AtomicInteger();
+        private final List<CreditMismatch> reportedMismatches = Collections.synchronizedList(new ArrayList<>());
+    }
+
+    /**
+     * Counts of one or more reconciled ranges.
+     */
+    private static final class RangeResult {
+        private long customers;
+        private long historyRows;
+        private long mismatches;
+
+        private RangeResult add(RangeResult other) {
+            customers += other.customers;
+            historyRows += other.historyRows;
+            mismatches += other.mismatches;
+            return this;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.food.ordering.system.payment.service.dataaccess.reconciliation.engine;
+
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Outcome of one credit reconciliation run.
+ */
+@Getter
+@Builder
+public class CreditReconciliationReport {
+    /**
+     * Number of customers checked.
+     */
+    private final long customers;
+
+    /**
+     * Number of credit history rows read.
+     */
+    private final long historyRows;
+
+    /**
+     * Number of mismatches found.
+     */
+    private final long mismatchCount;
+
+    /**
+     * The first mismatches found, at most the configured number of reported mismatches.
+     */
+    private final List<CreditMismatch> mismatches;
+
+    /**
+     * Duration of the run in milliseconds.
+     */
+    private final long elapsedMs;
+
+    /**
+     * Returns the number of credit history rows read per second.
+     *
+     * @return the throughput of the run
+     */
+    public long getRowsPerSecond() {
+        return historyRows * 1000 / Math.max(1, elapsedMs);
+    }
+}
@@ -0,0 +1,66 @@
+package com.food.ordering.system.payment.service.dataaccess.reconciliation.engine;
+
+import java.util.UUID;
+
+import lombok.Getter;
+
+/**
+ * An inclusive range of customer ids in the order PostgreSQL sorts uuid values, which
+ * compares their bytes as unsigned numbers.
+ */
+@Getter
+public class CustomerIdRange {
+    /**
+     * Lowest customer id of the range.
+     */
+    private final UUID lower;
+
+    /**
+     * Highest customer id of the range.
+     */
+    private final UUID upper;
+
+    private CustomerIdRange(UUID lower, UUID upper) {
+        this.lower = lower;
+        this.upper = upper;
+    }
+
+    /**
+     * Splits the whole customer id space into ranges of equal width. The ranges are
+     * split on the most significant bits of the id, so random ids are spread evenly.
+     *
+     * @param count the number of ranges
+     * @return the ranges, in ascending order and covering every id
+     */
+    public static CustomerIdRange[] split(int count) {
+        CustomerIdRange[] ranges = new CustomerIdRange[count];
+        long width = Long.divideUnsigned(-1L, count);
+        long lowerBits = 0;
+        for (int i = 0; i < count; i++) {
+            long upperBits = i == count - 1 ? -1L : lowerBits + width - 1;
+            ranges[i] = new CustomerIdRange(new UUID(lowerBits, 0L), new UUID(upperBits, -1L));
+            lowerBits = upperBits + 1;
+        }
+        return ranges;
+    }
+
+    /**
+     * Compares two ids in the order PostgreSQL sorts uuid values. {@link UUID#compareTo}
+     * compares signed numbers and cannot be used to merge sorted result sets.
+     *
+     * @param first  the first id
+     * @param second the second id
+     * @return a negative number, zero or a positive number as the first id sorts before,
+     *         equal to or after the second
+     */
+    public static int compare(UUID first, UUID second) {
+        int result = Long.compareUnsigned(first.getMostSignificantBits(), second.getMostSignificantBits());
+        return result != 0 ? result
+                : Long.compareUnsigned(first.getLeastSignificantBits(), second.getLeastSignificantBits());
+    }
+
+    @Override
+    public String toString() {
+        return "[" + lower + ", " + upper + "]";
+    }
+}
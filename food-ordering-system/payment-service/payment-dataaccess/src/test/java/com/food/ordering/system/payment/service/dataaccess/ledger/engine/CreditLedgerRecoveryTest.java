@@ -0,0 +1,249 @@
+package com.food.ordering.system.payment.service.dataaccess.ledger.engine;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Crash-recovery tests for {@link CreditLedger}.
+ * A crash is simulated by abandoning a ledger without closing or checkpointing it
+ * and starting a new ledger over the same write-ahead log directory. The tests also
+ * cover the single-writer guards: the writer lock and the checkpoint conflict.
+ */
+public class CreditLedgerRecoveryTest {
+    /**
+     * Checkpoint interval long enough for no periodic checkpoint to run in a test.
+     */
+    private static final long NO_PERIODIC_CHECKPOINT_MS = 3_600_000;
+
+    /**
+     * The customer debited by the tests.
+     */
+    private final UUID customerId = UUID.randomUUID();
+
+    /**
+     * Directory holding the write-ahead log.
+     */
+    @TempDir
+    private Path walDirectory;
+
+    /**
+     * Checkpoint store shared by the ledgers of a test.
+     */
+    private InMemoryCheckpointStore checkpointStore;
+
+    /**
+     * Seeds the store with a customer holding 100.00 of credit.
+     */
+    @BeforeEach
+    public void init() {
+        checkpointStore = new InMemoryCheckpointStore();
+        checkpointStore.accounts.put(customerId, LedgerAccount.builder()
+                .customerId(customerId)
+                .creditEntryId(UUID.randomUUID())
+                .creditCents(10_000)
+                .totalCreditCents(10_000)
+                .hasTotals(true)
+                .build());
+    }
+
+    @Test
+    public void testDurableDebitsAreRecoveredWithoutCheckpoint() {
+        CreditLedger ledger = startLedger(1024);
+        assertTrue(ledger.debit(customerId, UUID.randomUUID(), 2_500));
+        assertTrue(ledger.debit(customerId, UUID.randomUUID(), 1_000));
+
+        CreditLedger recovered = startLedger(1024);
+        LedgerAccount account = recovered.find(customerId).orElseThrow();
+        assertEquals(6_500, account.getCreditCents());
+        assertEquals(3_500, account.getTotalDebitCents());
+        assertEquals(2, recovered.findUncheckpointedHistory(customerId).size());
+        recovered.checkpoint();
+        assertEquals(6_500, checkpointStore.accounts.get(customerId).getCreditCents());
+        assertEquals(2, checkpointStore.history.size());
+    }
+
+    @Test
+    public void testTornRecordIsDiscardedOnRecovery() throws IOException {
+        CreditLedger ledger = startLedger(1024);
+        for (int debit = 0; debit < 3; debit++) {
+            assertTrue(ledger.debit(customerId, UUID.randomUUID(), 1_000));
+        }
+        Path segment = segmentFiles().get(0);
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[] { 0x7F }), 2L * LedgerRecord.SIZE + 40);
+        }
+
+        CreditLedger recovered = startLedger(1024);
+        assertEquals(8_000, recovered.find(customerId).orElseThrow().getCreditCents());
+        assertTrue(recovered.debit(customerId, UUID.randomUUID(), 500));
+
+        CreditLedger recoveredAgain = startLedger(1024);
+        LedgerAccount account = recoveredAgain.find(customerId).orElseThrow();
+        assertEquals(7_500, account.getCreditCents());
+        assertEquals(2_500, account.getTotalDebitCents());
+    }
+
+    @Test
+    public void testRolledBackTransactionIsRevertedAfterRecovery() {
+        CreditLedger ledger = startLedger(1024);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            assertTrue(ledger.debit(customerId, UUID.randomUUID(), 4_000));
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager
+                    .getSynchronizations();
+            TransactionSynchronizationUtils.invokeAfterCompletion(synchronizations,
+                    TransactionSynchronization.STATUS_ROLLED_BACK);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertEquals(10_000, ledger.find(customerId).orElseThrow().getCreditCents());
+
+        CreditLedger recovered = startLedger(1024);
+        LedgerAccount account = recovered.find(customerId).orElseThrow();
+        assertEquals(10_000, account.getCreditCents());
+        assertEquals(0, account.getTotalDebitCents());
+        recovered.checkpoint();
+        assertEquals(10_000, checkpointStore.accounts.get(customerId).getCreditCents());
+        assertTrue(checkpointStore.history.isEmpty());
+    }
+
+    @Test
+    public void testCheckpointReleasesSegmentsAndRecoveryMatchesStore() {
+        CreditLedger ledger = startLedger(4);
+        for (int debit = 0; debit < 10; debit++) {
+            assertTrue(ledger.debit(customerId, UUID.randomUUID(), 100));
+        }
+        assertEquals(3, segmentFiles().size());
+        ledger.checkpoint();
+        assertEquals(1, segmentFiles().size());
+        assertEquals(0, ledger.getUncheckpointedCount());
+        assertEquals(9_000, checkpointStore.accounts.get(customerId).getCreditCents());
+        assertEquals(10, checkpointStore.history.size());
+
+        CreditLedger recovered = startLedger(4);
+        assertEquals(9_000, recovered.find(customerId).orElseThrow().getCreditCents());
+        recovered.checkpoint();
+        assertEquals(10, checkpointStore.history.size());
+    }
+
+    @Test
+    public void testDebitExceedingCreditIsRejectedAndNotLogged() {
+        CreditLedger ledger = startLedger(1024);
+        assertFalse(ledger.debit(customerId, UUID.randomUUID(), 10_001));
+        assertEquals(0, ledger.getUncheckpointedCount());
+        assertFalse(ledger.debit(UUID.randomUUID(), UUID.randomUUID(), 1));
+    }
+
+    @Test
+    public void testSecondLedgerFailsToStartWhileWriterLockIsHeld() {
+        CreditLedger ledger = startLedger(1024);
+        CreditLedger second = newLedger(1024);
+
+        assertThrows(IllegalStateException.class, second::start);
+        ledger.close();
+        second.start();
+        assertEquals(10_000, second.find(customerId).orElseThrow().getCreditCents());
+    }
+
+    @Test
+    public void testCheckpointConflictStopsTheLedger() {
+        CreditLedger ledger = startLedger(1024);
+        assertTrue(ledger.debit(customerId, UUID.randomUUID(), 1_000));
+        checkpointStore.conflicting = true;
+
+        assertThrows(OptimisticLockingFailureException.class, ledger::checkpoint);
+        assertThrows(IllegalStateException.class, () -> ledger.debit(customerId, UUID.randomUUID(), 1_000));
+        assertEquals(1, ledger.getUncheckpointedCount());
+        assertEquals(10_000, checkpointStore.accounts.get(customerId).getCreditCents());
+    }
+
+    /**
+     * Starts a ledger, first releasing the writer lock of an abandoned ledger as the
+     * end of its database session would after a crash.
+     */
+    private CreditLedger startLedger(int segmentRecords) {
+        checkpointStore.releaseWriterLock();
+        CreditLedger ledger = newLedger(segmentRecords);
+        ledger.start();
+        return ledger;
+    }
+
+    private CreditLedger newLedger(int segmentRecords) {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        return new CreditLedger(new LedgerWriteAheadLog(walDirectory, segmentRecords, meterRegistry),
+                checkpointStore, NO_PERIODIC_CHECKPOINT_MS, meterRegistry);
+    }
+
+    private List<Path> segmentFiles() {
+        try (Stream<Path> files = Files.list(walDirectory)) {
+            return files.sorted().toList();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Checkpoint store keeping accounts and credit history in memory.
+     */
+    private static final class InMemoryCheckpointStore implements ILedgerCheckpointStore {
+        private final Map<UUID, LedgerAccount> accounts = new HashMap<>();
+        private final Map<UUID, LedgerRecord> history = new HashMap<>();
+        private boolean writerLocked;
+        private boolean conflicting;
+
+        @Override
+        public void acquireWriterLock() {
+            if (writerLocked) {
+                throw new IllegalStateException("writer lock held");
+            }
+            writerLocked = true;
+        }
+
+        @Override
+        public void releaseWriterLock() {
+            writerLocked = false;
+        }
+
+        @Override
+        public Optional<LedgerAccount> load(UUID customerId) {
+            return Optional.ofNullable(accounts.get(customerId));
+        }
+
+        @Override
+        public void write(Collection<LedgerAccount> changedAccounts, Collection<LedgerRecord> insertedHistory,
+                Collection<UUID> deletedHistoryIds) {
+            if (conflicting) {
+                throw new OptimisticLockingFailureException("row changed by another writer");
+            }
+            changedAccounts.forEach(account -> accounts.put(account.getCustomerId(), account));
+            insertedHistory.forEach(record -> history.putIfAbsent(record.getHistoryId(), record));
+            deletedHistoryIds.forEach(history::remove);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.food.ordering.system.payment.service.dataaccess.reconciliation.engine;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link CustomerIdRange}, whose ordering must match the uuid ordering of
+ * PostgreSQL for the reconciliation cursors to be merged.
+ */
+public class CustomerIdRangeTest {
+    @Test
+    void splitCoversEveryIdWithoutGaps() {
+        CustomerIdRange[] ranges = CustomerIdRange.split(7);
+        assertEquals(new UUID(0L, 0L), ranges[0].getLower());
+        assertEquals(new UUID(-1L, -1L), ranges[ranges.length - 1].getUpper());
+        for (int i = 1; i < ranges.length; i++) {
+            UUID previousUpper = ranges[i - 1].getUpper();
+            UUID lower = ranges[i].getLower();
+            assertEquals(previousUpper.getMostSignificantBits() + 1, lower.getMostSignificantBits());
+            assertTrue(CustomerIdRange.compare(previousUpper, lower) < 0);
+            assertTrue(CustomerIdRange.compare(lower, ranges[i].getUpper()) < 0);
+        }
+    }
+
+    @Test
+    void compareOrdersIdsAsUnsignedBytes() {
+        UUID low = UUID.fromString("7fffffff-ffff-ffff-ffff-ffffffffffff");
+        UUID high = UUID.fromString("80000000-0000-0000-0000-000000000000");
+        assertTrue(low.compareTo(high) > 0);
+        assertTrue(CustomerIdRange.compare(low, high) < 0);
+        assertTrue(CustomerIdRange.compare(UUID.fromString("00000000-0000-0000-7fff-ffffffffffff"),
+                UUID.fromString("00000000-0000-0000-8000-000000000000")) < 0);
+        assertEquals(0, CustomerIdRange.compare(high, UUID.fromString(high.toString())));
+    }
+}
@@ -1,5 +1,9 @@
 package com.food.ordering.system.payment.service.domain;
 
+import static com.food.ordering.system.domain.DomainConstants.UTC;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -9,18 +13,26 @@ import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.food.ordering.system.domain.valueobject.CustomerId;
+import com.food.ordering.system.domain.valueobject.PaymentOrderStatus;
+import com.food.ordering.system.domain.valueobject.PaymentStatus;
 import com.food.ordering.system.payment.service.domain.dto.PaymentRequest;
 import com.food.ordering.system.payment.service.domain.entity.CreditEntry;
 import com.food.ordering.system.payment.service.domain.entity.CreditHistory;
+import com.food.ordering.system.payment.service.domain.entity.CreditHistoryTotals;
 import com.food.ordering.system.payment.service.domain.entity.Payment;
+import com.food.ordering.system.payment.service.domain.event.PaymentCancelledEvent;
+import com.food.ordering.system.payment.service.domain.event.PaymentCompletedEvent;
 import com.food.ordering.system.payment.service.domain.event.PaymentEvent;
+import com.food.ordering.system.payment.service.domain.event.PaymentFailedEvent;
 import com.food.ordering.system.payment.service.domain.exception.PaymentApplicationServiceException;
 import com.food.ordering.system.payment.service.domain.mapper.PaymentDataMapper;
+import com.food.ordering.system.payment.service.domain.ports.output.message.deduplicator.IPaymentRequestDeduplicator;
 import com.food.ordering.system.payment.service.domain.ports.output.message.publisher.IPaymentCancelledMessagePublisher;
 import com.food.ordering.system.payment.service.domain.ports.output.message.publisher.IPaymentCompletedMessagePublisher;
 import com.food.ordering.system.payment.service.domain.ports.output.message.publisher.IPaymentFailedMessagePublisher;
 import com.food.ordering.system.payment.service.domain.ports.output.repository.ICreditEntryRepository;
 import com.food.ordering.system.payment.service.domain.ports.output.repository.ICreditHistoryRepository;
+import com.food.ordering.system.payment.service.domain.ports.output.repository.ICreditHistoryTotalsRepository;
 import com.food.ordering.system.payment.service.domain.ports.output.repository.IPaymentRepository;
 
 import lombok.extern.slf4j.Slf4j;
@@ -29,6 +41,26 @@ import lombok.extern.slf4j.Slf4j;
  * Helper class for processing payment requests, including payment completion
  * and cancellation.
  * Handles persistence and validation logic for payment operations.
+ * Credit history is validated against per-customer running totals, which are
+ * saved in the same transaction as every appended history entry.
+ * <p>
+ * A payment is first debited with a single guarded update of the customer's
+ * credit. Only when the guard rejects it, because the credit is insufficient or
+ * does not match the history totals, is the credit read and validated in memory
+ * to produce the failure messages of the payment.
+ * </p>
+ * <p>
+ * The payment requests of one customer polled in the same batch are applied in
+ * order in a single transaction, each one the way a single request is: a payment
+ * with its own guarded debit, and a rejected debit or a cancellation by reading,
+ * validating and saving the credit.
+ * </p>
+ * <p>
+ * Every request is first claimed by its message id in the transaction applying
+ * it, so a redelivered request is dropped before any domain work. The response of
+ * a dropped request is rebuilt from its stored payment and sent again, since the
+ * redelivery may be caused by the response of the first delivery not being sent.
+ * </p>
  */
 @Slf4j
 @Component
@@ -58,6 +90,11 @@ public class PaymentRequestHelper {
      */
     private final ICreditHistoryRepository creditHistoryRepository;
 
+    /**
+     * Repository for credit history totals.
+     */
+    private final ICreditHistoryTotalsRepository creditHistoryTotalsRepository;
+
     /**
      * Publisher for completed payment events.
      */
@@ -73,6 +110,11 @@ public class PaymentRequestHelper {
      */
     private final IPaymentFailedMessagePublisher paymentFailedEventDomainEventPublisher;
 
+    /**
+     * Deduplicator dropping the already processed payment requests.
+     */
+    private final IPaymentRequestDeduplicator paymentRequestDeduplicator;
+
     /**
      * Constructs a new PaymentRequestHelper with required dependencies.
      *
@@ -84,60 +126,137 @@ public class PaymentRequestHelper {
      *                                                  entries
      * @param creditHistoryRepository                   Repository for credit
      *                                                  histories
+     * @param creditHistoryTotalsRepository             Repository for credit
+     *                                                  history totals
      * @param paymentCompletedEventDomainEventPublisher Publisher for completed
      *                                                  payment events
      * @param paymentCancelledEventDomainEventPublisher Publisher for cancelled
      *                                                  payment events
      * @param paymentFailedEventDomainEventPublisher    Publisher for failed payment
      *                                                  events
+     * @param paymentRequestDeduplicator                Deduplicator dropping the
+     *                                                  already processed payment
+     *                                                  requests
      */
     public PaymentRequestHelper(PaymentDomainService paymentDomainService,
             PaymentDataMapper paymentDataMapper,
             IPaymentRepository paymentRepository,
             ICreditEntryRepository creditEntryRepository,
             ICreditHistoryRepository creditHistoryRepository,
+            ICreditHistoryTotalsRepository creditHistoryTotalsRepository,
             IPaymentCompletedMessagePublisher paymentCompletedEventDomainEventPublisher,
             IPaymentCancelledMessagePublisher paymentCancelledEventDomainEventPublisher,
-            IPaymentFailedMessagePublisher paymentFailedEventDomainEventPublisher) {
+            IPaymentFailedMessagePublisher paymentFailedEventDomainEventPublisher,
+            IPaymentRequestDeduplicator paymentRequestDeduplicator) {
         this.paymentDomainService = paymentDomainService;
         this.paymentDataMapper = paymentDataMapper;
         this.paymentRepository = paymentRepository;
         this.creditEntryRepository = creditEntryRepository;
         this.creditHistoryRepository = creditHistoryRepository;
+        this.creditHistoryTotalsRepository = creditHistoryTotalsRepository;
         this.paymentCompletedEventDomainEventPublisher = paymentCompletedEventDomainEventPublisher;
         this.paymentCancelledEventDomainEventPublisher = paymentCancelledEventDomainEventPublisher;
         this.paymentFailedEventDomainEventPublisher = paymentFailedEventDomainEventPublisher;
+        this.paymentRequestDeduplicator = paymentRequestDeduplicator;
     }
 
     /**
      * Persists a payment and processes payment completion logic.
      *
      * @param paymentRequest The payment request to process
-     * @return The resulting PaymentEvent after processing
+     * @return The resulting PaymentEvent after processing, or the event of the
+     *         stored payment if the request was already processed
      */
     @Transactional
-    public PaymentEvent persistPayment(PaymentRequest paymentRequest) {
+    public Optional<PaymentEvent> persistPayment(PaymentRequest paymentRequest) {
         log.info("Received payment complete event for order id: {}", paymentRequest.getOrderId());
+        if (isDuplicate(paymentRequest)) {
+            return storedPaymentEvent(paymentRequest);
+        }
+        return Optional.of(applyPayment(paymentRequest));
+    }
+
+    /**
+     * Persists a payment cancellation and processes payment rollback logic.
+     *
+     * @param paymentRequest The payment request to cancel
+     * @return The resulting PaymentEvent after processing cancellation, or the
+     *         event of the stored payment if the request was already processed
+     */
+    @Transactional
+    public Optional<PaymentEvent> persistCancelPayment(PaymentRequest paymentRequest) {
+        log.info("Received payment rollback event for order id: {}", paymentRequest.getOrderId());
+        if (isDuplicate(paymentRequest)) {
+            return storedPaymentEvent(paymentRequest);
+        }
+        return Optional.of(applyCancelPayment(paymentRequest));
+    }
+
+    /**
+     * Persists a batch of payment requests of a single customer, in order, in one
+     * transaction. Every payment is debited with its own guarded update, so it
+     * queues on the customer's credit like a single request does; only a rejected
+     * debit and a cancellation read and save the credit, and they see the debits of
+     * the requests before them.
+     *
+     * @param paymentRequests The payment requests of one customer
+     * @return The resulting PaymentEvents, in request order; an already processed
+     *         request has the event of its stored payment
+     * @throws PaymentApplicationServiceException if the payment of a cancellation
+     *                                            cannot be found, which rolls back
+     *                                            the whole batch
+     */
+    @Transactional
+    public List<PaymentEvent> persistPayments(List<PaymentRequest> paymentRequests) {
+        log.info("Received {} payment requests for customer id: {}", paymentRequests.size(),
+                paymentRequests.get(0).getCustomerId());
+        List<PaymentEvent> paymentEvents = new ArrayList<>(paymentRequests.size());
+        for (PaymentRequest paymentRequest : paymentRequests) {
+            if (isDuplicate(paymentRequest)) {
+                storedPaymentEvent(paymentRequest).ifPresent(paymentEvents::add);
+            } else if (paymentRequest.getPaymentOrderStatus() == PaymentOrderStatus.PENDING) {
+                paymentEvents.add(applyPayment(paymentRequest));
+            } else {
+                paymentEvents.add(applyCancelPayment(paymentRequest));
+            }
+        }
+        return paymentEvents;
+    }
+
+    /**
+     * Applies a claimed payment request, debiting it with the guarded update and
+     * validating it against the loaded credit only when the guard rejects it.
+     *
+     * @param paymentRequest The claimed payment request
+     * @return The resulting PaymentEvent
+     */
+    private PaymentEvent applyPayment(PaymentRequest paymentRequest) {
+        Optional<PaymentEvent> debitedPaymentEvent = debitPayment(
+                paymentDataMapper.paymentRequestModelToPayment(paymentRequest));
+        if (debitedPaymentEvent.isPresent()) {
+            return debitedPaymentEvent.get();
+        }
         Payment payment = paymentDataMapper.paymentRequestModelToPayment(paymentRequest);
         CreditEntry creditEntry = getCreditEntry(payment.getCustomerId());
-        List<CreditHistory> creditHistories = getCreditHistory(payment.getCustomerId());
+        CreditHistoryTotals creditHistoryTotals = getCreditHistoryTotals(payment.getCustomerId());
         List<String> failureMessages = new ArrayList<>();
         PaymentEvent paymentEvent = paymentDomainService.validateAndInitiatePayment(payment, creditEntry,
-                creditHistories, failureMessages,
+                creditHistoryTotals, failureMessages,
                 paymentCompletedEventDomainEventPublisher, paymentFailedEventDomainEventPublisher);
-        persistDbObjects(payment, creditEntry, creditHistories, failureMessages);
+        persistDbObjects(payment, creditEntry, creditHistoryTotals, failureMessages);
         return paymentEvent;
     }
 
     /**
-     * Persists a payment cancellation and processes payment rollback logic.
+     * Applies a claimed cancellation request, crediting the payment back to the
+     * loaded credit.
      *
-     * @param paymentRequest The payment request to cancel
-     * @return The resulting PaymentEvent after processing cancellation
+     * @param paymentRequest The claimed cancellation request
+     * @return The resulting PaymentEvent
+     * @throws PaymentApplicationServiceException if the payment to cancel cannot be
+     *                                            found
      */
-    @Transactional
-    public PaymentEvent persistCancelPayment(PaymentRequest paymentRequest) {
-        log.info("Received payment rollback event for order id: {}", paymentRequest.getOrderId());
+    private PaymentEvent applyCancelPayment(PaymentRequest paymentRequest) {
         Optional<Payment> paymentResponse = paymentRepository
                 .findByOrderId(UUID.fromString(paymentRequest.getOrderId()));
         if (paymentResponse.isEmpty()) {
@@ -147,15 +266,81 @@ public class PaymentRequestHelper {
         }
         Payment payment = paymentResponse.get();
         CreditEntry creditEntry = getCreditEntry(payment.getCustomerId());
-        List<CreditHistory> creditHistories = getCreditHistory(payment.getCustomerId());
+        CreditHistoryTotals creditHistoryTotals = getCreditHistoryTotals(payment.getCustomerId());
         List<String> failureMessages = new ArrayList<>();
         PaymentEvent paymentEvent = paymentDomainService
-                .validateAndCancelPayment(payment, creditEntry, creditHistories, failureMessages,
+                .validateAndCancelPayment(payment, creditEntry, creditHistoryTotals, failureMessages,
                         paymentCancelledEventDomainEventPublisher, paymentFailedEventDomainEventPublisher);
-        persistDbObjects(payment, creditEntry, creditHistories, failureMessages);
+        persistDbObjects(payment, creditEntry, creditHistoryTotals, failureMessages);
         return paymentEvent;
     }
 
+    /**
+     * Claims a payment request, logging it when it was already processed.
+     *
+     * @param paymentRequest The payment request to claim
+     * @return true if the request was already processed
+     */
+    private boolean isDuplicate(PaymentRequest paymentRequest) {
+        if (paymentRequestDeduplicator.claim(paymentRequest)) {
+            return false;
+        }
+        log.info("Dropped already processed payment request {} for order id: {}", paymentRequest.getId(),
+                paymentRequest.getOrderId());
+        return true;
+    }
+
+    /**
+     * Rebuilds the event of an already processed payment request from its stored
+     * payment. The stored failure messages are not kept, so a failed payment is
+     * reported with a generic one.
+     *
+     * @param paymentRequest The already processed payment request
+     * @return The event of the stored payment, or empty if the payment is not found
+     *         or has since moved to a state the request does not lead to
+     */
+    private Optional<PaymentEvent> storedPaymentEvent(PaymentRequest paymentRequest) {
+        Optional<Payment> storedPayment = paymentRepository
+                .findByOrderId(UUID.fromString(paymentRequest.getOrderId()));
+        if (storedPayment.isEmpty()) {
+            return Optional.empty();
+        }
+        Payment payment = storedPayment.get();
+        boolean pending = paymentRequest.getPaymentOrderStatus() == PaymentOrderStatus.PENDING;
+        ZonedDateTime createdAt = ZonedDateTime.now(ZoneId.of(UTC));
+        if (pending && payment.getPaymentStatus() == PaymentStatus.COMPLETED) {
+            return Optional.of(new PaymentCompletedEvent(payment, createdAt, paymentCompletedEventDomainEventPublisher));
+        }
+        if (!pending && payment.getPaymentStatus() == PaymentStatus.CANCELLED) {
+            return Optional.of(new PaymentCancelledEvent(payment, createdAt, paymentCancelledEventDomainEventPublisher));
+        }
+        if (payment.getPaymentStatus() == PaymentStatus.FAILED) {
+            return Optional.of(new PaymentFailedEvent(payment, createdAt,
+                    List.of("Payment with order id: " + paymentRequest.getOrderId() + " has failed!"),
+                    paymentFailedEventDomainEventPublisher));
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Debits the payment amount with the guarded update of the customer's credit.
+     *
+     * @param payment The payment to debit
+     * @return The PaymentCompletedEvent of the payment, or empty if the payment is
+     *         invalid or the guard rejected the debit
+     */
+    private Optional<PaymentEvent> debitPayment(Payment payment) {
+        List<String> failureMessages = new ArrayList<>();
+        CreditHistory debit = paymentDomainService.validateAndPrepareDebit(payment, failureMessages);
+        if (!failureMessages.isEmpty() || !creditEntryRepository.debitCreditAmount(debit)) {
+            return Optional.empty();
+        }
+        PaymentEvent paymentEvent = paymentDomainService.completeDebitedPayment(payment,
+                paymentCompletedEventDomainEventPublisher);
+        paymentRepository.save(payment);
+        return Optional.of(paymentEvent);
+    }
+
     /**
      * Retrieves the credit entry for a given customer.
      *
@@ -174,39 +359,43 @@ public class PaymentRequestHelper {
     }
 
     /**
-     * Retrieves the credit history for a given customer.
+     * Retrieves the credit history totals for a given customer.
      *
      * @param customerId The customer ID
-     * @return The list of CreditHistory for the customer
+     * @return The CreditHistoryTotals for the customer
      * @throws PaymentApplicationServiceException if no credit history is found
      */
-    private List<CreditHistory> getCreditHistory(CustomerId customerId) {
-        Optional<List<CreditHistory>> creditHistories = creditHistoryRepository.findByCustomerId(customerId);
-        if (creditHistories.isEmpty()) {
+    private CreditHistoryTotals getCreditHistoryTotals(CustomerId customerId) {
+        Optional<CreditHistoryTotals> creditHistoryTotals = creditHistoryTotalsRepository
+                .findByCustomerId(customerId);
+        if (creditHistoryTotals.isEmpty()) {
             log.error("Could not find credit history for customer: {}", customerId.getValue());
             throw new PaymentApplicationServiceException("Could not find credit history for customer: " +
                     customerId.getValue());
         }
-        return creditHistories.get();
+        return creditHistoryTotals.get();
     }
 
     /**
      * Persists payment, credit entry, and credit history objects to the database.
-     * Only persists credit entry and history if there are no failure messages.
+     * Only persists credit entry, history and history totals if there are no
+     * failure messages.
      *
-     * @param payment         The payment entity to persist
-     * @param creditEntry     The credit entry entity to persist
-     * @param creditHistories The list of credit history entities to persist
-     * @param failureMessages The list of failure messages
+     * @param payment             The payment entity to persist
+     * @param creditEntry         The credit entry entity to persist
+     * @param creditHistoryTotals The credit history totals holding the appended
+     *                            history entries to persist
+     * @param failureMessages     The list of failure messages
      */
     private void persistDbObjects(Payment payment,
             CreditEntry creditEntry,
-            List<CreditHistory> creditHistories,
+            CreditHistoryTotals creditHistoryTotals,
             List<String> failureMessages) {
         paymentRepository.save(payment);
         if (failureMessages.isEmpty()) {
             creditEntryRepository.save(creditEntry);
-            creditHistoryRepository.save(creditHistories.get(creditHistories.size() - 1));
+            creditHistoryTotals.getPendingCreditHistories().forEach(creditHistoryRepository::save);
+            creditHistoryTotalsRepository.save(creditHistoryTotals);
         }
     }
 }
@@ -1,9 +1,20 @@
 package com.food.ordering.system.payment.service.domain;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 
 import com.food.ordering.system.payment.service.domain.dto.PaymentRequest;
 import com.food.ordering.system.payment.service.domain.event.PaymentEvent;
+import com.food.ordering.system.payment.service.domain.eventbus.PaymentEventBus;
+import com.food.ordering.system.payment.service.domain.exception.PaymentApplicationServiceException;
+import com.food.ordering.system.payment.service.domain.lane.PaymentLanes;
 import com.food.ordering.system.payment.service.domain.ports.input.message.listener.IPaymentRequestMessageListener;
 import com.food.ordering.system.payment.service.domain.ports.output.message.publisher.IPaymentCancelledMessagePublisher;
 import com.food.ordering.system.payment.service.domain.ports.output.message.publisher.IPaymentCompletedMessagePublisher;
@@ -15,10 +26,28 @@ import lombok.extern.slf4j.Slf4j;
  * Listener for handling payment request messages.
  * Responsible for processing payment completion and cancellation requests,
  * and publishing corresponding payment events.
+ * Every request is applied on the {@link PaymentLanes} lane of its customer, so the
+ * requests of one customer are applied one at a time in arrival order.
+ * A polled batch is grouped by customer: the groups run in parallel on their
+ * lanes, each as one transaction, and their events are queued on the
+ * {@link PaymentEventBus} once all groups are done. The events are fired
+ * asynchronously and the call returns once all of them were fired; a failure to
+ * fire one of them, or a failed group, fails the call, so the batch is
+ * redelivered.
+ * The lanes only serialize the requests of a customer within this instance. A
+ * group that lost an optimistic lock on the customer's credit to another instance
+ * is applied again from a fresh read, since its transaction, claims included, was
+ * rolled back.
  */
 @Slf4j
 @Service
 public class PaymentRequestMessageListener implements IPaymentRequestMessageListener {
+    /**
+     * Number of times the requests of a customer are applied before an optimistic
+     * locking conflict fails them.
+     */
+    private static final int MAX_CONFLICT_ATTEMPTS = 3;
+
     /**
      * Helper for handling payment request persistence logic.
      */
@@ -39,6 +68,16 @@ public class PaymentRequestMessageListener implements IPaymentRequestMessageList
      */
     private final IPaymentFailedMessagePublisher paymentFailedMessagePublisher;
 
+    /**
+     * Single-writer lanes the requests are applied on, by customer id.
+     */
+    private final PaymentLanes paymentLanes;
+
+    /**
+     * Bus firing the payment events off the lanes.
+     */
+    private final PaymentEventBus paymentEventBus;
+
     /**
      * Constructs a new PaymentRequestMessageListener with required dependencies.
      *
@@ -49,38 +88,114 @@ public class PaymentRequestMessageListener implements IPaymentRequestMessageList
      * @param paymentCancelledMessagePublisher Publisher for cancelled payment
      *                                         messages
      * @param paymentFailedMessagePublisher    Publisher for failed payment messages
+     * @param paymentLanes                     Lanes the requests are applied on
+     * @param paymentEventBus                  Bus firing the payment events
      */
     public PaymentRequestMessageListener(
             PaymentRequestHelper paymentRequestHelper,
             IPaymentCompletedMessagePublisher paymentCompletedMessagePublisher,
             IPaymentCancelledMessagePublisher paymentCancelledMessagePublisher,
-            IPaymentFailedMessagePublisher paymentFailedMessagePublisher) {
+            IPaymentFailedMessagePublisher paymentFailedMessagePublisher,
+            PaymentLanes paymentLanes,
+            PaymentEventBus paymentEventBus) {
         this.paymentRequestHelper = paymentRequestHelper;
         this.paymentCompletedMessagePublisher = paymentCompletedMessagePublisher;
         this.paymentCancelledMessagePublisher = paymentCancelledMessagePublisher;
         this.paymentFailedMessagePublisher = paymentFailedMessagePublisher;
+        this.paymentLanes = paymentLanes;
+        this.paymentEventBus = paymentEventBus;
     }
 
     @Override
     public void completePayment(PaymentRequest paymentRequest) {
-        PaymentEvent paymentEvent = paymentRequestHelper.persistPayment(paymentRequest);
-        fireEvent(paymentEvent);
+        List<PaymentEvent> paymentEvents = new ArrayList<>(1);
+        paymentLanes.execute(paymentRequest.getCustomerId(),
+                () -> paymentRequestHelper.persistPayment(paymentRequest).ifPresent(paymentEvents::add));
+        fireEvents(paymentEvents);
     }
 
     @Override
     public void cancelPayment(PaymentRequest paymentRequest) {
-        PaymentEvent paymentEvent = paymentRequestHelper.persistCancelPayment(paymentRequest);
-        fireEvent(paymentEvent);
+        List<PaymentEvent> paymentEvents = new ArrayList<>(1);
+        paymentLanes.execute(paymentRequest.getCustomerId(),
+                () -> paymentRequestHelper.persistCancelPayment(paymentRequest).ifPresent(paymentEvents::add));
+        fireEvents(paymentEvents);
+    }
+
+    @Override
+    public void processPayments(List<PaymentRequest> paymentRequests) {
+        Map<String, List<PaymentRequest>> paymentRequestsByCustomer = new LinkedHashMap<>();
+        paymentRequests.forEach(paymentRequest -> paymentRequestsByCustomer
+                .computeIfAbsent(paymentRequest.getCustomerId(), customerId -> new ArrayList<>())
+                .add(paymentRequest));
+        List<CompletableFuture<Void>> results = new ArrayList<>(paymentRequestsByCustomer.size());
+        List<List<PaymentEvent>> paymentEventsByCustomer = new ArrayList<>(paymentRequestsByCustomer.size());
+        paymentRequestsByCustomer.forEach((customerId, customerPaymentRequests) -> {
+            List<PaymentEvent> paymentEvents = new ArrayList<>(customerPaymentRequests.size());
+            paymentEventsByCustomer.add(paymentEvents);
+            results.add(paymentLanes.submit(customerId,
+                    () -> paymentEvents.addAll(persistCustomerPayments(customerPaymentRequests))));
+        });
+        List<PaymentEvent> committedPaymentEvents = new ArrayList<>(paymentRequests.size());
+        PaymentApplicationServiceException failure = null;
+        int index = 0;
+        for (String customerId : paymentRequestsByCustomer.keySet()) {
+            try {
+                results.get(index).join();
+                committedPaymentEvents.addAll(paymentEventsByCustomer.get(index));
+            } catch (CompletionException e) {
+                log.error("Could not process payment requests of customer id: {}", customerId, e.getCause());
+                if (failure == null) {
+                    failure = new PaymentApplicationServiceException(
+                            "Could not process payment requests of customer id: " + customerId, e.getCause());
+                } else {
+                    failure.addSuppressed(e.getCause());
+                }
+            }
+            index++;
+        }
+        fireEvents(committedPaymentEvents);
+        // The committed groups were claimed, so redelivering the whole batch only
+        // applies the failed ones again.
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Persists the payment requests of one customer in one transaction, applying
+     * them again when the credit of the customer was changed concurrently.
+     *
+     * @param paymentRequests The payment requests of one customer, in order
+     * @return The resulting payment events, in order
+     * @throws OptimisticLockingFailureException if the requests still conflict after
+     *                                           the last attempt
+     */
+    private List<PaymentEvent> persistCustomerPayments(List<PaymentRequest> paymentRequests) {
+        for (int attempt = 1;; attempt++) {
+            try {
+                return paymentRequestHelper.persistPayments(paymentRequests);
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= MAX_CONFLICT_ATTEMPTS) {
+                    throw e;
+                }
+                log.warn("Credit of customer id: {} changed concurrently, applying its {} payment requests again",
+                        paymentRequests.get(0).getCustomerId(), paymentRequests.size());
+            }
+        }
     }
 
     /**
-     * Publishes the given payment event and logs the operation.
+     * Publishes the given payment events on the event bus, logging each of them,
+     * and waits until they were fired.
      *
-     * @param paymentEvent The payment event to be published
+     * @param paymentEvents The payment events to be published
      */
-    private void fireEvent(PaymentEvent paymentEvent) {
-        log.info("Publishing payment event with payment id: {} and order id: {}",
-                paymentEvent.getPayment().getId().getValue(), paymentEvent.getPayment().getOrderId().getValue());
-        paymentEvent.fire();
+    private void fireEvents(List<PaymentEvent> paymentEvents) {
+        for (PaymentEvent paymentEvent : paymentEvents) {
+            log.info("Publishing payment event with payment id: {} and order id: {}",
+                    paymentEvent.getPayment().getId().getValue(), paymentEvent.getPayment().getOrderId().getValue());
+        }
+        paymentEventBus.publishAndWait(paymentEvents);
     }
 }
@@ -3,11 +3,14 @@ package com.food.ordering.system.payment.service.domain.config;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
+import com.food.ordering.system.domain.event.bus.DomainEventWaitStrategy;
+
 import lombok.Data;
 
 /**
  * Configuration properties for the payment service.
- * Holds topic names for payment request and response messaging.
+ * Holds topic names for payment request and response messaging, the
+ * settings of the per-customer payment lanes and of the payment event bus.
  */
 @Data
 @Configuration
@@ -22,4 +25,40 @@ public class PaymentServiceConfigData {
      * Name of the topic for payment responses.
      */
     private String paymentResponseTopicName;
+
+    /**
+     * Number of single-writer lanes payment requests are routed into by customer id.
+     */
+    private Integer paymentLaneCount;
+
+    /**
+     * Maximum number of requests waiting in one lane before submitters block.
+     */
+    private Integer paymentLaneQueueCapacity;
+
+    /**
+     * Number of partitions of the payment event bus.
+     */
+    private Integer eventBusPartitionCount;
+
+    /**
+     * Number of events each partition of the payment event bus holds before
+     * publishers wait.
+     */
+    private Integer eventBusRingCapacity;
+
+    /**
+     * Maximum number of payment events handled in one batch.
+     */
+    private Integer eventBusMaxBatchSize;
+
+    /**
+     * How publishers and partition threads of the payment event bus wait.
+     */
+    private DomainEventWaitStrategy eventBusWaitStrategy;
+
+    /**
+     * Maximum time to wait for the payment events of a request batch to be published.
+     */
+    private Long eventBusFlushTimeoutMs;
 }
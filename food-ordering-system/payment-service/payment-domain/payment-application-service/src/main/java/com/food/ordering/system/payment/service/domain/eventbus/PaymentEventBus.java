@@ -0,0 +1,182 @@
+package com.food.ordering.system.payment.service.domain.eventbus;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import com.food.ordering.system.domain.event.IDomainEvent;
+import com.food.ordering.system.domain.event.bus.DomainEventBus;
+import com.food.ordering.system.domain.event.bus.IDomainEventBusObserver;
+import com.food.ordering.system.payment.service.domain.config.PaymentServiceConfigData;
+import com.food.ordering.system.payment.service.domain.entity.Payment;
+import com.food.ordering.system.payment.service.domain.event.PaymentEvent;
+import com.food.ordering.system.payment.service.domain.exception.PaymentApplicationServiceException;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Publishes payment events off the payment lanes through a {@link DomainEventBus}.
+ * <p>
+ * Events are partitioned by payment id, so the events of one payment are fired in
+ * order, and each partition fires its events in batches on its own thread. Each
+ * caller queues the events of its request batch with
+ * {@link #publishAndWait(List)} and waits for them to be fired. Failures are
+ * tracked per call: only a failure to fire one of the caller's own events fails
+ * that call, so its request batch is redelivered instead of its responses being
+ * lost, while the callers of the other listener containers are unaffected. The
+ * wait only covers the positions the caller's events claimed on their partitions,
+ * so a caller never waits for the events other callers queued after it or on
+ * other partitions. The depth of every
+ * partition is exposed as the {@code payment.event.bus.depth} gauge, and the
+ * {@code payment.event.bus.handler} timer and {@code payment.event.bus.batch.size}
+ * summary record the handled batches.
+ * </p>
+ */
+@Slf4j
+@Component
+public class PaymentEventBus {
+    /**
+     * Maximum time to wait for each partition to fire its queued events on shutdown.
+     */
+    private static final long CLOSE_TIMEOUT_MS = 10_000;
+
+    /**
+     * The bus firing the payment events.
+     */
+    private final DomainEventBus<QueuedPaymentEvent> domainEventBus;
+
+    /**
+     * Maximum time to wait for the events of a request batch to be fired.
+     */
+    private final long flushTimeoutMs;
+
+    /**
+     * Constructs and starts the payment event bus.
+     *
+     * @param paymentServiceConfigData the payment service configuration holding the bus settings
+     * @param meterRegistryProvider    the provider of the registry receiving the bus metrics
+     */
+    public PaymentEventBus(PaymentServiceConfigData paymentServiceConfigData,
+            ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        MeterRegistry meterRegistry = meterRegistryProvider.getIfAvailable(() -> Metrics.globalRegistry);
+        int partitionCount = paymentServiceConfigData.getEventBusPartitionCount();
+        Timer[] handlerTimers = new Timer[partitionCount];
+        DistributionSummary[] batchSizeSummaries = new DistributionSummary[partitionCount];
+        for (int partition = 0; partition < partitionCount; partition++) {
+            String tag = String.valueOf(partition);
+            handlerTimers[partition] = Timer.builder("payment.event.bus.handler").tag("partition", tag)
+                    .description("Time taken to fire a batch of payment events").register(meterRegistry);
+            batchSizeSummaries[partition] = DistributionSummary.builder("payment.event.bus.batch.size")
+                    .tag("partition", tag).description("Payment events fired per batch").register(meterRegistry);
+        }
+        IDomainEventBusObserver observer = (partition, batchSize, handlerNanos) -> {
+            handlerTimers[partition].record(handlerNanos, TimeUnit.NANOSECONDS);
+            batchSizeSummaries[partition].record(batchSize);
+        };
+        this.domainEventBus = DomainEventBus.<QueuedPaymentEvent>builder()
+                .name("payment-event-bus")
+                .partitionCount(partitionCount)
+                .ringCapacity(paymentServiceConfigData.getEventBusRingCapacity())
+                .maxBatchSize(paymentServiceConfigData.getEventBusMaxBatchSize())
+                .waitStrategy(paymentServiceConfigData.getEventBusWaitStrategy())
+                .aggregateIdExtractor(queued -> queued.paymentEvent.getPayment().getId().getValue())
+                .handler(this::fire)
+                .observer(observer)
+                .build();
+        this.flushTimeoutMs = paymentServiceConfigData.getEventBusFlushTimeoutMs();
+        for (int partition = 0; partition < partitionCount; partition++) {
+            int index = partition;
+            Gauge.builder("payment.event.bus.depth", domainEventBus, bus -> bus.getQueueDepth(index))
+                    .tag("partition", String.valueOf(index))
+                    .description("Payment events waiting in the partition").register(meterRegistry);
+        }
+        log.info("Started payment event bus with {} partitions", partitionCount);
+    }
+
+    /**
+     * Queues the payment events of one caller and waits until they were fired.
+     *
+     * @param paymentEvents the payment events, in the order they must be fired
+     * @throws PaymentApplicationServiceException if the events were not fired in
+     *                                            time or one of them could not be
+     *                                            fired
+     */
+    public void publishAndWait(List<PaymentEvent> paymentEvents) {
+        if (paymentEvents.isEmpty()) {
+            return;
+        }
+        AtomicReference<RuntimeException> failure = new AtomicReference<>();
+        DomainEventBus.Positions positions = domainEventBus.newPositions();
+        paymentEvents.forEach(paymentEvent -> domainEventBus.publish(new QueuedPaymentEvent(paymentEvent, failure),
+                positions));
+        if (!domainEventBus.flush(positions, flushTimeoutMs)) {
+            throw new PaymentApplicationServiceException(
+                    "Payment events were not published within " + flushTimeoutMs + " ms");
+        }
+        RuntimeException firstFailure = failure.get();
+        if (firstFailure != null) {
+            throw new PaymentApplicationServiceException(
+                    "Could not publish payment events: " + firstFailure.getMessage(), firstFailure);
+        }
+    }
+
+    /**
+     * Stops the bus once the queued events were fired.
+     */
+    @PreDestroy
+    public void close() {
+        domainEventBus.close(CLOSE_TIMEOUT_MS);
+    }
+
+    private void fire(List<QueuedPaymentEvent> queuedPaymentEvents) {
+        for (QueuedPaymentEvent queued : queuedPaymentEvents) {
+            try {
+                queued.paymentEvent.fire();
+            } catch (RuntimeException e) {
+                log.error("Could not publish payment event for order id: {}",
+                        queued.paymentEvent.getPayment().getOrderId().getValue(), e);
+                queued.failure.compareAndSet(null, e);
+            }
+        }
+    }
+
+    /**
+     * A payment event on the bus, with the failure holder of the call that queued it.
+     */
+    private static final class QueuedPaymentEvent implements IDomainEvent<Payment> {
+        /**
+         * The payment event to fire.
+         */
+        private final PaymentEvent paymentEvent;
+
+        /**
+         * First failure of the events queued by the same call.
+         */
+        private final AtomicReference<RuntimeException> failure;
+
+        /**
+         * Constructs a queued payment event.
+         *
+         * @param paymentEvent the payment event to fire
+         * @param failure      the failure holder of the call queuing the event
+         */
+        private QueuedPaymentEvent(PaymentEvent paymentEvent, AtomicReference<RuntimeException> failure) {
+            this.paymentEvent = paymentEvent;
+            this.failure = failure;
+        }
+
+        @Override
+        public void fire() {
+            paymentEvent.fire();
+        }
+    }
+}
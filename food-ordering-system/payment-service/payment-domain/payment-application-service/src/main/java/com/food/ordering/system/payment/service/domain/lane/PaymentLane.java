@@ -0,0 +1,161 @@
+package com.food.ordering.system.payment.service.domain.lane;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * One single-writer lane: a bounded queue drained in order by a dedicated thread.
+ * Submitters block while the queue is full, which pushes back on the Kafka listener
+ * instead of buffering without limit.
+ */
+@Slf4j
+final class PaymentLane {
+    /**
+     * How long the lane thread waits for work before checking whether it should stop.
+     */
+    private static final long POLL_TIMEOUT_MS = 100;
+
+    /**
+     * Requests waiting to be applied.
+     */
+    private final BlockingQueue<Runnable> queue;
+
+    /**
+     * Requests submitted and not yet completed, including the one being applied.
+     */
+    private final AtomicInteger depth = new AtomicInteger();
+
+    /**
+     * Time requests wait in the queue before being applied.
+     */
+    private final Timer waitTimer;
+
+    /**
+     * Requests applied by the lane.
+     */
+    private final Counter processedCounter;
+
+    /**
+     * Thread draining the queue.
+     */
+    private final Thread thread;
+
+    /**
+     * Whether the lane accepts new requests.
+     */
+    private volatile boolean running = true;
+
+    /**
+     * Creates and starts a lane.
+     *
+     * @param index         the index of the lane, used in the thread name and the metric tag
+     * @param queueCapacity the maximum number of waiting requests
+     * @param meterRegistry the registry receiving the metrics of the lane
+     */
+    PaymentLane(int index, int queueCapacity, MeterRegistry meterRegistry) {
+        this.queue = new LinkedBlockingQueue<>(queueCapacity);
+        String lane = String.valueOf(index);
+        Gauge.builder("payment.lane.depth", depth, AtomicInteger::get).tag("lane", lane)
+                .description("Payment requests waiting in or being applied by the lane").register(meterRegistry);
+        this.waitTimer = Timer.builder("payment.lane.wait").tag("lane", lane)
+                .description("Time payment requests wait in the lane").register(meterRegistry);
+        this.processedCounter = Counter.builder("payment.lane.processed").tag("lane", lane)
+                .description("Payment requests applied by the lane").register(meterRegistry);
+        this.thread = new Thread(this::drain, "payment-lane-" + index);
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    /**
+     * Queues a request, blocking while the lane is full.
+     *
+     * @param work the request to apply
+     * @return a future completed once the request was applied
+     */
+    CompletableFuture<Void> submit(Runnable work) {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        if (!running) {
+            future.completeExceptionally(new IllegalStateException("Payment lane " + thread.getName() + " is stopped"));
+            return future;
+        }
+        long enqueuedNanos = System.nanoTime();
+        depth.incrementAndGet();
+        try {
+            queue.put(() -> apply(work, future, enqueuedNanos));
+        } catch (InterruptedException e) {
+            depth.decrementAndGet();
+            Thread.currentThread().interrupt();
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    /**
+     * Returns the number of requests waiting in or being applied by the lane.
+     *
+     * @return the depth of the lane
+     */
+    int getDepth() {
+        return depth.get();
+    }
+
+    /**
+     * Stops accepting requests and waits for the queued ones to be applied.
+     *
+     * @param timeoutMs the maximum time to wait
+     */
+    void stop(long timeoutMs) {
+        running = false;
+        try {
+            thread.join(timeoutMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (thread.isAlive()) {
+            log.warn("Payment lane {} stopped with {} requests pending", thread.getName(), depth.get());
+            thread.interrupt();
+            return;
+        }
+        // Requests queued while the lane was stopping are applied here, after the lane
+        // thread exited, so they still run one at a time.
+        for (Runnable next = queue.poll(); next != null; next = queue.poll()) {
+            next.run();
+        }
+    }
+
+    private void apply(Runnable work, CompletableFuture<Void> future, long enqueuedNanos) {
+        waitTimer.record(System.nanoTime() - enqueuedNanos, TimeUnit.NANOSECONDS);
+        try {
+            work.run();
+            future.complete(null);
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+        } finally {
+            depth.decrementAndGet();
+            processedCounter.increment();
+        }
+    }
+
+    private void drain() {
+        while (running || !queue.isEmpty()) {
+            try {
+                Runnable next = queue.poll(POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+                if (next != null) {
+                    next.run();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.food.ordering.system.payment.service.domain.lane;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import com.food.ordering.system.payment.service.domain.config.PaymentServiceConfigData;
+import com.food.ordering.system.payment.service.domain.exception.PaymentApplicationServiceException;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Routes payment requests into a fixed number of single-writer lanes by customer id.
+ * <p>
+ * Payments of the same customer compete for the same credit entry row, while payments
+ * of different customers never conflict. Every customer is hashed to one lane and each
+ * lane applies its requests one at a time on its own thread, so the requests of a
+ * customer handled by this instance never wait on each other's row locks and are
+ * applied in arrival order, while different customers proceed in parallel.
+ * </p>
+ * <p>
+ * The depth of every lane is exposed as the {@code payment.lane.depth} gauge, and the
+ * {@code payment.lane.skew} gauge reports the depth of the busiest lane divided by the
+ * mean depth: 1 when the load is even, up to the number of lanes when a single hot
+ * customer queues everything on one lane.
+ * </p>
+ */
+@Slf4j
+@Component
+public class PaymentLanes {
+    /**
+     * Maximum time to wait for each lane to apply its queued requests on shutdown.
+     */
+    private static final long STOP_TIMEOUT_MS = 10_000;
+
+    /**
+     * The lanes, indexed by the hash of the customer id.
+     */
+    private final List<PaymentLane> lanes;
+
+    /**
+     * Constructs and starts the payment lanes.
+     *
+     * @param paymentServiceConfigData the payment service configuration holding the lane settings
+     * @param meterRegistryProvider    the provider of the registry receiving the lane metrics
+     */
+    public PaymentLanes(PaymentServiceConfigData paymentServiceConfigData,
+            ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        MeterRegistry meterRegistry = meterRegistryProvider.getIfAvailable(() -> Metrics.globalRegistry);
+        int laneCount = paymentServiceConfigData.getPaymentLaneCount();
+        List<PaymentLane> createdLanes = new ArrayList<>(laneCount);
+        for (int index = 0; index < laneCount; index++) {
+            createdLanes.add(new PaymentLane(index, paymentServiceConfigData.getPaymentLaneQueueCapacity(),
+                    meterRegistry));
+        }
+        this.lanes = Collections.unmodifiableList(createdLanes);
+        Gauge.builder("payment.lane.skew", this, PaymentLanes::getSkew)
+                .description("Depth of the busiest payment lane divided by the mean lane depth")
+                .register(meterRegistry);
+        log.info("Started {} payment lanes", laneCount);
+    }
+
+    /**
+     * Applies a request on the lane of a customer and waits for it to complete.
+     *
+     * @param customerId the id of the customer the request belongs to
+     * @param work       the request to apply
+     * @throws RuntimeException the exception thrown by the request
+     */
+    public void execute(String customerId, Runnable work) {
+        try {
+            submit(customerId, work).get();
+        } catch (ExecutionException e) {
+            throw unwrap(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PaymentApplicationServiceException(
+                    "Interrupted while waiting for the payment lane of customer: " + customerId, e);
+        }
+    }
+
+    /**
+     * Queues a request on the lane of a customer, blocking while that lane is full.
+     *
+     * @param customerId the id of the customer the request belongs to
+     * @param work       the request to apply
+     * @return a future completed once the request was applied
+     */
+    public CompletableFuture<Void> submit(String customerId, Runnable work) {
+        return lanes.get(laneFor(customerId)).submit(work);
+    }
+
+    /**
+     * Returns the index of the lane serving a customer.
+     *
+     * @param customerId the id of the customer
+     * @return the lane index
+     */
+    public int laneFor(String customerId) {
+        int hash = customerId.hashCode();
+        return Math.floorMod(hash ^ (hash >>> 16), lanes.size());
+    }
+
+    /**
+     * Returns the depth of the busiest lane divided by the mean lane depth.
+     *
+     * @return the lane skew, 1 when all lanes are empty
+     */
+    public double getSkew() {
+        int total = 0;
+        int max = 0;
+        for (PaymentLane lane : lanes) {
+            int depth = lane.getDepth();
+            total += depth;
+            max = Math.max(max, depth);
+        }
+        return total == 0 ? 1 : max * (double) lanes.size() / total;
+    }
+
+    /**
+     * Stops the lanes after applying the requests already queued.
+     */
+    @PreDestroy
+    public void close() {
+        log.info("Stopping payment lanes!");
+        lanes.forEach(lane -> lane.stop(STOP_TIMEOUT_MS));
+    }
+
+    private static RuntimeException unwrap(Throwable cause) {
+        if (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause instanceof RuntimeException runtimeException ? runtimeException
+                : new PaymentApplicationServiceException("Payment lane request failed", cause);
+    }
+}
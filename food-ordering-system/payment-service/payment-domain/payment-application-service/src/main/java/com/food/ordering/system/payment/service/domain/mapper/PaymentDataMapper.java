@@ -1,8 +1,12 @@
 package com.food.ordering.system.payment.service.domain.mapper;
 
+import java.math.BigDecimal;
 import java.util.UUID;
 
-import org.springframework.stereotype.Component;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingConstants;
+import org.mapstruct.ReportingPolicy;
 
 import com.food.ordering.system.domain.valueobject.CustomerId;
 import com.food.ordering.system.domain.valueobject.Money;
@@ -12,20 +16,48 @@ import com.food.ordering.system.payment.service.domain.entity.Payment;
 
 /**
  * Mapper class for converting payment request models to payment entities.
+ * The implementation is generated by MapStruct at compile time.
  */
-@Component
-public class PaymentDataMapper {
+@Mapper(componentModel = MappingConstants.ComponentModel.SPRING, unmappedTargetPolicy = ReportingPolicy.ERROR)
+public abstract class PaymentDataMapper {
     /**
      * Converts a PaymentRequest model to a Payment entity.
      *
      * @param paymentRequest The payment request to convert
      * @return The corresponding Payment entity
      */
-    public Payment paymentRequestModelToPayment(PaymentRequest paymentRequest) {
-        return Payment.builder()
-                .orderId(new OrderId(UUID.fromString(paymentRequest.getOrderId())))
-                .customerId(new CustomerId(UUID.fromString(paymentRequest.getCustomerId())))
-                .price(new Money(paymentRequest.getPrice()))
-                .build();
+    @Mapping(target = "paymentId", ignore = true)
+    @Mapping(target = "paymentStatus", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    public abstract Payment paymentRequestModelToPayment(PaymentRequest paymentRequest);
+
+    /**
+     * Parses the order id of a payment request.
+     *
+     * @param orderId the order id as carried by the request
+     * @return the {@link OrderId}
+     */
+    protected OrderId toOrderId(String orderId) {
+        return new OrderId(UUID.fromString(orderId));
+    }
+
+    /**
+     * Parses the customer id of a payment request.
+     *
+     * @param customerId the customer id as carried by the request
+     * @return the {@link CustomerId}
+     */
+    protected CustomerId toCustomerId(String customerId) {
+        return new CustomerId(UUID.fromString(customerId));
+    }
+
+    /**
+     * Wraps the price of a payment request in {@link Money}.
+     *
+     * @param price the price of the request
+     * @return the {@link Money}
+     */
+    protected Money toMoney(BigDecimal price) {
+        return new Money(price);
     }
 }
@@ -1,10 +1,13 @@
 package com.food.ordering.system.payment.service.domain.ports.input.message.listener;
 
+import java.util.List;
+
 import com.food.ordering.system.payment.service.domain.dto.PaymentRequest;
 
 /**
  * Listener interface for handling payment request messages.
- * Defines operations for completing and cancelling payments.
+ * Defines operations for completing and cancelling payments, one at a time or
+ * as a polled batch.
  */
 public interface IPaymentRequestMessageListener {
     /**
@@ -20,4 +23,13 @@ public interface IPaymentRequestMessageListener {
      * @param paymentRequest The payment request to cancel
      */
     void cancelPayment(PaymentRequest paymentRequest);
+
+    /**
+     * Handles a batch of payment requests, completing the PENDING ones and
+     * cancelling the CANCELLED ones. The requests of each customer are applied in
+     * the order of the batch.
+     *
+     * @param paymentRequests The payment requests to process
+     */
+    void processPayments(List<PaymentRequest> paymentRequests);
 }
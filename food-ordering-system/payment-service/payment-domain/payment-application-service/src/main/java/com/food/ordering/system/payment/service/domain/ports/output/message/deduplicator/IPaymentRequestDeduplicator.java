@@ -0,0 +1,18 @@
+package com.food.ordering.system.payment.service.domain.ports.output.message.deduplicator;
+
+import com.food.ordering.system.payment.service.domain.dto.PaymentRequest;
+
+/**
+ * Output port dropping payment requests that were already processed.
+ */
+public interface IPaymentRequestDeduplicator {
+    /**
+     * Claims a payment request by its message id in the current transaction, so the
+     * claim commits or rolls back together with the payment.
+     *
+     * @param paymentRequest the payment request to claim
+     * @return true if the request is new and should be processed, false if it is a
+     *         duplicate
+     */
+    boolean claim(PaymentRequest paymentRequest);
+}
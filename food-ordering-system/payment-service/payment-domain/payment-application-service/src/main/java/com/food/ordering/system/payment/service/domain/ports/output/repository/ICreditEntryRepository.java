@@ -4,6 +4,7 @@ import java.util.Optional;
 
 import com.food.ordering.system.domain.valueobject.CustomerId;
 import com.food.ordering.system.payment.service.domain.entity.CreditEntry;
+import com.food.ordering.system.payment.service.domain.entity.CreditHistory;
 
 /**
  * Repository interface for managing CreditEntry entities.
@@ -24,4 +25,15 @@ public interface ICreditEntryRepository {
      * @return An Optional containing the found CreditEntry, or empty if not found
      */
     Optional<CreditEntry> findByCustomerId(CustomerId customerId);
+
+    /**
+     * Atomically debits the amount of a DEBIT credit history entry from the
+     * customer's credit entry, provided the credit covers the amount and matches
+     * the credit history totals. The credit history entry is appended and the
+     * totals updated in the same statement.
+     *
+     * @param creditHistory The DEBIT credit history entry to apply
+     * @return true if the credit was debited, false if the guard rejected the debit
+     */
+    boolean debitCreditAmount(CreditHistory creditHistory);
 }
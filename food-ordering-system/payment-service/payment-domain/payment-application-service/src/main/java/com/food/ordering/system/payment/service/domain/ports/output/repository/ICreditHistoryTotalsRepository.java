@@ -0,0 +1,29 @@
+package com.food.ordering.system.payment.service.domain.ports.output.repository;
+
+import java.util.Optional;
+
+import com.food.ordering.system.domain.valueobject.CustomerId;
+import com.food.ordering.system.payment.service.domain.entity.CreditHistoryTotals;
+
+/**
+ * Repository interface for managing CreditHistoryTotals entities.
+ */
+public interface ICreditHistoryTotalsRepository {
+    /**
+     * Saves the given credit history totals. Must be called in the same
+     * transaction as the credit history entries they include.
+     *
+     * @param creditHistoryTotals The credit history totals to save
+     * @return The saved credit history totals
+     */
+    CreditHistoryTotals save(CreditHistoryTotals creditHistoryTotals);
+
+    /**
+     * Finds the credit history totals of a customer.
+     *
+     * @param customerId The customer ID to search for
+     * @return An Optional containing the totals, or empty if the customer has no
+     *         credit history
+     */
+    Optional<CreditHistoryTotals> findByCustomerId(CustomerId customerId);
+}
@@ -0,0 +1,439 @@
+package com.food.ordering.system.payment.service.domain;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import com.food.ordering.system.domain.valueobject.CustomerId;
+import com.food.ordering.system.domain.valueobject.Money;
+import com.food.ordering.system.domain.valueobject.OrderId;
+import com.food.ordering.system.domain.valueobject.PaymentOrderStatus;
+import com.food.ordering.system.domain.valueobject.PaymentStatus;
+import com.food.ordering.system.payment.service.domain.dto.PaymentRequest;
+import com.food.ordering.system.payment.service.domain.entity.CreditEntry;
+import com.food.ordering.system.payment.service.domain.entity.CreditHistory;
+import com.food.ordering.system.payment.service.domain.entity.CreditHistoryTotals;
+import com.food.ordering.system.payment.service.domain.entity.Payment;
+import com.food.ordering.system.payment.service.domain.event.PaymentCompletedEvent;
+import com.food.ordering.system.payment.service.domain.event.PaymentEvent;
+import com.food.ordering.system.payment.service.domain.event.PaymentFailedEvent;
+import com.food.ordering.system.payment.service.domain.exception.PaymentApplicationServiceException;
+import com.food.ordering.system.payment.service.domain.ports.output.message.deduplicator.IPaymentRequestDeduplicator;
+import com.food.ordering.system.payment.service.domain.ports.output.message.publisher.IPaymentCompletedMessagePublisher;
+import com.food.ordering.system.payment.service.domain.ports.output.repository.ICreditEntryRepository;
+import com.food.ordering.system.payment.service.domain.ports.output.repository.ICreditHistoryRepository;
+import com.food.ordering.system.payment.service.domain.ports.output.repository.ICreditHistoryTotalsRepository;
+import com.food.ordering.system.payment.service.domain.ports.output.repository.IPaymentRepository;
+import com.food.ordering.system.payment.service.domain.valueobject.CreditEntryId;
+import com.food.ordering.system.payment.service.domain.valueobject.CreditHistoryId;
+import com.food.ordering.system.payment.service.domain.valueobject.TransactionType;
+
+/**
+ * Test class for {@link PaymentRequestHelper} and
+ * {@link PaymentRequestMessageListener}.
+ * Contains unit tests for the guarded debit, its validating fallback, the credit
+ * history totals and the batch processing of the payment requests of a customer.
+ */
+@SpringBootTest(classes = PaymentTestConfiguration.class, properties = {
+        "payment-service.payment-lane-count=2",
+        "payment-service.payment-lane-queue-capacity=16",
+        "payment-service.event-bus-partition-count=1",
+        "payment-service.event-bus-ring-capacity=64",
+        "payment-service.event-bus-max-batch-size=16",
+        "payment-service.event-bus-wait-strategy=sleeping",
+        "payment-service.event-bus-flush-timeout-ms=5000" })
+public class PaymentApplicationServiceTest {
+    /**
+     * The helper under test for payment persistence logic.
+     */
+    @Autowired
+    private PaymentRequestHelper paymentRequestHelper;
+
+    /**
+     * Domain service validating the payments.
+     */
+    @Autowired
+    private PaymentDomainService paymentDomainService;
+
+    /**
+     * The listener under test for batches of payment requests.
+     */
+    @Autowired
+    private PaymentRequestMessageListener paymentRequestMessageListener;
+
+    /**
+     * Publisher for completed payment events.
+     */
+    @Autowired
+    private IPaymentCompletedMessagePublisher paymentCompletedMessagePublisher;
+
+    /**
+     * Repository for persisting and retrieving payments.
+     */
+    @Autowired
+    private IPaymentRepository paymentRepository;
+
+    /**
+     * Repository for persisting and retrieving credit entries.
+     */
+    @Autowired
+    private ICreditEntryRepository creditEntryRepository;
+
+    /**
+     * Repository for persisting credit history entries.
+     */
+    @Autowired
+    private ICreditHistoryRepository creditHistoryRepository;
+
+    /**
+     * Repository for persisting and retrieving credit history totals.
+     */
+    @Autowired
+    private ICreditHistoryTotalsRepository creditHistoryTotalsRepository;
+
+    /**
+     * Deduplicator claiming the payment requests.
+     */
+    @Autowired
+    private IPaymentRequestDeduplicator paymentRequestDeduplicator;
+
+    /**
+     * Test customer ID.
+     */
+    private final UUID CUSTOMER_ID = UUID.fromString("d215b5f8-0249-4dc5-89a3-51fd148cfb41");
+
+    /**
+     * Initializes the mocks before each test: every request is new and the
+     * customer has a credit of 500.00 matching its history.
+     */
+    @BeforeEach
+    public void init() {
+        reset(paymentCompletedMessagePublisher, paymentRepository, creditEntryRepository, creditHistoryRepository,
+                creditHistoryTotalsRepository, paymentRequestDeduplicator);
+        when(paymentRequestDeduplicator.claim(any(PaymentRequest.class))).thenReturn(true);
+        when(paymentRepository.save(any(Payment.class))).then(returnsFirstArg());
+        when(creditEntryRepository.save(any(CreditEntry.class))).then(returnsFirstArg());
+        when(creditHistoryRepository.save(any(CreditHistory.class))).then(returnsFirstArg());
+        when(creditHistoryTotalsRepository.save(any(CreditHistoryTotals.class))).then(returnsFirstArg());
+        stubCredit("500.00", "500.00", "0.00");
+    }
+
+    /**
+     * Tests a payment debited by the guarded update, which appends a DEBIT of the
+     * payment price without loading the credit of the customer.
+     */
+    @Test
+    public void testPersistPaymentWithGuardedDebit() {
+        when(creditEntryRepository.debitCreditAmount(any(CreditHistory.class))).thenReturn(true);
+
+        Optional<PaymentEvent> paymentEvent = paymentRequestHelper.persistPayment(paymentRequest("100.00"));
+
+        assertInstanceOf(PaymentCompletedEvent.class, paymentEvent.orElseThrow());
+        assertEquals(PaymentStatus.COMPLETED, paymentEvent.get().getPayment().getPaymentStatus());
+        ArgumentCaptor<CreditHistory> debit = ArgumentCaptor.forClass(CreditHistory.class);
+        verify(creditEntryRepository).debitCreditAmount(debit.capture());
+        assertEquals(TransactionType.DEBIT, debit.getValue().getTransactionType());
+        assertEquals(new Money(new BigDecimal("100.00")), debit.getValue().getAmount());
+        assertEquals(new CustomerId(CUSTOMER_ID), debit.getValue().getCustomerId());
+        verify(creditEntryRepository, never()).findByCustomerId(any(CustomerId.class));
+        verify(creditEntryRepository, never()).save(any(CreditEntry.class));
+        verify(paymentRepository).save(paymentEvent.get().getPayment());
+    }
+
+    /**
+     * Tests a debit rejected by the guard, whose payment is validated against the
+     * loaded credit to produce its failure messages.
+     */
+    @Test
+    public void testPersistPaymentWithRejectedDebit() {
+        when(creditEntryRepository.debitCreditAmount(any(CreditHistory.class))).thenReturn(false);
+
+        Optional<PaymentEvent> paymentEvent = paymentRequestHelper.persistPayment(paymentRequest("600.00"));
+
+        assertInstanceOf(PaymentFailedEvent.class, paymentEvent.orElseThrow());
+        assertEquals(PaymentStatus.FAILED, paymentEvent.get().getPayment().getPaymentStatus());
+        assertEquals("Customer with id=" + CUSTOMER_ID + " doesn't have enough credit for payment!",
+                paymentEvent.get().getFailureMessages().get(0));
+        verify(creditEntryRepository, never()).save(any(CreditEntry.class));
+        verify(creditHistoryTotalsRepository, never()).save(any(CreditHistoryTotals.class));
+        verify(paymentRepository).save(paymentEvent.get().getPayment());
+    }
+
+    /**
+     * Tests an invalid payment, which is never sent to the guarded update.
+     */
+    @Test
+    public void testPersistPaymentWithInvalidPrice() {
+        Optional<PaymentEvent> paymentEvent = paymentRequestHelper.persistPayment(paymentRequest("0.00"));
+
+        assertInstanceOf(PaymentFailedEvent.class, paymentEvent.orElseThrow());
+        assertEquals("Total price must be greater than zero!", paymentEvent.get().getFailureMessages().get(0));
+        verify(creditEntryRepository, never()).debitCreditAmount(any(CreditHistory.class));
+    }
+
+    /**
+     * Tests a batch of a customer whose credit changed concurrently once, which is
+     * applied again from a fresh read and fires its events once.
+     */
+    @Test
+    public void testProcessPaymentsRetriesOptimisticLockConflict() {
+        when(creditEntryRepository.save(any(CreditEntry.class)))
+                .thenThrow(new OptimisticLockingFailureException("credit entry changed"))
+                .then(returnsFirstArg());
+
+        paymentRequestMessageListener.processPayments(List.of(paymentRequest("100.00"), paymentRequest("50.00")));
+
+        verify(creditEntryRepository, times(3)).findByCustomerId(new CustomerId(CUSTOMER_ID));
+        verify(paymentRequestDeduplicator, times(3)).claim(any(PaymentRequest.class));
+        verify(paymentCompletedMessagePublisher, times(2)).publish(any(PaymentCompletedEvent.class));
+    }
+
+    /**
+     * Tests a batch of a customer that keeps conflicting, which fails the call so
+     * the batch is redelivered.
+     */
+    @Test
+    public void testProcessPaymentsFailsPersistentOptimisticLockConflict() {
+        when(creditEntryRepository.save(any(CreditEntry.class)))
+                .thenThrow(new OptimisticLockingFailureException("credit entry changed"));
+
+        PaymentApplicationServiceException exception = assertThrows(PaymentApplicationServiceException.class,
+                () -> paymentRequestMessageListener
+                        .processPayments(List.of(paymentRequest("100.00"), paymentRequest("50.00"))));
+
+        assertInstanceOf(OptimisticLockingFailureException.class, exception.getCause());
+        verify(creditEntryRepository, times(3)).save(any(CreditEntry.class));
+        verify(paymentCompletedMessagePublisher, never()).publish(any(PaymentCompletedEvent.class));
+    }
+
+    /**
+     * Tests that appended entries are added to the total of their transaction type
+     * and kept as pending.
+     */
+    @Test
+    public void testCreditHistoryTotalsAppend() {
+        CreditHistoryTotals creditHistoryTotals = CreditHistoryTotals.builder()
+                .customerId(new CustomerId(CUSTOMER_ID))
+                .totalCreditAmount(new Money(new BigDecimal("100.00")))
+                .totalDebitAmount(new Money(new BigDecimal("20.00")))
+                .build();
+
+        creditHistoryTotals.append(creditHistory("30.00", TransactionType.CREDIT));
+        creditHistoryTotals.append(creditHistory("10.00", TransactionType.DEBIT));
+
+        assertEquals(new Money(new BigDecimal("130.00")), creditHistoryTotals.getTotalCreditAmount());
+        assertEquals(new Money(new BigDecimal("30.00")), creditHistoryTotals.getTotalDebitAmount());
+        assertEquals(2, creditHistoryTotals.getPendingCreditHistories().size());
+        CreditHistoryTotals emptyTotals = CreditHistoryTotals.builder().customerId(new CustomerId(CUSTOMER_ID))
+                .build();
+        assertEquals(Money.ZERO, emptyTotals.getTotalCreditAmount());
+        assertEquals(Money.ZERO, emptyTotals.getTotalDebitAmount());
+    }
+
+    /**
+     * Tests a credit that does not match the balance of its history totals.
+     */
+    @Test
+    public void testValidateCreditHistoryWithMismatchingCredit() {
+        List<String> failureMessages = new ArrayList<>();
+
+        PaymentEvent paymentEvent = paymentDomainService.validateAndInitiatePayment(payment("100.00"),
+                creditEntry("500.00"), creditHistoryTotals("400.00", "0.00"), failureMessages,
+                paymentCompletedMessagePublisher, null);
+
+        assertInstanceOf(PaymentFailedEvent.class, paymentEvent);
+        assertEquals(List.of("Credit history total is not equal to current credit for customer id: {}" + CUSTOMER_ID
+                + "!"), failureMessages);
+    }
+
+    /**
+     * Tests a credit history whose debits exceed its credits.
+     */
+    @Test
+    public void testValidateCreditHistoryWithExceedingDebits() {
+        List<String> failureMessages = new ArrayList<>();
+
+        paymentDomainService.validateAndInitiatePayment(payment("50.00"), creditEntry("100.00"),
+                creditHistoryTotals("100.00", "100.00"), failureMessages, paymentCompletedMessagePublisher, null);
+
+        assertTrue(failureMessages.contains("Customer with id=" + CUSTOMER_ID
+                + " doesn't have enough credit according to credit history!"));
+    }
+
+    /**
+     * Tests a valid payment, whose debit matches the history totals.
+     */
+    @Test
+    public void testValidateCreditHistoryWithMatchingCredit() {
+        List<String> failureMessages = new ArrayList<>();
+        CreditEntry creditEntry = creditEntry("500.00");
+        CreditHistoryTotals creditHistoryTotals = creditHistoryTotals("600.00", "100.00");
+
+        PaymentEvent paymentEvent = paymentDomainService.validateAndInitiatePayment(payment("100.00"), creditEntry,
+                creditHistoryTotals, failureMessages, paymentCompletedMessagePublisher, null);
+
+        assertInstanceOf(PaymentCompletedEvent.class, paymentEvent);
+        assertTrue(failureMessages.isEmpty());
+        assertEquals(new Money(new BigDecimal("400.00")), creditEntry.getTotalCreditAmount());
+        assertEquals(new Money(new BigDecimal("200.00")), creditHistoryTotals.getTotalDebitAmount());
+    }
+
+    /**
+     * Tests a batch where every payment is debited with its own guarded update, and
+     * only the rejected one is validated against the credit left by the earlier
+     * debits.
+     */
+    @Test
+    public void testPersistPaymentsDebitsEachRequest() {
+        when(creditEntryRepository.debitCreditAmount(any(CreditHistory.class))).thenReturn(true, false, true);
+        stubCredit("200.00", "500.00", "300.00");
+
+        List<PaymentEvent> paymentEvents = paymentRequestHelper.persistPayments(
+                List.of(paymentRequest("300.00"), paymentRequest("400.00"), paymentRequest("150.00")));
+
+        assertInstanceOf(PaymentCompletedEvent.class, paymentEvents.get(0));
+        assertInstanceOf(PaymentFailedEvent.class, paymentEvents.get(1));
+        assertEquals("Customer with id=" + CUSTOMER_ID + " doesn't have enough credit for payment!",
+                paymentEvents.get(1).getFailureMessages().get(0));
+        assertInstanceOf(PaymentCompletedEvent.class, paymentEvents.get(2));
+        ArgumentCaptor<CreditHistory> debits = ArgumentCaptor.forClass(CreditHistory.class);
+        verify(creditEntryRepository, times(3)).debitCreditAmount(debits.capture());
+        assertEquals(List.of(new Money(new BigDecimal("300.00")), new Money(new BigDecimal("400.00")),
+                new Money(new BigDecimal("150.00"))),
+                debits.getAllValues().stream().map(CreditHistory::getAmount).toList());
+        verify(creditEntryRepository).findByCustomerId(new CustomerId(CUSTOMER_ID));
+        verify(creditEntryRepository, never()).save(any(CreditEntry.class));
+        verify(creditHistoryTotalsRepository, never()).save(any(CreditHistoryTotals.class));
+        verify(paymentRepository, times(3)).save(any(Payment.class));
+    }
+
+    /**
+     * Tests a batch where every payment fails, which leaves the credit unsaved.
+     */
+    @Test
+    public void testPersistPaymentsWithOnlyFailedPayments() {
+        List<PaymentEvent> paymentEvents = paymentRequestHelper.persistPayments(
+                List.of(paymentRequest("600.00"), paymentRequest("0.00")));
+
+        assertInstanceOf(PaymentFailedEvent.class, paymentEvents.get(0));
+        assertInstanceOf(PaymentFailedEvent.class, paymentEvents.get(1));
+        verify(creditEntryRepository, never()).save(any(CreditEntry.class));
+        verify(creditHistoryRepository, never()).save(any(CreditHistory.class));
+        verify(creditHistoryTotalsRepository, never()).save(any(CreditHistoryTotals.class));
+        verify(paymentRepository, times(2)).save(any(Payment.class));
+    }
+
+    /**
+     * Stubs the credit entry and the credit history totals of the customer.
+     *
+     * @param creditAmount      the current credit of the customer
+     * @param totalCreditAmount the sum of the CREDIT history entries
+     * @param totalDebitAmount  the sum of the DEBIT history entries
+     */
+    private void stubCredit(String creditAmount, String totalCreditAmount, String totalDebitAmount) {
+        CustomerId customerId = new CustomerId(CUSTOMER_ID);
+        when(creditEntryRepository.findByCustomerId(customerId))
+                .then(invocation -> Optional.of(creditEntry(creditAmount)));
+        when(creditHistoryTotalsRepository.findByCustomerId(customerId))
+                .then(invocation -> Optional.of(creditHistoryTotals(totalCreditAmount, totalDebitAmount)));
+    }
+
+    /**
+     * Builds a credit entry of the customer.
+     *
+     * @param creditAmount the current credit of the customer
+     * @return the credit entry
+     */
+    private CreditEntry creditEntry(String creditAmount) {
+        return CreditEntry.builder()
+                .creditEntryId(new CreditEntryId(UUID.randomUUID()))
+                .customerId(new CustomerId(CUSTOMER_ID))
+                .totalCreditAmount(new Money(new BigDecimal(creditAmount)))
+                .build();
+    }
+
+    /**
+     * Builds the credit history totals of the customer.
+     *
+     * @param totalCreditAmount the sum of the CREDIT history entries
+     * @param totalDebitAmount  the sum of the DEBIT history entries
+     * @return the credit history totals
+     */
+    private CreditHistoryTotals creditHistoryTotals(String totalCreditAmount, String totalDebitAmount) {
+        return CreditHistoryTotals.builder()
+                .customerId(new CustomerId(CUSTOMER_ID))
+                .totalCreditAmount(new Money(new BigDecimal(totalCreditAmount)))
+                .totalDebitAmount(new Money(new BigDecimal(totalDebitAmount)))
+                .build();
+    }
+
+    /**
+     * Builds a credit history entry of the customer.
+     *
+     * @param amount          the amount of the transaction
+     * @param transactionType the type of the transaction
+     * @return the credit history entry
+     */
+    private CreditHistory creditHistory(String amount, TransactionType transactionType) {
+        return CreditHistory.builder()
+                .creditHistoryId(new CreditHistoryId(UUID.randomUUID()))
+                .customerId(new CustomerId(CUSTOMER_ID))
+                .amount(new Money(new BigDecimal(amount)))
+                .transactionType(transactionType)
+                .build();
+    }
+
+    /**
+     * Builds a new payment of the customer.
+     *
+     * @param price the price of the order
+     * @return the payment
+     */
+    private Payment payment(String price) {
+        return Payment.builder()
+                .orderId(new OrderId(UUID.randomUUID()))
+                .customerId(new CustomerId(CUSTOMER_ID))
+                .price(new Money(new BigDecimal(price)))
+                .build();
+    }
+
+    /**
+     * Builds a pending payment request of the customer for a new order.
+     *
+     * @param price the price of the order
+     * @return the payment request
+     */
+    private PaymentRequest paymentRequest(String price) {
+        return PaymentRequest.builder()
+                .id(UUID.randomUUID().toString())
+                .sagaId(UUID.randomUUID().toString())
+                .orderId(UUID.randomUUID().toString())
+                .customerId(CUSTOMER_ID.toString())
+                .price(new BigDecimal(price))
+                .createdAt(Instant.now())
+                .paymentOrderStatus(PaymentOrderStatus.PENDING)
+                .build();
+    }
+}
@@ -0,0 +1,112 @@
+package com.food.ordering.system.payment.service.domain;
+
+import org.mockito.Mockito;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.Bean;
+
+import com.food.ordering.system.payment.service.domain.ports.output.message.deduplicator.IPaymentRequestDeduplicator;
+import com.food.ordering.system.payment.service.domain.ports.output.message.publisher.IPaymentCancelledMessagePublisher;
+import com.food.ordering.system.payment.service.domain.ports.output.message.publisher.IPaymentCompletedMessagePublisher;
+import com.food.ordering.system.payment.service.domain.ports.output.message.publisher.IPaymentFailedMessagePublisher;
+import com.food.ordering.system.payment.service.domain.ports.output.repository.ICreditEntryRepository;
+import com.food.ordering.system.payment.service.domain.ports.output.repository.ICreditHistoryRepository;
+import com.food.ordering.system.payment.service.domain.ports.output.repository.ICreditHistoryTotalsRepository;
+import com.food.ordering.system.payment.service.domain.ports.output.repository.IPaymentRepository;
+
+/**
+ * Test configuration for the Payment domain service.
+ * Provides mocked beans for dependencies required in tests.
+ */
+@SpringBootApplication(scanBasePackages = "com.food.ordering.system")
+public class PaymentTestConfiguration {
+
+    /**
+     * Provides a mock for IPaymentCompletedMessagePublisher.
+     *
+     * @return a mock instance of IPaymentCompletedMessagePublisher
+     */
+    @Bean
+    public IPaymentCompletedMessagePublisher paymentCompletedMessagePublisher() {
+        return Mockito.mock(IPaymentCompletedMessagePublisher.class);
+    }
+
+    /**
+     * Provides a mock for IPaymentCancelledMessagePublisher.
+     *
+     * @return a mock instance of IPaymentCancelledMessagePublisher
+     */
+    @Bean
+    public IPaymentCancelledMessagePublisher paymentCancelledMessagePublisher() {
+        return Mockito.mock(IPaymentCancelledMessagePublisher.class);
+    }
+
+    /**
+     * Provides a mock for IPaymentFailedMessagePublisher.
+     *
+     * @return a mock instance of IPaymentFailedMessagePublisher
+     */
+    @Bean
+    public IPaymentFailedMessagePublisher paymentFailedMessagePublisher() {
+        return Mockito.mock(IPaymentFailedMessagePublisher.class);
+    }
+
+    /**
+     * Provides a mock for IPaymentRepository.
+     *
+     * @return a mock instance of IPaymentRepository
+     */
+    @Bean
+    public IPaymentRepository paymentRepository() {
+        return Mockito.mock(IPaymentRepository.class);
+    }
+
+    /**
+     * Provides a mock for ICreditEntryRepository.
+     *
+     * @return a mock instance of ICreditEntryRepository
+     */
+    @Bean
+    public ICreditEntryRepository creditEntryRepository() {
+        return Mockito.mock(ICreditEntryRepository.class);
+    }
+
+    /**
+     * Provides a mock for ICreditHistoryRepository.
+     *
+     * @return a mock instance of ICreditHistoryRepository
+     */
+    @Bean
+    public ICreditHistoryRepository creditHistoryRepository() {
+        return Mockito.mock(ICreditHistoryRepository.class);
+    }
+
+    /**
+     * Provides a mock for ICreditHistoryTotalsRepository.
+     *
+     * @return a mock instance of ICreditHistoryTotalsRepository
+     */
+    @Bean
+    public ICreditHistoryTotalsRepository creditHistoryTotalsRepository() {
+        return Mockito.mock(ICreditHistoryTotalsRepository.class);
+    }
+
+    /**
+     * Provides a mock for IPaymentRequestDeduplicator.
+     *
+     * @return a mock instance of IPaymentRequestDeduplicator
+     */
+    @Bean
+    public IPaymentRequestDeduplicator paymentRequestDeduplicator() {
+        return Mockito.mock(IPaymentRequestDeduplicator.class);
+    }
+
+    /**
+     * Provides an instance of PaymentDomainService.
+     *
+     * @return a new instance of PaymentDomainService
+     */
+    @Bean
+    public PaymentDomainService paymentDomainService() {
+        return new PaymentDomainService();
+    }
+}
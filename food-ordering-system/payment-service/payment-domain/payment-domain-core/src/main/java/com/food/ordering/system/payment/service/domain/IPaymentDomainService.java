@@ -5,6 +5,7 @@ import java.util.List;
 import com.food.ordering.system.domain.event.publisher.IDomainEventPublisher;
 import com.food.ordering.system.payment.service.domain.entity.CreditEntry;
 import com.food.ordering.system.payment.service.domain.entity.CreditHistory;
+import com.food.ordering.system.payment.service.domain.entity.CreditHistoryTotals;
 import com.food.ordering.system.payment.service.domain.entity.Payment;
 import com.food.ordering.system.payment.service.domain.event.PaymentCancelledEvent;
 import com.food.ordering.system.payment.service.domain.event.PaymentCompletedEvent;
@@ -27,8 +28,8 @@ public interface IPaymentDomainService {
      *                                                  processed
      * @param creditEntry                               the customer's credit entry
      *                                                  for validation
-     * @param creditHistories                           list of credit history
-     *                                                  entries for the customer
+     * @param creditHistoryTotals                       running totals of the
+     *                                                  customer's credit history
      * @param failureMessages                           list to collect any
      *                                                  validation failure messages
      * @param paymentCompletedEventDomainEventPublisher publisher for payment
@@ -39,7 +40,7 @@ public interface IPaymentDomainService {
      *         (completed or failed)
      */
     PaymentEvent validateAndInitiatePayment(Payment payment, CreditEntry creditEntry,
-            List<CreditHistory> creditHistories, List<String> failureMessages,
+            CreditHistoryTotals creditHistoryTotals, List<String> failureMessages,
             IDomainEventPublisher<PaymentCompletedEvent> paymentCompletedEventDomainEventPublisher,
             IDomainEventPublisher<PaymentFailedEvent> paymentFailedEventDomainEventPublisher);
 
@@ -53,8 +54,8 @@ public interface IPaymentDomainService {
      *                                                  cancelled
      * @param creditEntry                               the customer's credit entry
      *                                                  to be updated
-     * @param creditHistories                           list of credit history
-     *                                                  entries for the customer
+     * @param creditHistoryTotals                       running totals of the
+     *                                                  customer's credit history
      * @param failureMessages                           list to collect any
      *                                                  validation failure messages
      * @param paymentCancelledEventDomainEventPublisher publisher for payment
@@ -65,8 +66,31 @@ public interface IPaymentDomainService {
      *         (cancelled or failed)
      */
     PaymentEvent validateAndCancelPayment(Payment payment, CreditEntry creditEntry,
-            List<CreditHistory> creditHistories,
+            CreditHistoryTotals creditHistoryTotals,
             List<String> failureMessages,
             IDomainEventPublisher<PaymentCancelledEvent> paymentCancelledEventDomainEventPublisher,
             IDomainEventPublisher<PaymentFailedEvent> paymentFailedEventDomainEventPublisher);
+
+    /**
+     * Validates and initializes a payment and creates the DEBIT credit history
+     * entry that the data access layer applies to the customer's credit in a single
+     * guarded update.
+     *
+     * @param payment         the payment entity to be processed
+     * @param failureMessages list to collect any validation failure messages
+     * @return the DEBIT credit history entry for the payment amount
+     */
+    CreditHistory validateAndPrepareDebit(Payment payment, List<String> failureMessages);
+
+    /**
+     * Completes a payment whose amount was debited from the customer's credit by
+     * the guarded update.
+     *
+     * @param payment                                   the debited payment
+     * @param paymentCompletedEventDomainEventPublisher publisher for payment
+     *                                                  completed events
+     * @return the PaymentCompletedEvent of the payment
+     */
+    PaymentEvent completeDebitedPayment(Payment payment,
+            IDomainEventPublisher<PaymentCompletedEvent> paymentCompletedEventDomainEventPublisher);
 }
@@ -12,6 +12,7 @@ import com.food.ordering.system.domain.valueobject.Money;
 import com.food.ordering.system.domain.valueobject.PaymentStatus;
 import com.food.ordering.system.payment.service.domain.entity.CreditEntry;
 import com.food.ordering.system.payment.service.domain.entity.CreditHistory;
+import com.food.ordering.system.payment.service.domain.entity.CreditHistoryTotals;
 import com.food.ordering.system.payment.service.domain.entity.Payment;
 import com.food.ordering.system.payment.service.domain.event.PaymentCancelledEvent;
 import com.food.ordering.system.payment.service.domain.event.PaymentCompletedEvent;
@@ -28,20 +29,22 @@ import static com.food.ordering.system.domain.DomainConstants.UTC;
  * for payment processing operations including validation, initiation, and
  * cancellation.
  * This service orchestrates payment workflows and manages credit operations.
+ * The credit history is validated against its running totals, so validation
+ * does not depend on the number of history entries of the customer.
  */
 @Slf4j
 public class PaymentDomainService implements IPaymentDomainService {
     @Override
     public PaymentEvent validateAndInitiatePayment(Payment payment, CreditEntry creditEntry,
-            List<CreditHistory> creditHistories, List<String> failureMessages,
+            CreditHistoryTotals creditHistoryTotals, List<String> failureMessages,
             IDomainEventPublisher<PaymentCompletedEvent> paymentCompletedEventDomainEventPublisher,
             IDomainEventPublisher<PaymentFailedEvent> paymentFailedEventDomainEventPublisher) {
         payment.validatePayment(failureMessages);
         payment.initializePayment();
         validateCreditEntry(payment, creditEntry, failureMessages);
         subtractCreditEntry(payment, creditEntry);
-        updateCreditHistory(payment, creditHistories, TransactionType.DEBIT);
-        validateCreditHistory(creditEntry, creditHistories, failureMessages);
+        updateCreditHistory(payment, creditHistoryTotals, TransactionType.DEBIT);
+        validateCreditHistory(creditEntry, creditHistoryTotals, failureMessages);
 
         if (failureMessages.isEmpty()) {
             log.info("Payment is initiated for order id: {}", payment.getOrderId().getValue());
@@ -58,12 +61,12 @@ public class PaymentDomainService implements IPaymentDomainService {
 
     @Override
     public PaymentEvent validateAndCancelPayment(Payment payment, CreditEntry creditEntry,
-            List<CreditHistory> creditHistories, List<String> failureMessages,
+            CreditHistoryTotals creditHistoryTotals, List<String> failureMessages,
             IDomainEventPublisher<PaymentCancelledEvent> paymentCancelledEventDomainEventPublisher,
             IDomainEventPublisher<PaymentFailedEvent> paymentFailedEventDomainEventPublisher) {
         payment.validatePayment(failureMessages);
         addCreditEntry(payment, creditEntry);
-        updateCreditHistory(payment, creditHistories, TransactionType.CREDIT);
+        updateCreditHistory(payment, creditHistoryTotals, TransactionType.CREDIT);
 
         if (failureMessages.isEmpty()) {
             log.info("Payment is cancelled for order id: {}", payment.getOrderId().getValue());
@@ -78,6 +81,27 @@ public class PaymentDomainService implements IPaymentDomainService {
         }
     }
 
+    @Override
+    public CreditHistory validateAndPrepareDebit(Payment payment, List<String> failureMessages) {
+        payment.validatePayment(failureMessages);
+        payment.initializePayment();
+        return CreditHistory.builder()
+                .creditHistoryId(new CreditHistoryId(UUID.randomUUID()))
+                .customerId(payment.getCustomerId())
+                .amount(payment.getPrice())
+                .transactionType(TransactionType.DEBIT)
+                .build();
+    }
+
+    @Override
+    public PaymentEvent completeDebitedPayment(Payment payment,
+            IDomainEventPublisher<PaymentCompletedEvent> paymentCompletedEventDomainEventPublisher) {
+        log.info("Payment is initiated for order id: {}", payment.getOrderId().getValue());
+        payment.updateStatus(PaymentStatus.COMPLETED);
+        return new PaymentCompletedEvent(payment, ZonedDateTime.now(ZoneId.of(UTC)),
+                paymentCompletedEventDomainEventPublisher);
+    }
+
     /**
      * Validates that the customer has sufficient credit to complete the payment.
      * Checks if the payment amount is greater than the available credit amount
@@ -111,16 +135,16 @@ public class PaymentDomainService implements IPaymentDomainService {
     /**
      * Updates the credit history by adding a new transaction record.
      * Creates a new credit history entry with the payment details and specified
-     * transaction type.
+     * transaction type, and adds its amount to the running totals.
      *
-     * @param payment         the payment to record in history
-     * @param creditHistories the list of credit history entries to update
-     * @param transactionType the type of transaction (CREDIT or DEBIT)
+     * @param payment             the payment to record in history
+     * @param creditHistoryTotals the running totals of the credit history to update
+     * @param transactionType     the type of transaction (CREDIT or DEBIT)
      */
     private void updateCreditHistory(Payment payment,
-            List<CreditHistory> creditHistories,
+            CreditHistoryTotals creditHistoryTotals,
             TransactionType transactionType) {
-        creditHistories.add(CreditHistory.builder()
+        creditHistoryTotals.append(CreditHistory.builder()
                 .creditHistoryId(new CreditHistoryId(UUID.randomUUID()))
                 .customerId(payment.getCustomerId())
                 .amount(payment.getPrice())
@@ -131,17 +155,18 @@ public class PaymentDomainService implements IPaymentDomainService {
     /**
      * Validates the credit history consistency and ensures data integrity.
      * Checks that total debits don't exceed total credits and that the current
-     * credit amount matches the calculated history balance.
+     * credit amount matches the balance of the credit history totals.
      *
-     * @param creditEntry     the customer's credit entry to validate against
-     * @param creditHistories the list of credit history entries to validate
-     * @param failureMessages list to add validation failure messages to
+     * @param creditEntry         the customer's credit entry to validate against
+     * @param creditHistoryTotals the running totals of the customer's credit
+     *                            history
+     * @param failureMessages     list to add validation failure messages to
      */
     private void validateCreditHistory(CreditEntry creditEntry,
-            List<CreditHistory> creditHistories,
+            CreditHistoryTotals creditHistoryTotals,
             List<String> failureMessages) {
-        Money totalCreditHistory = getTotalHistoryAmount(creditHistories, TransactionType.CREDIT);
-        Money totalDebitHistory = getTotalHistoryAmount(creditHistories, TransactionType.DEBIT);
+        Money totalCreditHistory = creditHistoryTotals.getTotalCreditAmount();
+        Money totalDebitHistory = creditHistoryTotals.getTotalDebitAmount();
 
         if (totalDebitHistory.isGreaterThan(totalCreditHistory)) {
             log.error("Customer with id: {} doesn't have enough credit according to credit history",
@@ -158,22 +183,6 @@ public class PaymentDomainService implements IPaymentDomainService {
         }
     }
 
-    /**
-     * Calculates the total amount for a specific transaction type from credit
-     * history.
-     * Filters credit history entries by transaction type and sums their amounts.
-     *
-     * @param creditHistories the list of credit history entries to process
-     * @param transactionType the transaction type to filter by (CREDIT or DEBIT)
-     * @return the total amount for the specified transaction type
-     */
-    private Money getTotalHistoryAmount(List<CreditHistory> creditHistories, TransactionType transactionType) {
-        return creditHistories.stream()
-                .filter(creditHistory -> transactionType == creditHistory.getTransactionType())
-                .map(CreditHistory::getAmount)
-                .reduce(Money.ZERO, Money::add);
-    }
-
     /**
      * Adds the payment amount to the customer's credit entry.
      * This operation increases the available credit by the payment amount,
@@ -0,0 +1,179 @@
+package com.food.ordering.system.payment.service.domain.entity;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.food.ordering.system.domain.entity.BaseEntity;
+import com.food.ordering.system.domain.valueobject.CustomerId;
+import com.food.ordering.system.domain.valueobject.Money;
+import com.food.ordering.system.payment.service.domain.valueobject.TransactionType;
+
+/**
+ * Running totals of the credit history of a customer.
+ * <p>
+ * Instead of summing every {@link CreditHistory} entry of the customer on each
+ * payment, the totals of all CREDIT and DEBIT transactions are kept up to date with
+ * every entry appended, so validating the credit history costs the same regardless
+ * of its length. Entries appended through {@link #append(CreditHistory)} are kept as
+ * pending until they are persisted together with the totals.
+ * </p>
+ */
+public class CreditHistoryTotals extends BaseEntity<CustomerId> {
+    /**
+     * The sum of all CREDIT transactions of the customer.
+     */
+    private Money totalCreditAmount;
+
+    /**
+     * The sum of all DEBIT transactions of the customer.
+     */
+    private Money totalDebitAmount;
+
+    /**
+     * Entries appended since the totals were loaded, not yet persisted.
+     */
+    private final List<CreditHistory> pendingCreditHistories = new ArrayList<>();
+
+    /**
+     * Appends a credit history entry and adds its amount to the total of its
+     * transaction type.
+     *
+     * @param creditHistory the credit history entry to append
+     */
+    public void append(CreditHistory creditHistory) {
+        if (creditHistory.getTransactionType() == TransactionType.CREDIT) {
+            totalCreditAmount = totalCreditAmount.add(creditHistory.getAmount());
+        } else {
+            totalDebitAmount = totalDebitAmount.add(creditHistory.getAmount());
+        }
+        pendingCreditHistories.add(creditHistory);
+    }
+
+    /**
+     * Private constructor used by the builder to create a new CreditHistoryTotals
+     * instance.
+     *
+     * @param builder the builder containing the credit history totals data
+     */
+    private CreditHistoryTotals(Builder builder) {
+        setId(builder.customerId);
+        totalCreditAmount = builder.totalCreditAmount != null ? builder.totalCreditAmount : Money.ZERO;
+        totalDebitAmount = builder.totalDebitAmount != null ? builder.totalDebitAmount : Money.ZERO;
+    }
+
+    /**
+     * Creates a new builder instance for constructing a CreditHistoryTotals.
+     *
+     * @return a new Builder instance
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Gets the customer identifier owning these totals.
+     *
+     * @return the customer ID
+     */
+    public CustomerId getCustomerId() {
+        return getId();
+    }
+
+    /**
+     * Gets the sum of all CREDIT transactions of the customer.
+     *
+     * @return the total credit amount
+     */
+    public Money getTotalCreditAmount() {
+        return totalCreditAmount;
+    }
+
+    /**
+     * Gets the sum of all DEBIT transactions of the customer.
+     *
+     * @return the total debit amount
+     */
+    public Money getTotalDebitAmount() {
+        return totalDebitAmount;
+    }
+
+    /**
+     * Gets the entries appended since the totals were loaded.
+     *
+     * @return the pending credit history entries
+     */
+    public List<CreditHistory> getPendingCreditHistories() {
+        return Collections.unmodifiableList(pendingCreditHistories);
+    }
+
+    /**
+     * Builder class for constructing CreditHistoryTotals instances using the
+     * builder pattern.
+     */
+    public static final class Builder {
+        /**
+         * The customer identifier owning the totals.
+         */
+        private CustomerId customerId;
+
+        /**
+         * The sum of all CREDIT transactions of the customer.
+         */
+        private Money totalCreditAmount;
+
+        /**
+         * The sum of all DEBIT transactions of the customer.
+         */
+        private Money totalDebitAmount;
+
+        /**
+         * Private constructor to prevent direct instantiation.
+         */
+        private Builder() {
+        }
+
+        /**
+         * Sets the customer ID for the totals being built.
+         *
+         * @param val the customer ID
+         * @return this builder instance for method chaining
+         */
+        public Builder customerId(CustomerId val) {
+            customerId = val;
+            return this;
+        }
+
+        /**
+         * Sets the total credit amount for the totals being built.
+         *
+         * @param val the total credit amount
+         * @return this builder instance for method chaining
+         */
+        public Builder totalCreditAmount(Money val) {
+            totalCreditAmount = val;
+            return this;
+        }
+
+        /**
+         * Sets the total debit amount for the totals being built.
+         *
+         * @param val the total debit amount
+         * @return this builder instance for method chaining
+         */
+        public Builder totalDebitAmount(Money val) {
+            totalDebitAmount = val;
+            return this;
+        }
+
+        /**
+         * Builds and returns a new CreditHistoryTotals instance with the configured
+         * values.
+         *
+         * @return a new CreditHistoryTotals instance
+         */
+        public CreditHistoryTotals build() {
+            return new CreditHistoryTotals(this);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.food.ordering.system.payment.service.messaging.deduplicator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+
+import com.food.ordering.system.kafka.consumer.idempotency.IMessageDeduplicator;
+import com.food.ordering.system.payment.service.domain.dto.PaymentRequest;
+import com.food.ordering.system.payment.service.domain.ports.output.message.deduplicator.IPaymentRequestDeduplicator;
+
+/**
+ * Payment request deduplicator backed by the Kafka consumer deduplicator.
+ * <p>
+ * Payment requests are applied on the payment lanes, away from the listener thread
+ * that knows their consumer group and partition. The listener therefore admits each
+ * polled batch first, which drops the requests found in the recent id window and
+ * remembers where the others were read from until the batch is released. The claim
+ * itself runs on the lane, inside the transaction applying the request. A claimed
+ * request whose batch fails later on, for example because its response could not
+ * be sent, is forgotten by the window again.
+ * </p>
+ */
+@Component
+public class PaymentRequestMessageDeduplicator implements IPaymentRequestDeduplicator {
+    /**
+     * Deduplicator of the Kafka consumers.
+     */
+    private final IMessageDeduplicator messageDeduplicator;
+
+    /**
+     * Origin of the admitted requests not yet released, indexed by message id.
+     */
+    private final Map<String, MessageOrigin> admittedMessages = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs a PaymentRequestMessageDeduplicator with required dependencies.
+     *
+     * @param messageDeduplicator the deduplicator of the Kafka consumers
+     */
+    public PaymentRequestMessageDeduplicator(IMessageDeduplicator messageDeduplicator) {
+        this.messageDeduplicator = messageDeduplicator;
+    }
+
+    /**
+     * Admits a polled batch of payment requests. Requests known to be processed and
+     * repeats of a request within the batch are dropped.
+     *
+     * @param consumerGroupId the consumer group handling the batch
+     * @param paymentRequests the payment requests of the batch
+     * @param partitions      the partition each request was read from
+     * @return the admitted payment requests, in batch order
+     */
+    public List<PaymentRequest> admit(String consumerGroupId, List<PaymentRequest> paymentRequests,
+            List<Integer> partitions) {
+        List<PaymentRequest> admitted = new ArrayList<>(paymentRequests.size());
+        for (int i = 0; i < paymentRequests.size(); i++) {
+            PaymentRequest paymentRequest = paymentRequests.get(i);
+            int partition = partitions.get(i);
+            if (!messageDeduplicator.isProcessed(consumerGroupId, partition, UUID.fromString(paymentRequest.getId()))
+                    && admittedMessages.putIfAbsent(paymentRequest.getId(),
+                            new MessageOrigin(consumerGroupId, partition)) == null) {
+                admitted.add(paymentRequest);
+            }
+        }
+        return admitted;
+    }
+
+    /**
+     * Releases the payment requests of an admitted batch once it was handled. When
+     * the batch failed, its requests are forgotten by the recent id window, so the
+     * redelivered batch reaches the claim and the responses of the requests already
+     * applied are sent again.
+     *
+     * @param paymentRequests the admitted payment requests
+     * @param completed       whether the batch was processed and its responses sent
+     */
+    public void release(List<PaymentRequest> paymentRequests, boolean completed) {
+        for (PaymentRequest paymentRequest : paymentRequests) {
+            MessageOrigin origin = admittedMessages.remove(paymentRequest.getId());
+            if (!completed && origin != null) {
+                messageDeduplicator.forget(origin.consumerGroupId, origin.partition,
+                        UUID.fromString(paymentRequest.getId()));
+            }
+        }
+    }
+
+    /**
+     * Claims a payment request in the current transaction. A request that was not
+     * admitted from a polled batch is not deduplicated.
+     *
+     * @param paymentRequest the payment request to claim
+     * @return true if the request is new and should be processed, false if it is a
+     *         duplicate
+     */
+    @Override
+    public boolean claim(PaymentRequest paymentRequest) {
+        MessageOrigin origin = admittedMessages.get(paymentRequest.getId());
+        return origin == null || messageDeduplicator.claim(origin.consumerGroupId, origin.partition,
+                UUID.fromString(paymentRequest.getId()));
+    }
+
+    /**
+     * Consumer group and partition an admitted request was read from.
+     */
+    private static final class MessageOrigin {
+        private final String consumerGroupId;
+        private final int partition;
+
+        private MessageOrigin(String consumerGroupId, int partition) {
+            this.consumerGroupId = consumerGroupId;
+            this.partition = partition;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.food.ordering.system.payment.service.messaging.listener.kafka;
+
+import java.util.List;
+
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.kafka.support.KafkaUtils;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.stereotype.Component;
+
+import com.food.ordering.system.logging.SampledLogger;
+import com.food.ordering.system.kafka.consumer.IKafkaConsumer;
+import com.food.ordering.system.kafka.order.avro.model.PaymentRequestAvroModel;
+import com.food.ordering.system.payment.service.domain.dto.PaymentRequest;
+import com.food.ordering.system.payment.service.domain.ports.input.message.listener.IPaymentRequestMessageListener;
+import com.food.ordering.system.payment.service.messaging.deduplicator.PaymentRequestMessageDeduplicator;
+import com.food.ordering.system.payment.service.messaging.mapper.PaymentMessagingDataMapper;
+import com.food.ordering.system.payment.service.messaging.publisher.kafka.PaymentKafkaMessageHelper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Kafka listener for payment request messages.
+ * Each polled batch is handed to the domain service as a whole, which groups it
+ * by customer and publishes the payment responses. The producer is flushed once
+ * per batch, so the responses of the batch are sent together and acknowledged
+ * before the offsets of the batch are committed; a response that could not be
+ * sent fails the batch. Already processed requests are dropped by the
+ * {@link PaymentRequestMessageDeduplicator}, and the domain service sends their
+ * stored response again once they reach the claim.
+ */
+@Slf4j
+@Component
+public class PaymentRequestKafkaListener implements IKafkaConsumer<PaymentRequestAvroModel> {
+    /**
+     * Sampled logger for the received batches.
+     */
+    private static final SampledLogger BATCH_LOG = SampledLogger.of(log, 1, 10);
+
+    /**
+     * Domain service for handling payment request messages.
+     */
+    private final IPaymentRequestMessageListener paymentRequestMessageListener;
+
+    /**
+     * Mapper for converting Avro models to domain DTOs.
+     */
+    private final PaymentMessagingDataMapper paymentMessagingDataMapper;
+
+    /**
+     * Helper sending the payment responses.
+     */
+    private final PaymentKafkaMessageHelper paymentKafkaMessageHelper;
+
+    /**
+     * Deduplicator dropping the already processed requests.
+     */
+    private final PaymentRequestMessageDeduplicator paymentRequestMessageDeduplicator;
+
+    /**
+     * Constructs a PaymentRequestKafkaListener with required dependencies.
+     *
+     * @param paymentRequestMessageListener     the domain service for payment
+     *                                          requests
+     * @param paymentMessagingDataMapper        the mapper for Avro models
+     * @param paymentKafkaMessageHelper         the helper sending the payment
+     *                                          responses
+     * @param paymentRequestMessageDeduplicator the deduplicator dropping the
+     *                                          already processed requests
+     */
+    public PaymentRequestKafkaListener(IPaymentRequestMessageListener paymentRequestMessageListener,
+            PaymentMessagingDataMapper paymentMessagingDataMapper,
+            PaymentKafkaMessageHelper paymentKafkaMessageHelper,
+            PaymentRequestMessageDeduplicator paymentRequestMessageDeduplicator) {
+        this.paymentRequestMessageListener = paymentRequestMessageListener;
+        this.paymentMessagingDataMapper = paymentMessagingDataMapper;
+        this.paymentKafkaMessageHelper = paymentKafkaMessageHelper;
+        this.paymentRequestMessageDeduplicator = paymentRequestMessageDeduplicator;
+    }
+
+    @Override
+    @KafkaListener(id = "${kafka-consumer-config.payment-consumer-group-id}", topics = "${payment-service.payment-request-topic-name}")
+    public void receive(@Payload List<PaymentRequestAvroModel> messages,
+            @Header(KafkaHeaders.RECEIVED_KEY) List<Long> keys,
+            @Header(KafkaHeaders.RECEIVED_PARTITION) List<Integer> partitions,
+            @Header(KafkaHeaders.OFFSET) List<Long> offsets) {
+        BATCH_LOG.info("{} number of payment requests received with keys:{}, partitions:{} and offsets: {}",
+                messages.size(), keys, partitions, offsets);
+        List<PaymentRequest> receivedPaymentRequests = messages.stream()
+                .map(paymentMessagingDataMapper::paymentRequestAvroModelToPaymentRequest).toList();
+        List<PaymentRequest> paymentRequests = paymentRequestMessageDeduplicator.admit(
+                KafkaUtils.getConsumerGroupId(), receivedPaymentRequests, partitions);
+        boolean completed = false;
+        try {
+            paymentRequestMessageListener.processPayments(paymentRequests);
+            paymentKafkaMessageHelper
+                    .flush(receivedPaymentRequests.stream().map(PaymentRequest::getOrderId).toList());
+            completed = true;
+        } finally {
+            paymentRequestMessageDeduplicator.release(paymentRequests, completed);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.food.ordering.system.payment.service.messaging.mapper;
+
+import java.util.UUID;
+
+import org.springframework.stereotype.Component;
+
+import com.food.ordering.system.domain.valueobject.PaymentOrderStatus;
+import com.food.ordering.system.kafka.order.avro.model.PaymentRequestAvroModel;
+import com.food.ordering.system.kafka.order.avro.model.PaymentResponseAvroModel;
+import com.food.ordering.system.kafka.order.avro.model.PaymentStatus;
+import com.food.ordering.system.payment.service.domain.dto.PaymentRequest;
+import com.food.ordering.system.payment.service.domain.entity.Payment;
+import com.food.ordering.system.payment.service.domain.event.PaymentEvent;
+
+/**
+ * Data mapper component for converting between payment messaging models and
+ * payment domain objects.
+ * Payment requests are mapped to domain DTOs, and payment events to the payment
+ * response messages consumed by the order service.
+ */
+@Component
+public class PaymentMessagingDataMapper {
+    /**
+     * Converts a PaymentRequestAvroModel to a PaymentRequest DTO.
+     *
+     * @param paymentRequestAvroModel the payment request message
+     * @return PaymentRequest with the request data
+     */
+    public PaymentRequest paymentRequestAvroModelToPaymentRequest(PaymentRequestAvroModel paymentRequestAvroModel) {
+        return PaymentRequest.builder()
+                .id(paymentRequestAvroModel.getId().toString())
+                .sagaId(paymentRequestAvroModel.getSagaId().toString())
+                .customerId(paymentRequestAvroModel.getCustomerId().toString())
+                .orderId(paymentRequestAvroModel.getOrderId().toString())
+                .price(paymentRequestAvroModel.getPrice())
+                .createdAt(paymentRequestAvroModel.getCreatedAt())
+                .paymentOrderStatus(PaymentOrderStatus.valueOf(paymentRequestAvroModel.getPaymentOrderStatus().name()))
+                .build();
+    }
+
+    /**
+     * Converts a payment event to a PaymentResponseAvroModel.
+     * The status of the response is the status of the payment, so the same mapping
+     * serves completed, cancelled and failed payments.
+     *
+     * @param paymentEvent the payment event
+     * @return PaymentResponseAvroModel with the payment data and failure messages
+     */
+    public PaymentResponseAvroModel paymentEventToPaymentResponseAvroModel(PaymentEvent paymentEvent) {
+        Payment payment = paymentEvent.getPayment();
+        return PaymentResponseAvroModel.newBuilder()
+                .setId(UUID.randomUUID())
+                .setSagaId(UUID.randomUUID())
+                .setPaymentId(payment.getId().getValue())
+                .setCustomerId(payment.getCustomerId().getValue())
+                .setOrderId(payment.getOrderId().getValue())
+                .setPrice(payment.getPrice().getAmount())
+                .setCreatedAt(paymentEvent.getCreatedAt().toInstant())
+                .setPaymentStatus(PaymentStatus.valueOf(payment.getPaymentStatus().name()))
+                .setFailureMessages(paymentEvent.getFailureMessages())
+                .build();
+    }
+}
@@ -0,0 +1,36 @@
+package com.food.ordering.system.payment.service.messaging.publisher.kafka;
+
+import org.springframework.stereotype.Component;
+
+import com.food.ordering.system.payment.service.domain.event.PaymentCancelledEvent;
+import com.food.ordering.system.payment.service.domain.ports.output.message.publisher.IPaymentCancelledMessagePublisher;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Kafka message publisher for sending payment responses of cancelled payments.
+ */
+@Slf4j
+@Component
+public class PaymentCancelledKafkaMessagePublisher implements IPaymentCancelledMessagePublisher {
+    /**
+     * Helper for sending payment responses.
+     */
+    private final PaymentKafkaMessageHelper paymentKafkaMessageHelper;
+
+    /**
+     * Constructs a PaymentCancelledKafkaMessagePublisher with required dependencies.
+     *
+     * @param paymentKafkaMessageHelper Helper for sending payment responses
+     */
+    public PaymentCancelledKafkaMessagePublisher(PaymentKafkaMessageHelper paymentKafkaMessageHelper) {
+        this.paymentKafkaMessageHelper = paymentKafkaMessageHelper;
+    }
+
+    @Override
+    public void publish(PaymentCancelledEvent domainEvent) {
+        log.debug("Received PaymentCancelledEvent for order id: {}",
+                domainEvent.getPayment().getOrderId().getValue());
+        paymentKafkaMessageHelper.send(domainEvent);
+    }
+}
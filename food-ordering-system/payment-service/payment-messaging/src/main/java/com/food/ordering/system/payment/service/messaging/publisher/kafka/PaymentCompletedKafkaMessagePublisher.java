@@ -0,0 +1,36 @@
+package com.food.ordering.system.payment.service.messaging.publisher.kafka;
+
+import org.springframework.stereotype.Component;
+
+import com.food.ordering.system.payment.service.domain.event.PaymentCompletedEvent;
+import com.food.ordering.system.payment.service.domain.ports.output.message.publisher.IPaymentCompletedMessagePublisher;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Kafka message publisher for sending payment responses of completed payments.
+ */
+@Slf4j
+@Component
+public class PaymentCompletedKafkaMessagePublisher implements IPaymentCompletedMessagePublisher {
+    /**
+     * Helper for sending payment responses.
+     */
+    private final PaymentKafkaMessageHelper paymentKafkaMessageHelper;
+
+    /**
+     * Constructs a PaymentCompletedKafkaMessagePublisher with required dependencies.
+     *
+     * @param paymentKafkaMessageHelper Helper for sending payment responses
+     */
+    public PaymentCompletedKafkaMessagePublisher(PaymentKafkaMessageHelper paymentKafkaMessageHelper) {
+        this.paymentKafkaMessageHelper = paymentKafkaMessageHelper;
+    }
+
+    @Override
+    public void publish(PaymentCompletedEvent domainEvent) {
+        log.debug("Received PaymentCompletedEvent for order id: {}",
+                domainEvent.getPayment().getOrderId().getValue());
+        paymentKafkaMessageHelper.send(domainEvent);
+    }
+}
@@ -0,0 +1,36 @@
+package com.food.ordering.system.payment.service.messaging.publisher.kafka;
+
+import org.springframework.stereotype.Component;
+
+import com.food.ordering.system.payment.service.domain.event.PaymentFailedEvent;
+import com.food.ordering.system.payment.service.domain.ports.output.message.publisher.IPaymentFailedMessagePublisher;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Kafka message publisher for sending payment responses of failed payments.
+ */
+@Slf4j
+@Component
+public class PaymentFailedKafkaMessagePublisher implements IPaymentFailedMessagePublisher {
+    /**
+     * Helper for sending payment responses.
+     */
+    private final PaymentKafkaMessageHelper paymentKafkaMessageHelper;
+
+    /**
+     * Constructs a PaymentFailedKafkaMessagePublisher with required dependencies.
+     *
+     * @param paymentKafkaMessageHelper Helper for sending payment responses
+     */
+    public PaymentFailedKafkaMessagePublisher(PaymentKafkaMessageHelper paymentKafkaMessageHelper) {
+        this.paymentKafkaMessageHelper = paymentKafkaMessageHelper;
+    }
+
+    @Override
+    public void publish(PaymentFailedEvent domainEvent) {
+        log.debug("Received PaymentFailedEvent for order id: {}",
+                domainEvent.getPayment().getOrderId().getValue());
+        paymentKafkaMessageHelper.send(domainEvent);
+    }
+}
@@ -0,0 +1,155 @@
+package com.food.ordering.system.payment.service.messaging.publisher.kafka;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.stereotype.Component;
+
+import com.food.ordering.system.logging.SampledLogger;
+import com.food.ordering.system.kafka.model.header.AvroMessageHeaders;
+import com.food.ordering.system.kafka.order.avro.model.PaymentResponseAvroModel;
+import com.food.ordering.system.kafka.producer.exception.KafkaProducerException;
+import com.food.ordering.system.kafka.producer.service.IKafkaProducer;
+import com.food.ordering.system.payment.service.domain.config.PaymentServiceConfigData;
+import com.food.ordering.system.payment.service.domain.event.PaymentEvent;
+import com.food.ordering.system.payment.service.messaging.mapper.PaymentMessagingDataMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Helper class sending payment responses for the completed, cancelled and failed
+ * payment publishers.
+ * Responses are keyed by order id and carry the message type and status headers
+ * the order service filters on before decoding. A failed send is recorded by order
+ * id and reported by the {@link #flush(Collection)} of the batch holding the
+ * request, so that batch is not committed.
+ */
+@Slf4j
+@Component
+public class PaymentKafkaMessageHelper {
+    /**
+     * Sampled logger for the publish path.
+     */
+    private static final SampledLogger PUBLISH_LOG = SampledLogger.of(log, 100, 5);
+
+    /**
+     * Sampled logger for the acknowledgements, which arrive once per sent message.
+     */
+    private static final SampledLogger ACK_LOG = SampledLogger.of(log, 100, 5);
+
+    /**
+     * Mapper for converting payment events to Avro models.
+     */
+    private final PaymentMessagingDataMapper paymentMessagingDataMapper;
+
+    /**
+     * Configuration data for the payment service.
+     */
+    private final PaymentServiceConfigData paymentServiceConfigData;
+
+    /**
+     * Kafka producer for sending messages.
+     */
+    private final IKafkaProducer<String, PaymentResponseAvroModel> kafkaProducer;
+
+    /**
+     * Failures of the sends not yet reported by a flush, indexed by order id.
+     */
+    private final Map<String, Throwable> sendFailures = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs a PaymentKafkaMessageHelper with required dependencies.
+     *
+     * @param paymentMessagingDataMapper Mapper for payment events to Avro models
+     * @param paymentServiceConfigData   Configuration data for payment service
+     * @param kafkaProducer              Kafka producer for sending messages
+     */
+    public PaymentKafkaMessageHelper(PaymentMessagingDataMapper paymentMessagingDataMapper,
+            PaymentServiceConfigData paymentServiceConfigData,
+            IKafkaProducer<String, PaymentResponseAvroModel> kafkaProducer) {
+        this.paymentMessagingDataMapper = paymentMessagingDataMapper;
+        this.paymentServiceConfigData = paymentServiceConfigData;
+        this.kafkaProducer = kafkaProducer;
+    }
+
+    /**
+     * Sends the payment response of a payment event. The send is asynchronous; the
+     * listener flushes the producer once per polled batch.
+     *
+     * @param paymentEvent the payment event to publish
+     * @throws KafkaProducerException if the response could not be handed to the
+     *                                producer
+     */
+    public void send(PaymentEvent paymentEvent) {
+        String orderId = paymentEvent.getPayment().getOrderId().getValue().toString();
+        String topicName = paymentServiceConfigData.getPaymentResponseTopicName();
+        PaymentResponseAvroModel paymentResponseAvroModel = paymentMessagingDataMapper
+                .paymentEventToPaymentResponseAvroModel(paymentEvent);
+        kafkaProducer.send(topicName, orderId, paymentResponseAvroModel,
+                AvroMessageHeaders.of(paymentResponseAvroModel, paymentResponseAvroModel.getPaymentStatus()),
+                getKafkaCallback(topicName, paymentResponseAvroModel, orderId));
+        PUBLISH_LOG.info("PaymentResponseAvroModel sent to Kafka for order id: {}", orderId);
+    }
+
+    /**
+     * Sends every buffered payment response and waits for their acknowledgements,
+     * then reports the failed sends of the given orders. Failures of other orders
+     * are left for the batches holding them.
+     *
+     * @param orderIds the ids of the orders of the batch
+     * @throws KafkaProducerException if the response of one of the orders could not
+     *                                be sent
+     */
+    public void flush(Collection<String> orderIds) {
+        kafkaProducer.flush();
+        List<String> failedOrderIds = new ArrayList<>();
+        Throwable firstFailure = null;
+        for (String orderId : orderIds) {
+            Throwable failure = sendFailures.remove(orderId);
+            if (failure != null) {
+                failedOrderIds.add(orderId);
+                firstFailure = firstFailure == null ? failure : firstFailure;
+            }
+        }
+        if (firstFailure != null) {
+            throw new KafkaProducerException("Error while sending PaymentResponseAvroModel messages for order ids: "
+                    + failedOrderIds + ": " + firstFailure.getMessage());
+        }
+    }
+
+    /**
+     * Returns a Kafka callback {@link BiConsumer} to handle the result of sending a
+     * payment response.
+     *
+     * @param responseTopicName        the name of the Kafka topic to which the
+     *                                 message is sent
+     * @param paymentResponseAvroModel the Avro model representing the message
+     *                                 payload
+     * @param orderId                  the ID of the order associated with the
+     *                                 message
+     * @return a {@link BiConsumer} that logs success or error information after
+     *         message publishing, and records the error for the next flush
+     */
+    private BiConsumer<SendResult<String, PaymentResponseAvroModel>, Throwable> getKafkaCallback(
+            String responseTopicName, PaymentResponseAvroModel paymentResponseAvroModel, String orderId) {
+        return (sendResult, throwable) -> {
+            if (throwable != null) {
+                log.error("Error while sending PaymentResponseAvroModel message {} to topic {}",
+                        paymentResponseAvroModel.toString(), responseTopicName);
+                sendFailures.putIfAbsent(orderId, throwable);
+            } else if (sendResult != null) {
+                RecordMetadata recordMetadata = sendResult.getRecordMetadata();
+                ACK_LOG.info(
+                        "Received successful response from Kafka for order id: {} Topic: {} Partition: {} Offset: {} Timestamp: {}",
+                        orderId, recordMetadata.topic(), recordMetadata.partition(), recordMetadata.offset(),
+                        recordMetadata.timestamp());
+            }
+        };
+    }
+}